@@ -0,0 +1,124 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.json.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.results.*;
+import org.openjdk.jmh.results.format.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Entry point for the benchmark jar.
+ *
+ * <p>
+ * Runs the selected benchmarks twice with the GC profiler attached:
+ * <ol>
+ * 	<li>In {@link Mode#Throughput} mode reporting ops/s and allocation rates into <c>throughput.json</c>.
+ * 	<li>In {@link Mode#SampleTime} mode reporting latency percentiles (p99 included) into <c>latency.json</c>.
+ * </ol>
+ *
+ * <p>
+ * Standard JMH command-line options (e.g. a benchmark regexp, <c>-f</c>, <c>-wi</c>, <c>-i</c>) are honored.
+ *
+ * <p>
+ * The following system properties are also recognized:
+ * <ul>
+ * 	<li><c>juneau.benchmarks.out</c> - Directory to write the results into.  Default is <js>"target"</js>.
+ * 	<li><c>juneau.benchmarks.baseline</c> - Directory containing a previous <c>throughput.json</c> to compare against.
+ * 		<br>The process exits with status 1 if any benchmark regressed beyond the tolerance.
+ * 	<li><c>juneau.benchmarks.tolerance</c> - Allowed relative throughput drop before a benchmark is considered
+ * 		regressed.  Default is <js>"0.10"</js>.
+ * </ul>
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args JMH command-line options.
+	 * @throws Exception Benchmark or I/O failure.
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cl = new CommandLineOptions(args);
+		File out = new File(System.getProperty("juneau.benchmarks.out", "target"));
+		String baseline = System.getProperty("juneau.benchmarks.baseline");
+		double tolerance = Double.parseDouble(System.getProperty("juneau.benchmarks.tolerance", "0.10"));
+
+		out.mkdirs();
+
+		Collection<RunResult> throughput = run(cl, Mode.Throughput, TimeUnit.SECONDS, new File(out, "throughput.json"));
+		run(cl, Mode.SampleTime, TimeUnit.MICROSECONDS, new File(out, "latency.json"));
+
+		if (baseline != null && ! compare(throughput, new File(baseline, "throughput.json"), tolerance))
+			System.exit(1);
+	}
+
+	private static Collection<RunResult> run(CommandLineOptions cl, Mode mode, TimeUnit timeUnit, File resultFile) throws RunnerException {
+		Options o = new OptionsBuilder()
+			.parent(cl)
+			.mode(mode)
+			.timeUnit(timeUnit)
+			.addProfiler(GCProfiler.class)
+			.resultFormat(ResultFormatType.JSON)
+			.result(resultFile.getPath())
+			.build();
+		return new Runner(o).run();
+	}
+
+	/**
+	 * Compares throughput results against a previously-recorded baseline.
+	 *
+	 * @param results The results of the current run.
+	 * @param baselineFile The <c>throughput.json</c> file of the baseline run.
+	 * @param tolerance The allowed relative drop in throughput.
+	 * @return <jk>true</jk> if no benchmark regressed beyond the tolerance.
+	 * @throws Exception Baseline could not be read.
+	 */
+	private static boolean compare(Collection<RunResult> results, File baselineFile, double tolerance) throws Exception {
+		Map<String,Double> baseline = new HashMap<>();
+		try (Reader r = new FileReader(baselineFile)) {
+			for (OMap m : JsonParser.DEFAULT.parse(r, OList.class).elements(OMap.class))
+				baseline.put(key(m.getString("benchmark"), m.getMap("params")), m.getMap("primaryMetric").get("score", Double.class));
+		}
+
+		boolean ok = true;
+		for (RunResult rr : results) {
+			BenchmarkParams p = rr.getParams();
+			OMap params = new OMap();
+			for (String k : p.getParamsKeys())
+				params.put(k, p.getParam(k));
+			String key = key(p.getBenchmark(), params);
+			Double before = baseline.get(key);
+			if (before == null)
+				continue;
+			double after = rr.getPrimaryResult().getScore(), change = (after - before) / before;
+			boolean regressed = change < -tolerance;
+			System.out.println(String.format("%s %s: %.1f -> %.1f ops/s (%+.1f%%)", regressed ? "REGRESSED" : "ok       ", key, before, after, change * 100));
+			ok &= ! regressed;
+		}
+		return ok;
+	}
+
+	private static String key(String benchmark, OMap params) {
+		return benchmark + (params == null ? "" : new TreeMap<>(params).toString());
+	}
+}
@@ -0,0 +1,93 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.benchmarks.beans.*;
+import org.apache.juneau.csv.*;
+import org.apache.juneau.json.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares parsing a list of {@link FlatBean FlatBeans} from CSV against parsing the same rows from JSON.
+ *
+ * <p>
+ * The <c>streamCsv</c> benchmark consumes the rows one at a time through {@link CsvParser#stream(Object, Class)}
+ * instead of materializing the whole list.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class CsvBenchmark {
+
+	@Param({"1000", "100000"})
+	public int rows;
+
+	private String csv, json;
+
+	/**
+	 * Creates the CSV and JSON inputs and verifies both parse to the same rows.
+	 *
+	 * @throws Exception Serialization or parse failure.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		List<FlatBean> l = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++)
+			l.add(FlatBean.create(i));
+		csv = CsvSerializer.DEFAULT.serialize(l);
+		json = JsonSerializer.DEFAULT.serialize(l);
+		String expected = SimpleJsonSerializer.DEFAULT.serialize(l);
+		if (! expected.equals(SimpleJsonSerializer.DEFAULT.serialize(parseCsv())) || ! expected.equals(SimpleJsonSerializer.DEFAULT.serialize(parseJson())))
+			throw new IllegalStateException("CSV and JSON inputs do not parse to the same rows.");
+	}
+
+	/**
+	 * Parses all CSV rows into a list.
+	 *
+	 * @return The parsed rows.
+	 * @throws Exception Parse failure.
+	 */
+	@Benchmark
+	public List<FlatBean> parseCsv() throws Exception {
+		return CsvParser.DEFAULT.parse(csv, List.class, FlatBean.class);
+	}
+
+	/**
+	 * Streams all CSV rows without retaining them.
+	 *
+	 * @return The sum of the row ids.
+	 * @throws Exception Parse failure.
+	 */
+	@Benchmark
+	public long streamCsv() throws Exception {
+		try (Stream<FlatBean> s = CsvParser.DEFAULT.stream(new StringReader(csv), FlatBean.class)) {
+			return s.mapToLong(FlatBean::getId).sum();
+		}
+	}
+
+	/**
+	 * Parses all JSON rows into a list.
+	 *
+	 * @return The parsed rows.
+	 * @throws Exception Parse failure.
+	 */
+	@Benchmark
+	public List<FlatBean> parseJson() throws Exception {
+		return JsonParser.DEFAULT.parse(json, List.class, FlatBean.class);
+	}
+}
@@ -0,0 +1,69 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.io.*;
+import java.util.zip.*;
+
+import org.apache.juneau.benchmarks.beans.*;
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.json.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures compressing a JSON payload with the pooled {@link GzipEncoder} and {@link DeflateEncoder} against a plain
+ * {@link GZIPOutputStream}, which allocates a new {@link Deflater} per call.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class EncoderBenchmark {
+
+	@Param({"JDK_GZIP", "GZIP", "DEFLATE"})
+	public String encoder;
+
+	@Param({"1", "100"})
+	public int beans;
+
+	private Encoder e;
+	private byte[] payload;
+	private ByteArrayOutputStream out;
+
+	/**
+	 * Creates the encoder and the payload.
+	 *
+	 * @throws Exception Serialization failure.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		e = encoder.equals("GZIP") ? new GzipEncoder() : encoder.equals("DEFLATE") ? new DeflateEncoder() : null;
+		payload = JsonSerializer.DEFAULT.serialize(CollectionBean.create(beans)).getBytes("UTF-8");
+		out = new ByteArrayOutputStream(payload.length + 64);
+	}
+
+	/**
+	 * Compresses the payload.
+	 *
+	 * @return The compressed length.
+	 * @throws Exception Compression failure.
+	 */
+	@Benchmark
+	public int compress() throws Exception {
+		out.reset();
+		try (OutputStream os = e == null ? new GZIPOutputStream(out) : e.getOutputStream(out)) {
+			os.write(payload);
+		}
+		return out.size();
+	}
+}
@@ -0,0 +1,63 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.apache.juneau.marshall.*;
+
+/**
+ * The serializer/parser pairs exercised by the marshalling benchmarks.
+ *
+ * <p>
+ * {@link PlainText} and {@link OpenApi} are not included since they cannot round-trip arbitrary beans.
+ */
+public enum Format {
+
+	/** {@link Json#DEFAULT} */
+	JSON(Json.DEFAULT),
+
+	/** {@link SimpleJson#DEFAULT} */
+	SIMPLE_JSON(SimpleJson.DEFAULT),
+
+	/** {@link Xml#DEFAULT} */
+	XML(Xml.DEFAULT),
+
+	/** {@link Html#DEFAULT} */
+	HTML(Html.DEFAULT),
+
+	/** {@link Uon#DEFAULT} */
+	UON(Uon.DEFAULT),
+
+	/** {@link UrlEncoding#DEFAULT} */
+	URL_ENCODING(UrlEncoding.DEFAULT),
+
+	/** {@link MsgPack#DEFAULT} */
+	MSGPACK(MsgPack.DEFAULT),
+
+	/** {@link Jso#DEFAULT} */
+	JSO(Jso.DEFAULT);
+
+	private final Marshall marshall;
+
+	private Format(Marshall marshall) {
+		this.marshall = marshall;
+	}
+
+	/**
+	 * Returns the serializer/parser pair for this format.
+	 *
+	 * @return The serializer/parser pair for this format.
+	 */
+	public Marshall getMarshall() {
+		return marshall;
+	}
+}
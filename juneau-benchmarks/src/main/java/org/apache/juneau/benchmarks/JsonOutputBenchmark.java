@@ -0,0 +1,81 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.io.*;
+import java.nio.charset.*;
+
+import org.apache.juneau.json.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares serializing JSON to a UTF-8 {@link OutputStream} against serializing through an {@link OutputStreamWriter}.
+ *
+ * <p>
+ * The <c>toOutputStream</c> benchmark uses the direct UTF-8 encoding path with cached property names.
+ * <br>The <c>toWriter</c> benchmark goes through the JDK charset encoder like a servlet <c>PrintWriter</c> does.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class JsonOutputBenchmark {
+
+	@Param
+	public Model model;
+
+	private Object bean;
+	private ByteArrayOutputStream baos;
+
+	/**
+	 * Creates the input bean graph and verifies both paths produce the same bytes.
+	 *
+	 * @throws Exception Serialization failure.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		bean = model.create();
+		baos = new ByteArrayOutputStream(1 << 16);
+		byte[] expected = toWriter().clone();
+		if (! java.util.Arrays.equals(expected, toOutputStream()))
+			throw new IllegalStateException("OutputStream and Writer output differ for " + model + ".");
+	}
+
+	/**
+	 * Serializes the bean graph directly to a UTF-8 stream.
+	 *
+	 * @return The serialized bytes.
+	 * @throws Exception Serialization failure.
+	 */
+	@Benchmark
+	public byte[] toOutputStream() throws Exception {
+		baos.reset();
+		JsonSerializer.DEFAULT.serialize(bean, baos);
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Serializes the bean graph through an {@link OutputStreamWriter}.
+	 *
+	 * @return The serialized bytes.
+	 * @throws Exception Serialization failure.
+	 */
+	@Benchmark
+	public byte[] toWriter() throws Exception {
+		baos.reset();
+		Writer w = new OutputStreamWriter(baos, StandardCharsets.UTF_8);
+		JsonSerializer.DEFAULT.serialize(bean, w);
+		w.flush();
+		return baos.toByteArray();
+	}
+}
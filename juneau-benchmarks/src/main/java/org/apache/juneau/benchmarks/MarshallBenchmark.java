@@ -0,0 +1,91 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.apache.juneau.marshall.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Serialize, parse and round-trip benchmarks for every {@link Format} against every {@link Model}.
+ *
+ * <p>
+ * Benchmark modes, time units and profilers are supplied by {@link BenchmarkRunner}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class MarshallBenchmark {
+
+	@Param
+	public Format format;
+
+	@Param
+	public Model model;
+
+	private Marshall marshall;
+	private Object bean, serialized;
+	private Class<?> type;
+
+	/**
+	 * Creates the input bean graph and its serialized form.
+	 *
+	 * <p>
+	 * Fails fast if the format cannot round-trip the model so that broken combinations are not measured.
+	 *
+	 * @throws Exception Serialization or parse failure.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		marshall = format.getMarshall();
+		bean = model.create();
+		type = model.getType();
+		serialized = marshall.write(bean);
+		String expected = SimpleJson.DEFAULT.toString(bean), actual = SimpleJson.DEFAULT.toString(marshall.read(serialized, type));
+		if (! expected.equals(actual))
+			throw new IllegalStateException("Round-trip mismatch for " + format + "/" + model + ".\nExpected: " + expected + "\nActual:   " + actual);
+	}
+
+	/**
+	 * Serializes the bean graph.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization failure.
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return marshall.write(bean);
+	}
+
+	/**
+	 * Parses the serialized form back into the bean graph.
+	 *
+	 * @return The parsed bean graph.
+	 * @throws Exception Parse failure.
+	 */
+	@Benchmark
+	public Object parse() throws Exception {
+		return marshall.read(serialized, type);
+	}
+
+	/**
+	 * Serializes the bean graph and parses the output back.
+	 *
+	 * @return The parsed bean graph.
+	 * @throws Exception Serialization or parse failure.
+	 */
+	@Benchmark
+	public Object roundTrip() throws Exception {
+		return marshall.read(marshall.write(bean), type);
+	}
+}
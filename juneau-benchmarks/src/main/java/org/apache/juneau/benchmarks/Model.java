@@ -0,0 +1,83 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.apache.juneau.benchmarks.beans.*;
+
+/**
+ * The bean graphs used as inputs for the marshalling benchmarks.
+ */
+public enum Model {
+
+	/** A single bean of simple properties. */
+	FLAT(FlatBean.class) {
+		@Override
+		public Object create() {
+			return FlatBean.create(1);
+		}
+	},
+
+	/** A chain of 20 nested beans. */
+	DEEP(DeepBean.class) {
+		@Override
+		public Object create() {
+			return DeepBean.create(20);
+		}
+	},
+
+	/** Collections of 1000 beans, strings and ints. */
+	COLLECTION(CollectionBean.class) {
+		@Override
+		public Object create() {
+			return CollectionBean.create(1000);
+		}
+	},
+
+	/** Maps of 100 beans and ints. */
+	MAP(MapBean.class) {
+		@Override
+		public Object create() {
+			return MapBean.create(100);
+		}
+	},
+
+	/** Date and temporal properties converted through swaps. */
+	DATES(DateBean.class) {
+		@Override
+		public Object create() {
+			return DateBean.create(20);
+		}
+	};
+
+	private final Class<?> type;
+
+	private Model(Class<?> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Creates a new instance of this model.
+	 *
+	 * @return A new populated bean graph.
+	 */
+	public abstract Object create();
+
+	/**
+	 * Returns the top-level class of this model.
+	 *
+	 * @return The top-level class of this model.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+}
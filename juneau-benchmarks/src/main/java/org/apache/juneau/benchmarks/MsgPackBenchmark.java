@@ -0,0 +1,127 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.io.*;
+
+import org.apache.juneau.benchmarks.beans.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares MessagePack against JSON for the same bean graphs.
+ *
+ * <p>
+ * The <c>msgPackParse</c> benchmark decodes directly out of the input byte array.
+ * <br>The <c>msgPackParseStream</c> benchmark decodes from a stream that supports mark/reset and is read ahead.
+ * <br>The <c>msgPackParseBinary</c> benchmark parses a bean with a 64KB binary property whose value is a slice of the
+ * input array instead of a copy.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class MsgPackBenchmark {
+
+	@Param
+	public Model model;
+
+	private Object bean;
+	private byte[] msgPack, json, binary;
+	private ByteArrayOutputStream baos;
+
+	/**
+	 * Creates the input bean graph and the serialized forms.
+	 *
+	 * @throws Exception Serialization failure.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		bean = model.create();
+		baos = new ByteArrayOutputStream(1 << 17);
+		msgPack = MsgPackSerializer.DEFAULT.serialize(bean);
+		json = JsonSerializer.DEFAULT.serialize(bean).getBytes("UTF-8");
+		binary = MsgPackSerializer.DEFAULT.serialize(BinaryBean.create(1 << 16));
+	}
+
+	/**
+	 * Serializes the bean graph to MessagePack.
+	 *
+	 * @return The serialized bytes.
+	 * @throws Exception Serialization failure.
+	 */
+	@Benchmark
+	public byte[] msgPackSerialize() throws Exception {
+		baos.reset();
+		MsgPackSerializer.DEFAULT.serialize(bean, baos);
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Serializes the bean graph to JSON.
+	 *
+	 * @return The serialized bytes.
+	 * @throws Exception Serialization failure.
+	 */
+	@Benchmark
+	public byte[] jsonSerialize() throws Exception {
+		baos.reset();
+		JsonSerializer.DEFAULT.serialize(bean, baos);
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Parses the bean graph from a MessagePack byte array.
+	 *
+	 * @return The parsed bean graph.
+	 * @throws Exception Parse failure.
+	 */
+	@Benchmark
+	public Object msgPackParse() throws Exception {
+		return MsgPackParser.DEFAULT.parse(msgPack, model.getType());
+	}
+
+	/**
+	 * Parses the bean graph from a MessagePack stream.
+	 *
+	 * @return The parsed bean graph.
+	 * @throws Exception Parse failure.
+	 */
+	@Benchmark
+	public Object msgPackParseStream() throws Exception {
+		return MsgPackParser.DEFAULT.parse(new ByteArrayInputStream(msgPack), model.getType());
+	}
+
+	/**
+	 * Parses the bean graph from a JSON byte array.
+	 *
+	 * @return The parsed bean graph.
+	 * @throws Exception Parse failure.
+	 */
+	@Benchmark
+	public Object jsonParse() throws Exception {
+		return JsonParser.DEFAULT.parse(json, model.getType());
+	}
+
+	/**
+	 * Parses a bean with a large binary property from a MessagePack byte array.
+	 *
+	 * @return The parsed bean.
+	 * @throws Exception Parse failure.
+	 */
+	@Benchmark
+	public BinaryBean msgPackParseBinary() throws Exception {
+		return MsgPackParser.DEFAULT.parse(binary, BinaryBean.class);
+	}
+}
@@ -0,0 +1,97 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.benchmarks.beans.*;
+import org.apache.juneau.utils.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link PojoQuery} searches, sorts and paging over a large list of flat beans.
+ *
+ * <p>
+ * The <c>indexed</c> parameter toggles a {@link PojoIndex} registered on the <c>name</c> column.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class PojoQueryBenchmark {
+
+	@Param({"200000"})
+	public int rows;
+
+	@Param({"false", "true"})
+	public boolean indexed;
+
+	private List<FlatBean> list;
+	private BeanSession session;
+	private SearchArgs searchSortPage, searchPage, exactSearch;
+
+	/**
+	 * Creates the input list and search arguments.
+	 */
+	@Setup
+	public void setup() {
+		session = BeanContext.DEFAULT.createSession();
+		list = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++)
+			list.add(FlatBean.create(i));
+		if (indexed)
+			PojoIndex.register(list, session, "name");
+		searchSortPage = SearchArgs.builder().search("name=name1*,id=>1000").sort("score-").limit(20).position(40).build();
+		searchPage = SearchArgs.builder().search("description=*#9*").limit(20).position(40).build();
+		exactSearch = SearchArgs.builder().search("name=name12345").build();
+	}
+
+	/**
+	 * Unregisters the index.
+	 */
+	@TearDown
+	public void tearDown() {
+		PojoIndex.unregister(list);
+	}
+
+	/**
+	 * Searches, sorts and returns one page of rows.
+	 *
+	 * @return The page.
+	 */
+	@Benchmark
+	public List<?> searchSortPage() {
+		return new PojoQuery(list, session).filter(searchSortPage);
+	}
+
+	/**
+	 * Searches and returns one page of rows without sorting.
+	 *
+	 * @return The page.
+	 */
+	@Benchmark
+	public List<?> searchPage() {
+		return new PojoQuery(list, session).filter(searchPage);
+	}
+
+	/**
+	 * Searches for a single exact value.
+	 *
+	 * @return The matching rows.
+	 */
+	@Benchmark
+	public List<?> exactSearch() {
+		return new PojoQuery(list, session).filter(exactSearch);
+	}
+}
@@ -0,0 +1,82 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.apache.juneau.benchmarks.beans.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the per-call overhead of serializing and parsing a tiny bean with and without session reuse.
+ *
+ * <p>
+ * The <c>reuse</c> parameter toggles {@link Serializer#SERIALIZER_reuseSessions} and
+ * {@link Parser#PARSER_reuseSessions}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+public class SessionReuseBenchmark {
+
+	@Param({"false", "true"})
+	public boolean reuse;
+
+	private WriterSerializer serializer;
+	private ReaderParser parser;
+	private FlatBean bean;
+	private String json;
+
+	/**
+	 * Creates the serializer and parser and the input bean.
+	 *
+	 * @throws Exception Serialization failure.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		JsonSerializerBuilder sb = JsonSerializer.create();
+		JsonParserBuilder pb = JsonParser.create();
+		if (reuse) {
+			sb.reuseSessions();
+			pb.reuseSessions();
+		}
+		serializer = sb.build();
+		parser = pb.build();
+		bean = FlatBean.create(1);
+		json = serializer.serialize(bean);
+	}
+
+	/**
+	 * Serializes the bean to a string.
+	 *
+	 * @return The serialized bean.
+	 * @throws Exception Serialization failure.
+	 */
+	@Benchmark
+	public String serialize() throws Exception {
+		return serializer.serialize(bean);
+	}
+
+	/**
+	 * Parses the bean from a string.
+	 *
+	 * @return The parsed bean.
+	 * @throws Exception Parse failure.
+	 */
+	@Benchmark
+	public FlatBean parse() throws Exception {
+		return parser.parse(json, FlatBean.class);
+	}
+}
@@ -0,0 +1,59 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+import java.nio.*;
+
+/**
+ * A bean with a large binary property.
+ *
+ * <p>
+ * Only binary formats such as MessagePack can round-trip {@link ByteBuffer} properties.
+ */
+public class BinaryBean {
+
+	private String name;
+	private ByteBuffer payload;
+
+	/**
+	 * Creates a populated instance.
+	 *
+	 * @param size The number of bytes in the payload.
+	 * @return A new bean.
+	 */
+	public static BinaryBean create(int size) {
+		BinaryBean b = new BinaryBean();
+		b.name = "binary" + size;
+		byte[] bytes = new byte[size];
+		for (int i = 0; i < size; i++)
+			bytes[i] = (byte)i;
+		b.payload = ByteBuffer.wrap(bytes);
+		return b;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public ByteBuffer getPayload() {
+		return payload;
+	}
+
+	public void setPayload(ByteBuffer payload) {
+		this.payload = payload;
+	}
+}
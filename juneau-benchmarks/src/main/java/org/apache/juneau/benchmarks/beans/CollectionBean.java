@@ -0,0 +1,46 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A bean containing large collections of beans and simple values.
+ */
+@SuppressWarnings("serial")
+public class CollectionBean implements Serializable {
+
+	public List<FlatBean> beans;
+	public List<String> strings;
+	public int[] ints;
+
+	/**
+	 * Creates a populated instance.
+	 *
+	 * @param size The number of entries in each collection.
+	 * @return A new bean.
+	 */
+	public static CollectionBean create(int size) {
+		CollectionBean b = new CollectionBean();
+		b.beans = new ArrayList<>(size);
+		b.strings = new ArrayList<>(size);
+		b.ints = new int[size];
+		for (int i = 0; i < size; i++) {
+			b.beans.add(FlatBean.create(i));
+			b.strings.add("string" + i);
+			b.ints[i] = i;
+		}
+		return b;
+	}
+}
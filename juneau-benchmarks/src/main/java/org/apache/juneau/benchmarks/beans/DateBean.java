@@ -0,0 +1,64 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.transforms.*;
+
+/**
+ * A bean whose date and temporal properties are converted through swaps.
+ */
+@SuppressWarnings("serial")
+public class DateBean implements Serializable {
+
+	@Swap(TemporalDateSwap.IsoLocalDateTime.class)
+	public Date date;
+
+	@Swap(TemporalCalendarSwap.IsoInstant.class)
+	public Calendar calendar;
+
+	@Swap(TemporalSwap.IsoInstant.class)
+	public Instant instant;
+
+	@Swap(TemporalSwap.IsoLocalDate.class)
+	public LocalDate localDate;
+
+	@Swap(TemporalSwap.IsoZonedDateTime.class)
+	public ZonedDateTime zonedDateTime;
+
+	public List<Date> dates;
+
+	/**
+	 * Creates a populated instance.
+	 *
+	 * @param size The number of entries in the list of dates.
+	 * @return A new bean.
+	 */
+	public static DateBean create(int size) {
+		ZonedDateTime zdt = ZonedDateTime.of(2020, 1, 2, 3, 4, 5, 0, ZoneId.of("Z"));
+		DateBean b = new DateBean();
+		b.date = Date.from(zdt.toInstant());
+		b.calendar = GregorianCalendar.from(zdt);
+		b.instant = zdt.toInstant();
+		b.localDate = zdt.toLocalDate();
+		b.zonedDateTime = zdt;
+		b.dates = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+			b.dates.add(Date.from(zdt.plusDays(i).toInstant()));
+		return b;
+	}
+}
@@ -0,0 +1,43 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+import java.io.*;
+
+/**
+ * A linked chain of beans used to measure the cost of deep nesting.
+ */
+@SuppressWarnings("serial")
+public class DeepBean implements Serializable {
+
+	public String name;
+	public int level;
+	public FlatBean leaf;
+	public DeepBean child;
+
+	/**
+	 * Creates a chain of beans.
+	 *
+	 * @param depth The number of nested levels.
+	 * @return The root of the chain.
+	 */
+	public static DeepBean create(int depth) {
+		DeepBean b = new DeepBean();
+		b.name = "level" + depth;
+		b.level = depth;
+		b.leaf = FlatBean.create(depth);
+		if (depth > 1)
+			b.child = create(depth - 1);
+		return b;
+	}
+}
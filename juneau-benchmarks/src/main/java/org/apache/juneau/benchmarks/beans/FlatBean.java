@@ -0,0 +1,103 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+import java.io.*;
+
+/**
+ * A flat bean of simple properties accessed through getters and setters.
+ */
+@SuppressWarnings("serial")
+public class FlatBean implements Serializable {
+
+	private String name, description;
+	private int id;
+	private long timestamp;
+	private double score;
+	private boolean active;
+	private Integer count;
+
+	/**
+	 * Creates a populated instance.
+	 *
+	 * @param i Seed used to vary the property values.
+	 * @return A new bean.
+	 */
+	public static FlatBean create(int i) {
+		FlatBean b = new FlatBean();
+		b.name = "name" + i;
+		b.description = "The quick brown fox jumps over the lazy dog #" + i;
+		b.id = i;
+		b.timestamp = 1_500_000_000_000L + i;
+		b.score = i * 1.5d;
+		b.active = i % 2 == 0;
+		b.count = i * 10;
+		return b;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	public double getScore() {
+		return score;
+	}
+
+	public void setScore(double score) {
+		this.score = score;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+
+	public Integer getCount() {
+		return count;
+	}
+
+	public void setCount(Integer count) {
+		this.count = count;
+	}
+}
@@ -0,0 +1,43 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks.beans;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A bean containing maps of beans and simple values.
+ */
+@SuppressWarnings("serial")
+public class MapBean implements Serializable {
+
+	public Map<String,FlatBean> beans;
+	public Map<String,Integer> ints;
+
+	/**
+	 * Creates a populated instance.
+	 *
+	 * @param size The number of entries in each map.
+	 * @return A new bean.
+	 */
+	public static MapBean create(int size) {
+		MapBean b = new MapBean();
+		b.beans = new LinkedHashMap<>();
+		b.ints = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++) {
+			b.beans.put("key" + i, FlatBean.create(i));
+			b.ints.put("key" + i, i);
+		}
+		return b;
+	}
+}
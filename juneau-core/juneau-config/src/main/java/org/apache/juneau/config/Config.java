@@ -20,6 +20,9 @@ import java.beans.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -405,6 +408,17 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	private final BeanSession beanSession;
 	private final List<ConfigEventListener> listeners = Collections.synchronizedList(new LinkedList<ConfigEventListener>());
 
+	// Values read through this config, keyed by the key passed to the getters.
+	private final Map<String,CachedEntry> cache = new ConcurrentHashMap<>();
+	private final AtomicLong cacheVersion = new AtomicLong();
+	private volatile boolean closed;
+	private final ConfigEventListener cacheInvalidator = new ConfigEventListener() {
+		@Override /* ConfigEventListener */
+		public void onConfigChange(ConfigEvents events) {
+			invalidate(events);
+		}
+	};
+
 
 	/**
 	 * Instantiates a new clean-slate {@link ConfigBuilder} object.
@@ -450,6 +464,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		store = getInstanceProperty(CONFIG_store, ConfigStore.class, ConfigFileStore.DEFAULT);
 		configMap = store.getMap(name);
 		configMap.register(this);
+		configMap.registerChangeListener(cacheInvalidator);
 		serializer = getInstanceProperty(CONFIG_serializer, WriterSerializer.class, SimpleJsonSerializer.DEFAULT);
 		parser = getInstanceProperty(CONFIG_parser, ReaderParser.class, JsonParser.DEFAULT);
 		beanSession = parser.createBeanSession();
@@ -472,6 +487,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		store = copyFrom.store;
 		configMap = copyFrom.configMap;
 		configMap.register(this);
+		configMap.registerChangeListener(cacheInvalidator);
 		serializer = copyFrom.serializer;
 		parser = copyFrom.parser;
 		encoder = copyFrom.encoder;
@@ -515,10 +531,17 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * <p>
 	 * Unlike {@link #getString(String)}, this method doesn't replace SVL variables.
 	 *
+	 * <p>
+	 * Values are cached until the underlying entry is changed, so repeated calls don't decode the value again.
+	 *
 	 * @param key The key.
 	 * @return The value, or <jk>null</jk> if the section or value doesn't exist.
 	 */
 	public String get(String key) {
+		return entry(key).value;
+	}
+
+	private String read(String key) {
 
 		String sname = sname(key);
 		String skey = skey(key);
@@ -755,12 +778,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or <jk>null</jk> if the section or key does not exist.
 	 */
 	public String getString(String key) {
-		String s = get(key);
-		if (s == null)
-			return null;
-		if (varSession != null)
-			s = varSession.resolve(s);
-		return s;
+		return resolve(entry(key));
 	}
 
 	/**
@@ -780,12 +798,10 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or the default value if the section or key does not exist.
 	 */
 	public String getString(String key, String def) {
-		String s = get(key);
-		if (isEmpty(s))
+		CachedEntry e = entry(key);
+		if (isEmpty(e.value))
 			return def;
-		if (varSession != null)
-			s = varSession.resolve(s);
-		return s;
+		return resolve(e);
 	}
 
 	/**
@@ -806,11 +822,8 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or the default value if the section or key does not exist or is blank.
 	 */
 	public String[] getStringArray(String key, String[] def) {
-		String s = getString(key);
-		if (isEmpty(s))
-			return def;
-		String[] r = split(s);
-		return r.length == 0 ? def : r;
+		String[] r = convert(key, String[].class, s -> split(s));
+		return r == null || r.length == 0 ? def : r.clone();
 	}
 
 	/**
@@ -851,10 +864,8 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or the default value if the value does not exist or the value is empty.
 	 */
 	public int getInt(String key, int def) {
-		String s = getString(key);
-		if (isEmpty(s))
-			return def;
-		return parseIntWithSuffix(s);
+		Integer i = convert(key, int.class, s -> parseIntWithSuffix(s));
+		return i == null ? def : i;
 	}
 
 	/**
@@ -875,8 +886,8 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or the default value if the section or key does not exist or cannot be parsed as a boolean.
 	 */
 	public boolean getBoolean(String key, boolean def) {
-		String s = getString(key);
-		return isEmpty(s) ? def : Boolean.parseBoolean(s);
+		Boolean b = convert(key, boolean.class, s -> Boolean.parseBoolean(s));
+		return b == null ? def : b;
 	}
 
 	/**
@@ -917,10 +928,8 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or the default value if the value does not exist or the value is empty.
 	 */
 	public long getLong(String key, long def) {
-		String s = getString(key);
-		if (isEmpty(s))
-			return def;
-		return parseLongWithSuffix(s);
+		Long l = convert(key, long.class, s -> parseLongWithSuffix(s));
+		return l == null ? def : l;
 	}
 
 	/**
@@ -950,10 +959,8 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or the default value if the value does not exist or the value is empty.
 	 */
 	public double getDouble(String key, double def) {
-		String s = getString(key);
-		if (isEmpty(s))
-			return def;
-		return Double.valueOf(s);
+		Double d = convert(key, double.class, s -> Double.valueOf(s));
+		return d == null ? def : d;
 	}
 
 	/**
@@ -983,10 +990,8 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or the default value if the value does not exist or the value is empty.
 	 */
 	public float getFloat(String key, float def) {
-		String s = getString(key);
-		if (isEmpty(s))
-			return def;
-		return Float.valueOf(s);
+		Float f = convert(key, float.class, s -> Float.valueOf(s));
+		return f == null ? def : f;
 	}
 
 	/**
@@ -1116,8 +1121,21 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @throws ParseException If parser could not parse the value or if a parser is not registered with this config file.
 	 * @return The value, or <jk>null</jk> if the section or key does not exist.
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getObject(String key, Parser parser, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(type, "type");
+		if (parser == null && args.length == 0 && isImmutable(type)) {
+			CachedEntry e = entry(key);
+			if (e.literal && ! isEmpty(e.value)) {
+				Object o = e.converted.get(type);
+				if (o == null) {
+					o = parse(e.value, null, type);
+					if (o != null)
+						e.converted.put(type, o);
+				}
+				return (T)o;
+			}
+		}
 		return parse(getString(key), parser, type, args);
 	}
 
@@ -1746,10 +1764,19 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	/**
 	 * Closes this configuration object by unregistering it from the underlying config map.
 	 *
+	 * <p>
+	 * Values read after the config is closed are no longer cached.
+	 *
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public void close() throws IOException {
 		configMap.unregister(this);
+
+		// Closed configs no longer see changes, so stop caching values and read them directly from the map.
+		closed = true;
+		cacheVersion.incrementAndGet();
+		configMap.unregisterChangeListener(cacheInvalidator);
+		cache.clear();
 	}
 
 	/**
@@ -1902,6 +1929,52 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		return r;
 	}
 
+	private CachedEntry entry(String key) {
+		CachedEntry e = key == null ? null : cache.get(key);
+		if (e == null) {
+			long version = cacheVersion.get();
+			e = new CachedEntry(sname(key), skey(key), read(key));
+			// Don't keep a value that may have been read before a concurrent change was signaled.
+			if (! closed && cache.putIfAbsent(key, e) == null && cacheVersion.get() != version)
+				cache.remove(key, e);
+		}
+		return e;
+	}
+
+	private String resolve(CachedEntry e) {
+		if (e.value == null || e.literal || varSession == null)
+			return e.value;
+		return varSession.resolve(e.value);
+	}
+
+	// Converts the resolved value, caching the result unless it depends on variables.
+	@SuppressWarnings("unchecked")
+	private <T> T convert(String key, Class<?> type, Function<String,T> converter) {
+		CachedEntry e = entry(key);
+		if (! e.literal) {
+			String s = resolve(e);
+			return isEmpty(s) ? null : converter.apply(s);
+		}
+		if (isEmpty(e.value))
+			return null;
+		Object o = e.converted.get(type);
+		if (o == null) {
+			o = converter.apply(e.value);
+			e.converted.put(type, o);
+		}
+		return (T)o;
+	}
+
+	private void invalidate(ConfigEvents events) {
+		cacheVersion.incrementAndGet();
+		for (ConfigEvent ce : events) {
+			final String section = ce.getSection(), key = ce.getKey();
+			final boolean allKeys = ce.getType() == ConfigEventType.REMOVE_SECTION;
+			if (ce.getType() != ConfigEventType.SET_SECTION)
+				cache.values().removeIf(x -> x.section.equals(section) && (allKeys || x.key.equals(key)));
+		}
+	}
+
 	private String nlIfMl(CharSequence cs) {
 		String s = cs.toString();
 		if (s.indexOf('\n') != -1 && multiLineValuesOnSeparateLines)
@@ -1953,6 +2026,15 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		return (c == String.class || c.isPrimitive() || c.isAssignableFrom(Number.class) || c == Boolean.class || c.isEnum());
 	}
 
+	private boolean isImmutable(Type t) {
+		if (! (t instanceof Class))
+			return false;
+		Class<?> c = (Class<?>)t;
+		if (Number.class.isAssignableFrom(c))
+			return c.getPackage() == Number.class.getPackage();
+		return (c == String.class || c == Boolean.class || c == Character.class || c.isEnum());
+	}
+
 	private boolean isArray(Type t) {
 		if (! (t instanceof Class))
 			return false;
@@ -2001,4 +2083,21 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	protected void finalize() throws Throwable {
 		close();
 	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Cached entries
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static final class CachedEntry {
+		final String section, key, value;
+		final boolean literal;  // The value has no variables so resolving it always returns the value itself.
+		final Map<Type,Object> converted = new ConcurrentHashMap<>();
+
+		CachedEntry(String section, String key, String value) {
+			this.section = section;
+			this.key = key;
+			this.value = value;
+			this.literal = value == null || (value.indexOf('$') == -1 && value.indexOf('\\') == -1);
+		}
+	}
 }
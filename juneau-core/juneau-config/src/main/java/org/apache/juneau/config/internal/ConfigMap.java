@@ -33,6 +33,7 @@ public class ConfigMap implements ConfigStoreListener {
 
 	private final ConfigStore store;         // The store that created this object.
 	private volatile String contents;        // The original contents of this object.
+	private String committing;               // The contents currently being written by commit().
 	final String name;                       // The name  of this object.
 
 	private final static AsciiSet MOD_CHARS = AsciiSet.create("#$%&*+^@~");
@@ -43,6 +44,9 @@ public class ConfigMap implements ConfigStoreListener {
 	// Registered listeners listening for changes during saves or reloads.
 	private final Set<ConfigEventListener> listeners = Collections.synchronizedSet(new HashSet<ConfigEventListener>());
 
+	// Registered listeners listening for all changes, including uncommitted ones made in memory.
+	private final Set<ConfigEventListener> changeListeners = new CopyOnWriteArraySet<>();
+
 	// The parsed entries of this map with all changes applied.
 	final Map<String,ConfigSection> entries = Collections.synchronizedMap(new LinkedHashMap<String,ConfigSection>());
 
@@ -120,8 +124,12 @@ public class ConfigMap implements ConfigStoreListener {
 		}
 
 		List<Import> irl = new ArrayList<>(imports.size());
-		for (ConfigMap ic : AList.of(imports.values()).riterable())
-			irl.add(new Import(ic).register(listeners));
+		for (ConfigMap ic : AList.of(imports.values()).riterable()) {
+			Import ir = new Import(ic).register(listeners);
+			if (! changeListeners.isEmpty())
+				ir.forwardChanges();
+			irl.add(ir);
+		}
 		this.imports.addAll(irl);
 
 		// Add [blank] section.
@@ -480,7 +488,7 @@ public class ConfigMap implements ConfigStoreListener {
 					cs.setPreLines(ce.getPreLines());
 			} else if (ce.getType() == REMOVE_ENTRY) {
 				if (cs != null)
-					cs.entries.remove(ce.getKey());
+					cs.removeEntry(ce.getKey());
 			} else if (ce.getType() == REMOVE_SECTION) {
 				if (cs != null)
 					entries.remove(section);
@@ -490,6 +498,11 @@ public class ConfigMap implements ConfigStoreListener {
 		} finally {
 			writeUnlock();
 		}
+		if (addToChangeList && ! changeListeners.isEmpty()) {
+			ConfigEvents events = new ConfigEvents();
+			events.add(ce);
+			signalChange(events);
+		}
 		return this;
 	}
 
@@ -540,25 +553,44 @@ public class ConfigMap implements ConfigStoreListener {
 	 * We try saving the file up to 10 times.
 	 * <br>If the file keeps changing on the file system, we throw an exception.
 	 *
+	 * <p>
+	 * Only sections modified since the last commit are re-serialized, and the persisted contents become the new
+	 * baseline without being parsed again.
+	 *
 	 * @return This object (for method chaining).
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public ConfigMap commit() throws IOException {
+		ConfigEvents changes = null;
 		writeLock();
 		try {
 			String newContents = asString();
 			for (int i = 0; i <= 10; i++) {
 				if (i == 10)
 					throw new ConfigException("Unable to store contents of config to store.");
-				String currentContents = store.write(name, contents, newContents);
+				String currentContents;
+				committing = newContents;
+				try {
+					currentContents = store.write(name, contents, newContents);
+				} finally {
+					committing = null;
+				}
 				if (currentContents == null)
 					break;
 				onChange(currentContents);
+				newContents = asString();
 			}
+
+			// The store didn't echo the new contents back to us.
+			if (! isEquals(contents, newContents))
+				changes = rebase(newContents);
+
 			this.changes.clear();
 		} finally {
 			writeUnlock();
 		}
+		if (changes != null)
+			signal(changes);
 		return this;
 	}
 
@@ -599,6 +631,36 @@ public class ConfigMap implements ConfigStoreListener {
 		return this;
 	}
 
+	/**
+	 * Registers a listener on this map that's notified of every change to the values in this map.
+	 *
+	 * <p>
+	 * Unlike listeners registered through {@link #register(ConfigEventListener)} which are only notified of changes
+	 * found during saves and reloads, these listeners are also notified of uncommitted changes made in memory, of
+	 * rollbacks of those changes, and of changes made to imported configs.
+	 * <br>Listeners are called synchronously on the thread making the change and must not block.
+	 *
+	 * @param listener The new listener.
+	 * @return This object (for method chaining).
+	 */
+	public ConfigMap registerChangeListener(ConfigEventListener listener) {
+		changeListeners.add(listener);
+		for (Import ir : imports)
+			ir.forwardChanges();
+		return this;
+	}
+
+	/**
+	 * Unregisters a listener registered through {@link #registerChangeListener(ConfigEventListener)}.
+	 *
+	 * @param listener The listener to remove.
+	 * @return This object (for method chaining).
+	 */
+	public ConfigMap unregisterChangeListener(ConfigEventListener listener) {
+		changeListeners.remove(listener);
+		return this;
+	}
+
 	/**
 	 * Returns the listeners currently associated with this config map.
 	 *
@@ -613,7 +675,14 @@ public class ConfigMap implements ConfigStoreListener {
 		ConfigEvents changes = null;
 		writeLock();
 		try {
-			if (! StringUtils.isEquals(contents, newContents)) {
+			if (committing != null && isEquals(committing, newContents)) {
+				// Our own commit being echoed back by the store.
+				if (! isEquals(contents, newContents)) {
+					ConfigEvents diffs = rebase(newContents);
+					if (! diffs.isEmpty())
+						signal(diffs);
+				}
+			} else if (! StringUtils.isEquals(contents, newContents)) {
 				changes = findDiffs(newContents);
 				load(newContents);
 
@@ -626,8 +695,10 @@ public class ConfigMap implements ConfigStoreListener {
 		} finally {
 			writeUnlock();
 		}
-		if (changes != null && ! changes.isEmpty())
+		if (changes != null && ! changes.isEmpty()) {
+			signalChange(changes);
 			signal(changes);
+		}
 	}
 
 	@Override /* Object */
@@ -694,8 +765,10 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public ConfigMap rollback() {
 		if (changes.size() > 0) {
+			ConfigEvents reverted = new ConfigEvents();
 			writeLock();
 			try {
+				reverted.addAll(changes);
 				changes.clear();
 				load(contents);
 			} catch (IOException e) {
@@ -703,6 +776,7 @@ public class ConfigMap implements ConfigStoreListener {
 		 	} finally {
 				writeUnlock();
 			}
+			signalChange(reverted);
 		}
 		return this;
 	}
@@ -791,6 +865,12 @@ public class ConfigMap implements ConfigStoreListener {
 				l.onConfigChange(changes);
 	}
 
+	private void signalChange(ConfigEvents changes) {
+		if (changes.size() > 0)
+			for (ConfigEventListener l : changeListeners)
+				l.onConfigChange(changes);
+	}
+
 	private ConfigEvents findDiffs(String updatedContents) throws IOException {
 		ConfigEvents changes = new ConfigEvents();
 		ConfigMap newMap = new ConfigMap(store, name, updatedContents);
@@ -856,16 +936,62 @@ public class ConfigMap implements ConfigStoreListener {
 		return changes;
 	}
 
+	// Makes the current entries the baseline for future diffs after they've been persisted as the specified contents.
+	// Only sections touched by the uncommitted changes are compared, producing the same events as findDiffs() would.
+	// This method should only be called from behind a lock.
+	private ConfigEvents rebase(String newContents) {
+		ConfigEvents events = new ConfigEvents();
+		Set<String> modified = new HashSet<>();
+		for (ConfigEvent ce : changes)
+			modified.add(ce.getSection());
+
+		for (ConfigSection ns : entries.values()) {
+			if (modified.contains(ns.name)) {
+				ConfigSection s = oentries.get(ns.name);
+				for (ConfigEntry ne : ns.entries.values()) {
+					ConfigEntry e = s == null ? null : s.oentries.get(ne.key);
+					if (e == null || ! isEquals(e.value, ne.value))
+						events.add(ConfigEvent.setEntry(name, ns.name, ne.key, ne.value, ne.modifiers, ne.comment, ne.preLines));
+				}
+				if (s != null)
+					for (ConfigEntry e : s.oentries.values())
+						if (! ns.entries.containsKey(e.key))
+							events.add(ConfigEvent.removeEntry(name, s.name, e.key));
+			}
+		}
+
+		for (ConfigSection s : oentries.values())
+			if (modified.contains(s.name) && ! entries.containsKey(s.name))
+				for (ConfigEntry e : s.oentries.values())
+					events.add(ConfigEvent.removeEntry(name, s.name, e.key));
+
+		for (String section : modified) {
+			ConfigSection cs = entries.get(section);
+			if (cs != null) {
+				cs.oentries.clear();
+				cs.oentries.putAll(cs.entries);
+			}
+		}
+		oentries.clear();
+		oentries.putAll(entries);
+
+		contents = newContents;
+		return events;
+	}
+
 	// This method should only be called from behind a lock.
 	private String asString() {
-		try {
-			StringWriter sw = new StringWriter();
-			for (ConfigSection cs : entries.values())
-				cs.writeTo(sw);
-			return sw.toString();
-		} catch (IOException e) {
-			throw new RuntimeException(e);  // Not possible.
+		List<String> l = new ArrayList<>(entries.size());
+		int size = 0;
+		for (ConfigSection cs : entries.values()) {
+			String s = cs.asString();
+			size += s.length();
+			l.add(s);
 		}
+		StringBuilder sb = new StringBuilder(size);
+		for (String s : l)
+			sb.append(s);
+		return sb.toString();
 	}
 
 
@@ -883,6 +1009,8 @@ public class ConfigMap implements ConfigStoreListener {
 		final Map<String,ConfigEntry> oentries = Collections.synchronizedMap(new LinkedHashMap<String,ConfigEntry>());
 		final Map<String,ConfigEntry> entries = Collections.synchronizedMap(new LinkedHashMap<String,ConfigEntry>());
 
+		private volatile String text;  // This section serialized, or null if it has changed since last serialized.
+
 		/**
 		 * Constructor.
 		 */
@@ -935,15 +1063,36 @@ public class ConfigMap implements ConfigStoreListener {
 		ConfigSection addEntry(String key, String value, String modifiers, String comment, List<String> preLines) {
 			ConfigEntry e = new ConfigEntry(key, value, modifiers, comment, preLines);
 			this.entries.put(e.key, e);
+			this.text = null;
+			return this;
+		}
+
+		ConfigSection removeEntry(String key) {
+			this.entries.remove(key);
+			this.text = null;
 			return this;
 		}
 
 		ConfigSection setPreLines(List<String> preLines) {
 			this.preLines.clear();
 			this.preLines.addAll(preLines);
+			this.text = null;
 			return this;
 		}
 
+		String asString() {
+			String s = text;
+			if (s == null) {
+				try {
+					s = writeTo(new StringWriter()).toString();
+				} catch (IOException e) {
+					throw new RuntimeException(e);  // Not possible.
+				}
+				text = s;
+			}
+			return s;
+		}
+
 		Writer writeTo(Writer w) throws IOException {
 			for (String s : preLines)
 				w.append(s).append('\n');
@@ -972,6 +1121,7 @@ public class ConfigMap implements ConfigStoreListener {
 
 		private final ConfigMap configMap;
 		private final Map<ConfigEventListener,ConfigEventListener> listenerMap = Collections.synchronizedMap(new LinkedHashMap<>());
+		private ConfigEventListener changeForwarder;
 
 		Import(ConfigMap configMap) {
 			this.configMap = configMap;
@@ -1001,6 +1151,24 @@ public class ConfigMap implements ConfigStoreListener {
 			return this;
 		}
 
+		synchronized Import forwardChanges() {
+			if (changeForwarder == null) {
+				changeForwarder = new ConfigEventListener() {
+					@Override
+					public void onConfigChange(ConfigEvents events) {
+						ConfigEvents events2 = new ConfigEvents();
+						for (ConfigEvent cev : events) {
+							if (! hasEntry(cev.getSection(), cev.getKey()))
+								events2.add(cev);
+						}
+						signalChange(events2);
+					}
+				};
+				configMap.registerChangeListener(changeForwarder);
+			}
+			return this;
+		}
+
 		synchronized Import unregister(final ConfigEventListener listener) {
 			configMap.unregister(listenerMap.remove(listener));
 			return this;
@@ -1010,6 +1178,9 @@ public class ConfigMap implements ConfigStoreListener {
 			for (ConfigEventListener l : listenerMap.values())
 				configMap.unregister(l);
 			listenerMap.clear();
+			if (changeForwarder != null)
+				configMap.unregisterChangeListener(changeForwarder);
+			changeForwarder = null;
 			return this;
 		}
 
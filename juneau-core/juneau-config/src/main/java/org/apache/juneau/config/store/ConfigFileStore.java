@@ -21,7 +21,10 @@ import java.nio.*;
 import java.nio.channels.*;
 import java.nio.charset.*;
 import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.logging.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -196,6 +199,45 @@ public class ConfigFileStore extends ConfigStore {
 	 */
 	public static final String FILESTORE_extensions = PREFIX + ".extensions.s";
 
+	/**
+	 * Configuration property:  Write delay.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.config.store.ConfigFileStore#FILESTORE_writeDelay FILESTORE_writeDelay}
+	 * 	<li><b>Name:</b>  <js>"ConfigFileStore.writeDelay.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>ConfigFileStore.writeDelay</c>
+	 * 	<li><b>Environment variable:</b>  <c>CONFIGFILESTORE_WRITEDELAY</c>
+	 * 	<li><b>Default:</b>  <c>0</c>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.config.store.ConfigFileStoreBuilder#writeDelay(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The number of milliseconds to wait before writing changed contents to the file system.
+	 *
+	 * <p>
+	 * When greater than zero, {@link #write(String, String, String)} validates and accepts the new contents
+	 * immediately and signals them to listeners, but the file is written by a background thread once the delay has
+	 * passed.
+	 * <br>All writes to the same file made during that time are combined into a single write of the latest contents.
+	 * <br>Pending writes are flushed when the store is closed.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>Changes made to the file by other processes while a write is pending take precedence over the pending write.
+	 * 	<li>Delayed writes are not durable when {@link #write(String, String, String)} (or
+	 * 		<c>Config.commit()</c>) returns, and are lost if the JVM exits before they're flushed.
+	 * 	<li>If a delayed write fails, it's logged and kept pending.
+	 * 		<br>The failure is then thrown by the next write to the same file (after retrying the pending write) or by
+	 * 		{@link #close()}.
+	 * </ul>
+	 */
+	public static final String FILESTORE_writeDelay = PREFIX + ".writeDelay.i";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Predefined instances
 	//-------------------------------------------------------------------------------------------------------------------
@@ -229,6 +271,15 @@ public class ConfigFileStore extends ConfigStore {
 	private final ConcurrentHashMap<String,String> cache = new ConcurrentHashMap<>();
 	private final ConcurrentHashMap<String,String> nameCache = new ConcurrentHashMap<>();
 	private final String[] extensions;
+	private final int writeDelay;
+	private final ConcurrentHashMap<String,FileState> states = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String,String> pending = new ConcurrentHashMap<>();
+	private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+	private final ConcurrentHashMap<String,IOException> failures = new ConcurrentHashMap<>();
+	private ScheduledExecutorService flusher;
+
+	private static final String TEMP_SUFFIX = ".tmp";
+	private static final Logger LOG = Logger.getLogger(ConfigFileStore.class.getName());
 
 	/**
 	 * Constructor.
@@ -243,6 +294,7 @@ public class ConfigFileStore extends ConfigStore {
 			charset = getProperty(FILESTORE_charset, Charset.class, Charset.defaultCharset());
 			updateOnWrite = getBooleanProperty(FILESTORE_enableUpdateOnWrite);
 			extensions = getCdlProperty(FILESTORE_extensions, "cfg");
+			writeDelay = getIntegerProperty(FILESTORE_writeDelay, 0);
 			WatcherSensitivity ws = getProperty(FILESTORE_watcherSensitivity, WatcherSensitivity.class, WatcherSensitivity.MEDIUM);
 			watcher = getBooleanProperty(FILESTORE_enableWatcher) ? new WatcherThread(dir, ws) : null;
 			if (watcher != null)
@@ -275,14 +327,10 @@ public class ConfigFileStore extends ConfigStore {
 
 		try (FileChannel fc = FileChannel.open(p, oo)) {
 			try (FileLock lock = isWritable ? fc.lock() : null) {
-				ByteBuffer buf = ByteBuffer.allocate(1024);
-				StringBuilder sb = new StringBuilder();
-				while (fc.read(buf) != -1) {
-					sb.append(charset.decode((ByteBuffer)(buf.flip())));
-					buf.clear();
-				}
-				s = sb.toString();
+				byte[] b = readBytes(fc);
+				s = decode(b);
 				cache.put(name, s);
+				states.put(name, FileState.of(b));
 			}
 		}
 
@@ -302,43 +350,54 @@ public class ConfigFileStore extends ConfigStore {
 		Path p = resolveFile(name);
 		name = p.getFileName().toString();
 
-		boolean exists = Files.exists(p);
+		// Report a failed delayed write to the caller if retrying it fails again.
+		if (failures.containsKey(name))
+			tryFlush(name);
+
+		boolean exists = Files.exists(p) || pending.containsKey(name);
 
 		// Don't create the file if we're not going to match.
 		if ((!exists) && isNotEmpty(expectedContents))
 			return "";
 
-		if (isWritable(p)) {
-			if (newContents == null)
+		if (newContents != null && writeDelay > 0) {
+			String currentContents = pending.get(name);
+			if (currentContents == null) {
+				if (cache.containsKey(name) && ! isUnchanged(name, p))
+					cache.remove(name);
+				currentContents = read(name);
+			}
+			if (expectedContents != null && ! isSameContents(currentContents, expectedContents))
+				return currentContents;
+			pending.put(name, newContents);
+			if (scheduled.add(name))
+				scheduleFlush(name);
+
+		} else if (isWritable(p)) {
+			if (newContents == null) {
+				pending.remove(name);
 				Files.delete(p);
-			else {
-				try (FileChannel fc = FileChannel.open(p, READ, WRITE, CREATE)) {
-					try (FileLock lock = fc.lock()) {
-						String currentContents = "";
-						if (exists) {
-							ByteBuffer buf = ByteBuffer.allocate(1024);
-							StringBuilder sb = new StringBuilder();
-							while (fc.read(buf) != -1) {
-								sb.append(charset.decode((ByteBuffer)(buf.flip())));
-								buf.clear();
-							}
-							currentContents = sb.toString();
-						}
-						if (expectedContents != null && ! isEquals(currentContents, expectedContents)) {
-							if (currentContents == null)
-								cache.remove(name);
-							else
-								cache.put(name, currentContents);
-							return currentContents;
-						}
-						fc.position(0);
-						fc.write(charset.encode(newContents));
+				states.remove(name);
+			} else {
+				try (FileChannel fc = lock(p)) {
+					// Only decode the file if it's been changed since we last read or wrote it.
+					byte[] b = exists ? readBytes(fc) : new byte[0];
+					FileState s = FileState.of(b);
+					String currentContents = cache.get(name);
+					if (currentContents == null || ! s.equals(states.get(name)))
+						currentContents = decode(b);
+					if (expectedContents != null && ! isSameContents(currentContents, expectedContents)) {
+						cache.put(name, currentContents);
+						states.put(name, s);
+						return currentContents;
 					}
+					replace(name, p, fc, newContents);
 				}
 			}
 		}
 
-		if (updateOnWrite)
+		// Delayed writes aren't seen by the watcher until they're flushed, so always signal them immediately.
+		if (updateOnWrite || pending.containsKey(name))
 			update(name, newContents);
 		else
 			cache.remove(name);  // Invalidate the cache.
@@ -348,7 +407,8 @@ public class ConfigFileStore extends ConfigStore {
 
 	@Override /* ConfigStore */
 	public synchronized boolean exists(String name) {
-		return Files.exists(resolveFile(name));
+		Path p = resolveFile(name);
+		return pending.containsKey(p.getFileName().toString()) || Files.exists(p);
 	}
 
 	private Path resolveFile(String name) {
@@ -414,9 +474,167 @@ public class ConfigFileStore extends ConfigStore {
 	}
 
 	@Override /* Closeable */
-	public synchronized void close() {
+	public synchronized void close() throws IOException {
 		if (watcher != null)
 			watcher.interrupt();
+		if (flusher != null) {
+			flusher.shutdownNow();
+			flusher = null;
+		}
+		IOException e = null;
+		for (String name : pending.keySet()) {
+			try {
+				tryFlush(name);
+			} catch (IOException e2) {
+				if (e == null)
+					e = e2;
+				else
+					e.addSuppressed(e2);
+			}
+		}
+		if (e != null)
+			throw e;
+	}
+
+	// Opens and locks the file for writing.
+	// Since files are replaced by renaming, retries if another process replaced the file while we waited for the lock.
+	// The lock is released when the channel is closed.
+	private FileChannel lock(Path p) throws IOException {
+		while (true) {
+			Object key = fileKey(p);
+			FileChannel fc = FileChannel.open(p, READ, WRITE, CREATE);
+			try {
+				fc.lock();
+				if (key == null || key.equals(fileKey(p)))
+					return fc;
+			} catch (IOException e) {
+				fc.close();
+				throw e;
+			}
+			fc.close();
+		}
+	}
+
+	private static Object fileKey(Path p) throws IOException {
+		return Files.exists(p) ? Files.readAttributes(p, BasicFileAttributes.class).fileKey() : null;
+	}
+
+	private byte[] readBytes(FileChannel fc) throws IOException {
+		fc.position(0);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream((int)Math.min(fc.size(), Integer.MAX_VALUE - 8));
+		ByteBuffer buf = ByteBuffer.allocate(8192);
+		while (fc.read(buf) != -1) {
+			baos.write(buf.array(), 0, buf.position());
+			buf.clear();
+		}
+		return baos.toByteArray();
+	}
+
+	private String decode(byte[] b) {
+		return charset.decode(ByteBuffer.wrap(b)).toString();
+	}
+
+	// Replaces the contents of the file by renaming a temporary file over it so readers never see a partial write.
+	// This method should only be called while holding the lock on the file.
+	private void replace(String name, Path p, FileChannel fc, String contents) throws IOException {
+		ByteBuffer b = charset.encode(contents);
+		FileState state = FileState.of(b);
+		boolean replaced = false;
+		if (! Files.isSymbolicLink(p)) {
+			Path tmp = Files.createTempFile(dir.toPath(), "." + name + ".", TEMP_SUFFIX);
+			try {
+				PosixFileAttributeView v = Files.getFileAttributeView(p, PosixFileAttributeView.class);
+				if (v != null)
+					Files.setPosixFilePermissions(tmp, v.readAttributes().permissions());
+				try (FileChannel tc = FileChannel.open(tmp, WRITE)) {
+					while (b.hasRemaining())
+						tc.write(b);
+					tc.force(false);
+				}
+				Files.move(tmp, p, StandardCopyOption.ATOMIC_MOVE);
+				replaced = true;
+			} catch (IOException e) {
+				// Not all platforms can rename over a file that's open, so fall back to rewriting it in place.
+				b.rewind();
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		}
+		if (! replaced) {
+			fc.position(0);
+			while (b.hasRemaining())
+				fc.write(b);
+			fc.truncate(fc.position());
+		}
+		states.put(name, state);
+	}
+
+	// Returns true if the file has the same contents as when we last read or wrote it.
+	private boolean isUnchanged(String name, Path p) throws IOException {
+		FileState s = states.get(name);
+		return s != null && Files.exists(p) && s.equals(FileState.of(Files.readAllBytes(p)));
+	}
+
+	private static boolean isSameContents(String s1, String s2) {
+		if (s1 == s2)
+			return true;
+		if (s1 == null || s2 == null || s1.length() != s2.length() || s1.hashCode() != s2.hashCode())
+			return false;
+		return s1.equals(s2);
+	}
+
+	private synchronized void scheduleFlush(final String name) {
+		if (flusher == null) {
+			flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "ConfigFileStore-flusher");
+					t.setDaemon(true);
+					return t;
+				}
+			});
+		}
+		flusher.schedule(new Runnable() {
+			@Override
+			public void run() {
+				flush(name);
+			}
+		}, writeDelay, TimeUnit.MILLISECONDS);
+	}
+
+	synchronized void flush(final String name) {
+		try {
+			tryFlush(name);
+		} catch (IOException e) {
+			// Leave the write pending so that it's retried and reported on the next write or when the store is closed.
+			failures.put(name, e);
+			LOG.log(Level.WARNING, e, () -> "Delayed write of config file '" + name + "' failed.");
+		}
+	}
+
+	private synchronized void tryFlush(String name) throws IOException {
+		scheduled.remove(name);
+		String contents = pending.get(name);
+		if (contents == null)
+			return;
+		String external = null;
+		Path p = resolveFile(name);
+		if (isWritable(p)) {
+			try (FileChannel fc = lock(p)) {
+				byte[] b = readBytes(fc);
+				FileState s = FileState.of(b), s2 = states.get(name);
+				if (s2 == null ? b.length > 0 : ! s.equals(s2)) {
+					external = decode(b);
+					states.put(name, s);
+				} else {
+					replace(name, p, fc, contents);
+				}
+			}
+		}
+		pending.remove(name);
+		failures.remove(name);
+		if (external != null && ! isSameContents(external, contents))
+			update(name, external);
 	}
 
 
@@ -490,6 +708,17 @@ public class ConfigFileStore extends ConfigStore {
 	protected synchronized void onFileEvent(WatchEvent<Path> e) throws IOException {
 		String fn = e.context().getFileName().toString();
 
+		// Ignore our own temporary files.
+		if (fn.endsWith(TEMP_SUFFIX))
+			return;
+
+		if (pending.containsKey(fn)) {
+			// Ignore earlier writes we made ourselves, but changes made by others take precedence over our pending writes.
+			if (isUnchanged(fn, resolveFile(fn)))
+				return;
+			pending.remove(fn);
+		}
+
 		String oldContents = cache.get(fn);
 		cache.remove(fn);
 		String newContents = read(fn);
@@ -509,6 +738,43 @@ public class ConfigFileStore extends ConfigStore {
 				.a("charset", charset)
 				.a("extensions", extensions)
 				.a("updateOnWrite", updateOnWrite)
+				.a("writeDelay", writeDelay)
 			);
 	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// FileState
+	//-----------------------------------------------------------------------------------------------------------------
+
+	// The raw contents of a file when we last read or wrote it.
+	// Comparing bytes avoids decoding the file when it hasn't changed, and unlike a checksum never mistakes an
+	// external edit for our own contents.
+	private static final class FileState {
+		private final byte[] contents;
+
+		private FileState(byte[] contents) {
+			this.contents = contents;
+		}
+
+		// The array must not be modified afterwards.
+		static FileState of(byte[] b) {
+			return new FileState(b);
+		}
+
+		static FileState of(ByteBuffer b) {
+			byte[] b2 = new byte[b.remaining()];
+			b.duplicate().get(b2);
+			return new FileState(b2);
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			return o instanceof FileState && Arrays.equals(contents, ((FileState)o).contents);
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return Arrays.hashCode(contents);
+		}
+	}
 }
@@ -868,4 +868,51 @@ public class BeanConfigTest {
 		assertEquals(false, (boolean)session.convertToType("", boolean.class));
 		assertEquals(null, session.convertToType("", Boolean.class));
 	}
+
+	//====================================================================================================
+	// testLambdaAccessors
+	//====================================================================================================
+	@Test
+	public void testLambdaAccessors() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().findFluentSetters().useLambdaAccessors().build();
+		JsonParser p = JsonParser.create().findFluentSetters().useLambdaAccessors().build();
+
+		E1 e = new E1().setF1("foo");
+		e.setF2(1);
+		e.setF3(true);
+		e.f4 = 2L;
+
+		String json = s.serialize(e);
+		assertEquals(SimpleJsonSerializer.DEFAULT.serialize(e), json);
+		assertEquals("{f4:2,f1:'foo',f2:1,f3:true}", json);
+
+		e = p.parse(json, E1.class);
+		assertEquals("foo", e.getF1());
+		assertEquals(1, e.getF2());
+		assertTrue(e.isF3());
+		assertEquals(2L, e.f4);
+
+		// Exceptions thrown by accessors are wrapped the same way as reflective invocations.
+		assertThrown(()->s.serialize(new E2())).contains("Exception occurred while getting property 'f1'");
+		assertThrown(()->p.parse("{f1:'foo'}", E2.class)).contains("Error occurred trying to set property 'f1'");
+	}
+
+	public static class E1 {
+		private String f1;
+		private int f2;
+		private boolean f3;
+		public long f4;
+
+		public String getF1() {return f1;}
+		public E1 setF1(String f1) {this.f1 = f1; return this;}
+		public int getF2() {return f2;}
+		public void setF2(int f2) {this.f2 = f2;}
+		public boolean isF3() {return f3;}
+		public void setF3(boolean f3) {this.f3 = f3;}
+	}
+
+	public static class E2 {
+		public String getF1() {throw new RuntimeException("foo");}
+		public void setF1(String f1) {throw new RuntimeException("foo");}
+	}
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.transform.*;
 import org.junit.*;
@@ -288,4 +289,41 @@ public class ClassMetaTest {
 	public static class HI1Swap extends PojoSwap<HI1,Map> {}
 	public static class HC2Swap extends PojoSwap<HC2,Map> {}
 	public static class HI2Swap extends PojoSwap<HI2,Map> {}
+
+	//====================================================================================================
+	// Concurrent creation of mutually-recursive class metas.
+	//====================================================================================================
+	@Test(timeout=60000)
+	public void testConcurrentCreation() throws Exception {
+		Class<?>[] types = {J1.class, J2.class, J3.class, J4.class};
+		ExecutorService es = Executors.newFixedThreadPool(types.length * 2);
+		try {
+			for (int i = 0; i < 50; i++) {
+				// Use a new property store each time so that we don't hit the shared class meta cache.
+				final BeanContext bc2 = BeanContext.create().typePropertyName("_testConcurrentCreation" + i).build();
+				final CyclicBarrier barrier = new CyclicBarrier(types.length * 2);
+				List<Future<ClassMeta<?>>> l = new ArrayList<>();
+				for (int j = 0; j < types.length * 2; j++) {
+					final Class<?> c = types[j % types.length];
+					l.add(es.submit(() -> {
+						barrier.await();
+						return bc2.getClassMeta(c);
+					}));
+				}
+				for (int j = 0; j < l.size(); j++) {
+					ClassMeta<?> cm = l.get(j).get();
+					assertSame(bc2.getClassMeta(types[j % types.length]), cm);
+					assertTrue(cm.isBean());
+					assertEquals(1, cm.getBeanMeta().getPropertyMetas().size());
+				}
+			}
+		} finally {
+			es.shutdownNow();
+		}
+	}
+
+	public static class J1 { public J2 j2; }
+	public static class J2 { public J3 j3; }
+	public static class J3 { public J4 j4; }
+	public static class J4 { public J1 j1; }
 }
@@ -31,6 +31,13 @@ public class CloseableByteArrayInputStream extends ByteArrayInputStream {
 		return super.read();
 	}
 
+	@Override
+	public int read(byte[] b, int off, int len) {
+		if (isClosed)
+			throw new RuntimeException("Stream is closed");
+		return super.read(b, off, len);
+	}
+
 	@Override
 	public void close() {
 		isClosed = true;
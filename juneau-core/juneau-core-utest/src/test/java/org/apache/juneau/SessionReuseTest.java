@@ -0,0 +1,174 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.xml.*;
+import org.apache.juneau.xml.annotation.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link Serializer#SERIALIZER_reuseSessions} and {@link Parser#PARSER_reuseSessions} settings.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class SessionReuseTest {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static final AtomicInteger SL_COUNT = new AtomicInteger();
+
+	public static class SL extends SerializerListener {
+		public SL() {
+			SL_COUNT.incrementAndGet();
+		}
+	}
+
+	public static class A {
+		public String f = "foo";
+		public A a;
+	}
+
+	@Test
+	public void a01_serializer_reusesSession() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().listener(SL.class).reuseSessions().build();
+		SL_COUNT.set(0);
+		for (int i = 0; i < 3; i++)
+			assertEquals("{f:'foo'}", s.serialize(new A()));
+		assertEquals("{f:'foo'}", s.serializeToString(new A()));
+		StringBuilder sb = new StringBuilder();
+		s.serialize(new A(), sb);
+		assertEquals("{f:'foo'}", sb.toString());
+		assertEquals(1, SL_COUNT.get());
+
+		s = JsonSerializer.create().ssq().listener(SL.class).build();
+		SL_COUNT.set(0);
+		for (int i = 0; i < 3; i++)
+			assertEquals("{f:'foo'}", s.serialize(new A()));
+		assertEquals(3, SL_COUNT.get());
+	}
+
+	@Test
+	public void a02_serializer_resetAfterError() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().sortProperties().detectRecursions().reuseSessions().build();
+		A a = new A();
+		a.a = a;
+		assertThrown(()->s.serialize(a)).contains("Recursion occurred");
+
+		A a2 = new A();
+		a2.a = new A();
+		assertEquals("{a:{f:'foo'},f:'foo'}", s.serialize(a2));
+		assertEquals("{a:{f:'foo'},f:'foo'}", s.serialize(a2));
+	}
+
+	@Test
+	public void a03_serializer_otherThreads() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().listener(SL.class).reuseSessions().build();
+		SL_COUNT.set(0);
+		List<Thread> threads = new ArrayList<>();
+		List<String> results = Collections.synchronizedList(new ArrayList<>());
+		for (int i = 0; i < 4; i++) {
+			Thread t = new Thread(() -> {
+				for (int j = 0; j < 100; j++)
+					results.add(s.toString(new A()));
+			});
+			threads.add(t);
+			t.start();
+		}
+		for (Thread t : threads)
+			t.join();
+		assertEquals(400, results.size());
+		assertEquals(1, new HashSet<>(results).size());
+		assertEquals(4, SL_COUNT.get());
+	}
+
+	@Xml(prefix="foo", namespace="http://foo")
+	public static class B {
+		public String f = "x";
+	}
+
+	@Test
+	public void a04_serializer_xmlNamespacesReset() throws Exception {
+		WriterSerializer s1 = XmlSerializer.create().sq().ns().reuseSessions().build();
+		WriterSerializer s2 = XmlSerializer.create().sq().ns().build();
+		assertEquals(s2.serialize(new B()), s1.serialize(new B()));
+		assertEquals(s2.serialize(new A()), s1.serialize(new A()));
+		assertFalse(s1.serialize(new A()).contains("http://foo"));
+	}
+
+	public static class C {}
+
+	public static class CSwap extends StringSwap<C> {
+		@Override
+		public String swap(BeanSession session, C o) throws Exception {
+			return "nested:" + C_SERIALIZER.serialize(Collections.singletonMap("x", 1));
+		}
+	}
+
+	static WriterSerializer C_SERIALIZER = JsonSerializer.create().ssq().swaps(CSwap.class).reuseSessions().build();
+
+	@Test
+	public void a05_serializer_reentrant() throws Exception {
+		assertEquals("{c:'nested:{x:1}'}", C_SERIALIZER.serialize(Collections.singletonMap("c", new C())));
+		assertEquals("{c:'nested:{x:1}'}", C_SERIALIZER.serialize(Collections.singletonMap("c", new C())));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static final AtomicInteger PL_COUNT = new AtomicInteger();
+
+	public static class PL extends ParserListener {
+		public PL() {
+			PL_COUNT.incrementAndGet();
+		}
+	}
+
+	@Test
+	public void b01_parser_reusesSession() throws Exception {
+		ReaderParser p = JsonParser.create().listener(PL.class).reuseSessions().build();
+		PL_COUNT.set(0);
+		for (int i = 0; i < 3; i++)
+			assertEquals("foo", p.parse("{f:'foo'}", A.class).f);
+		assertEquals("bar", p.parse((Object)"{f:'bar'}", A.class).f);
+		assertEquals(1, PL_COUNT.get());
+
+		p = JsonParser.create().listener(PL.class).build();
+		PL_COUNT.set(0);
+		for (int i = 0; i < 3; i++)
+			assertEquals("foo", p.parse("{f:'foo'}", A.class).f);
+		assertEquals(3, PL_COUNT.get());
+	}
+
+	@Test
+	public void b02_parser_resetAfterError() throws Exception {
+		ReaderParser p = JsonParser.create().reuseSessions().build();
+		assertThrown(()->p.parse("{f:'foo',a:{f:", A.class)).isType(ParseException.class);
+		A a = p.parse("{f:'foo',a:{f:'bar'}}", A.class);
+		assertEquals("bar", a.a.f);
+		assertObject(p.parse("[1,2]", List.class, Integer.class)).json().is("[1,2]");
+		assertObject(p.parseIntoMap("{a:1}", new TreeMap<>(), String.class, Integer.class)).json().is("{a:1}");
+	}
+}
@@ -414,4 +414,31 @@ public class ConfigImportsTest {
 		assertEquals("1", cb.get("A/a1"));
 		assertEquals("2", cb.get("B/b1"));
 	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Cached values
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void cachedImportedValues() throws Exception {
+		ConfigMemoryStore ms = ConfigMemoryStore.create().build();
+		ms.write("A", "", "x=1\ny=1");
+		ms.write("B", "", "<A>\ny=2");
+		Config ca = Config.create("A").store(ms).build();
+		Config cb = Config.create("B").store(ms).build();
+
+		assertEquals(1, cb.getInt("x"));
+		assertEquals(2, cb.getInt("y"));
+
+		ca.set("x", "3");
+		ca.set("y", "3");
+		assertEquals(3, cb.getInt("x"));
+		assertEquals(2, cb.getInt("y"));
+
+		ca.rollback();
+		assertEquals(1, cb.getInt("x"));
+
+		ms.write("A", "x=1\ny=1", "x=4");
+		assertEquals(4, cb.getInt("x"));
+	}
 }
@@ -17,10 +17,13 @@ import static org.apache.juneau.internal.StringUtils.*;
 import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
+import java.io.*;
 import java.util.*;
 
+import org.apache.juneau.config.event.*;
 import org.apache.juneau.config.internal.*;
 import org.apache.juneau.config.store.*;
+import org.apache.juneau.internal.*;
 import org.junit.*;
 
 @FixMethodOrder(NAME_ASCENDING)
@@ -1131,6 +1134,41 @@ public class ConfigMapTest {
 		assertThrown(()->cm.setEntry("S1", "k1", "v1", " ", null, null)).is("Invalid modifiers:  ");
 	}
 
+	@Test
+	public void testCommit() throws Exception {
+		File dir = new File("./target/configmap");
+		try {
+			dir.mkdirs();
+			File f = new File(dir, "Foo.cfg");
+			IOUtils.write(f, new StringReader("[S1]\nk1 = v1\n[S2]\nk2 = v2\n"));
+			ConfigStore s = ConfigFileStore.create().directory(dir).build();
+			ConfigMap cm = s.getMap("Foo.cfg");
+			final List<String> events = new ArrayList<>();
+			cm.register(new ConfigEventListener() {
+				@Override
+				public void onConfigChange(ConfigEvents e) {
+					events.add(e.toString());
+				}
+			});
+
+			cm.setEntry("S2", "k2", "v2b", null, null, null);
+			cm.setEntry("S2", "k3", "v3", null, null, null);
+			cm.removeEntry("S1", "k1");
+			cm.commit();
+			assertString(IOUtils.read(f)).replaceAll("\\r?\\n", "|").is("[S1]|[S2]|k2 = v2b|k3 = v3|");
+			assertObject(events).json().is("['[REMOVE_ENTRY(S1/k1), SET(S2/k2 = v2b), SET(S2/k3 = v3)]']");
+
+			// Changes made to the file since then are kept when committing.
+			IOUtils.write(f, new StringReader("[S1]\nk1 = v1c\n[S2]\nk2 = v2b\nk3 = v3\n"));
+			cm.setEntry("S2", "k3", "v3b", null, null, null);
+			cm.commit();
+			assertString(IOUtils.read(f)).replaceAll("\\r?\\n", "|").is("[S1]|k1 = v1c|[S2]|k2 = v2b|k3 = v3b|");
+			assertEquals("v1c", cm.getEntry("S1", "k1").getValue());
+		} finally {
+			FileUtils.delete(dir);
+		}
+	}
+
 	private static ConfigStore initStore(String name, String...contents) {
 		return ConfigMemoryStore.create().build().update(name, contents);
 	}
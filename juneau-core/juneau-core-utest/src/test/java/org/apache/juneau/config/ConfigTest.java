@@ -1565,6 +1565,55 @@ public class ConfigTest {
 		}
 	}
 
+	//====================================================================================================
+	// testValueCache
+	//====================================================================================================
+
+	@Test
+	public void testValueCache() throws Exception {
+		Config c1 = init("a=1", "b=x,y", "c={foo:'bar'}", "[S]", "d=true", "e=1K");
+		Config c2 = cb.build();
+
+		assertEquals(1, c1.getInt("a"));
+		assertEquals(1, c1.getInt("a"));
+		assertEquals(1024, c1.getInt("S/e"));
+		assertEquals(1024L, c1.getLong("S/e"));
+		assertTrue(c1.getBoolean("S/d"));
+		assertSame(c1.getString("a"), c1.getString("a"));
+
+		// In-memory changes are seen by every config sharing the same map.
+		c2.set("a", "2");
+		assertEquals(2, c1.getInt("a"));
+		assertEquals(2, c2.getInt("a"));
+		c2.set("S/d", "false");
+		assertFalse(c1.getBoolean("S/d"));
+		c2.removeSection("S");
+		assertEquals(0, c1.getInt("S/e"));
+		assertTrue(c1.getBoolean("S/d", true));
+
+		c1.rollback();
+		assertEquals(1, c1.getInt("a"));
+		assertEquals(1, c2.getInt("a"));
+		assertEquals(1024, c2.getInt("S/e"));
+
+		// Changes to the underlying store.
+		ConfigMemoryStore.DEFAULT.update("Test.cfg", "a=3");
+		assertEquals(3, c1.getInt("a"));
+		assertNull(c1.get("b"));
+		assertEquals(0, c1.getInt("S/e"));
+
+		// Mutable values are never shared between callers.
+		ConfigMemoryStore.DEFAULT.update("Test.cfg", "b=x,y", "c={foo:'bar'}");
+		c1.getStringArray("b")[0] = "z";
+		assertObject(c1.getStringArray("b")).json().is("['x','y']");
+		c1.getMap("c").put("foo", "baz");
+		assertObject(c1.getMap("c")).json().is("{foo:'bar'}");
+		assertNotSame(c1.getMap("c"), c1.getMap("c"));
+
+		c1.close();
+		c2.close();
+	}
+
 	@Test
 	public void testGetCandidateSystemDefaultConfigNames() {
 
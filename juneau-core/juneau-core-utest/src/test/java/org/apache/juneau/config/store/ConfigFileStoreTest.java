@@ -16,6 +16,7 @@ import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
 import java.io.*;
+import java.util.*;
 import java.util.concurrent.*;
 
 import org.apache.juneau.internal.*;
@@ -121,6 +122,93 @@ public class ConfigFileStoreTest {
 		assertEquals("bar", fs.read("X.cfg"));
 	}
 
+	@Test
+	public void testReplaceContents() throws Exception {
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).build();
+		assertNull(fs.write("X.cfg", null, "foobar"));
+		assertNull(fs.write("X.cfg", "foobar", "foo"));
+		assertEquals("foo", IOUtils.read(new File(DIR, "X.cfg")));
+		assertEquals(1, DIR.list().length);
+
+		// Changes made by someone else are detected.
+		IOUtils.write(new File(DIR, "X.cfg"), new StringReader("bar"));
+		assertEquals("bar", fs.write("X.cfg", "foo", "baz"));
+		assertEquals("bar", fs.read("X.cfg"));
+		assertNull(fs.write("X.cfg", "bar", "baz"));
+		assertEquals("baz", IOUtils.read(new File(DIR, "X.cfg")));
+	}
+
+	@Test
+	public void testWriteDelay() throws Exception {
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).writeDelay(60000).build();
+		assertNull(fs.write("X", null, "foo"));
+		assertNull(fs.write("X", "foo", "bar"));
+		assertNull(fs.write("X", "bar", "baz"));
+		assertEquals("baz", fs.write("X", "foo", "qux"));
+		assertEquals("baz", fs.read("X"));
+		assertTrue(fs.exists("X"));
+		assertFileNotExists("X.cfg");
+
+		fs.close();
+		assertEquals("baz", IOUtils.read(new File(DIR, "X.cfg")));
+	}
+
+	@Test
+	public void testWriteDelayExternalChanges() throws Exception {
+		DIR.mkdirs();
+		IOUtils.write(new File(DIR, "X.cfg"), new StringReader("foo"));
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).writeDelay(60000).build();
+		final List<String> l = new ArrayList<>();
+		fs.register("X", new ConfigStoreListener() {
+			@Override
+			public void onChange(String contents) {
+				l.add(contents);
+			}
+		});
+		assertEquals("foo", fs.read("X"));
+		assertNull(fs.write("X", "foo", "bar"));
+
+		// Changes made by someone else while our write is pending take precedence.
+		IOUtils.write(new File(DIR, "X.cfg"), new StringReader("baz"));
+		fs.close();
+		assertEquals("baz", IOUtils.read(new File(DIR, "X.cfg")));
+		assertEquals("[bar, baz]", l.toString());
+	}
+
+	@Test
+	public void testWriteDelayFailures() throws Exception {
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).writeDelay(60000).build();
+		assertNull(fs.write("X", null, "foo"));
+
+		// Replacing the file with a directory causes the delayed write to fail.
+		File f = new File(DIR, "X.cfg");
+		f.mkdirs();
+		fs.flush("X.cfg");
+		try {
+			fs.write("X", "foo", "bar");
+			fail();
+		} catch (IOException e) {
+			// Expected.
+		}
+		assertEquals("foo", fs.read("X"));
+
+		// The pending write is retried on the next write.
+		f.delete();
+		assertNull(fs.write("X", "foo", "bar"));
+		assertEquals("foo", IOUtils.read(f));
+
+		// Failures of pending writes are thrown when the store is closed.
+		f.delete();
+		f.mkdirs();
+		try {
+			fs.close();
+			fail();
+		} catch (IOException e) {
+			// Expected.
+		}
+		f.delete();
+	}
+
 	@Test
 	public void testCharset() throws Exception {
 		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).charset("UTF-8").build();
@@ -15,8 +15,14 @@ package org.apache.juneau.csv;
 import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
 
+import org.apache.juneau.*;
+import org.apache.juneau.collections.*;
+import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
 
@@ -49,4 +55,117 @@ public class Csv_Test {
 			this.c = c;
 		}
 	}
+
+	//====================================================================================================
+	// Parsing
+	//====================================================================================================
+
+	public static class B {
+		public String b;
+		public int c;
+		public Boolean d;
+
+		public B() {}
+
+		public B(String b, int c, Boolean d) {
+			this.b = b;
+			this.c = c;
+			this.d = d;
+		}
+
+		@Override
+		public String toString() {
+			return b + "/" + c + "/" + d;
+		}
+	}
+
+	@Test
+	public void testParseRoundTrip() throws Exception {
+		List<B> l = new ArrayList<>();
+		l.add(new B("b1", 1, true));
+		l.add(new B("with, comma", 2, null));
+		l.add(new B("with \"quotes\"", 3, false));
+		l.add(new B("multi\nline", 4, true));
+		l.add(new B("", 5, true));
+		l.add(new B(null, 6, true));
+
+		String csv = CsvSerializer.DEFAULT.serialize(l);
+		assertEquals("b,c,d\nb1,1,true\n\"with, comma\",2,null\n\"with \"\"quotes\"\"\",3,false\n\"multi\nline\",4,true\n\"\",5,true\nnull,6,true\n", csv);
+
+		List<B> l2 = CsvParser.DEFAULT.parse(csv, List.class, B.class);
+		assertEquals(l.toString(), new ArrayList<>(l2).toString());
+
+		B[] a = CsvParser.DEFAULT.parse(csv, B[].class);
+		assertEquals(l.toString(), Arrays.asList(a).toString());
+	}
+
+	@Test
+	public void testParseRfc4180() throws Exception {
+		String csv = "b,c,d\r\n\"x\r\ny\",1,true\r\n\r\n\"a\"\"b\",2,false";
+		List<B> l = CsvParser.DEFAULT.parse(csv, List.class, B.class);
+		assertEquals("[x\r\ny/1/true, a\"b/2/false]", new ArrayList<>(l).toString());
+	}
+
+	@Test
+	public void testParseMapsAndObjects() throws Exception {
+		String csv = "b,c\nfoo,1\nbar,null\n";
+		List<Map<String,Integer>> l = CsvParser.DEFAULT.parse("b,c\n1,2\n3,null\n", List.class, Map.class, String.class, Integer.class);
+		assertEquals("[{b:1,c:2}, {b:3,c:null}]", new ArrayList<>(l).toString());
+		Object o = CsvParser.DEFAULT.parse(csv, Object.class);
+		assertTrue(o instanceof OList);
+		assertEquals("[{b:'foo',c:'1'},{b:'bar',c:null}]", o.toString());
+	}
+
+	@Test
+	public void testParseErrors() throws Exception {
+		try {
+			CsvParser.DEFAULT.parse("b,c\n\"foo,1\n", List.class, B.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unterminated quoted field"));
+		}
+		try {
+			CsvParser.DEFAULT.parse("b,x\nfoo,1\n", List.class, B.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unknown property 'x'"));
+		}
+		List<B> l = CsvParser.create().ignoreUnknownBeanProperties().build().parse("b,x\nfoo,1\n", List.class, B.class);
+		assertEquals("[foo/0/null]", new ArrayList<>(l).toString());
+	}
+
+	@Test
+	public void testStream() throws Exception {
+		final AtomicInteger reads = new AtomicInteger();
+		StringBuilder sb = new StringBuilder("b,c,d\n");
+		for (int i = 0; i < 1000; i++)
+			sb.append("b").append(i).append(',').append(i).append(",true\n");
+		Reader r = new StringReader(sb.toString()) {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				reads.incrementAndGet();
+				return super.read(cbuf, off, Math.min(len, 64));
+			}
+		};
+
+		try (Stream<B> s = CsvParser.DEFAULT.stream(r, B.class)) {
+			Iterator<B> i = s.iterator();
+			assertEquals("b0/0/true", i.next().toString());
+			// Only the beginning of the input should have been read.
+			assertTrue(reads.get() < 10);
+			int count = 1;
+			while (i.hasNext()) {
+				assertEquals(count, i.next().c);
+				count++;
+			}
+			assertEquals(1000, count);
+		}
+
+		try (Stream<B> s = CsvParser.DEFAULT.stream("b,c\nfoo,x\n", B.class)) {
+			s.count();
+			fail();
+		} catch (BasicRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+	}
 }
\ No newline at end of file
@@ -59,6 +59,29 @@ public class EncoderGroupTest {
 		}
 	}
 
+	//====================================================================================================
+	// Test matching with minimum sizes
+	//====================================================================================================
+	@Test
+	public void testEncoderGroupMatchingMinimumSize() throws Exception {
+
+		EncoderGroup g = EncoderGroup.create().append(IdentityEncoder.class, DeflateEncoder.class, MinSizeGzipEncoder.class).build();
+		assertObject(g.getEncoderMatch("gzip", -1).getEncoder()).isType(MinSizeGzipEncoder.class);
+		assertObject(g.getEncoderMatch("gzip", 100).getEncoder()).isType(MinSizeGzipEncoder.class);
+		assertObject(g.getEncoderMatch("gzip", 99).getEncoder()).isType(IdentityEncoder.class);
+		assertObject(g.getEncoderMatch("gzip,deflate;q=0.5", 99).getEncoder()).isType(DeflateEncoder.class);
+		assertObject(g.getEncoderMatch("gzip,deflate;q=0.5", 100).getEncoder()).isType(MinSizeGzipEncoder.class);
+		assertObject(g.getEncoderMatch("gzip,identity;q=0", 0).getEncoder()).isType(MinSizeGzipEncoder.class);
+		assertObject(g.getEncoderMatch("foo", 0)).isNull();
+		assertObject(g.getEncoderMatch("gzip", 0).getEncoding()).is("identity");
+	}
+
+	public static class MinSizeGzipEncoder extends GzipEncoder {
+		public MinSizeGzipEncoder() {
+			super(-1, 100);
+		}
+	}
+
 	//====================================================================================================
 	// Test inheritence
 	//====================================================================================================
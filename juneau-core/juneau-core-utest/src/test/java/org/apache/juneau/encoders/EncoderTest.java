@@ -0,0 +1,195 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class EncoderTest {
+
+	private static final byte[] DATA;
+	static {
+		StringBuilder sb = new StringBuilder();
+		Random r = new Random(1);
+		for (int i = 0; i < 20000; i++)
+			sb.append("word").append(r.nextInt(500)).append(' ');
+		DATA = sb.toString().getBytes(IOUtils.UTF8);
+	}
+
+	private static byte[] encode(Encoder e, byte[] b) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream os = e.getOutputStream(baos)) {
+			os.write(b);
+		}
+		return baos.toByteArray();
+	}
+
+	private static byte[] decode(Encoder e, byte[] b) throws Exception {
+		try (InputStream is = e.getInputStream(new ByteArrayInputStream(b))) {
+			return IOUtils.readBytes(is);
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Round trips, including against the JDK implementations.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_gzipRoundTrip() throws Exception {
+		GzipEncoder e = new GzipEncoder();
+		for (int i = 0; i < 3; i++) {
+			byte[] b = encode(e, DATA);
+			assertTrue(b.length < DATA.length);
+			assertArrayEquals(DATA, decode(e, b));
+			assertArrayEquals(DATA, IOUtils.readBytes(new GZIPInputStream(new ByteArrayInputStream(b))));
+		}
+	}
+
+	@Test
+	public void a02_gzipFromJdk() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (GZIPOutputStream os = new GZIPOutputStream(baos)) {
+			os.write(DATA);
+		}
+		assertArrayEquals(DATA, decode(new GzipEncoder(), baos.toByteArray()));
+	}
+
+	@Test
+	public void a03_gzipConcatenatedMembers() throws Exception {
+		GzipEncoder e = new GzipEncoder();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		baos.write(encode(e, "foo".getBytes()));
+		baos.write(encode(e, "bar".getBytes()));
+		assertEquals("foobar", new String(decode(e, baos.toByteArray())));
+	}
+
+	@Test
+	public void a04_gzipCorrupt() throws Exception {
+		GzipEncoder e = new GzipEncoder();
+		byte[] b = encode(e, DATA);
+		b[b.length-5]++;
+		try {
+			decode(e, b);
+			fail();
+		} catch (ZipException x) {
+			assertEquals("Corrupt GZIP trailer", x.getMessage());
+		}
+		try {
+			decode(e, "foo".getBytes());
+			fail();
+		} catch (ZipException x) {
+			assertEquals("Not in GZIP format", x.getMessage());
+		}
+		// Pooled inflaters are still usable afterwards.
+		assertArrayEquals(DATA, decode(e, encode(e, DATA)));
+	}
+
+	@Test
+	public void a05_deflateRoundTrip() throws Exception {
+		DeflateEncoder e = new DeflateEncoder();
+		for (int i = 0; i < 3; i++) {
+			byte[] b = encode(e, DATA);
+			assertTrue(b.length < DATA.length);
+			assertArrayEquals(DATA, decode(e, b));
+			assertArrayEquals(DATA, IOUtils.readBytes(new InflaterInputStream(new ByteArrayInputStream(b))));
+		}
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (DeflaterOutputStream os = new DeflaterOutputStream(baos)) {
+			os.write(DATA);
+		}
+		assertArrayEquals(DATA, decode(e, baos.toByteArray()));
+	}
+
+	@Test
+	public void a06_emptyContent() throws Exception {
+		for (Encoder e : new Encoder[]{new GzipEncoder(), new DeflateEncoder()})
+			assertEquals(0, decode(e, encode(e, new byte[0])).length);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Finishing and closing.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_finishThenClose() throws Exception {
+		GzipEncoder e = new GzipEncoder();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		OutputStream os = e.getOutputStream(baos);
+		os.write(DATA);
+		((Finishable)os).finish();
+		int length = baos.size();
+		((Finishable)os).finish();
+		os.close();
+		os.close();
+		assertEquals(length, baos.size());
+		assertArrayEquals(DATA, decode(e, baos.toByteArray()));
+
+		try {
+			os.write(DATA);
+			fail();
+		} catch (IOException x) {
+			assertEquals("Stream is finished.", x.getMessage());
+		}
+	}
+
+	@Test
+	public void b02_interleavedStreams() throws Exception {
+		GzipEncoder e = new GzipEncoder();
+		ByteArrayOutputStream baos1 = new ByteArrayOutputStream(), baos2 = new ByteArrayOutputStream();
+		OutputStream os1 = e.getOutputStream(baos1), os2 = e.getOutputStream(baos2);
+		os1.write("foo".getBytes());
+		os2.write("bar".getBytes());
+		os1.close();
+		os1 = e.getOutputStream(baos1 = new ByteArrayOutputStream());
+		os1.write("baz".getBytes());
+		os2.close();
+		os1.close();
+		assertEquals("baz", new String(decode(e, baos1.toByteArray())));
+		assertEquals("bar", new String(decode(e, baos2.toByteArray())));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Compression levels.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_levels() throws Exception {
+		GzipEncoder e0 = new GzipEncoder(Deflater.NO_COMPRESSION, 0), e9 = new GzipEncoder(Deflater.BEST_COMPRESSION, 0);
+		assertEquals(0, e0.getLevel());
+		assertEquals(9, e9.getLevel());
+		assertEquals(-1, new GzipEncoder().getLevel());
+		byte[] b0 = encode(e0, DATA), b9 = encode(e9, DATA);
+		assertTrue(b0.length > DATA.length);
+		assertTrue(b9.length < DATA.length);
+		assertArrayEquals(DATA, decode(e0, b0));
+		assertArrayEquals(DATA, decode(e9, b9));
+	}
+
+	@Test
+	public void c02_invalidLevel() throws Exception {
+		try {
+			new DeflateEncoder(10, 0);
+			fail();
+		} catch (IllegalArgumentException x) {
+			assertEquals("Invalid compression level: 10", x.getMessage());
+		}
+	}
+}
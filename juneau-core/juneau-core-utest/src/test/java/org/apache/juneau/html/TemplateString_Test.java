@@ -0,0 +1,89 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.html;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+
+import org.apache.juneau.svl.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class TemplateString_Test {
+
+	public static class XVar extends SimpleVar {
+		public XVar() {
+			super("X");
+		}
+		@Override /* Var */
+		public String resolve(VarResolverSession session, String key) {
+			return "[" + key + "]";
+		}
+	}
+
+	private static final VarResolverSession VS = VarResolver.create().vars(XVar.class).build().createSession();
+
+	private static final String[] STRINGS = {
+		"",
+		"foo",
+		"$X{a}",
+		"<h1>$X{a}</h1>",
+		"$X{a}$X{b}",
+		"x $X{a} y $X{b} z",
+		"$X{$X{a}}",
+		"$X{$X{a}} $X{b\\,c}",
+		"$Y{a} $X{b}",
+		"$(foo) $X{a}",
+		"$X a",
+		"$X",
+		"$X{a",
+		"foo\\$X{a} $X{b}",
+		"foo\\\\ $X{a}",
+		"foo\\",
+		"\\x $X{a\\}b}",
+		"$X{a{b}c} $X{d}",
+		"a $X\\{b} c",
+	};
+
+	@Test
+	public void a01_sameAsVarResolver() throws Exception {
+		for (String s : STRINGS) {
+			TemplateString ts = TemplateString.compile(s);
+			assertEquals(s, VS.resolve(s), ts.resolve(VS));
+			assertEquals(s, VS.resolve(s), ts.resolveTo(VS, new StringWriter()).toString());
+		}
+	}
+
+	@Test
+	public void a02_literal() throws Exception {
+		assertTrue(TemplateString.compile("foo").isLiteral());
+		assertTrue(TemplateString.compile("foo\\bar").isLiteral());
+		assertTrue(TemplateString.compile("$(foo)").isLiteral());
+		assertFalse(TemplateString.compile("$X{a}").isLiteral());
+		assertFalse(TemplateString.compile("<h1>$X{a}</h1>").isLiteral());
+	}
+
+	@Test
+	public void b01_page() throws Exception {
+		HtmlDocSerializer s = HtmlDocSerializer.create()
+			.header(new String[]{"<h1>$S{TemplateString_Test.a,aaa}</h1>"})
+			.footer(new String[]{"foo"})
+			.navlinks(new String[]{"up: $S{TemplateString_Test.b,/bbb}"})
+			.build();
+		assertString(s.serialize("bar")).contains("<header><h1>aaa</h1></header>", "<footer>foo</footer>", "<a href=\"/bbb\">up</a>");
+		assertString(s.builder().ws().build().serialize("bar")).contains("\t\t<header>\n\t\t\t<h1>aaa</h1>\n\t\t</header>");
+	}
+}
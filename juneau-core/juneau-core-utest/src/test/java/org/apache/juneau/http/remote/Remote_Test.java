@@ -15,7 +15,9 @@ package org.apache.juneau.http.remote;
 import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 import static org.apache.juneau.assertions.Assertions.*;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
@@ -581,6 +583,135 @@ public class Remote_Test {
 		assertThrown(()->client(G.class).header("Check","Foo").build().getRemote(G1.class)).isType(RemoteMetadataException.class).contains("Invalid value");
 	}
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// RRPC batching
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class H implements BasicSimpleJsonRest {
+		static final AtomicInteger REQUESTS = new AtomicInteger();
+		static final AtomicInteger VOID_CALLS = new AtomicInteger();
+
+		@RestMethod(method=HttpMethod.RRPC)
+		public H1 getProxy() {
+			REQUESTS.incrementAndGet();
+			return new H1() {
+				@Override
+				public String echo(String body) {
+					return body;
+				}
+				@Override
+				public int add(int a, int b) {
+					return a + b;
+				}
+				@Override
+				public String fail(String msg) throws E5a {
+					throw new E5a(msg);
+				}
+				@Override
+				public void noop() {
+					VOID_CALLS.incrementAndGet();
+				}
+			};
+		}
+	}
+
+	public interface H1 {
+		String echo(String body);
+		int add(int a, int b);
+		String fail(String msg) throws E5a;
+		void noop();
+	}
+
+	@Remote(batchSize="4", batchWindow="10s")
+	public interface H2 extends H1 {}
+
+	@Remote(batchSize="$S{H3.batchSize,4}", batchWindow="1")
+	public interface H3 extends H1 {}
+
+	// Runs the tasks concurrently and returns their results (or thrown exceptions) in order.
+	private static List<Object> concurrently(List<Callable<Object>> tasks) throws Exception {
+		ExecutorService es = Executors.newFixedThreadPool(tasks.size());
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Object>> futures = new ArrayList<>();
+			for (Callable<Object> t : tasks)
+				futures.add(es.submit(()->{ start.await(); return t.call(); }));
+			start.countDown();
+			List<Object> l = new ArrayList<>();
+			for (Future<Object> f : futures) {
+				try {
+					l.add(f.get(30, TimeUnit.SECONDS));
+				} catch (ExecutionException e) {
+					l.add(e.getCause());
+				}
+			}
+			return l;
+		} finally {
+			es.shutdownNow();
+		}
+	}
+
+	@Test
+	public void h01_rrpcBatch_fullBatchSentAsOneRequest() throws Exception {
+		H2 x = client(H.class).build().getRrpcInterface(H2.class, "/proxy");
+		H.REQUESTS.set(0);
+		List<Callable<Object>> tasks = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			String s = "foo" + i;
+			tasks.add(()->x.echo(s));
+		}
+		List<Object> l = concurrently(tasks);
+		assertObject(l).json().is("['foo0','foo1','foo2','foo3']");
+		assertEquals(1, H.REQUESTS.get());
+	}
+
+	@Test
+	public void h02_rrpcBatch_mixedMethodsAndExceptions() throws Exception {
+		H2 x = client(H.class).build().getRrpcInterface(H2.class, "/proxy");
+		H.REQUESTS.set(0);
+		H.VOID_CALLS.set(0);
+		List<Object> l = concurrently(Arrays.asList(
+			()->x.add(1, 2),
+			()->x.fail("bar"),
+			()->{ x.noop(); return "noop"; },
+			()->x.echo("foo")
+		));
+		assertEquals(3, l.get(0));
+		assertTrue(l.get(1) instanceof E5a);
+		assertEquals("bar", ((E5a)l.get(1)).getMessage());
+		assertEquals("noop", l.get(2));
+		assertEquals("foo", l.get(3));
+		assertEquals(1, H.REQUESTS.get());
+		assertEquals(1, H.VOID_CALLS.get());
+	}
+
+	@Test
+	public void h03_rrpcBatch_windowElapsed() throws Exception {
+		H3 x = client(H.class).build().getRrpcInterface(H3.class, "/proxy");
+		H.REQUESTS.set(0);
+		assertEquals("foo", x.echo("foo"));
+		assertEquals(5, x.add(2, 3));
+		assertThrown(()->x.fail("bar")).is("bar");
+		assertEquals(3, H.REQUESTS.get());
+	}
+
+	@Test
+	public void h04_rrpcBatch_headerEncoding() throws Exception {
+		RrpcInterfaceMeta m = new RrpcInterfaceMeta(H2.class, "");
+		assertEquals(4, m.getBatchSize());
+		assertEquals(10000, m.getBatchWindow());
+		assertTrue(m.isBatched());
+		assertFalse(new RrpcInterfaceMeta(H1.class, "").isBatched());
+
+		RrpcInterfaceMethodMeta echo = m.getMethodMetaByPath("echo/(java.lang.String)"), add = m.getMethodMetaByPath("add/(int,int)");
+		String h = RrpcInterfaceMeta.encodeBatch(Arrays.asList(echo, add, echo, echo));
+		assertEquals("echo%2F%28java.lang.String%29,add%2F%28int%2Cint%29,0,0", h);
+		assertEquals(Arrays.asList(echo, add, echo, echo), m.decodeBatch(h));
+		assertNull(m.decodeBatch("foo%2Fbar").get(0));
+		assertThrown(()->m.decodeBatch("echo%2F%28java.lang.String%29,1")).contains("Invalid batch reference");
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Helper methods.
 	//-----------------------------------------------------------------------------------------------------------------
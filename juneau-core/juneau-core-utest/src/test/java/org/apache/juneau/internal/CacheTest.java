@@ -0,0 +1,116 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class CacheTest {
+
+	@Test
+	public void a01_basic() {
+		Cache<String,String> c = new Cache<>(false, 10);
+		assertNull(c.get("a"));
+		assertEquals("1", c.put("a", "1"));
+		assertEquals("1", c.put("a", "2"));
+		assertEquals("1", c.get("a"));
+		assertEquals(1, c.size());
+		assertEquals(1, c.getHits());
+		assertEquals(1, c.getMisses());
+		assertEquals(0, c.getEvictions());
+		c.clear();
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+	}
+
+	@Test
+	public void a02_disabled() {
+		Cache<String,String> c = new Cache<>(true, 10);
+		assertEquals("1", c.put("a", "1"));
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+	}
+
+	@Test
+	public void a03_nullKey() {
+		Cache<String,String> c = new Cache<>(false, 10);
+		assertEquals("1", c.put(null, "1"));
+		assertNull(c.get(null));
+		assertEquals(0, c.size());
+	}
+
+	@Test
+	public void b01_boundedEviction() {
+		Cache<Integer,Integer> c = new Cache<>(false, 100);
+		for (int i = 0; i < 1000; i++)
+			c.put(i, i);
+		assertEquals(100, c.size());
+		assertEquals(900, c.getEvictions());
+	}
+
+	@Test
+	public void b02_frequentEntriesSurviveScans() {
+		Cache<String,String> c = new Cache<>(false, 100);
+		for (int i = 0; i < 10; i++) {
+			c.put("hot" + i, "hot" + i);
+			c.get("hot" + i);
+		}
+
+		// Flood the cache with one-off keys while continuing to access the hot keys.
+		for (int i = 0; i < 10000; i++) {
+			c.put("cold" + i, "cold" + i);
+			if (i % 50 == 0)
+				for (int j = 0; j < 10; j++)
+					c.get("hot" + j);
+		}
+
+		for (int i = 0; i < 10; i++)
+			assertEquals("hot" + i, c.get("hot" + i));
+		assertEquals(100, c.size());
+	}
+
+	@Test
+	public void c01_concurrent() throws Exception {
+		final Cache<Integer,Integer> c = new Cache<>(false, 50);
+		ExecutorService es = Executors.newFixedThreadPool(4);
+		List<Future<Void>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < 4; t++) {
+				futures.add(es.submit(new Callable<Void>() {
+					@Override
+					public Void call() {
+						for (int i = 0; i < 10000; i++) {
+							Integer k = i % 200;
+							Integer v = c.get(k);
+							if (v == null)
+								v = c.put(k, k);
+							assertEquals(k, v);
+						}
+						return null;
+					}
+				}));
+			}
+			for (Future<Void> f : futures)
+				f.get(60, TimeUnit.SECONDS);
+		} finally {
+			es.shutdown();
+		}
+		assertTrue(c.size() <= 50 + 4);
+	}
+}
@@ -0,0 +1,78 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class NameTableTest {
+
+	private static NameTable<Integer> table(String...keys) {
+		Map<String,Integer> m = new LinkedHashMap<>();
+		for (int i = 0; i < keys.length; i++)
+			m.put(keys[i], i);
+		return new NameTable<>(m);
+	}
+
+	@Test
+	public void a01_get() throws Exception {
+		NameTable<Integer> t = table("foo", "bar", "baz", "", "Aa", "BB");
+		assertEquals(Integer.valueOf(0), t.get("foo"));
+		assertEquals(Integer.valueOf(2), t.get("baz"));
+		assertEquals(Integer.valueOf(3), t.get(""));
+		assertNull(t.get("qux"));
+		assertNull(t.get((String)null));
+
+		// "Aa" and "BB" have the same hash code.
+		assertEquals(Integer.valueOf(4), t.get("Aa"));
+		assertEquals(Integer.valueOf(5), t.get("BB"));
+	}
+
+	@Test
+	public void a02_getChars() throws Exception {
+		NameTable<Integer> t = table("foo", "bar", "Aa", "BB");
+		char[] c = "xfooxbarxBBx".toCharArray();
+		assertEquals(Integer.valueOf(0), t.get(c, 1, 3));
+		assertEquals(Integer.valueOf(1), t.get(c, 5, 3));
+		assertEquals(Integer.valueOf(3), t.get(c, 9, 2));
+		assertNull(t.get(c, 1, 2));
+		assertNull(t.get(c, 0, 4));
+		assertNull(t.get(c, 0, 0));
+	}
+
+	@Test
+	public void a03_manyKeys() throws Exception {
+		String[] keys = new String[500];
+		for (int i = 0; i < keys.length; i++)
+			keys[i] = "k" + i;
+		NameTable<Integer> t = table(keys);
+		for (int i = 0; i < keys.length; i++) {
+			char[] c = ("[" + keys[i] + "]").toCharArray();
+			assertEquals(Integer.valueOf(i), t.get(keys[i]));
+			assertEquals(Integer.valueOf(i), t.get(c, 1, c.length - 2));
+		}
+		assertNull(t.get("k500"));
+	}
+
+	@Test
+	public void a04_empty() throws Exception {
+		NameTable<Integer> t = table();
+		assertNull(t.get("foo"));
+		assertNull(t.get(new char[0], 0, 0));
+	}
+}
@@ -0,0 +1,89 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.nio.charset.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class Utf8WriterTest {
+
+	private static final String MIXED = "ascii éß €中 😀 end";
+
+	private static byte[] write(String s, int bufferSize) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (Utf8Writer w = new Utf8Writer(baos, bufferSize)) {
+			w.write(s);
+		}
+		return baos.toByteArray();
+	}
+
+	@Test
+	public void a01_matchesJdkEncoder() throws Exception {
+		byte[] expected = MIXED.getBytes(StandardCharsets.UTF_8);
+		for (int size : new int[]{4, 5, 7, 16, 8192})
+			assertArrayEquals("bufferSize=" + size, expected, write(MIXED, size));
+	}
+
+	@Test
+	public void a02_charByChar() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8Writer w = new Utf8Writer(baos, 4);
+		for (char c : MIXED.toCharArray())
+			w.append(c);
+		w.flush();
+		assertEquals(MIXED, new String(baos.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void a03_charArray() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8Writer w = new Utf8Writer(baos, 6);
+		char[] c = ("xx" + MIXED + "yy").toCharArray();
+		w.write(c, 2, c.length - 4);
+		w.flush();
+		assertEquals(MIXED, new String(baos.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void a04_unpairedSurrogates() throws Exception {
+		assertEquals("a?b", new String(write("a\ud83db", 16), StandardCharsets.UTF_8));
+		assertEquals("a?b", new String(write("a\ude00b", 16), StandardCharsets.UTF_8));
+		assertEquals("a?", new String(write("a\ud83d", 16), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void a05_writeBytes() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8Writer w = new Utf8Writer(baos, 8);
+		w.append("ab").writeBytes("\"cé\":".getBytes(StandardCharsets.UTF_8)).append("d");
+		w.writeBytes("0123456789".getBytes(StandardCharsets.UTF_8));
+		w.flush();
+		assertEquals("ab\"cé\":d0123456789", new String(baos.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void a06_surrogatePairAcrossWrites() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Utf8Writer w = new Utf8Writer(baos, 4);
+		w.write("a\ud83d");
+		w.write("\ude00b");
+		w.flush();
+		assertEquals("a😀b", new String(baos.toByteArray(), StandardCharsets.UTF_8));
+	}
+}
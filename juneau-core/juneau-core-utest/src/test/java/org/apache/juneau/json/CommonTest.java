@@ -274,6 +274,47 @@ public class CommonTest {
 		public R1 r1;
 	}
 
+	//====================================================================================================
+	// Recursion detected past the identity scan depth
+	//====================================================================================================
+	@Test
+	public void testRecursionScanDepth() throws Exception {
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 39; i++)
+			expected.append("{n:");
+		expected.append("{v:39}");
+		for (int i = 38; i >= 0; i--)
+			expected.append(",v:").append(i).append('}');
+
+		for (int scanDepth : new int[]{0, 1, 16, 39, 100}) {
+			for (int target : new int[]{0, 5, 20, 39}) {
+				N[] nodes = new N[40];
+				for (int i = 39; i >= 0; i--)
+					nodes[i] = new N(i, i == 39 ? null : nodes[i+1]);
+				nodes[39].n = nodes[target];
+
+				JsonSerializerBuilder s = JsonSerializer.create().ssq().sortProperties().detectRecursions().recursionScanDepth(scanDepth);
+				assertThrown(()->s.build().serialize(nodes[0])).contains("Recursion occurred");
+				assertEquals(expected.toString(), s.ignoreRecursions().build().serialize(nodes[0]));
+			}
+
+			// The same object in sibling branches is not a recursion.
+			N shared = new N(1, null);
+			JsonSerializer s = JsonSerializer.create().ssq().detectRecursions().recursionScanDepth(scanDepth).build();
+			assertEquals("[{v:1},{v:1},[{v:1}]]", s.serialize(new Object[]{shared, shared, new Object[]{shared}}));
+		}
+	}
+
+	public static class N {
+		public int v;
+		public N n;
+
+		public N(int v, N n) {
+			this.v = v;
+			this.n = n;
+		}
+	}
+
 	//====================================================================================================
 	// Basic bean
 	//====================================================================================================
@@ -0,0 +1,158 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class JsonCursorTest {
+
+	public static class A {
+		public int id;
+		public String name;
+		public List<Integer> values;
+	}
+
+	//====================================================================================================
+	// Token-level cursor
+	//====================================================================================================
+
+	@Test
+	public void a01_tokens() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		try (JsonCursor c = JsonParser.DEFAULT.cursor("{a:1,'b':[true,false,null],c:{d:'foo'},e:[]} ")) {
+			JsonToken t;
+			while ((t = c.next()) != null) {
+				sb.append(t);
+				if (t == JsonToken.FIELD_NAME)
+					sb.append('(').append(c.getName()).append(')');
+				else if (t == JsonToken.NUMBER)
+					sb.append('(').append(c.getNumber()).append(')');
+				else if (t == JsonToken.STRING)
+					sb.append('(').append(c.getString()).append(')');
+				else if (t == JsonToken.BOOLEAN)
+					sb.append('(').append(c.getBoolean()).append(')');
+				sb.append(',');
+			}
+		}
+		assertEquals("START_OBJECT,FIELD_NAME(a),NUMBER(1),FIELD_NAME(b),START_ARRAY,BOOLEAN(true),BOOLEAN(false),NULL,END_ARRAY,FIELD_NAME(c),START_OBJECT,FIELD_NAME(d),STRING(foo),END_OBJECT,FIELD_NAME(e),START_ARRAY,END_ARRAY,END_OBJECT,", sb.toString());
+	}
+
+	@Test
+	public void a02_readValueAndSkip() throws Exception {
+		try (JsonCursor c = JsonParser.DEFAULT.cursor("{skip:{x:[1,2,{y:3}]},bean:{id:1,name:'foo',values:[1,2]},n:2}")) {
+			assertEquals(JsonToken.START_OBJECT, c.next());
+			assertEquals(JsonToken.FIELD_NAME, c.next());
+			assertEquals(JsonToken.START_OBJECT, c.next());
+			c.skipChildren();
+			assertEquals(JsonToken.END_OBJECT, c.getToken());
+			assertEquals(1, c.getDepth());
+			assertEquals(JsonToken.FIELD_NAME, c.next());
+			assertEquals("bean", c.getName());
+			A a = c.readValue(A.class);
+			assertEquals("foo", a.name);
+			assertEquals("[1,2]", a.values.toString());
+			assertEquals(JsonToken.FIELD_NAME, c.next());
+			assertEquals(Integer.valueOf(2), c.readValue(Integer.class));
+			assertEquals(JsonToken.END_OBJECT, c.next());
+			assertNull(c.next());
+		}
+	}
+
+	@Test
+	public void a03_malformed() throws Exception {
+		assertThrown(()->tokens("[1 2]")).isType(ParseException.class).contains("Expected ',' or ']'");
+		assertThrown(()->tokens("[1,]")).isType(ParseException.class).contains("Unexpected trailing comma");
+		assertThrown(()->tokens("{a 1}")).isType(ParseException.class).contains("Expected ':' after field name 'a'");
+		assertThrown(()->tokens("[1,2")).isType(ParseException.class).contains("Unexpected end of input");
+		assertEquals(3, tokens("[1] x"));
+		assertThrown(()->tokens(JsonParser.create().validateEnd().build(), "[1] x")).isType(ParseException.class).contains("Remainder after parse");
+	}
+
+	private static int tokens(String in) throws Exception {
+		return tokens(JsonParser.DEFAULT, in);
+	}
+
+	private static int tokens(JsonParser p, String in) throws Exception {
+		int i = 0;
+		try (JsonCursor c = p.cursor(in)) {
+			while (c.next() != null)
+				i++;
+		}
+		return i;
+	}
+
+	//====================================================================================================
+	// Element streams
+	//====================================================================================================
+
+	@Test
+	public void b01_stream() throws Exception {
+		try (Stream<A> s = JsonParser.DEFAULT.stream("[{id:1,name:'a'},{id:2,name:'b',values:[3]}, /* comment */ {id:3}]", A.class)) {
+			assertEquals("[1, 2, 3]", s.map(x -> x.id).collect(Collectors.toList()).toString());
+		}
+		try (Stream<Integer> s = JsonParser.DEFAULT.stream("[]", Integer.class)) {
+			assertEquals(0, s.count());
+		}
+		try (Stream<Integer> s = JsonParser.DEFAULT.stream("", Integer.class)) {
+			assertEquals(0, s.count());
+		}
+		assertThrown(()->JsonParser.DEFAULT.stream("{a:1}", A.class)).isType(ParseException.class).contains("Expected '['");
+	}
+
+	@Test
+	public void b02_streamIsLazy() throws Exception {
+		final int[] reads = new int[1];
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 10000; i++)
+			sb.append(i == 0 ? "" : ",").append("{id:").append(i).append(",name:'name").append(i).append("'}");
+		sb.append(']');
+		Reader r = new StringReader(sb.toString()) {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				reads[0]++;
+				return super.read(cbuf, off, Math.min(len, 64));
+			}
+		};
+
+		try (Stream<A> s = JsonParser.DEFAULT.stream(r, A.class)) {
+			Iterator<A> i = s.iterator();
+			assertEquals(0, i.next().id);
+			assertTrue(reads[0] < 10);
+			long sum = 0;
+			while (i.hasNext())
+				sum += i.next().id;
+			assertEquals(10000L * 9999 / 2, sum);
+		}
+	}
+
+	@Test
+	public void b03_streamErrors() throws Exception {
+		try (Stream<A> s = JsonParser.DEFAULT.stream("[{id:1},{id:'x'}]", A.class)) {
+			s.count();
+			fail();
+		} catch (BasicRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+	}
+}
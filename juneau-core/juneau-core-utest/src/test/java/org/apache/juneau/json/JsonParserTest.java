@@ -19,6 +19,7 @@ import static org.junit.runners.MethodSorters.*;
 import java.io.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
@@ -254,6 +255,53 @@ public class JsonParserTest {
 		assertObject(x).json().is("[456]");
 	}
 
+	//====================================================================================================
+	// testBeanPropertyNames
+	// Bean property names are matched directly from the read buffer where possible.
+	//====================================================================================================
+	public static class D {
+		public String aaa;
+		@Beanp("b-c") public int bc;
+		public D d;
+	}
+
+	@Test
+	public void testBeanPropertyNames() throws Exception {
+		JsonParser p1 = JsonParser.DEFAULT;
+		JsonParser p2 = JsonParser.DEFAULT_STRICT;
+		String[] lax = {
+			"{aaa:'x','b-c':1,\"d\":{aaa:'y'}}",
+			"{ aaa : 'x' , b-c : 1 , d : { aaa : 'y' } }",
+			"{\"a\\u0061a\":'x',\"\\u0062-c\":1,d:{'aa'+'a':'y'}}",
+			"{/*c*/aaa/*c*/:'x',\"b-c\"\n:1,d:{\"aaa\"\t:'y'}}",
+		};
+		for (String s : lax) {
+			assertObject(p1.parse(s, D.class)).json().is("{aaa:'x','b-c':1,d:{aaa:'y','b-c':0}}");
+			assertObject(p1.parse(new TrickleReader(s), D.class)).json().is("{aaa:'x','b-c':1,d:{aaa:'y','b-c':0}}");
+		}
+
+		String strict = "{\"aaa\":\"x\",\"b-c\":1,\"d\":{\"aaa\":\"y\"}}";
+		assertObject(p2.parse(strict, D.class)).json().is("{aaa:'x','b-c':1,d:{aaa:'y','b-c':0}}");
+		assertThrown(()->p2.parse("{aaa:\"x\"}", D.class)).contains("Unquoted attribute detected");
+		assertThrown(()->p2.parse("{'aaa':\"x\"}", D.class)).contains("Invalid quote character");
+
+		assertThrown(()->p1.parse("{aab:'x'}", D.class)).contains("Unknown property 'aab'");
+		assertThrown(()->p1.parse("{\"aa\":'x'}", D.class)).contains("Unknown property 'aa'");
+		JsonParser p3 = JsonParser.create().ignoreUnknownBeanProperties().build();
+		assertObject(p3.parse("{aab:'x',aaa:'y'}", D.class)).json().is("{aaa:'y','b-c':0}");
+	}
+
+	// Reader that returns at most one character per read so that the parser buffer is refilled in the middle of names.
+	private static class TrickleReader extends StringReader {
+		TrickleReader(String s) {
+			super(s);
+		}
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			return super.read(cbuf, off, Math.min(len, 1));
+		}
+	}
+
 	private Reader reader(String in) {
 		return new CloseableStringReader(in);
 	}
@@ -390,4 +390,38 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
+
+	//====================================================================================================
+	// testOutputStream - UTF-8 streams and cached property names.
+	//====================================================================================================
+	@Test
+	public void testOutputStream() throws Exception {
+		WriterSerializer[] serializers = {
+			JsonSerializer.DEFAULT,
+			JsonSerializer.DEFAULT_READABLE,
+			SimpleJsonSerializer.DEFAULT,
+			JsonSerializer.create().ssq().build(),
+			JsonSerializer.create().escapeSolidus().build(),
+			JsonSerializer.create().trimStrings().build(),
+		};
+		D d = new D();
+		for (WriterSerializer s : serializers) {
+			String expected = s.serialize(d);
+			for (int i = 0; i < 2; i++) {
+				java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+				s.serialize(d, baos);
+				assertEquals(expected, new String(baos.toByteArray(), "UTF-8"));
+			}
+			assertObject(JsonParser.DEFAULT.parse(expected, D.class)).sameAs(d);
+		}
+		assertEquals("{'a/b':'\u00e9\u20ac\ud83d\ude00','class':'y','c d':[1,2],'e\"f':{g:'x'},h:'z'}", SimpleJsonSerializer.DEFAULT.serialize(d));
+	}
+
+	public static class D {
+		@org.apache.juneau.annotation.Beanp(name="a/b") public String ab = "\u00e9\u20ac\ud83d\ude00";
+		@org.apache.juneau.annotation.Beanp(name="c d") public int[] cd = {1,2};
+		@org.apache.juneau.annotation.Beanp(name="e\"f") public Map<String,String> ef = AMap.of("g","x");
+		@org.apache.juneau.annotation.Beanp(name="class") public String c = "y";
+		public String h = "z";
+	}
 }
\ No newline at end of file
@@ -15,7 +15,10 @@ package org.apache.juneau.msgpack;
 import static org.apache.juneau.assertions.Assertions.*;
 import static org.junit.runners.MethodSorters.*;
 
+import static org.junit.Assert.*;
+
 import java.io.*;
+import java.nio.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -127,6 +130,83 @@ public class MsgPackParserTest {
 		assertObject(r).json().is("{'1':2}");
 	}
 
+	//====================================================================================================
+	// testMultipleObjectsInUnmarkableStream
+	// Streams that don't support mark/reset must not be read past the current POJO.
+	//====================================================================================================
+	@Test
+	public void testMultipleObjectsInUnmarkableStream() throws Exception {
+		InputStreamParser p = MsgPackParser.DEFAULT;
+		InputStream is = new FilterInputStream(is("D1 00 80 A3 66 6F 6F 81 A1 31 02")) {
+			@Override
+			public boolean markSupported() {
+				return false;
+			}
+		};
+		assertObject(p.parse(is, Object.class)).json().is("128");
+		assertObject(p.parse(is, Object.class)).json().is("'foo'");
+		assertObject(p.parse(is, Object.class)).json().is("{'1':2}");
+	}
+
+	//====================================================================================================
+	// testNegativeIntegers
+	//====================================================================================================
+	@Test
+	public void testNegativeIntegers() throws Exception {
+		InputStreamParser p = MsgPackParser.DEFAULT;
+		assertObject(p.parse(StringUtils.fromSpacedHex("FF"), Integer.class)).json().is("-1");
+		assertObject(p.parse(StringUtils.fromSpacedHex("E0"), Integer.class)).json().is("-32");
+		assertObject(p.parse(StringUtils.fromSpacedHex("D0 80"), Integer.class)).json().is("-128");
+		assertObject(p.parse(StringUtils.fromSpacedHex("CC FF"), Integer.class)).json().is("255");
+		assertObject(p.parse(StringUtils.fromSpacedHex("D1 80 00"), Integer.class)).json().is("-32768");
+		assertObject(p.parse(StringUtils.fromSpacedHex("CD FF FF"), Integer.class)).json().is("65535");
+		assertObject(p.parse(StringUtils.fromSpacedHex("CE FF FF FF FF"), Long.class)).json().is("4294967295");
+
+		for (int i : new int[]{-1,-31,-32,-33,-63,-64,-127,-128,-129,-32767,-32768,-32769,Integer.MIN_VALUE})
+			assertObject(p.parse(MsgPackSerializer.DEFAULT.serialize(i), Integer.class)).is(i);
+	}
+
+	//====================================================================================================
+	// testBinary
+	// Binary fields parsed from in-memory input into ByteBuffers share the input array.
+	//====================================================================================================
+	public static class A {
+		public byte[] f1;
+		public ByteBuffer f2;
+	}
+
+	@Test
+	public void testBinary() throws Exception {
+		A a = new A();
+		a.f1 = new byte[]{1,2,3};
+		a.f2 = ByteBuffer.wrap(new byte[]{4,5,6});
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(a);
+
+		A a2 = MsgPackParser.DEFAULT.parse(b, A.class);
+		assertObject(a2.f1).json().is("[1,2,3]");
+		assertInteger(a2.f2.remaining()).is(3);
+		assertInteger((int)a2.f2.get(0)).is(4);
+		assertTrue(a2.f2.array() == b);
+
+		A a3 = MsgPackParser.DEFAULT.parse(is(StringUtils.toSpacedHex(b)), A.class);
+		assertObject(a3.f1).json().is("[1,2,3]");
+		assertInteger(a3.f2.remaining()).is(3);
+		assertInteger((int)a3.f2.get(2)).is(6);
+
+		// Arrays serialized as lists of numbers are still accepted.
+		assertObject(MsgPackParser.DEFAULT.parse(StringUtils.fromSpacedHex("93 01 02 03"), byte[].class)).json().is("[1,2,3]");
+	}
+
+	//====================================================================================================
+	// testTruncatedInput
+	//====================================================================================================
+	@Test
+	public void testTruncatedInput() throws Exception {
+		assertThrown(()->MsgPackParser.DEFAULT.parse(StringUtils.fromSpacedHex("A3 66 6F"), String.class)).contains("Unexpected end of file");
+		assertThrown(()->MsgPackParser.DEFAULT.parse(is("A3 66 6F"), String.class)).contains("Unexpected end of file");
+		assertThrown(()->MsgPackParser.DEFAULT.parse(StringUtils.fromSpacedHex("C4 03 01"), byte[].class)).contains("Unexpected end of file");
+	}
+
 	private InputStream is(String spacedHex) throws Exception {
 		return new CloseableByteArrayInputStream(StringUtils.fromSpacedHex(spacedHex));
 	}
@@ -15,6 +15,8 @@ package org.apache.juneau.msgpack;
 import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
+import java.nio.*;
+
 import org.apache.juneau.collections.*;
 import org.apache.juneau.internal.*;
 import org.junit.*;
@@ -81,8 +83,10 @@ public class MsgPackSerializerTest {
 		test(Long.decode("0x0000000100000000").longValue(), "D3 00 00 00 01 00 00 00 00");
 		test(Long.decode("0x7FFFFFFFFFFFFFFF").longValue(), "D3 7F FF FF FF FF FF FF FF");
 		test(-Long.decode("0x7FFFFFFFFFFFFFFF").longValue(), "D3 80 00 00 00 00 00 00 01");
-		test(-1, "E1");
-		test(-63, "FF");
+		test(-1, "FF");
+		test(-32, "E0");
+		test(-33, "D0 DF");
+		test(-63, "D0 C1");
 		test(-64, "D0 C0");
 
 		test(-0x7F, "D0 81");
@@ -149,6 +153,19 @@ public class MsgPackSerializerTest {
 		test("", "A0");
 		test("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", "BF 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61");
 		test("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", "D9 20 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61 61");
+		test("\u00e9\u20ac\ud83d\ude00", "A9 C3 A9 E2 82 AC F0 9F 98 80");
+		test("\ud83d", "A1 3F");
+		test(StringUtils.repeat(3000, "\u20ac"), "DA 23 28 " + StringUtils.repeat(3000, "E2 82 AC ").trim());
+
+		//		bin 8 stores a byte array whose length is up to (2^8)-1 bytes:
+		//		+--------+--------+========+
+		//		|  0xc4  |XXXXXXXX|  data  |
+		//		+--------+--------+========+
+
+		test(new byte[0], "C4 00");
+		test(new byte[]{1,2}, "C4 02 01 02");
+		test(ByteBuffer.wrap(new byte[]{1,2,3,4}, 1, 2), "C4 02 02 03");
+		test(ByteBuffer.allocateDirect(2).put((byte)1).put((byte)2).flip(), "C4 02 01 02");
 
 		//		fixarray stores an array whose length is upto 15 elements:
 		//		+--------+~~~~~~~~~~~~~~~~~+
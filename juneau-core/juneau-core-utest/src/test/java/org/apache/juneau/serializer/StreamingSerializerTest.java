@@ -0,0 +1,184 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import org.apache.juneau.csv.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests serializing {@link Stream} and {@link Iterator} sources.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class StreamingSerializerTest {
+
+	public static class A {
+		public String a;
+		public int b;
+
+		public A init(int b) {
+			this.a = "a" + b;
+			this.b = b;
+			return this;
+		}
+	}
+
+	private static Stream<A> beans(int count) {
+		return IntStream.range(0, count).mapToObj(x -> new A().init(x));
+	}
+
+	// Iterator that records the number of bytes already written to the output when the specified element is pulled.
+	private static class Probe implements Iterator<Object> {
+		private final int count, probeAt;
+		private final ByteArrayOutputStream baos;
+		private int i;
+		int written = -1;
+
+		Probe(int count, int probeAt, ByteArrayOutputStream baos) {
+			this.count = count;
+			this.probeAt = probeAt;
+			this.baos = baos;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return i < count;
+		}
+
+		@Override
+		public Object next() {
+			if (i == probeAt)
+				written = baos.size();
+			return new A().init(i++);
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// JSON
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_json_sources() throws Exception {
+		WriterSerializer s = SimpleJsonSerializer.DEFAULT;
+		assertEquals("[1,2,3]", s.serialize(Stream.of(1, 2, 3)));
+		assertEquals("[1,2,3]", s.serialize(Arrays.asList(1, 2, 3).iterator()));
+		assertEquals("[]", s.serialize(Stream.empty()));
+		assertEquals("[{a:'a0',b:0},{a:'a1',b:1}]", s.serialize(beans(2)));
+		assertEquals("{a:[1,2]}", s.serialize(Collections.singletonMap("a", Stream.of(1, 2))));
+	}
+
+	@Test
+	public void a02_json_sorted() throws Exception {
+		WriterSerializer s = SimpleJsonSerializer.create().sortCollections().build();
+		assertEquals("[1,2,3]", s.serialize(Stream.of(3, 1, 2)));
+	}
+
+	@Test
+	public void a04_json_iterablesNotStreamed() throws Exception {
+		WriterSerializer s = SimpleJsonSerializer.DEFAULT;
+		assertEquals("'/tmp/foo/bar'", s.serialize(Paths.get("/tmp/foo/bar")));
+		assertEquals("{a:'/tmp/foo/bar'}", s.serialize(Collections.singletonMap("a", Paths.get("/tmp/foo/bar"))));
+	}
+
+	@Test
+	public void a05_json_streamsClosed() throws Exception {
+		AtomicInteger closed = new AtomicInteger();
+		assertEquals("[1,2,3]", SimpleJsonSerializer.DEFAULT.serialize(Stream.of(1, 2, 3).onClose(closed::incrementAndGet)));
+		assertEquals(1, closed.get());
+		assertEquals("[1,2,3]", SimpleJsonSerializer.create().sortCollections().build().serialize(Stream.of(3, 1, 2).onClose(closed::incrementAndGet)));
+		assertEquals(2, closed.get());
+		assertEquals("{a:[1,2]}", SimpleJsonSerializer.DEFAULT.serialize(Collections.singletonMap("a", Stream.of(1, 2).onClose(closed::incrementAndGet))));
+		assertEquals(3, closed.get());
+		try {
+			SimpleJsonSerializer.DEFAULT.serialize(Stream.of(1, 2, 3).map(x -> { if (x == 2) throw new RuntimeException("foo"); return x; }).onClose(closed::incrementAndGet));
+			fail();
+		} catch (SerializeException e) {
+			assertEquals(4, closed.get());
+		}
+	}
+
+	@Test
+	public void a03_json_flushesPeriodically() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Probe p = new Probe(150, 149, baos);
+		SimpleJsonSerializer.DEFAULT.serialize(p, baos);
+		assertTrue(p.written > 0);
+		assertEquals(SimpleJsonSerializer.DEFAULT.serialize(beans(150)), new String(baos.toByteArray(), "UTF-8"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// MessagePack
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_msgPack_sources() throws Exception {
+		OutputStreamSerializer s = MsgPackSerializer.DEFAULT;
+		byte[] expected = s.serialize(Arrays.asList(1, 2, 3));
+		assertArrayEquals(expected, s.serialize(Stream.of(1, 2, 3)));
+		assertArrayEquals(expected, s.serialize(Arrays.asList(1, 2, 3).iterator()));
+		assertArrayEquals(s.serialize(beans(20).collect(Collectors.toList())), s.serialize(beans(20)));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// XML
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_xml_sources() throws Exception {
+		WriterSerializer s = XmlSerializer.DEFAULT_SQ;
+		String expected = s.serialize(Arrays.asList(1, 2, 3));
+		assertEquals(expected, s.serialize(Stream.of(1, 2, 3)));
+		assertEquals(expected, s.serialize(Arrays.asList(1, 2, 3).iterator()));
+		assertEquals(s.serialize(beans(2).collect(Collectors.toList())), s.serialize(beans(2)));
+	}
+
+	@Test
+	public void c02_xml_flushesPeriodically() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Probe p = new Probe(150, 149, baos);
+		XmlSerializer.DEFAULT_SQ.serialize(p, baos);
+		assertTrue(p.written > 0);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// CSV
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void d01_csv_sources() throws Exception {
+		WriterSerializer s = CsvSerializer.DEFAULT;
+		assertEquals("a,b\na0,0\na1,1\n", s.serialize(beans(2)));
+		assertEquals("a,b\na0,0\na1,1\n", s.serialize(beans(2).iterator()));
+		assertEquals("", s.serialize(Stream.empty()));
+	}
+
+	@Test
+	public void d02_csv_flushesPeriodically() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Probe p = new Probe(150, 149, baos);
+		CsvSerializer.DEFAULT.serialize(p, baos);
+		assertTrue(p.written > 0);
+		assertEquals(CsvSerializer.DEFAULT.serialize(beans(150)), new String(baos.toByteArray(), "UTF-8"));
+	}
+}
@@ -20,6 +20,7 @@ import java.time.chrono.*;
 import java.time.format.*;
 import java.time.temporal.*;
 import java.util.*;
+import java.util.stream.*;
 
 import javax.xml.datatype.*;
 
@@ -744,4 +745,35 @@ public class DefaultSwapsTest {
 	public void i03_ZoneId_overrideAnnotation() throws Exception {
 		test("{f1:'Z',f2:'FOO'}", new IBean());
 	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	//	POJO_SWAPS.put(Stream.class, new StreamSwap());
+	//------------------------------------------------------------------------------------------------------------------
+	public static class JSwap extends StringSwap<Stream<?>> {
+		@Override /* PojoSwap */
+		public String swap(BeanSession session, Stream<?> o) throws Exception {
+			return "FOO";
+		}
+	}
+
+	public static class JBean {
+		public Stream<?> f1 = Stream.of("foo","bar");
+		@Swap(JSwap.class)
+		public Stream<?> f2 = Stream.of("foo","bar");
+	}
+
+	@Test
+	public void j01_Stream() throws Exception {
+		test("['foo','bar']", Stream.of("foo","bar"));
+	}
+
+	@Test
+	public void j02_Stream_overrideSwap() throws Exception {
+		test("'FOO'", Stream.of("foo","bar"), new JSwap());
+	}
+
+	@Test
+	public void j03_Stream_overrideAnnotation() throws Exception {
+		test("{f1:['foo','bar'],f2:'FOO'}", new JBean());
+	}
 }
@@ -415,4 +415,117 @@ public class PojoQueryTest {
 			this.f4 = new GregorianCalendar(year, month, day);
 		}
 	}
+
+	//====================================================================================================
+	// Large collections, parallel evaluation and partial sorts
+	//====================================================================================================
+	@Test
+	public void testLargeCollections() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		WriterSerializer s = SimpleJsonSerializer.DEFAULT;
+		List<J> in = new ArrayList<>();
+		for (int i = 0; i < 30000; i++)
+			in.add(new J(i, "n" + (i % 100), i % 7));
+
+		PojoQuery q1 = new PojoQuery(in, session), q2 = new PojoQuery(in, session);
+		q2.setParallelThreshold(Integer.MAX_VALUE);
+
+		for (SearchArgs sa : AList.of(
+			SearchArgs.builder().search("f2=n1*").build(),
+			SearchArgs.builder().search("f2=n1*,f3=>3").sort("f3-,f2").build(),
+			SearchArgs.builder().search("f2=n1*,f3=>3").sort("f3-,f2").limit(10).position(20).build(),
+			SearchArgs.builder().search("f3=2").limit(5).position(3).build(),
+			SearchArgs.builder().sort("f3").limit(4).build()
+		))
+			assertEquals(s.serialize(q2.filter(sa)), s.serialize(q1.filter(sa)));
+
+		// Ties keep their original order.
+		List results = q1.filter(SearchArgs.builder().sort("f3").view("f1").limit(4).build());
+		assertEquals("[{f1:0},{f1:7},{f1:14},{f1:21}]", s.serialize(results));
+
+		results = q1.filter(SearchArgs.builder().search("f2=n5").sort("f3-").view("f1,f3").limit(3).position(1).build());
+		assertEquals("[{f1:1105,f3:6},{f1:1805,f3:6},{f1:2505,f3:6}]", s.serialize(results));
+
+		results = q1.filter(SearchArgs.builder().search("f3=2").view("f1").limit(2).position(1).build());
+		assertEquals("[{f1:9},{f1:16}]", s.serialize(results));
+	}
+
+	public static class J {
+		public int f1;
+		public String f2;
+		public int f3;
+
+		public J() {}
+
+		J(int f1, String f2, int f3) {
+			this.f1 = f1;
+			this.f2 = f2;
+			this.f3 = f3;
+		}
+	}
+
+	//====================================================================================================
+	// Registered indexes
+	//====================================================================================================
+	@Test
+	public void testIndexes() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		WriterSerializer s = SimpleJsonSerializer.DEFAULT;
+		List<J> in = new ArrayList<>();
+		for (int i = 0; i < 20; i++)
+			in.add(new J(i, "n" + (i % 4), i % 3));
+
+		PojoIndex.register(in, session, "f2", "f3");
+		try {
+			PojoQuery q = new PojoQuery(in, session);
+
+			List results = q.filter(SearchArgs.builder().search("f2=n1").view("f1").build());
+			assertEquals("[{f1:1},{f1:5},{f1:9},{f1:13},{f1:17}]", s.serialize(results));
+
+			// Rows found through the index are still checked against the other columns.
+			results = q.filter(SearchArgs.builder().search("f2=n1,f3=2").view("f1").build());
+			assertEquals("[{f1:5},{f1:17}]", s.serialize(results));
+
+			// Non-exact searches and case-insensitive searches don't use the index.
+			results = q.filter(SearchArgs.builder().search("f2=N1").ignoreCase(true).view("f1").limit(2).build());
+			assertEquals("[{f1:1},{f1:5}]", s.serialize(results));
+			results = q.filter(SearchArgs.builder().search("f2=n1 n2").view("f1").limit(3).build());
+			assertEquals("[{f1:1},{f1:2},{f1:5}]", s.serialize(results));
+
+			// Non-string columns aren't indexed.
+			assertFalse(PojoIndex.create(in, "f3", session).isUsable());
+			assertTrue(PojoIndex.create(in, "f2", session).isUsable());
+
+			// Indexes are snapshots, so rows modified in place are only found once re-registered.
+			in.get(0).f2 = "n1";
+			results = q.filter(SearchArgs.builder().search("f2=n1").view("f1").limit(2).build());
+			assertEquals("[{f1:1},{f1:5}]", s.serialize(results));
+			PojoIndex.register(in, session, "f2");
+			results = q.filter(SearchArgs.builder().search("f2=n1").view("f1").limit(2).build());
+			assertEquals("[{f1:0},{f1:1}]", s.serialize(results));
+
+			// Indexes are ignored once the collection changes size.
+			in.add(0, new J(99, "n1", 0));
+			results = q.filter(SearchArgs.builder().search("f2=n1").view("f1").limit(2).build());
+			assertEquals("[{f1:99},{f1:0}]", s.serialize(results));
+		} finally {
+			PojoIndex.unregister(in);
+		}
+
+		// "|" is a regular expression alternation, so the same results are returned with or without an index.
+		List<J> in2 = new ArrayList<>();
+		in2.add(new J(1, "a", 0));
+		in2.add(new J(2, "b", 0));
+		in2.add(new J(3, "a|b", 0));
+		PojoQuery q2 = new PojoQuery(in2, session);
+		List results = q2.filter(SearchArgs.builder().search("f2=a|b").view("f1").build());
+		assertEquals("[{f1:1},{f1:2}]", s.serialize(results));
+		PojoIndex.register(in2, session, "f2");
+		try {
+			results = q2.filter(SearchArgs.builder().search("f2=a|b").view("f1").build());
+			assertEquals("[{f1:1},{f1:2}]", s.serialize(results));
+		} finally {
+			PojoIndex.unregister(in2);
+		}
+	}
 }
\ No newline at end of file
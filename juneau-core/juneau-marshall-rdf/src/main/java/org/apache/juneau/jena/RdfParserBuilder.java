@@ -1194,6 +1194,12 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RdfParserBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public RdfParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -1212,6 +1218,12 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public RdfParserBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public RdfParserBuilder strict() {
 		super.strict();
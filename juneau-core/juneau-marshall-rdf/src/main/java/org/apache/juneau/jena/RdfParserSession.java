@@ -55,8 +55,7 @@ public class RdfParserSession extends ReaderParserSession {
 		super(ctx, args);
 		this.ctx = ctx;
 		model = ModelFactory.createDefaultModel();
-		addModelPrefix(ctx.getJuneauNs());
-		addModelPrefix(ctx.getJuneauBpNs());
+		initModelPrefixes();
 		pRoot = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_ROOT);
 		pValue = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_VALUE);
 		pType = model.createProperty(ctx.getJuneauBpNs().getUri(), RDF_juneauNs_TYPE);
@@ -110,10 +109,24 @@ public class RdfParserSession extends ReaderParserSession {
 		return parseAnything(type, resource, getOuter(), null);
 	}
 
+	private final void initModelPrefixes() {
+		addModelPrefix(ctx.getJuneauNs());
+		addModelPrefix(ctx.getJuneauBpNs());
+	}
+
 	private final void addModelPrefix(Namespace ns) {
 		model.setNsPrefix(ns.getName(), ns.getUri());
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		model.removeAll();
+		model.clearNsPrefixMap();
+		initModelPrefixes();
+		urisVisited.clear();
+	}
+
 	/*
 	 * Decodes the specified string.
 	 * If {@link RdfParser#RDF_trimWhitespace} is <jk>true</jk>, the resulting string is trimmed before decoding.
@@ -1310,6 +1310,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RdfSerializerBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public RdfSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -1334,6 +1340,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanTraverseBuilder */
+	public RdfSerializerBuilder recursionScanDepth(int value) {
+		super.recursionScanDepth(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public RdfSerializerBuilder addBeanTypes() {
 		super.addBeanTypes();
@@ -1358,6 +1370,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public RdfSerializerBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public RdfSerializerBuilder sortCollections() {
 		super.sortCollections();
@@ -62,10 +62,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 
 		namespaces = getInstanceArrayProperty(RDF_namespaces, Namespace.class, ctx.namespaces);
 		model = ModelFactory.createDefaultModel();
-		addModelPrefix(ctx.getJuneauNs());
-		addModelPrefix(ctx.getJuneauBpNs());
-		for (Namespace ns : this.namespaces)
-			addModelPrefix(ns);
+		initModelPrefixes();
 		pRoot = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_ROOT);
 		pValue = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_VALUE);
 		writer = model.getWriter(ctx.getLanguage());
@@ -90,6 +87,16 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 				writer.setProperty(k.substring(15 + propPrefix.length()), getProperty(k));
 	}
 
+	/*
+	 * Adds the default and configured namespaces as model prefixes.
+	 */
+	private void initModelPrefixes() {
+		addModelPrefix(ctx.getJuneauNs());
+		addModelPrefix(ctx.getJuneauBpNs());
+		for (Namespace ns : this.namespaces)
+			addModelPrefix(ns);
+	}
+
 	/*
 	 * Adds the specified namespace as a model prefix.
 	 */
@@ -97,6 +104,14 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		model.setNsPrefix(ns.getName(), ns.getUri());
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		model.removeAll();
+		model.clearNsPrefixMap();
+		initModelPrefixes();
+	}
+
 	/*
 	 * XML-encodes the specified string using the {@link XmlUtils#escapeText(Object)} method.
 	 */
@@ -1982,6 +1982,57 @@ public class BeanContext extends Context implements MetaProvider {
 	 */
 	public static final String BEAN_useJavaBeanIntrospector = PREFIX + ".useJavaBeanIntrospector.b";
 
+	/**
+	 * Configuration property:  Use lambda accessors.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.BeanContext#BEAN_useLambdaAccessors BEAN_useLambdaAccessors}
+	 * 	<li><b>Name:</b>  <js>"BeanContext.useLambdaAccessors.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>BeanContext.useLambdaAccessors</c>
+	 * 	<li><b>Environment variable:</b>  <c>BEANCONTEXT_USELAMBDAACCESSORS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.annotation.BeanConfig#useLambdaAccessors()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.BeanContextBuilder#useLambdaAccessors()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * When enabled, bean property getters and setters are invoked through accessors generated once per property using
+	 * {@link java.lang.invoke.LambdaMetafactory} instead of through {@link Method#invoke(Object, Object...)}.
+	 * <br>This makes property reads and writes direct calls which can significantly speed up serialization and
+	 * parsing of beans.
+	 *
+	 * <p>
+	 * Properties that cannot use generated accessors (e.g. fields, dyna properties, or classes the JVM doesn't allow
+	 * private access to) silently fall back to reflection.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses generated accessors for bean properties.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useLambdaAccessors()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEAN_useLambdaAccessors</jsf>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String BEAN_useLambdaAccessors = PREFIX + ".useLambdaAccessors.b";
+
 	/*
 	 * The default package pattern exclusion list.
 	 * Any beans in packages in this list will not be considered beans.
@@ -2020,6 +2071,11 @@ public class BeanContext extends Context implements MetaProvider {
 	private static final ConcurrentHashMap<PropertyStore,Map<Class,ClassMeta>> cmCacheCache
 		= new ConcurrentHashMap<>();
 
+	// Classes whose ClassMeta objects are currently being created mapped to the creating threads.
+	// Shared the same way as the Class->ClassMeta cache map so that only one thread creates each cached ClassMeta.
+	private static final ConcurrentHashMap<PropertyStore,ConcurrentHashMap<Class,Thread>> cmInFlightCache
+		= new ConcurrentHashMap<>();
+
 	/** Default config.  All default settings. */
 	public static final BeanContext DEFAULT = BeanContext.create().build();
 
@@ -2040,6 +2096,7 @@ public class BeanContext extends Context implements MetaProvider {
 		ignoreInvocationExceptionsOnGetters,
 		ignoreInvocationExceptionsOnSetters,
 		useJavaBeanIntrospector,
+		useLambdaAccessors,
 		useEnumNames,
 		sortProperties,
 		findFluentSetters;
@@ -2060,6 +2117,7 @@ public class BeanContext extends Context implements MetaProvider {
 	private final ReflectionMap<Annotation> annotations;
 
 	final Map<Class,ClassMeta> cmCache;
+	private final ConcurrentHashMap<Class,Thread> cmInFlight;
 	private final ClassMeta<Object> cmObject;  // Reusable ClassMeta that represents general Objects.
 	private final ClassMeta<String> cmString;  // Reusable ClassMeta that represents general Strings.
 	private final ClassMeta<Class> cmClass;  // Reusable ClassMeta that represents general Classes.
@@ -2123,6 +2181,7 @@ public class BeanContext extends Context implements MetaProvider {
 		ignoreInvocationExceptionsOnGetters = getBooleanProperty(BEAN_ignoreInvocationExceptionsOnGetters);
 		ignoreInvocationExceptionsOnSetters = getBooleanProperty(BEAN_ignoreInvocationExceptionsOnSetters);
 		useJavaBeanIntrospector = getBooleanProperty(BEAN_useJavaBeanIntrospector);
+		useLambdaAccessors = getBooleanProperty(BEAN_useLambdaAccessors);
 		sortProperties = getBooleanProperty(BEAN_sortProperties);
 		findFluentSetters = getBooleanProperty(BEAN_findFluentSetters);
 		typePropertyName = getStringProperty(BEAN_typePropertyName, "_type");
@@ -2170,6 +2229,8 @@ public class BeanContext extends Context implements MetaProvider {
 			cmCacheCache.putIfAbsent(ps, cm);
 		}
 		cmCache = cmCacheCache.get(ps);
+		cmInFlightCache.putIfAbsent(ps, new ConcurrentHashMap<>());
+		cmInFlight = cmInFlightCache.get(ps);
 		cmString = cmCache.get(String.class);
 		cmObject = cmCache.get(Object.class);
 		cmClass = cmCache.get(Class.class);
@@ -2377,20 +2438,48 @@ public class BeanContext extends Context implements MetaProvider {
 			return null;
 
 		ClassMeta<T> cm = cmCache.get(type);
-		if (cm == null) {
-
-			synchronized (this) {
-				// Make sure someone didn't already set it while this thread was blocked.
-				cm = cmCache.get(type);
-				if (cm == null)
-					cm = new ClassMeta<>(type, this, findPojoSwaps(type), findChildPojoSwaps(type));
-			}
-		}
+		if (cm == null)
+			cm = createClassMeta(type);
 		if (waitForInit)
 			cm.waitForInit();
 		return cm;
 	}
 
+	/**
+	 * Creates a new {@link ClassMeta} object, making sure only one thread creates the cached instance for a class.
+	 *
+	 * <p>
+	 * The {@link ClassMeta} constructor adds itself to the cache before introspecting the class, so threads asking
+	 * for the same class only have to wait for that to happen and can then wait on {@link ClassMeta#waitForInit()}.
+	 * <br>Threads asking for different classes never block each other.
+	 */
+	private <T> ClassMeta<T> createClassMeta(Class<T> type) {
+		if (! ClassMeta.isCacheable(type))
+			return new ClassMeta<>(type, this, findPojoSwaps(type), findChildPojoSwaps(type));
+
+		Thread ct = Thread.currentThread();
+		while (true) {
+			ClassMeta<T> cm = cmCache.get(type);
+			if (cm != null)
+				return cm;
+			Thread t = cmInFlight.putIfAbsent(type, ct);
+			if (t == null) {
+				try {
+					// Make sure someone didn't already create it before this thread registered.
+					cm = cmCache.get(type);
+					if (cm == null)
+						cm = new ClassMeta<>(type, this, findPojoSwaps(type), findChildPojoSwaps(type));
+					return cm;
+				} finally {
+					cmInFlight.remove(type);
+				}
+			}
+			if (t == ct)
+				throw new BasicRuntimeException("Recursive creation of ClassMeta for class {0}.", type);
+			Thread.yield();
+		}
+	}
+
 	/**
 	 * Used to resolve <c>ClassMetas</c> of type <c>Collection</c> and <c>Map</c> that have
 	 * <c>ClassMeta</c> values that themselves could be collections or maps.
@@ -3514,6 +3603,18 @@ public class BeanContext extends Context implements MetaProvider {
 		return useJavaBeanIntrospector;
 	}
 
+	/**
+	 * Use lambda accessors.
+	 *
+	 * @see #BEAN_useLambdaAccessors
+	 * @return
+	 * 	<jk>true</jk> if bean property getters and setters should be invoked through generated accessors instead of
+	 * 	reflection.
+	 */
+	public final boolean isUseLambdaAccessors() {
+		return useLambdaAccessors;
+	}
+
 	/**
 	 * Returns the serializer to use for serializing beans when using the {@link BeanSession#convertToType(Object, Class)}
 	 * and related methods.
@@ -3561,6 +3662,7 @@ public class BeanContext extends Context implements MetaProvider {
 				.a("useEnumNames", useEnumNames)
 				.a("useInterfaceProxies", useInterfaceProxies)
 				.a("useJavaBeanIntrospector", useJavaBeanIntrospector)
+				.a("useLambdaAccessors", useLambdaAccessors)
 			);
 	}
 }
\ No newline at end of file
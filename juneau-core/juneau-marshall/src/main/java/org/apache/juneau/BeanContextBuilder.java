@@ -2971,6 +2971,40 @@ public class BeanContextBuilder extends ContextBuilder {
 		return set(BEAN_useJavaBeanIntrospector);
 	}
 
+	/**
+	 * <i><l>BeanContext</l> configuration property:&emsp;</i>  Use lambda accessors.
+	 *
+	 * <p>
+	 * When enabled, bean property getters and setters are invoked through accessors generated once per property using
+	 * {@link java.lang.invoke.LambdaMetafactory} instead of through reflection.
+	 * <br>Properties that cannot use generated accessors silently fall back to reflection.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses generated accessors for bean properties.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useLambdaAccessors()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEAN_useLambdaAccessors</jsf>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useLambdaAccessors}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public BeanContextBuilder useLambdaAccessors() {
+		return set(BEAN_useLambdaAccessors);
+	}
+
 	// <FluentSetters>
 
 	@Override /* GENERATED - ContextBuilder */
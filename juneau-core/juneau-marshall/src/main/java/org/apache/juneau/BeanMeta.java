@@ -26,6 +26,7 @@ import java.util.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.reflect.*;
 
 /**
@@ -99,6 +100,7 @@ public class BeanMeta<T> {
 	final BeanRegistry beanRegistry;
 	final boolean sortProperties;
 	final boolean fluentSetters;
+	private volatile NameTable<BeanPropertyMeta> propertyNameTable;  // Lookup table of properties for parsers.
 
 	/**
 	 * Constructor.
@@ -857,6 +859,29 @@ public class BeanMeta<T> {
 		return bpm;
 	}
 
+	/**
+	 * Returns a lookup table of the visible and hidden properties on this bean keyed by property name.
+	 *
+	 * <p>
+	 * Allows parsers to resolve property names directly from their read buffers.
+	 * <br>Unlike {@link #getPropertyMeta(String)}, does not fall back to the dynamic property.
+	 *
+	 * @return The lookup table.  Never <jk>null</jk>.
+	 */
+	public NameTable<BeanPropertyMeta> getPropertyNameTable() {
+		NameTable<BeanPropertyMeta> t = propertyNameTable;
+		if (t == null) {
+			Map<String,BeanPropertyMeta> m = new LinkedHashMap<>();
+			if (hiddenProperties != null)
+				m.putAll(hiddenProperties);
+			if (properties != null)
+				m.putAll(properties);
+			t = new NameTable<>(m);
+			propertyNameTable = t;
+		}
+		return t;
+	}
+
 	/**
 	 * Creates a new instance of this bean.
 	 *
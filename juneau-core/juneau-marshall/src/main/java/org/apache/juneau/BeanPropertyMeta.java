@@ -23,6 +23,7 @@ import java.lang.reflect.*;
 import java.net.*;
 import java.net.URI;
 import java.util.*;
+import java.util.function.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
@@ -54,6 +55,8 @@ public final class BeanPropertyMeta {
 	private final Field field;                                // The bean property field (if it has one).
 	private final Field innerField;                                // The bean property field (if it has one).
 	private final Method getter, setter, extraKeys;           // The bean property getter and setter.
+	private final Function<Object,Object> getterFunction;     // Generated getter accessor (if BEAN_useLambdaAccessors is enabled).
+	private final BiConsumer<Object,Object> setterFunction;   // Generated setter accessor (if BEAN_useLambdaAccessors is enabled).
 	private final boolean isUri;                              // True if this is a URL/URI or annotated with @URI.
 	private final boolean isDyna, isDynaGetterMap;            // This is a dyna property (i.e. name="*")
 
@@ -403,6 +406,10 @@ public final class BeanPropertyMeta {
 		this.readOnly = b.readOnly;
 		this.writeOnly = b.writeOnly;
 		this.hashCode = HashCode.of(beanMeta,name);
+
+		boolean useLambdas = beanContext.isUseLambdaAccessors() && ! isDyna;
+		this.getterFunction = useLambdas ? LambdaAccessors.getter(getter) : null;
+		this.setterFunction = useLambdas ? LambdaAccessors.setter(setter) : null;
 	}
 
 	/**
@@ -852,6 +859,13 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
+		if (getterFunction != null) {
+			try {
+				return getterFunction.apply(bean);
+			} catch (RuntimeException | Error e) {
+				throw new InvocationTargetException(e);
+			}
+		}
 		if (getter != null)
 			return getter.invoke(bean);
 		if (field != null)
@@ -872,6 +886,14 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
+		if (setterFunction != null) {
+			try {
+				setterFunction.accept(bean, val);
+				return null;
+			} catch (RuntimeException | Error e) {
+				throw new InvocationTargetException(e);
+			}
+		}
 		if (setter != null)
 			return setter.invoke(bean, val);
 		if (field != null) {
@@ -214,6 +214,37 @@ public class BeanTraverseBuilder extends BeanContextBuilder {
 		return set(BEANTRAVERSE_maxDepth, value);
 	}
 
+	/**
+	 * <i><l>BeanTraverse</l> configuration property:&emsp;</i>  Recursion scan depth.
+	 *
+	 * <p>
+	 * When recursion detection is enabled, the number of objects in the current branch of the model that are checked
+	 * by an identity scan before switching to an identity hash map.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that only uses hashing past a depth of 4.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.detectRecursions()
+	 * 		.recursionScanDepth(4)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link BeanTraverseContext#BEANTRAVERSE_recursionScanDepth}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>16</c>.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public BeanTraverseBuilder recursionScanDepth(int value) {
+		return set(BEANTRAVERSE_recursionScanDepth, value);
+	}
+
 	// <FluentSetters>
 
 	@Override /* GENERATED - ContextBuilder */
@@ -648,6 +679,12 @@ public class BeanTraverseBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public BeanTraverseBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	// </FluentSetters>
 
 	@Override /* Context */
@@ -253,11 +253,58 @@ public abstract class BeanTraverseContext extends BeanContext {
 	 */
 	public static final String BEANTRAVERSE_maxDepth = PREFIX + ".maxDepth.i";
 
+	/**
+	 * Configuration property:  Recursion scan depth.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.BeanTraverseContext#BEANTRAVERSE_recursionScanDepth BEANTRAVERSE_recursionScanDepth}
+	 * 	<li><b>Name:</b>  <js>"BeanTraverseContext.recursionScanDepth.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>BeanTraverseContext.recursionScanDepth</c>
+	 * 	<li><b>Environment variable:</b>  <c>BEANTRAVERSECONTEXT_RECURSIONSCANDEPTH</c>
+	 * 	<li><b>Default:</b>  <c>16</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.BeanTraverseBuilder#recursionScanDepth(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * When {@link #BEANTRAVERSE_detectRecursions} is enabled, the number of objects in the current branch of the model
+	 * that are checked for recursion by an identity scan.
+	 *
+	 * <p>
+	 * Objects nested deeper than this are tracked in an identity hash map instead.
+	 * <br>Scanning is cheaper than hashing for the shallow graphs that make up most models.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that only uses hashing past a depth of 4.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.detectRecursions()
+	 * 		.recursionScanDepth(4)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEANTRAVERSE_detectRecursions</jsf>)
+	 * 		.set(<jsf>BEANTRAVERSE_recursionScanDepth</jsf>, 4)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String BEANTRAVERSE_recursionScanDepth = PREFIX + ".recursionScanDepth.i";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final int initialDepth, maxDepth;
+	private final int initialDepth, maxDepth, recursionScanDepth;
 	private final boolean
 		detectRecursions,
 		ignoreRecursions;
@@ -273,6 +320,7 @@ public abstract class BeanTraverseContext extends BeanContext {
 
 		maxDepth = getIntegerProperty(BEANTRAVERSE_maxDepth, 100);
 		initialDepth = getIntegerProperty(BEANTRAVERSE_initialDepth, 0);
+		recursionScanDepth = getIntegerProperty(BEANTRAVERSE_recursionScanDepth, 16);
 		ignoreRecursions = getBooleanProperty(BEANTRAVERSE_ignoreRecursions);
 		detectRecursions = getBooleanProperty(BEANTRAVERSE_detectRecursions, ignoreRecursions);
 	}
@@ -343,6 +391,18 @@ public abstract class BeanTraverseContext extends BeanContext {
 		return maxDepth;
 	}
 
+	/**
+	 * Recursion scan depth.
+	 *
+	 * @see #BEANTRAVERSE_recursionScanDepth
+	 * @return
+	 * 	The number of objects in the current branch that are checked for recursion by an identity scan before
+	 * 	switching to hashing.
+	 */
+	public final int getRecursionScanDepth() {
+		return recursionScanDepth;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -355,6 +415,7 @@ public abstract class BeanTraverseContext extends BeanContext {
 				.a("maxDepth", maxDepth)
 				.a("ignoreRecursions", ignoreRecursions)
 				.a("initialDepth", initialDepth)
+				.a("recursionScanDepth", recursionScanDepth)
 			);
 	}
 }
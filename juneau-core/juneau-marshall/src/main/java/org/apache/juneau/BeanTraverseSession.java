@@ -40,8 +40,15 @@ import org.apache.juneau.collections.*;
 public class BeanTraverseSession extends BeanSession {
 
 	private final BeanTraverseContext ctx;
-	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<>();              // Contains the current objects in the current branch of the model.
+	private final boolean checkRecursions;                                          // 'true' if detectRecursions or debug is enabled.
+	private final int scanDepth;                                                    // Stack entries checked by identity scan before hashing.
+
+	// The current objects in the current branch of the model, stored in parallel arrays.
+	private Object[] stackObjects;
+	private String[] stackNames;
+	private ClassMeta<?>[] stackTypes;
+	private int stackSize;
+	private Map<Object,Object> deepSet;                                             // Stack objects at index scanDepth and beyond.
 
 	// Writable properties
 	private boolean isBottom;                                                       // If 'true', then we're at a leaf in the model (i.e. a String, Number, Boolean, or null).
@@ -72,11 +79,8 @@ public class BeanTraverseSession extends BeanSession {
 		args = args == null ? BeanSessionArgs.DEFAULT : args;
 		this.ctx = ctx;
 		this.indent = getInitialDepth();
-		if (isDetectRecursions() || isDebug()) {
-			set = new IdentityHashMap<>();
-		} else {
-			set = Collections.emptyMap();
-		}
+		this.checkRecursions = isDetectRecursions() || isDebug();
+		this.scanDepth = Math.max(0, ctx.getRecursionScanDepth());
 	}
 
 	/**
@@ -120,16 +124,53 @@ public class BeanTraverseSession extends BeanSession {
 			return cm;
 		if (depth > getMaxDepth())
 			return null;
-		if (isDetectRecursions() || isDebug()) {
+		if (checkRecursions) {
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
-			set.put(o, o);
+			if (stackSize >= scanDepth) {
+				if (deepSet == null)
+					deepSet = new IdentityHashMap<>();
+				deepSet.put(o, o);
+			}
+			addStack(attrName, o, cm);
 		}
 		return cm;
 	}
 
+	/*
+	 * Appends an element to the stack arrays, growing them if necessary.
+	 */
+	private void addStack(String attrName, Object o, ClassMeta<?> cm) {
+		if (stackObjects == null) {
+			stackObjects = new Object[16];
+			stackNames = new String[16];
+			stackTypes = new ClassMeta<?>[16];
+		} else if (stackSize == stackObjects.length) {
+			int l = stackSize * 2;
+			stackObjects = Arrays.copyOf(stackObjects, l);
+			stackNames = Arrays.copyOf(stackNames, l);
+			stackTypes = Arrays.copyOf(stackTypes, l);
+		}
+		stackObjects[stackSize] = o;
+		stackNames[stackSize] = attrName;
+		stackTypes[stackSize] = cm;
+		stackSize++;
+	}
+
+	/*
+	 * Returns true if the specified object is in the current branch of the model.
+	 * The first scanDepth elements are checked by identity, the remainder through the deep set.
+	 */
+	private boolean isOnStack(Object o) {
+		int n = Math.min(stackSize, scanDepth);
+		Object[] a = stackObjects;
+		for (int i = 0; i < n; i++)
+			if (a[i] == o)
+				return true;
+		return stackSize > scanDepth && deepSet.containsKey(o);
+	}
+
 	/**
 	 * Returns <jk>true</jk> if we're processing the root node.
 	 *
@@ -153,14 +194,14 @@ public class BeanTraverseSession extends BeanSession {
 	 * @throws BeanRecursionException If recursion occurred.
 	 */
 	protected final boolean willRecurse(String attrName, Object o, ClassMeta<?> cm) throws BeanRecursionException {
-		if (! (isDetectRecursions() || isDebug()))
+		if (! checkRecursions)
 			return false;
-		if (! set.containsKey(o))
+		if (! isOnStack(o))
 			return false;
 		if (isIgnoreRecursions() && ! isDebug())
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		addStack(attrName, o, cm);
 		throw new BeanRecursionException("Recursion occurred, stack={0}", getStack(true));
 	}
 
@@ -179,14 +220,35 @@ public class BeanTraverseSession extends BeanSession {
 	protected final void pop() {
 		indent--;
 		depth--;
-		if ((isDetectRecursions() || isDebug()) && ! isBottom)  {
-			Object o = stack.removeLast().o;
-			Object o2 = set.remove(o);
-			if (o2 == null)
+		if (checkRecursions && ! isBottom)  {
+			int i = --stackSize;
+			Object o = stackObjects[i];
+			stackObjects[i] = null;
+			stackNames[i] = null;
+			stackTypes[i] = null;
+			if (i >= scanDepth && deepSet.remove(o) == null)
 				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.",
-					o.getClass().getName(), stack);
+					o.getClass().getName(), getStack(false));
+		}
+		isBottom = false;
+	}
+
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		if (stackSize > 0) {
+			Arrays.fill(stackObjects, 0, stackSize, null);
+			Arrays.fill(stackNames, 0, stackSize, null);
+			Arrays.fill(stackTypes, 0, stackSize, null);
+			stackSize = 0;
 		}
+		if (deepSet != null)
+			deepSet.clear();
 		isBottom = false;
+		currentProperty = null;
+		currentClass = null;
+		indent = getInitialDepth();
+		depth = 0;
 	}
 
 	/**
@@ -268,7 +330,7 @@ public class BeanTraverseSession extends BeanSession {
 	 */
 	protected String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (StackElement e : getStackElements()) {
 			if (full) {
 				sb.append("\n\t");
 				for (int i = 1; i < e.depth; i++)
@@ -292,7 +354,14 @@ public class BeanTraverseSession extends BeanSession {
 		return OMap.of()
 			.asn("currentClass", currentClass)
 			.asn("currentProperty", currentProperty)
-			.ase("stack", stack);
+			.ase("stack", getStackElements());
+	}
+
+	private List<StackElement> getStackElements() {
+		List<StackElement> l = new ArrayList<>(stackSize);
+		for (int i = 0; i < stackSize; i++)
+			l.add(new StackElement(i, stackNames[i], stackObjects[i], stackTypes[i]));
+		return l;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
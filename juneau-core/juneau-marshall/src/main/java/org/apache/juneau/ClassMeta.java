@@ -114,6 +114,11 @@ public final class ClassMeta<T> implements Type {
 
 	private final ReadWriteLock lock = new ReentrantReadWriteLock(false);
 	private final Lock rLock = lock.readLock(), wLock = lock.writeLock();
+	private volatile Thread initThread;                     // The thread running the constructor, or null once initialized.
+
+	// Threads currently blocked in waitForInit() mapped to the class meta they're waiting on.
+	// Used to detect when two threads are each waiting for a class meta the other is constructing.
+	private static final ConcurrentHashMap<Thread,ClassMeta<?>> WAITING = new ConcurrentHashMap<>();
 
 	/**
 	 * Construct a new {@code ClassMeta} based on the specified {@link Class}.
@@ -142,6 +147,7 @@ public final class ClassMeta<T> implements Type {
 		String notABeanReason = null;
 
 		wLock.lock();
+		initThread = Thread.currentThread();
 		try {
 			// We always immediately add this class meta to the bean context cache so that we can resolve recursive references.
 			if (beanContext != null && beanContext.cmCache != null && isCacheable(innerClass))
@@ -186,6 +192,7 @@ public final class ClassMeta<T> implements Type {
 			throw e;
 		} finally {
 			this.notABeanReason = notABeanReason;
+			initThread = null;
 			wLock.unlock();
 		}
 	}
@@ -193,7 +200,7 @@ public final class ClassMeta<T> implements Type {
 	/**
 	 * Generated classes shouldn't be cacheable to prevent needlessly filling up the cache.
 	 */
-	private static boolean isCacheable(Class<?> c) {
+	static boolean isCacheable(Class<?> c) {
 		String n = c.getName();
 		char x = n.charAt(n.length()-1);  // All generated classes appear to end with digits.
 		if (x >= '0' && x <= '9') {
@@ -205,10 +212,43 @@ public final class ClassMeta<T> implements Type {
 
 	/**
 	 * Causes thread to wait until constructor has exited.
+	 *
+	 * <p>
+	 * Returns immediately if the constructor is being run by the current thread, or if waiting would deadlock because
+	 * the constructing thread is itself (directly or transitively) waiting on a class meta being constructed by the
+	 * current thread.
+	 * <br>In both cases, the caller sees the class meta in the same partially-constructed state it would see when
+	 * resolving a recursive reference on a single thread.
 	 */
 	final void waitForInit() {
-		rLock.lock();
-		rLock.unlock();
+		Thread t = initThread, ct = Thread.currentThread();
+		if (t == null || t == ct)
+			return;
+		WAITING.put(ct, this);
+		try {
+			if (isWaitingOn(t, ct))
+				return;
+			rLock.lock();
+			rLock.unlock();
+		} finally {
+			WAITING.remove(ct);
+		}
+	}
+
+	/**
+	 * Returns <jk>true</jk> if thread <c>t</c> is waiting on a class meta whose constructor is being run by thread
+	 * <c>ct</c>, following the chain of waiting threads.
+	 */
+	private static boolean isWaitingOn(Thread t, Thread ct) {
+		for (int i = 0; i < 100 && t != null; i++) {
+			if (t == ct)
+				return true;
+			ClassMeta<?> cm = WAITING.get(t);
+			if (cm == null)
+				return false;
+			t = cm.initThread;
+		}
+		return false;
 	}
 
 	/**
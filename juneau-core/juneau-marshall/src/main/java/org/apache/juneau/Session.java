@@ -312,6 +312,18 @@ public abstract class Session {
 			throw new BeanRuntimeException("Warnings occurred in session: \n" + join(getWarnings(), "\n"));
 	}
 
+	/**
+	 * Clears any state accumulated during a previous use of this session so that it can be reused.
+	 *
+	 * <p>
+	 * Clears the warnings and session cache.
+	 * <br>Subclasses that keep state between calls should override this method and call <c>super.reset()</c>.
+	 */
+	public void reset() {
+		warnings = null;
+		cache = null;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Configuration properties
 	//-----------------------------------------------------------------------------------------------------------------
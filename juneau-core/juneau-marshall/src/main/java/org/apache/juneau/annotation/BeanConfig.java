@@ -888,6 +888,29 @@ public @interface BeanConfig {
 	 */
 	String useJavaBeanIntrospector() default "";
 
+	/**
+	 * Configuration property:  Use lambda accessors.
+	 *
+	 * <p>
+	 * When enabled, bean property getters and setters are invoked through generated accessors instead of reflection.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 *		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useLambdaAccessors}
+	 * </ul>
+	 */
+	String useLambdaAccessors() default "";
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// BeanTraverseContext
 	//-----------------------------------------------------------------------------------------------------------------
@@ -116,6 +116,8 @@ public class BeanConfigAnnotation {
 				psb.set(BEAN_disableInterfaceProxies, bool(a.disableInterfaceProxies()));
 			if (! a.useJavaBeanIntrospector().isEmpty())
 				psb.set(BEAN_useJavaBeanIntrospector, bool(a.useJavaBeanIntrospector()));
+			if (! a.useLambdaAccessors().isEmpty())
+				psb.set(BEAN_useLambdaAccessors, bool(a.useLambdaAccessors()));
 			if (! a.detectRecursions().isEmpty())
 				psb.set(BEANTRAVERSE_detectRecursions, bool(a.detectRecursions()));
 			if (! a.ignoreRecursions().isEmpty())
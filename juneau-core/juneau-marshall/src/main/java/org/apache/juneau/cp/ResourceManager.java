@@ -108,6 +108,24 @@ public final class ResourceManager {
 		return r == null ? null : new ByteArrayInputStream(r);
 	}
 
+	/**
+	 * Finds the resource with the given name for the specified locale bypassing the in-memory cache.
+	 *
+	 * <p>
+	 * Useful for callers that maintain their own cache of the resource contents, and for getting at the underlying
+	 * stream (e.g. a {@link FileInputStream}) returned by the resource finder.
+	 *
+	 * @param name Name of the desired resource.
+	 * @param locale The locale.  Can be <jk>null</jk>.
+	 * @return An input stream to the object, or <jk>null</jk> if the resource could not be found.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public InputStream getUncachedStream(String name, Locale locale) throws IOException {
+		if (isEmpty(name))
+			return null;
+		return resourceFinder.findResource(baseClass, name, locale);
+	}
+
 	/**
 	 * Finds the resource with the given name and converts it to a simple string.
 	 *
@@ -12,8 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import java.io.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -84,6 +86,34 @@ public class CsvParser extends ReaderParser implements CsvMetaProvider, CsvCommo
 		return new CsvParserSession(this, args);
 	}
 
+	/**
+	 * Parses the specified CSV input as a stream of rows.
+	 *
+	 * <p>
+	 * Rows are read and converted one at a time as they are pulled from the stream so that large inputs can be
+	 * processed with bounded memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (Stream&lt;MyBean&gt; s = CsvParser.<jsf>DEFAULT</jsf>.stream(reader, MyBean.<jk>class</jk>)) {
+	 * 		s.forEach(x -&gt; process(x));
+	 * 	}
+	 * </p>
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link ParserSession#parse(Object, java.lang.reflect.Type, java.lang.reflect.Type...)} for details.
+	 * @param rowType The class type of each row (e.g. a bean class).
+	 * @param <T> The class type of each row.
+	 * @return A sequential stream of parsed rows that closes the input when exhausted or closed.
+	 * @throws ParseException Malformed header record encountered.
+	 * @throws IOException Thrown by the underlying stream.
+	 * @see CsvParserSession#stream(Object, Class)
+	 */
+	public <T> Stream<T> stream(Object input, Class<T> rowType) throws ParseException, IOException {
+		return createSession().stream(input, rowType);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Extended metadata
 	//-----------------------------------------------------------------------------------------------------------------
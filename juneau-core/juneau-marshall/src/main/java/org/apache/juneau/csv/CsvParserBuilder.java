@@ -487,6 +487,12 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public CsvParserBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public CsvParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -505,6 +511,12 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public CsvParserBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public CsvParserBuilder strict() {
 		super.strict();
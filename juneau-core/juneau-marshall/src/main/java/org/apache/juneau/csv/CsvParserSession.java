@@ -13,18 +13,28 @@
 package org.apache.juneau.csv;
 
 import java.io.IOException;
+import java.util.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
  * Session object that lives for the duration of a single use of {@link CsvParser}.
  *
  * <p>
+ * Parses RFC 4180 CSV where the first record contains the column names and each subsequent record is converted into
+ * a bean, map, or simple value.
+ * <br>Records are read one at a time from the underlying {@link ParserReader}, so {@link #stream(Object, Class)} can be
+ * used to process arbitrarily large inputs with bounded memory.
+ *
+ * <p>
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
+@SuppressWarnings({ "unchecked", "rawtypes" })
 public final class CsvParserSession extends ReaderParserSession {
 
 	/**
@@ -41,17 +51,268 @@ public final class CsvParserSession extends ReaderParserSession {
 	}
 
 	@Override /* ParserSession */
-	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException {
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
 		try (ParserReader r = pipe.getParserReader()) {
 			if (r == null)
 				return null;
-			return parseAnything(type, r, getOuter(), null);
+			return parseAnything(type, new RecordReader(r), getOuter());
+		}
+	}
+
+	@Override /* ParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, java.lang.reflect.Type elementType) throws Exception {
+		try (ParserReader r = pipe.getParserReader()) {
+			if (r == null)
+				return c;
+			RecordReader rr = new RecordReader(r);
+			String[] header = rr.next();
+			ClassMeta<E> eType = (ClassMeta<E>)(elementType == null ? object() : getClassMeta(elementType));
+			List<String> record;
+			while (header != null && (record = rr.nextRecord()) != null)
+				c.add(toRow(eType, header, record, getOuter()));
+			return c;
+		}
+	}
+
+	/**
+	 * Parses the specified CSV input as a stream of rows.
+	 *
+	 * <p>
+	 * The first record is read immediately as the header, and each subsequent record is only read and converted when
+	 * it is pulled from the stream.
+	 * <br>The input is closed when the stream is exhausted or closed, so the stream should be used in a
+	 * try-with-resources block if it may not be fully consumed.
+	 *
+	 * <p>
+	 * Exceptions that occur while reading rows are thrown as {@link BasicRuntimeException BasicRuntimeExceptions}
+	 * with the underlying {@link ParseException} or {@link IOException} as the cause.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, java.lang.reflect.Type, java.lang.reflect.Type...)} for details.
+	 * @param rowType The class type of each row (e.g. a bean class).
+	 * @param <T> The class type of each row.
+	 * @return A sequential stream of parsed rows.
+	 * @throws ParseException Malformed header record encountered.
+	 * @throws IOException Thrown by the underlying stream.
+	 */
+	public <T> Stream<T> stream(Object input, Class<T> rowType) throws ParseException, IOException {
+		return stream(input, getClassMeta(rowType));
+	}
+
+	/**
+	 * Same as {@link #stream(Object, Class)} except the row type is specified as a {@link ClassMeta}.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, java.lang.reflect.Type, java.lang.reflect.Type...)} for details.
+	 * @param rowType The class type of each row.
+	 * @param <T> The class type of each row.
+	 * @return A sequential stream of parsed rows.
+	 * @throws ParseException Malformed header record encountered.
+	 * @throws IOException Thrown by the underlying stream.
+	 */
+	public <T> Stream<T> stream(Object input, final ClassMeta<T> rowType) throws ParseException, IOException {
+		final ParserPipe pipe = createPipe(input);
+		final ParserReader r = pipe.getParserReader();
+		if (r == null) {
+			pipe.close();
+			return Stream.empty();
+		}
+
+		final RecordReader rr = new RecordReader(r);
+		final String[] header;
+		try {
+			header = rr.next();
+		} catch (IOException | RuntimeException e) {
+			closeQuietly(pipe);
+			throw e;
+		}
+
+		final Object outer = getOuter();
+		Iterator<T> i = new Iterator<T>() {
+			List<String> next;
+			boolean done = header == null;
+
+			@Override /* Iterator */
+			public boolean hasNext() {
+				if (next == null && ! done) {
+					try {
+						next = rr.nextRecord();
+					} catch (IOException | ParseException e) {
+						closeQuietly(pipe);
+						throw new BasicRuntimeException(e, "Exception occurred reading CSV record.");
+					}
+					if (next == null) {
+						done = true;
+						closeQuietly(pipe);
+					}
+				}
+				return next != null;
+			}
+
+			@Override /* Iterator */
+			public T next() {
+				if (! hasNext())
+					throw new NoSuchElementException();
+				List<String> record = next;
+				next = null;
+				try {
+					return toRow(rowType, header, record, outer);
+				} catch (ParseException | ExecutableException | IOException e) {
+					closeQuietly(pipe);
+					throw new BasicRuntimeException(e, "Could not convert CSV record at {0}.", r.getPosition());
+				}
+			}
+		};
+
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(i, Spliterator.ORDERED), false)
+			.onClose(() -> closeQuietly(pipe));
+	}
+
+	private <T> T parseAnything(ClassMeta<T> type, RecordReader rr, Object outer) throws IOException, ParseException, ExecutableException {
+
+		if (type == null)
+			type = (ClassMeta<T>)object();
+
+		String[] header = rr.next();
+
+		if (type.isObject() || type.isCollectionOrArray()) {
+			ClassMeta<?> eType = type.isObject() ? object() : type.getElementType();
+			Collection l = (
+				type.isCollection() && type.canCreateNewInstance(outer)
+				? (Collection)type.newInstance(outer)
+				: new OList(this)
+			);
+			List<String> record;
+			while (header != null && (record = rr.nextRecord()) != null)
+				l.add(toRow(eType, header, record, l));
+			if (type.isArray())
+				return (T)toArray(type, l);
+			return (T)l;
 		}
+
+		// Single row.
+		List<String> record = header == null ? null : rr.nextRecord();
+		return record == null ? null : toRow(type, header, record, outer);
 	}
 
-	@SuppressWarnings({})
-	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws ParseException {
-		throw new ParseException("Not implemented.");
+	private <T> T toRow(ClassMeta<T> eType, String[] header, List<String> record, Object outer) throws IOException, ParseException, ExecutableException {
+
+		if (eType.isBean()) {
+			BeanMap<T> m = newBeanMap(outer, eType.getInnerClass());
+			for (int i = 0; i < header.length && i < record.size(); i++) {
+				String name = header[i];
+				BeanPropertyMeta pMeta = m.getPropertyMeta(name);
+				if (pMeta == null) {
+					onUnknownProperty(name, m, record.get(i));
+					continue;
+				}
+				setCurrentProperty(pMeta);
+				ClassMeta<?> cm = pMeta.getClassMeta();
+				Object value = convertAttrToType(m.getBean(false), trim(record.get(i)), cm);
+				try {
+					pMeta.set(m, name, value);
+				} catch (BeanRuntimeException e) {
+					onBeanSetterException(pMeta, e);
+					throw e;
+				}
+				setCurrentProperty(null);
+			}
+			return m.getBean();
+		}
+
+		if (eType.isMap() || eType.isObject()) {
+			Map m = (eType.isMap() && eType.canCreateNewInstance(outer) ? (Map)eType.newInstance(outer) : new OMap(this));
+			ClassMeta<?> kType = eType.isMap() ? eType.getKeyType() : string(), vType = eType.isMap() ? eType.getValueType() : object();
+			for (int i = 0; i < header.length && i < record.size(); i++)
+				m.put(convertAttrToType(m, header[i], kType), convertAttrToType(m, trim(record.get(i)), vType));
+			return (T)m;
+		}
+
+		return convertAttrToType(outer, record.isEmpty() ? null : trim(record.get(0)), eType);
+	}
+
+	private static void closeQuietly(ParserPipe pipe) {
+		try {
+			pipe.close();
+		} catch (Exception e) {
+			// Ignore.
+		}
+	}
+
+	/*
+	 * Reads RFC 4180 records one at a time.
+	 *
+	 * Fields are separated by commas and records by CRLF, LF, or CR.
+	 * Quoted fields can contain commas, line breaks, and doubled quotes.
+	 * The unquoted value "null" is converted to null, matching the output of CsvSerializer.
+	 * Blank lines are skipped.
+	 */
+	private final class RecordReader {
+		private final ParserReader r;
+		private final StringBuilder sb = new StringBuilder();
+		private final List<String> record = new ArrayList<>();
+
+		RecordReader(ParserReader r) {
+			this.r = r;
+		}
+
+		/* Returns the next record as an array, or null if there are no more records. */
+		String[] next() throws IOException, ParseException {
+			List<String> l = nextRecord();
+			return l == null ? null : l.toArray(new String[l.size()]);
+		}
+
+		/* Returns the next record, or null if there are no more records.  The returned list is reused. */
+		List<String> nextRecord() throws IOException, ParseException {
+			record.clear();
+
+			int c = r.read();
+			while (c == '\r' || c == '\n')
+				c = r.read();
+			if (c == -1)
+				return null;
+
+			while (true) {
+				sb.setLength(0);
+				boolean quoted = false;
+				if (c == '"') {
+					quoted = true;
+					while (true) {
+						c = r.read();
+						if (c == -1)
+							throw new ParseException(CsvParserSession.this, "Unterminated quoted field.");
+						if (c == '"') {
+							c = r.read();
+							if (c != '"')
+								break;
+						}
+						sb.append((char)c);
+					}
+				}
+				while (c != ',' && c != '\r' && c != '\n' && c != -1) {
+					if (quoted && isStrict())
+						throw new ParseException(CsvParserSession.this, "Unexpected character ''{0}'' after closing quote.", (char)c);
+					sb.append((char)c);
+					c = r.read();
+				}
+
+				record.add(! quoted && "null".contentEquals(sb) ? null : sb.toString());
+
+				if (c == ',') {
+					c = r.read();
+					continue;
+				}
+				if (c == '\r') {
+					c = r.read();
+					if (c != '\n' && c != -1)
+						r.unread();
+				}
+				return record;
+			}
+		}
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
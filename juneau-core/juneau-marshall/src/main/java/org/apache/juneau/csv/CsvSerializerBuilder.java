@@ -487,6 +487,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public CsvSerializerBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public CsvSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -511,6 +517,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanTraverseBuilder */
+	public CsvSerializerBuilder recursionScanDepth(int value) {
+		super.recursionScanDepth(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public CsvSerializerBuilder addBeanTypes() {
 		super.addBeanTypes();
@@ -535,6 +547,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public CsvSerializerBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public CsvSerializerBuilder sortCollections() {
 		super.sortCollections();
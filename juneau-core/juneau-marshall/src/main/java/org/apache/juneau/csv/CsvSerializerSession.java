@@ -48,15 +48,19 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 	protected final void doSerialize(SerializerPipe pipe, Object o) throws IOException, SerializeException {
 		try (Writer w = pipe.getWriter()) {
 			ClassMeta<?> cm = getClassMetaForObject(o);
-			Collection<?> l = null;
-			if (cm.isArray()) {
-				l = Arrays.asList((Object[])o);
-			} else {
-				l = (Collection<?>)o;
+			// Streaming sources are written row-by-row as they're pulled.
+			Iterator<?> rows = toStreamingIterator(o, cm);
+			boolean streamed = rows != null;
+			if (! streamed) {
+				if (cm.isArray())
+					rows = Arrays.asList((Object[])o).iterator();
+				else
+					rows = ((Collection<?>)o).iterator();
 			}
 			// TODO - Doesn't support DynaBeans.
-			if (l.size() > 0) {
-				ClassMeta<?> entryType = getClassMetaForObject(l.iterator().next());
+			if (rows.hasNext()) {
+				Object first = rows.next();
+				ClassMeta<?> entryType = getClassMetaForObject(first);
 				if (entryType.isBean()) {
 					BeanMeta<?> bm = entryType.getBeanMeta();
 					int i = 0;
@@ -68,7 +72,9 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 						}
 					}
 					w.append('\n');
-					for (Object o2 : l) {
+					for (int count = 1; first != null || rows.hasNext(); count++) {
+						Object o2 = first != null ? first : rows.next();
+						first = null;
 						i = 0;
 						BeanMap<?> bean = toBeanMap(o2);
 						for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
@@ -79,6 +85,8 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 							}
 						}
 						w.append('\n');
+						if (streamed)
+							flushStreamed(w, count);
 					}
 				}
 			}
@@ -90,14 +98,14 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 			w.append("null");
 		else {
 			String s = o.toString();
-			boolean mustQuote = false;
+			boolean mustQuote = s.isEmpty();
 			for (int i = 0; i < s.length() && ! mustQuote; i++) {
 				char c = s.charAt(i);
-				if (Character.isWhitespace(c) || c == ',')
+				if (Character.isWhitespace(c) || c == ',' || c == '"')
 					mustQuote = true;
 			}
 			if (mustQuote)
-				w.append('"').append(s).append('"');
+				w.append('"').append(s.replace("\"", "\"\"")).append('"');
 			else
 				w.append(s);
 		}
@@ -0,0 +1,105 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Encoder for handling <js>"deflate"</js> encoding and decoding.
+ *
+ * <p>
+ * Per RFC 7230, the <js>"deflate"</js> coding is the ZLIB data format (RFC 1950) wrapping a raw DEFLATE stream.
+ *
+ * <p>
+ * Streams borrow their {@link Deflater} or {@link Inflater} from a pool owned by this encoder instead of allocating new
+ * native zlib state on every call.
+ *
+ * <p>
+ * The compression level and minimum response size can be changed by subclassing this encoder.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Fast compression, and only for responses of 1KB or more.</jc>
+ * 	<jk>public class</jk> MyDeflateEncoder <jk>extends</jk> DeflateEncoder {
+ * 		<jk>public</jk> MyDeflateEncoder() {
+ * 			<jk>super</jk>(Deflater.<jsf>BEST_SPEED</jsf>, 1024);
+ * 		}
+ * 	}
+ *
+ * 	<ja>@Rest</ja>(encoders=MyDeflateEncoder.<jk>class</jk>)
+ * 	<jk>public class</jk> MyResource {...}
+ * </p>
+ */
+public class DeflateEncoder extends Encoder {
+
+	private final DeflaterPool pool;
+	private final int minimumSize;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the default compression level and no minimum size.
+	 */
+	public DeflateEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, 0);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level
+	 * 	The compression level (<c>0</c> through <c>9</c>, or <c>-1</c> for the default level).
+	 * @param minimumSize
+	 * 	The minimum size in bytes of content this encoder is applied to.
+	 * 	<br>See {@link Encoder#getMinimumSize()}.
+	 * @throws IllegalArgumentException If the compression level is invalid.
+	 */
+	public DeflateEncoder(int level, int minimumSize) {
+		this.pool = new DeflaterPool(level, false, DEFAULT_POOL_SIZE);
+		this.minimumSize = minimumSize;
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return pool.getOutputStream(os);
+	}
+
+	@Override /* Encoder */
+	public InputStream getInputStream(InputStream is) throws IOException {
+		return pool.getInputStream(is);
+	}
+
+	/**
+	 * Returns <code>[<js>"deflate"</js>]</code>.
+	 */
+	@Override /* Encoder */
+	public String[] getCodings() {
+		return new String[]{"deflate"};
+	}
+
+	@Override /* Encoder */
+	public int getMinimumSize() {
+		return minimumSize;
+	}
+
+	/**
+	 * Returns the compression level used by this encoder.
+	 *
+	 * @return The compression level (<c>0</c> through <c>9</c>, or <c>-1</c> for the default level).
+	 */
+	public int getLevel() {
+		return pool.getLevel();
+	}
+}
@@ -0,0 +1,321 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+/**
+ * A bounded pool of {@link Deflater} and {@link Inflater} instances shared by the streams of a single encoder.
+ *
+ * <p>
+ * Deflaters and inflaters hold native zlib state that is expensive to allocate and is otherwise only freed when the
+ * objects are garbage collected.
+ * <br>Streams created by this pool borrow an instance when opened and reset and return it when finished or closed.
+ * <br>Instances that don't fit back into the pool are ended immediately.
+ */
+final class DeflaterPool {
+
+	private static final int BUFFER_SIZE = 512;
+
+	private final int level;
+	private final boolean gzip;
+	private final BlockingQueue<Deflater> deflaters;
+	private final BlockingQueue<Inflater> inflaters;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level (<c>-1</c> for the zlib default, or <c>0</c> through <c>9</c>).
+	 * @param gzip Whether streams use the GZIP file format (RFC 1952) instead of the ZLIB format (RFC 1950).
+	 * @param poolSize The maximum number of idle deflaters and inflaters to keep.
+	 */
+	DeflaterPool(int level, boolean gzip, int poolSize) {
+		if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION)
+			throw new IllegalArgumentException("Invalid compression level: " + level);
+		this.level = level;
+		this.gzip = gzip;
+		this.deflaters = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+		this.inflaters = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+	}
+
+	int getLevel() {
+		return level;
+	}
+
+	OutputStream getOutputStream(OutputStream os) throws IOException {
+		Deflater d = deflaters.poll();
+		if (d == null)
+			d = new Deflater(level, gzip);
+		try {
+			return new PooledDeflaterOutputStream(os, d);
+		} catch (IOException e) {
+			release(d);
+			throw e;
+		}
+	}
+
+	InputStream getInputStream(InputStream is) throws IOException {
+		Inflater i = inflaters.poll();
+		if (i == null)
+			i = new Inflater(gzip);
+		try {
+			return gzip ? new PooledGzipInputStream(is, i) : new PooledInflaterInputStream(is, i);
+		} catch (IOException e) {
+			release(i);
+			throw e;
+		}
+	}
+
+	void release(Deflater d) {
+		d.reset();
+		if (! deflaters.offer(d))
+			d.end();
+	}
+
+	void release(Inflater i) {
+		i.reset();
+		if (! inflaters.offer(i))
+			i.end();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Output
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static final byte[] GZIP_HEADER = {
+		(byte)0x1f, (byte)0x8b,  // Magic number
+		Deflater.DEFLATED,       // Compression method
+		0,                       // Flags
+		0, 0, 0, 0,              // Modification time
+		0,                       // Extra flags
+		0                        // Operating system
+	};
+
+	private class PooledDeflaterOutputStream extends DeflaterOutputStream implements Finishable {
+		private final CRC32 crc = gzip ? new CRC32() : null;
+		private boolean released, closed;
+
+		PooledDeflaterOutputStream(OutputStream out, Deflater d) throws IOException {
+			super(out, d, BUFFER_SIZE);
+			if (gzip)
+				out.write(GZIP_HEADER);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (released)
+				throw new IOException("Stream is finished.");
+			super.write(b, off, len);
+			if (crc != null)
+				crc.update(b, off, len);
+		}
+
+		@Override /* Finishable */
+		public void finish() throws IOException {
+			if (released)
+				return;
+			super.finish();
+			if (crc != null) {
+				byte[] trailer = new byte[8];
+				writeInt((int)crc.getValue(), trailer, 0);
+				writeInt((int)def.getBytesRead(), trailer, 4);
+				out.write(trailer);
+			}
+			released = true;
+			release(def);
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			if (closed)
+				return;
+			closed = true;
+			try {
+				finish();
+			} finally {
+				if (! released) {
+					released = true;
+					release(def);
+				}
+				out.close();
+			}
+		}
+
+		private void writeInt(int i, byte[] b, int off) {
+			b[off] = (byte)i;
+			b[off+1] = (byte)(i >> 8);
+			b[off+2] = (byte)(i >> 16);
+			b[off+3] = (byte)(i >> 24);
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Input
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private class PooledInflaterInputStream extends InflaterInputStream {
+		private boolean released;
+
+		PooledInflaterInputStream(InputStream in, Inflater i) {
+			super(in, i, BUFFER_SIZE);
+		}
+
+		@Override /* InputStream */
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (released)
+				throw new IOException("Stream closed");
+			return super.read(b, off, len);
+		}
+
+		@Override /* InputStream */
+		public int available() throws IOException {
+			if (released)
+				throw new IOException("Stream closed");
+			return super.available();
+		}
+
+		@Override /* InputStream */
+		public void close() throws IOException {
+			if (released)
+				return;
+			released = true;
+			release(inf);
+			in.close();
+		}
+	}
+
+	// Same format handling as GZIPInputStream, which can't be given an inflater of its own.
+	private class PooledGzipInputStream extends PooledInflaterInputStream {
+
+		private static final int FHCRC = 2, FEXTRA = 4, FNAME = 8, FCOMMENT = 16;
+
+		private final CRC32 crc = new CRC32();
+		private boolean eos;
+
+		PooledGzipInputStream(InputStream in, Inflater i) throws IOException {
+			super(in, i);
+			readHeader(in);
+		}
+
+		@Override /* InputStream */
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (eos)
+				return -1;
+			int n = super.read(b, off, len);
+			if (n == -1) {
+				if (readTrailer())
+					eos = true;
+				else
+					return read(b, off, len);
+			} else {
+				crc.update(b, off, n);
+			}
+			return n;
+		}
+
+		private int readHeader(InputStream is) throws IOException {
+			CheckedInputStream in = new CheckedInputStream(is, crc);
+			crc.reset();
+			if (readUShort(in) != 0x8b1f)
+				throw new ZipException("Not in GZIP format");
+			if (readUByte(in) != Deflater.DEFLATED)
+				throw new ZipException("Unsupported compression method");
+			int flg = readUByte(in);
+			skipBytes(in, 6);
+			int n = 10;
+			if ((flg & FEXTRA) == FEXTRA) {
+				int m = readUShort(in);
+				skipBytes(in, m);
+				n += m + 2;
+			}
+			if ((flg & FNAME) == FNAME) {
+				do {
+					n++;
+				} while (readUByte(in) != 0);
+			}
+			if ((flg & FCOMMENT) == FCOMMENT) {
+				do {
+					n++;
+				} while (readUByte(in) != 0);
+			}
+			if ((flg & FHCRC) == FHCRC) {
+				int v = (int)crc.getValue() & 0xffff;
+				if (readUShort(in) != v)
+					throw new ZipException("Corrupt GZIP header");
+				n += 2;
+			}
+			crc.reset();
+			return n;
+		}
+
+		private boolean readTrailer() throws IOException {
+			InputStream in = this.in;
+			int n = inf.getRemaining();
+			if (n > 0) {
+				in = new SequenceInputStream(
+					new ByteArrayInputStream(buf, len - n, n),
+					new FilterInputStream(in) {
+						@Override /* InputStream */
+						public void close() throws IOException {}
+					}
+				);
+			}
+			if ((readUInt(in) != crc.getValue()) || (readUInt(in) != (inf.getBytesWritten() & 0xffffffffL)))
+				throw new ZipException("Corrupt GZIP trailer");
+
+			// Concatenated members.
+			if (this.in.available() > 0 || n > 26) {
+				int m = 8;
+				try {
+					m += readHeader(in);
+				} catch (IOException e) {
+					return true;
+				}
+				inf.reset();
+				if (n > m)
+					inf.setInput(buf, len - n + m, n - m);
+				return false;
+			}
+			return true;
+		}
+
+		private long readUInt(InputStream in) throws IOException {
+			long s = readUShort(in);
+			return ((long)readUShort(in) << 16) | s;
+		}
+
+		private int readUShort(InputStream in) throws IOException {
+			int b = readUByte(in);
+			return (readUByte(in) << 8) | b;
+		}
+
+		private int readUByte(InputStream in) throws IOException {
+			int b = in.read();
+			if (b == -1)
+				throw new EOFException();
+			return b;
+		}
+
+		private void skipBytes(InputStream in, int n) throws IOException {
+			byte[] b = new byte[Math.min(n, 128)];
+			while (n > 0) {
+				int l = in.read(b, 0, Math.min(n, b.length));
+				if (l == -1)
+					throw new EOFException();
+				n -= l;
+			}
+		}
+	}
+}
@@ -26,6 +26,12 @@ import java.io.*;
  */
 public abstract class Encoder {
 
+	/**
+	 * The default maximum number of idle {@link java.util.zip.Deflater} and {@link java.util.zip.Inflater} instances
+	 * pooled by the compressing encoders.
+	 */
+	protected static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
 	/**
 	 * Converts the specified compressed input stream into an uncompressed stream.
 	 *
@@ -51,4 +57,18 @@ public abstract class Encoder {
 	 * @return The codings that this encoder handles.
 	 */
 	public abstract String[] getCodings();
+
+	/**
+	 * Returns the minimum size in bytes of content this encoder should be applied to.
+	 *
+	 * <p>
+	 * Compressing a handful of bytes costs more CPU than it saves on the wire and often makes the content larger.
+	 * <br>Smaller content is sent with the next best coding accepted by the client (typically <js>"identity"</js>).
+	 *
+	 * @return The minimum size in bytes, or <c>0</c> if this encoder applies to content of any size.
+	 * @see EncoderGroup#getEncoderMatch(String, long)
+	 */
+	public int getMinimumSize() {
+		return 0;
+	}
 }
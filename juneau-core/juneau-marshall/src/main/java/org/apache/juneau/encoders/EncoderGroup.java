@@ -16,6 +16,7 @@ import java.util.*;
 import java.util.concurrent.*;
 
 import org.apache.juneau.collections.*;
+import org.apache.juneau.http.*;
 import org.apache.juneau.http.header.*;
 
 /**
@@ -138,6 +139,56 @@ public final class EncoderGroup {
 		return cache.get(acceptEncoding);
 	}
 
+	/**
+	 * Same as {@link #getEncoderMatch(String)} but skips encoders whose {@link Encoder#getMinimumSize() minimum size}
+	 * is larger than the specified content length.
+	 *
+	 * <p>
+	 * As per RFC 7231, the <js>"identity"</js> coding is acceptable unless explicitly refused (e.g.
+	 * <js>"identity;q=0"</js>) even if the header doesn't list it.
+	 * <br>If none of the remaining encoders are acceptable, the match ignoring content length is returned instead.
+	 *
+	 * @param acceptEncoding The <c>Accept-Encoding</c> or <c>Content-Encoding</c> value.
+	 * @param contentLength The length in bytes of the content to encode, or <c>-1</c> if not known.
+	 * @return The matching encoder, or <jk>null</jk> if no encoders can handle the header value.
+	 */
+	public EncoderMatch getEncoderMatch(String acceptEncoding, long contentLength) {
+		EncoderMatch em = getEncoderMatch(acceptEncoding);
+		if (em == null || contentLength < 0 || contentLength >= em.getEncoder().getMinimumSize())
+			return em;
+
+		List<String> lc = new ArrayList<>(encodings.size());
+		List<Encoder> l = new ArrayList<>(encodings.size());
+		for (int i = 0; i < encodingsEncoders.length; i++) {
+			if (encodingsEncoders[i].getMinimumSize() <= contentLength) {
+				lc.add(encodings.get(i));
+				l.add(encodingsEncoders[i]);
+			}
+		}
+
+		AcceptEncoding ae = AcceptEncoding.of(acceptEncoding);
+		int match = ae.match(lc);
+		if (match >= 0)
+			return new EncoderMatch(lc.get(match), l.get(match));
+
+		int i = lc.indexOf("identity");
+		if (i >= 0 && ! isIdentityRefused(ae))
+			return new EncoderMatch(lc.get(i), l.get(i));
+
+		return em;
+	}
+
+	private static boolean isIdentityRefused(AcceptEncoding ae) {
+		Float any = null;
+		for (StringRange r : ae.getRanges()) {
+			if ("identity".equalsIgnoreCase(r.getName()))
+				return r.getQValue() == 0;
+			if ("*".equals(r.getName()))
+				any = r.getQValue();
+		}
+		return any != null && any == 0;
+	}
+
 	/**
 	 * Returns the encoder registered with the specified coding (e.g. <js>"gzip"</js>).
 	 *
@@ -17,17 +17,65 @@ import java.util.zip.*;
 
 /**
  * Encoder for handling <js>"gzip"</js> encoding and decoding.
+ *
+ * <p>
+ * Streams borrow their {@link Deflater} or {@link Inflater} from a pool owned by this encoder instead of allocating new
+ * native zlib state on every call.
+ *
+ * <p>
+ * The compression level and minimum response size can be changed by subclassing this encoder.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Fast compression, and only for responses of 1KB or more.</jc>
+ * 	<jk>public class</jk> MyGzipEncoder <jk>extends</jk> GzipEncoder {
+ * 		<jk>public</jk> MyGzipEncoder() {
+ * 			<jk>super</jk>(Deflater.<jsf>BEST_SPEED</jsf>, 1024);
+ * 		}
+ * 	}
+ *
+ * 	<ja>@Rest</ja>(encoders=MyGzipEncoder.<jk>class</jk>)
+ * 	<jk>public class</jk> MyResource {...}
+ * </p>
  */
 public class GzipEncoder extends Encoder {
 
+	private final DeflaterPool pool;
+	private final int minimumSize;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the default compression level and no minimum size.
+	 */
+	public GzipEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, 0);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level
+	 * 	The compression level (<c>0</c> through <c>9</c>, or <c>-1</c> for the default level).
+	 * @param minimumSize
+	 * 	The minimum size in bytes of content this encoder is applied to.
+	 * 	<br>See {@link Encoder#getMinimumSize()}.
+	 * @throws IllegalArgumentException If the compression level is invalid.
+	 */
+	public GzipEncoder(int level, int minimumSize) {
+		this.pool = new DeflaterPool(level, true, DEFAULT_POOL_SIZE);
+		this.minimumSize = minimumSize;
+	}
+
 	@Override /* Encoder */
 	public OutputStream getOutputStream(OutputStream os) throws IOException {
-		return new FinishableGZIPOutputStream(os);
+		return pool.getOutputStream(os);
 	}
 
 	@Override /* Encoder */
 	public InputStream getInputStream(InputStream is) throws IOException {
-		return new GZIPInputStream(is);
+		return pool.getInputStream(is);
 	}
 
 	/**
@@ -38,9 +86,17 @@ public class GzipEncoder extends Encoder {
 		return new String[]{"gzip"};
 	}
 
-	private static class FinishableGZIPOutputStream extends GZIPOutputStream implements Finishable {
-		FinishableGZIPOutputStream(OutputStream out) throws IOException {
-			super(out);
-		}
+	@Override /* Encoder */
+	public int getMinimumSize() {
+		return minimumSize;
+	}
+
+	/**
+	 * Returns the compression level used by this encoder.
+	 *
+	 * @return The compression level (<c>0</c> through <c>9</c>, or <c>-1</c> for the default level).
+	 */
+	public int getLevel() {
+		return pool.getLevel();
 	}
 }
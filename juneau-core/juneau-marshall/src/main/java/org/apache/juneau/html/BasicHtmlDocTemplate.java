@@ -14,16 +14,25 @@ package org.apache.juneau.html;
 
 import static org.apache.juneau.html.AsideFloat.*;
 
+import java.util.regex.*;
+
 import org.apache.juneau.internal.*;
+import org.apache.juneau.svl.*;
 
 /**
  * A basic template for the HTML doc serializer.
  *
  * <p>
  * This class can be subclassed to customize page rendering.
+ *
+ * <p>
+ * The strings of the page settings are compiled once per serializer into literal text and variable slots, so only the
+ * variables are resolved when a page is rendered.
  */
 public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 
+	private static final Pattern NAVLINK_PATTERN = Pattern.compile("(?s)\\S+\\:.*");
+
 	@Override /* HtmlDocTemplate */
 	public void writeTo(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
 		w.sTag("html").nl(0);
@@ -46,9 +55,10 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 */
 	protected void head(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
 
-		String[] head = session.getHead();
+		VarResolverSession vs = session.getVarResolver();
+		TemplateString[] head = session.compiledHead;
 		for (int i = 0; i < head.length; i++)
-			w.sIf(i > 0).appendln(2, session.resolve(head[i]));
+			w.sIf(i > 0).appendln(2, head[i], vs);
 
 		if (hasStyle(session)) {
 			w.sTag(2, "style").nl(2);
@@ -71,13 +81,14 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 * @throws Exception Any exception can be thrown.
 	 */
 	protected void style(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
+		VarResolverSession vs = session.getVarResolver();
 		int i = 0;
-		for (String s : session.getStylesheet())
-			w.sIf(i++ > 0).append(3, "@import ").q().append(session.resolveUri(session.resolve(s))).q().appendln(";");
+		for (TemplateString s : session.compiledStylesheet)
+			w.sIf(i++ > 0).append(3, "@import ").q().append(session.resolveUri(s.resolve(vs))).q().appendln(";");
 		if (session.isNowrap())
 			w.appendln(3, "div.data * {white-space:nowrap;} ");
-		for (String s : session.getStyle())
-			w.sIf(i++ > 0).appendln(3, session.resolve(s));
+		for (TemplateString s : session.compiledStyle)
+			w.sIf(i++ > 0).appendln(3, s, vs);
 		for (HtmlWidget hw : session.getWidgets())
 			w.sIf(i++ > 0).appendln(3, session.resolve(hw.getStyle(session.getVarResolver())));
 	}
@@ -91,9 +102,10 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 * @throws Exception Any exception can be thrown.
 	 */
 	protected void script(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
+		VarResolverSession vs = session.getVarResolver();
 		int i = 0;
-		for (String s : session.getScript())
-			w.sIf(i++ > 0).append(3, session.resolve(s)).append('\n'); // Must always append a newline even if whitespace disabled!
+		for (TemplateString s : session.compiledScript)
+			w.sIf(i++ > 0).append(3, s, vs).append('\n'); // Must always append a newline even if whitespace disabled!
 		for (HtmlWidget hw : session.getWidgets())
 			w.sIf(i++ > 0).append(3, session.resolve(hw.getScript(session.getVarResolver()))).append('\n'); // Must always append a newline even if whitespace disabled!
 	}
@@ -176,9 +188,10 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 */
 	protected void header(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
 		// Write the title of the page.
-		String[] header = session.getHeader();
+		VarResolverSession vs = session.getVarResolver();
+		TemplateString[] header = session.compiledHeader;
 		for (int i = 0; i < header.length; i++)
-			w.sIf(i > 0).appendln(3, session.resolve(header[i]));
+			w.sIf(i > 0).appendln(3, header[i], vs);
 	}
 
 	/**
@@ -190,13 +203,14 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 * @throws Exception Any exception can be thrown.
 	 */
 	protected void nav(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
+		VarResolverSession vs = session.getVarResolver();
 		String[] links = session.getNavLinks();
 		if (links.length > 0 && ! ArrayUtils.contains("NONE", links)) {
 			w.sTag(3, "ol").nl(3);
-			for (String l : links) {
+			for (TemplateString tl : session.compiledNavlinks) {
 				w.sTag(4, "li");
-				l = session.resolve(l);
-				if (l.matches("(?s)\\S+\\:.*")) {
+				String l = tl.resolve(vs);
+				if (NAVLINK_PATTERN.matcher(l).matches()) {
 					int i = l.indexOf(':');
 					String key = l.substring(0, i);
 					String val = l.substring(i+1).trim();
@@ -212,10 +226,10 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 			}
 			w.eTag(3, "ol").nl(3);
 		}
-		String[] nav = session.getNav();
+		TemplateString[] nav = session.compiledNav;
 		if (nav.length > 0) {
 			for (int i = 0; i < nav.length; i++)
-				w.sIf(i > 0).appendln(3, session.resolve(nav[i]));
+				w.sIf(i > 0).appendln(3, nav[i], vs);
 		}
 	}
 
@@ -228,9 +242,10 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 * @throws Exception Any exception can be thrown.
 	 */
 	protected void aside(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
-		String[] aside = session.getAside();
+		VarResolverSession vs = session.getVarResolver();
+		TemplateString[] aside = session.compiledAside;
 		for (int i = 0; i < aside.length; i++)
-			w.sIf(i > 0).appendln(4, session.resolve(aside[i]));
+			w.sIf(i > 0).appendln(4, aside[i], vs);
 	}
 
 	/**
@@ -252,7 +267,7 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 		} else if (ObjectUtils.isEmpty(o)){
 			String m = session.getNoResultsMessage();
 			if (exists(m))
-				w.append(6, session.resolve(m)).nl(6);
+				w.append(6, session.compiledNoResultsMessage, session.getVarResolver()).nl(6);
 		} else {
 			session.indent = 6;
 			w.flush();
@@ -272,9 +287,10 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 * @throws Exception Any exception can be thrown.
 	 */
 	protected void footer(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
-		String[] footer = session.getFooter();
+		VarResolverSession vs = session.getVarResolver();
+		TemplateString[] footer = session.compiledFooter;
 		for (int i = 0; i < footer.length; i++)
-			w.sIf(i > 0).appendln(3, session.resolve(footer[i]));
+			w.sIf(i > 0).appendln(3, footer[i], vs);
 	}
 
 	/**
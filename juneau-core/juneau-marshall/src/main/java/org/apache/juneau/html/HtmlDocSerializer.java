@@ -753,6 +753,10 @@ public class HtmlDocSerializer extends HtmlStrippedDocSerializer {
 	private final HtmlDocTemplate template;
 	private final Map<String,HtmlWidget> widgets;
 
+	// The settings above compiled into literal text and variable slots for BasicHtmlDocTemplate.
+	final TemplateString[] compiledStyle, compiledStylesheet, compiledScript, compiledNavlinks, compiledHead, compiledHeader, compiledNav, compiledAside, compiledFooter;
+	final TemplateString compiledNoResultsMessage;
+
 	private volatile HtmlSchemaDocSerializer schemaSerializer;
 
 	/**
@@ -811,6 +815,17 @@ public class HtmlDocSerializer extends HtmlStrippedDocSerializer {
 		for (HtmlWidget w : getInstanceArrayProperty(HTMLDOC_widgets, HtmlWidget.class))
 			widgets.put(w.getName(), w);
 		this.widgets = Collections.unmodifiableMap(widgets);
+
+		compiledStyle = TemplateString.compile(ASet.of(style));
+		compiledStylesheet = TemplateString.compile(ASet.of(stylesheet));
+		compiledScript = TemplateString.compile(ASet.of(script));
+		compiledNavlinks = TemplateString.compile(navlinks);
+		compiledHead = TemplateString.compile(head);
+		compiledHeader = TemplateString.compile(header);
+		compiledNav = TemplateString.compile(nav);
+		compiledAside = TemplateString.compile(aside);
+		compiledFooter = TemplateString.compile(footer);
+		compiledNoResultsMessage = TemplateString.compile(noResultsMessage);
 	}
 
 	@Override /* Context */
@@ -1013,6 +1013,12 @@ public class HtmlDocSerializerBuilder extends HtmlStrippedDocSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public HtmlDocSerializerBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public HtmlDocSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -1037,6 +1043,12 @@ public class HtmlDocSerializerBuilder extends HtmlStrippedDocSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanTraverseBuilder */
+	public HtmlDocSerializerBuilder recursionScanDepth(int value) {
+		super.recursionScanDepth(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlDocSerializerBuilder addBeanTypes() {
 		super.addBeanTypes();
@@ -1061,6 +1073,12 @@ public class HtmlDocSerializerBuilder extends HtmlStrippedDocSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public HtmlDocSerializerBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlDocSerializerBuilder sortCollections() {
 		super.sortCollections();
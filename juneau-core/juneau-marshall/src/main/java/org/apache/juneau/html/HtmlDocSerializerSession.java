@@ -41,6 +41,11 @@ public class HtmlDocSerializerSession extends HtmlStrippedDocSerializerSession {
 	private final Set<String> style, stylesheet, script;
 	private final boolean nowrap;
 
+	// The settings above compiled into literal text and variable slots for BasicHtmlDocTemplate.
+	// Reuses the ones compiled by the serializer unless overridden by session properties.
+	final TemplateString[] compiledNavlinks, compiledHead, compiledHeader, compiledNav, compiledAside, compiledFooter, compiledStyle, compiledStylesheet, compiledScript;
+	final TemplateString compiledNoResultsMessage;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -62,13 +67,27 @@ public class HtmlDocSerializerSession extends HtmlStrippedDocSerializerSession {
 		navlinks = getProperty(HTMLDOC_navlinks, String[].class, ctx.getNavlinks());
 
 		// These can contain dups after variable resolution, so de-dup them with hashsets.
-		style = ASet.of(getProperty(HTMLDOC_style, String[].class, ctx.getStyle()));
-		stylesheet = ASet.of(getProperty(HTMLDOC_stylesheet, String[].class, ctx.getStylesheet()));
-		script = ASet.of(getProperty(HTMLDOC_script, String[].class, ctx.getScript()));
+		String[] style = getProperty(HTMLDOC_style, String[].class, ctx.getStyle());
+		String[] stylesheet = getProperty(HTMLDOC_stylesheet, String[].class, ctx.getStylesheet());
+		String[] script = getProperty(HTMLDOC_script, String[].class, ctx.getScript());
+		this.style = ASet.of(style);
+		this.stylesheet = ASet.of(stylesheet);
+		this.script = ASet.of(script);
 
 		head = getProperty(HTMLDOC_head, String[].class, ctx.getHead());
 		nowrap = getProperty(HTMLDOC_nowrap, boolean.class, ctx.isNowrap());
 
+		compiledNavlinks = navlinks == ctx.getNavlinks() ? ctx.compiledNavlinks : TemplateString.compile(navlinks);
+		compiledHead = head == ctx.getHead() ? ctx.compiledHead : TemplateString.compile(head);
+		compiledHeader = header == ctx.getHeader() ? ctx.compiledHeader : TemplateString.compile(header);
+		compiledNav = nav == ctx.getNav() ? ctx.compiledNav : TemplateString.compile(nav);
+		compiledAside = aside == ctx.getAside() ? ctx.compiledAside : TemplateString.compile(aside);
+		compiledFooter = footer == ctx.getFooter() ? ctx.compiledFooter : TemplateString.compile(footer);
+		compiledStyle = style == ctx.getStyle() ? ctx.compiledStyle : TemplateString.compile(this.style);
+		compiledStylesheet = stylesheet == ctx.getStylesheet() ? ctx.compiledStylesheet : TemplateString.compile(this.stylesheet);
+		compiledScript = script == ctx.getScript() ? ctx.compiledScript : TemplateString.compile(this.script);
+		compiledNoResultsMessage = ctx.compiledNoResultsMessage;
+
 		varSessionObject(HtmlWidgetVar.SESSION_htmlWidgets, ctx.getWidgets());
 	}
 
@@ -490,6 +490,12 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public HtmlParserBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public HtmlParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -508,6 +514,12 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public HtmlParserBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public HtmlParserBuilder strict() {
 		super.strict();
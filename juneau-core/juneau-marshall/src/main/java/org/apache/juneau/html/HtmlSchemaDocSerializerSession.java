@@ -50,4 +50,10 @@ public class HtmlSchemaDocSerializerSession extends HtmlDocSerializerSession {
 			throw new SerializeException(e);
 		}
 	}
+
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		genSession.reset();
+	}
 }
@@ -667,6 +667,12 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public HtmlSchemaSerializerBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public HtmlSchemaSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -691,6 +697,12 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanTraverseBuilder */
+	public HtmlSchemaSerializerBuilder recursionScanDepth(int value) {
+		super.recursionScanDepth(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlSchemaSerializerBuilder addBeanTypes() {
 		super.addBeanTypes();
@@ -715,6 +727,12 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public HtmlSchemaSerializerBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlSchemaSerializerBuilder sortCollections() {
 		super.sortCollections();
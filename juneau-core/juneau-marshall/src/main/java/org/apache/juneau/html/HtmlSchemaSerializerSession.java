@@ -52,6 +52,12 @@ public class HtmlSchemaSerializerSession extends HtmlSerializerSession {
 		}
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		genSession.reset();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
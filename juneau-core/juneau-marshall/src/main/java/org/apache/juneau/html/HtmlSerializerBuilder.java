@@ -583,6 +583,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public HtmlSerializerBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public HtmlSerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -607,6 +613,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanTraverseBuilder */
+	public HtmlSerializerBuilder recursionScanDepth(int value) {
+		super.recursionScanDepth(value);
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlSerializerBuilder addBeanTypes() {
 		super.addBeanTypes();
@@ -631,6 +643,12 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - SerializerBuilder */
+	public HtmlSerializerBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - SerializerBuilder */
 	public HtmlSerializerBuilder sortCollections() {
 		super.sortCollections();
@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.io.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.svl.*;
 import org.apache.juneau.xml.*;
 
 /**
@@ -296,6 +297,43 @@ public class HtmlWriter extends XmlWriter {
 		return this;
 	}
 
+	/**
+	 * Same as {@link #appendln(int, String)} but for a compiled template string.
+	 *
+	 * @param indent The number of tabs to indent.
+	 * @param text The text to write.
+	 * @param vs The var resolver session for resolving the variables in the text.
+	 * @return This object (for method chaining).
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 */
+	HtmlWriter appendln(int indent, TemplateString text, VarResolverSession vs) throws IOException {
+		return append(indent, true, text, vs);
+	}
+
+	/**
+	 * Same as {@link #append(int, String)} but for a compiled template string.
+	 *
+	 * @param indent The number of tabs to indent.
+	 * @param text The text to write.
+	 * @param vs The var resolver session for resolving the variables in the text.
+	 * @return This object (for method chaining).
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 */
+	HtmlWriter append(int indent, TemplateString text, VarResolverSession vs) throws IOException {
+		return append(indent, false, text, vs);
+	}
+
+	private HtmlWriter append(int indent, boolean newline, TemplateString text, VarResolverSession vs) throws IOException {
+		// Multi-line text is indented line by line, so that needs the whole resolved string.
+		// Otherwise the literal parts are written as-is and only the variables are resolved.
+		if (text.isLiteral() || (useWhitespace && indent <= maxIndent)) {
+			String s = text.resolve(vs);
+			return newline ? appendln(indent, s) : append(indent, s);
+		}
+		text.resolveTo(vs, out);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public HtmlWriter append(int indent, char c) throws IOException {
 		super.append(indent, c);
@@ -308,6 +346,12 @@ public class HtmlWriter extends XmlWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public HtmlWriter sIf(boolean b) throws IOException {
+		super.sIf(b);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public HtmlWriter q() throws IOException {
 		super.q();
@@ -0,0 +1,229 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.html;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.svl.*;
+
+/**
+ * A string from the settings of an {@link HtmlDocSerializer} split once into literal text and variable slots.
+ *
+ * <p>
+ * Literal text is written as-is and only the <js>"$X{...}"</js> slots go through the var resolver, so the strings used
+ * by {@link BasicHtmlDocTemplate} aren't rescanned for variables every time a page is rendered.
+ * <br>The output is the same as calling {@link VarResolverSession#resolve(String)} on the whole string.
+ */
+final class TemplateString {
+
+	private static final AsciiSet
+		AS1 = AsciiSet.create("\\{"),
+		AS2 = AsciiSet.create("\\${}")
+	;
+
+	static final TemplateString[] EMPTY = new TemplateString[0];
+
+	// Literal text at even indexes and variable slots at odd indexes.
+	private final String[] parts;
+
+	// If not null, the whole string is resolved at once (strings consisting of a single variable or that can't be split).
+	private final String whole;
+
+	private TemplateString(String[] parts, String whole) {
+		this.parts = parts;
+		this.whole = whole;
+	}
+
+	/**
+	 * Compiles the specified strings.
+	 *
+	 * @param s The strings to compile.
+	 * @return The compiled strings.
+	 */
+	static TemplateString[] compile(Collection<String> s) {
+		if (s.isEmpty())
+			return EMPTY;
+		TemplateString[] ts = new TemplateString[s.size()];
+		int i = 0;
+		for (String x : s)
+			ts[i++] = compile(x);
+		return ts;
+	}
+
+	/**
+	 * Compiles the specified strings.
+	 *
+	 * @param s The strings to compile.
+	 * @return The compiled strings.
+	 */
+	static TemplateString[] compile(String[] s) {
+		return compile(Arrays.asList(s));
+	}
+
+	/**
+	 * Compiles the specified string.
+	 *
+	 * <p>
+	 * Splits the string the same way as {@link VarResolverSession#resolveTo(String, Writer)} so that escapes, false
+	 * triggers and unterminated variables end up in the literal text.
+	 *
+	 * @param s The string to compile.
+	 * @return The compiled string.
+	 */
+	static TemplateString compile(String s) {
+
+		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
+			return new TemplateString(new String[]{s}, null);
+
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+
+		List<String> parts = new ArrayList<>();
+		StringBuilder sb = new StringBuilder();
+		int state = S1;
+		boolean isInEscape = false;
+		boolean hasInternalVar = false;
+		boolean hasInnerEscapes = false;
+		String varType = null;
+		int x = 0, x2 = 0;
+		int depth = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (isInEscape) {
+					if (c == '\\' || c == '$') {
+						sb.append(c);
+					} else {
+						sb.append('\\').append(c);
+					}
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+				} else if (c == '$') {
+					x = i;
+					x2 = i;
+					state = S2;
+				} else {
+					sb.append(c);
+				}
+			} else if (state == S2) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					hasInnerEscapes = true;
+					isInEscape = true;
+				} else if (c == '{') {
+					varType = s.substring(x+1, i);
+					x = i;
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
+					if (hasInnerEscapes)
+						sb.append(unEscapeChars(s.substring(x, i+1), AS1));
+					else
+						sb.append(s, x, i+1);
+					x = i + 1;
+					state = S1;
+					hasInnerEscapes = false;
+				}
+			} else if (state == S3) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+					hasInnerEscapes = true;
+				} else if (c == '{') {
+					depth++;
+					hasInternalVar = true;
+				} else if (c == '}') {
+					if (depth > 0) {
+						depth--;
+					} else {
+						// The resolver keeps resolving nested values in later variables once it has seen a nested one.
+						if (hasInternalVar && ! parts.isEmpty())
+							return new TemplateString(null, s);
+						parts.add(sb.toString());
+						parts.add(s.substring(x2, i+1));
+						sb.setLength(0);
+						x = i+1;
+						state = S1;
+						hasInnerEscapes = false;
+					}
+				}
+			}
+		}
+		if (isInEscape)
+			sb.append('\\');
+		else if (state == S2)
+			sb.append('$').append(unEscapeChars(s.substring(x+1), AS1));
+		else if (state == S3)
+			sb.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), AS2));
+		parts.add(sb.toString());
+
+		if (parts.size() == 3 && parts.get(0).isEmpty() && parts.get(2).isEmpty())
+			return new TemplateString(null, s);
+		return new TemplateString(parts.toArray(new String[parts.size()]), null);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this string doesn't contain any variables.
+	 *
+	 * @return <jk>true</jk> if this string doesn't contain any variables.
+	 */
+	boolean isLiteral() {
+		return whole == null && parts.length == 1;
+	}
+
+	/**
+	 * Resolves the variables in this string.
+	 *
+	 * @param vs The var resolver session.
+	 * @return The resolved string.
+	 */
+	String resolve(VarResolverSession vs) {
+		if (whole != null)
+			return vs.resolve(whole);
+		if (parts.length == 1)
+			return parts[0];
+		try {
+			return resolveTo(vs, new StringWriter()).toString();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens.
+		}
+	}
+
+	/**
+	 * Resolves the variables in this string and sends the output to the specified writer.
+	 *
+	 * @param vs The var resolver session.
+	 * @param out The writer to write to.
+	 * @return The same writer.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	Writer resolveTo(VarResolverSession vs, Writer out) throws IOException {
+		if (whole != null)
+			return out.append(vs.resolve(whole));
+		for (int i = 0; i < parts.length; i++) {
+			if (i % 2 == 0)
+				out.write(parts[i]);
+			else
+				vs.resolveTo(parts[i], out);
+		}
+		return out;
+	}
+}
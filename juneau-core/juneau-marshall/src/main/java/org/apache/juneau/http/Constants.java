@@ -26,4 +26,18 @@ public class Constants {
 
 	/** Maximum cache size of HTTP artifacts. */
 	public static int CACHE_MAX_SIZE = Integer.getInteger("juneau.http.cache.maxSize", 1000);
+
+	/**
+	 * Returns the maximum cache size for the specified HTTP artifact type.
+	 *
+	 * <p>
+	 * Individual artifact caches can be sized through the <js>"juneau.http.cache.maxSize.&lt;name&gt;"</js> system
+	 * property (e.g. <js>"juneau.http.cache.maxSize.Accept"</js>), falling back to {@link #CACHE_MAX_SIZE}.
+	 *
+	 * @param name The simple name of the artifact type (e.g. <js>"Accept"</js>).
+	 * @return The maximum cache size for the specified artifact type.
+	 */
+	public static int cacheMaxSize(String name) {
+		return Integer.getInteger("juneau.http.cache.maxSize." + name, CACHE_MAX_SIZE);
+	}
 }
@@ -49,7 +49,7 @@ import org.apache.juneau.internal.*;
 public class MediaRanges {
 
 	private static final MediaRanges DEFAULT = new MediaRanges("");
-	private static final Cache<String,MediaRanges> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,MediaRanges> CACHE = new Cache<>(NOCACHE, cacheMaxSize("MediaRanges"));
 
 	private final MediaRange[] ranges;
 	private final String string;
@@ -37,7 +37,7 @@ import org.apache.juneau.json.*;
 @BeanIgnore
 public class MediaType implements Comparable<MediaType>  {
 
-	private static final Cache<String,MediaType> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,MediaType> CACHE = new Cache<>(NOCACHE, cacheMaxSize("MediaType"));
 
 	/** Reusable predefined media type */
 	@SuppressWarnings("javadoc")
@@ -55,7 +55,7 @@ import org.apache.juneau.internal.*;
 public class StringRanges {
 
 	private static final StringRanges DEFAULT = new StringRanges("");
-	private static final Cache<String,StringRanges> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,StringRanges> CACHE = new Cache<>(NOCACHE, cacheMaxSize("StringRanges"));
 
 	private final StringRange[] ranges;
 	private final String string;
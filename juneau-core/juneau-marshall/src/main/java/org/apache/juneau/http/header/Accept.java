@@ -146,7 +146,7 @@ public class Accept extends BasicMediaRangeArrayHeader {
 
 	private static final long serialVersionUID = 1L;
 
-	private static final Cache<String,Accept> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,Accept> CACHE = new Cache<>(NOCACHE, cacheMaxSize("Accept"));
 
 	/**
 	 * Returns a parsed and cached header.
@@ -78,7 +78,7 @@ public class AcceptCharset extends BasicStringRangeArrayHeader {
 
 	private static final long serialVersionUID = 1L;
 
-	private static final Cache<String,AcceptCharset> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,AcceptCharset> CACHE = new Cache<>(NOCACHE, cacheMaxSize("AcceptCharset"));
 
 	/**
 	 * Returns a parsed and cached header.
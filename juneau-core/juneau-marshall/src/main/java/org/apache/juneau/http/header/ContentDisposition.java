@@ -54,7 +54,7 @@ public class ContentDisposition extends BasicStringRangeArrayHeader {
 
 	private static final long serialVersionUID = 1L;
 
-	private static final Cache<String,ContentDisposition> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,ContentDisposition> CACHE = new Cache<>(NOCACHE, cacheMaxSize("ContentDisposition"));
 
 	/**
 	 * Returns a parsed and cached header.
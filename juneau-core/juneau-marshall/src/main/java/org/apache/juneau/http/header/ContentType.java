@@ -57,7 +57,7 @@ public class ContentType extends BasicMediaTypeHeader {
 
 	private static final long serialVersionUID = 1L;
 
-	private static Cache<String,ContentType> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static Cache<String,ContentType> CACHE = new Cache<>(NOCACHE, cacheMaxSize("ContentType"));
 
 	/**
 	 * Returns a parsed and cached <c>Content-Type</c> header.
@@ -95,7 +95,7 @@ public class TE extends BasicStringRangeArrayHeader {
 
 	private static final long serialVersionUID = 1L;
 
-	private static final Cache<String,TE> CACHE = new Cache<>(NOCACHE, CACHE_MAX_SIZE);
+	private static final Cache<String,TE> CACHE = new Cache<>(NOCACHE, cacheMaxSize("TE"));
 
 	/**
 	 * Returns a parsed and cached header.
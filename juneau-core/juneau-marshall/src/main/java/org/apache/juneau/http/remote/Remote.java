@@ -126,4 +126,45 @@ public @interface Remote {
 	 * </ul>
 	 */
 	String versionHeader() default "";
+
+	/**
+	 * Maximum number of calls coalesced into a single HTTP request on RRPC interface proxies.
+	 *
+	 * <p>
+	 * When this value is greater than <c>1</c>, calls made through proxies created by
+	 * <c>RestClient.getRrpcInterface(...)</c> are batched.
+	 * <br>The first call in a batch waits up to {@link #batchWindow()} for other calls to the same interface
+	 * (or until this many calls are queued), and then all the calls are sent as one <c>POST</c> request.
+	 * <br>Each caller still blocks until its own result is available, and results and exceptions are delivered to
+	 * the calls they belong to.
+	 *
+	 * <p>
+	 * The interface must be served by an <c>RRPC</c> REST method on the server side.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver}
+	 * 		(e.g. <js>"$P{mySystemProperty}"</js>).
+	 * </ul>
+	 */
+	String batchSize() default "";
+
+	/**
+	 * Time to wait for more calls before sending a batch on RRPC interface proxies.
+	 *
+	 * <p>
+	 * Only used when {@link #batchSize()} is greater than <c>1</c>.
+	 *
+	 * <p>
+	 * The value is in milliseconds, or a duration string such as <js>"1s"</js>
+	 * (see {@link org.apache.juneau.internal.StringUtils#getDuration(String)}).
+	 * <br>The default is <js>"10"</js> milliseconds.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver}
+	 * 		(e.g. <js>"$P{mySystemProperty}"</js>).
+	 * </ul>
+	 */
+	String batchWindow() default "";
 }
@@ -18,6 +18,7 @@ import java.util.*;
 
 import org.apache.juneau.collections.*;
 import org.apache.juneau.reflect.*;
+import org.apache.juneau.svl.*;
 
 /**
  * Contains the meta-data about a remote proxy REST interface.
@@ -31,10 +32,40 @@ import org.apache.juneau.reflect.*;
  */
 public class RrpcInterfaceMeta {
 
+	/**
+	 * The path that batched calls are posted to, relative to the interface URI.
+	 *
+	 * <p>
+	 * Method paths always contain a <js>'/'</js> character so this path can never clash with one.
+	 */
+	public static final String BATCH_PATH = "_batch";
+
+	/**
+	 * The request header listing the methods of the calls in a batch.
+	 *
+	 * <p>
+	 * See {@link #encodeBatch(List)} for the format.
+	 */
+	public static final String BATCH_HEADER = "Rrpc-Batch";
+
+	/**
+	 * The response header listing the zero-based indexes of the calls in a batch that threw exceptions.
+	 *
+	 * <p>
+	 * The value is a comma-delimited list of indexes.
+	 * <br>The results at these indexes are maps containing <js>"name"</js> and <js>"message"</js> entries describing
+	 * the exception.
+	 */
+	public static final String BATCH_ERRORS_HEADER = "Rrpc-Batch-Errors";
+
+	private static final long DEFAULT_BATCH_WINDOW = 10;
+
 	private final Map<Method,RrpcInterfaceMethodMeta> methods;
 	private final Map<String,RrpcInterfaceMethodMeta> methodsByPath;
 	private final String path;
 	private final Class<?> c;
+	private final int batchSize;
+	private final long batchWindow;
 
 	/**
 	 * Constructor.
@@ -49,11 +80,18 @@ public class RrpcInterfaceMeta {
 	public RrpcInterfaceMeta(Class<?> c, String uri) {
 		this.c = c;
 		String path = "";
+		int batchSize = 0;
+		long batchWindow = DEFAULT_BATCH_WINDOW;
 		ClassInfo ci = ClassInfo.of(c);
 
-		for (Remote r : ci.getAnnotations(Remote.class))
+		for (Remote r : ci.getAnnotations(Remote.class)) {
 			if (! r.path().isEmpty())
 				path = trimSlashes(r.path());
+			if (! r.batchSize().isEmpty())
+				batchSize = Integer.parseInt(resolve(r.batchSize()));
+			if (! r.batchWindow().isEmpty())
+				batchWindow = getDuration(resolve(r.batchWindow()));
+		}
 
 		AMap<Method,RrpcInterfaceMethodMeta> methods = AMap.of();
 		for (MethodInfo m : ci.getPublicMethods())
@@ -66,6 +104,62 @@ public class RrpcInterfaceMeta {
 		this.methods = methods.unmodifiable();
 		this.methodsByPath = methodsByPath.unmodifiable();
 		this.path = path;
+		this.batchSize = batchSize;
+		this.batchWindow = batchWindow;
+	}
+
+	/**
+	 * Encodes the methods of the calls in a batch as the value of the {@link #BATCH_HEADER} header.
+	 *
+	 * <p>
+	 * The value is a comma-delimited list with one entry per call.
+	 * <br>The first call to a method is identified by its URL-encoded path.
+	 * <br>Later calls to the same method are identified by the index of that first call, which keeps the header short
+	 * when the same method is called repeatedly.
+	 *
+	 * @param calls The methods of the calls in the batch, in order.
+	 * @return The encoded header value.
+	 */
+	public static String encodeBatch(List<RrpcInterfaceMethodMeta> calls) {
+		StringBuilder sb = new StringBuilder();
+		Map<RrpcInterfaceMethodMeta,Integer> seen = new HashMap<>();
+		for (int i = 0; i < calls.size(); i++) {
+			RrpcInterfaceMethodMeta m = calls.get(i);
+			if (i > 0)
+				sb.append(',');
+			Integer j = seen.putIfAbsent(m, i);
+			if (j == null)
+				sb.append(urlEncode(m.getPath()));
+			else
+				sb.append(j);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Decodes the value of a {@link #BATCH_HEADER} header back into method metadata.
+	 *
+	 * @param value The header value created by {@link #encodeBatch(List)}.
+	 * @return
+	 * 	The methods of the calls in the batch, in order.
+	 * 	<br>Entries are <jk>null</jk> for methods not found on this interface.
+	 * @throws IllegalArgumentException If the value is malformed.
+	 */
+	public List<RrpcInterfaceMethodMeta> decodeBatch(String value) {
+		List<RrpcInterfaceMethodMeta> l = new ArrayList<>();
+		if (isEmpty(value))
+			return l;
+		for (String s : split(value, ',')) {
+			if (isNumeric(s)) {
+				int i = Integer.parseInt(s);
+				if (i < 0 || i >= l.size())
+					throw new IllegalArgumentException("Invalid batch reference: " + s);
+				l.add(l.get(i));
+			} else {
+				l.add(methodsByPath.get(urlDecode(s)));
+			}
+		}
+		return l;
 	}
 
 	/**
@@ -122,4 +216,37 @@ public class RrpcInterfaceMeta {
 	public String getPath() {
 		return path;
 	}
+
+	/**
+	 * Returns the maximum number of calls coalesced into a single HTTP request.
+	 *
+	 * @return
+	 * 	The value of {@link Remote#batchSize()}, or <c>0</c> if not specified.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Returns the time in milliseconds to wait for more calls before sending a batch.
+	 *
+	 * @return
+	 * 	The value of {@link Remote#batchWindow()}, or <c>10</c> if not specified.
+	 */
+	public long getBatchWindow() {
+		return batchWindow;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if calls made through proxies of this interface should be batched.
+	 *
+	 * @return <jk>true</jk> if {@link Remote#batchSize()} is greater than <c>1</c>.
+	 */
+	public boolean isBatched() {
+		return batchSize > 1;
+	}
+
+	private static String resolve(String s) {
+		return VarResolver.DEFAULT.resolve(s);
+	}
 }
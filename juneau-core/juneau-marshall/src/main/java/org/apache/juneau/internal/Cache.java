@@ -13,34 +13,53 @@
 package org.apache.juneau.internal;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
- * Simple in-memory cache of objects.
+ * Simple bounded in-memory cache of objects.
  *
  * <p>
- * Essentially just a wrapper around a ConcurrentHashMap.
+ * Entries are evicted incrementally once the maximum size is exceeded using a frequency-aware clock algorithm:
+ * every lookup hit bumps a small saturating counter on the entry, and the eviction sweep walks entries in insertion
+ * order decrementing counters and evicting the first entry whose counter has dropped to zero.
+ * <br>Frequently-used entries therefore survive floods of one-off keys, and the cache never has to be flushed in its
+ * entirety.
+ *
+ * <p>
+ * Hit, miss, and eviction counts are tracked and can be retrieved through {@link #getHits()}, {@link #getMisses()},
+ * and {@link #getEvictions()}.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public class Cache<K,V> {
+
+	private static final int MAX_FREQUENCY = 3;
+
 	private final boolean nocache;
 	private final int maxSize;
-	private final ConcurrentHashMap<K,V> cache;
+	private final ConcurrentHashMap<K,Entry<V>> cache;
+	private final ConcurrentLinkedQueue<K> clock;
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
 
 	/**
 	 * Constructor.
 	 *
 	 * @param disabled If <jk>true</jk> then the cache is disabled.
-	 * @param maxSize The maximum size of the cache.  If this threshold is reached, the cache is flushed.
+	 * @param maxSize
+	 * 	The maximum size of the cache.
+	 * 	<br>If this threshold is exceeded, the least-frequently-used entries are evicted one at a time.
 	 */
 	public Cache(boolean disabled, int maxSize) {
 		this.nocache = disabled;
-		this.maxSize = maxSize;
-		if (! nocache)
+		this.maxSize = Math.max(maxSize, 0);
+		if (! nocache) {
 			cache = new ConcurrentHashMap<>();
-		else
+			clock = new ConcurrentLinkedQueue<>();
+		} else {
 			cache = null;
+			clock = null;
+		}
 	}
 
 	/**
@@ -52,7 +71,14 @@ public class Cache<K,V> {
 	public V get(K key) {
 		if (nocache || key == null)
 			return null;
-		return cache.get(key);
+		Entry<V> e = cache.get(key);
+		if (e == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		e.touch();
+		return e.value;
 	}
 
 	/**
@@ -65,19 +91,115 @@ public class Cache<K,V> {
 	 * 	Always returns the same value if the cache is disabled.
 	 */
 	public V put(K key, V value) {
-		if (nocache || key == null)
+		if (nocache || key == null || value == null)
 			return value;
 
-		// Prevent OOM in case of DDOS
-		if (cache.size() > maxSize)
-			cache.clear();
+		Entry<V> e = cache.putIfAbsent(key, new Entry<>(value));
+		if (e != null)
+			return e.value;
 
-		while (true) {
-			V v = cache.get(key);
-			if (v != null)
-				return v;
-			cache.putIfAbsent(key, value);
-			return value;
+		clock.offer(key);
+		evict();
+		return value;
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 *
+	 * <p>
+	 * Does not reset the hit/miss/eviction counters.
+	 */
+	public void clear() {
+		if (nocache)
+			return;
+		cache.clear();
+		clock.clear();
+	}
+
+	/**
+	 * Returns the number of entries currently in this cache.
+	 *
+	 * @return The number of entries currently in this cache.
+	 */
+	public int size() {
+		return nocache ? 0 : cache.size();
+	}
+
+	/**
+	 * Returns the maximum number of entries this cache will hold.
+	 *
+	 * @return The maximum number of entries this cache will hold.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that found a value.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that did not find a value.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of entries that have been evicted to keep this cache within its maximum size.
+	 *
+	 * @return The number of evicted entries.
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "Cache[size=" + size() + ",maxSize=" + maxSize + ",hits=" + getHits() + ",misses=" + getMisses() + ",evictions=" + getEvictions() + "]";
+	}
+
+	/*
+	 * Sweeps the clock until the cache is back within its maximum size.
+	 * Entries with a non-zero frequency get their frequency decremented and are moved to the back of the queue.
+	 */
+	private void evict() {
+		while (cache.size() > maxSize) {
+			K k = clock.poll();
+			if (k == null)
+				return;
+			Entry<V> e = cache.get(k);
+			if (e == null)
+				continue;
+			if (e.frequency > 0) {
+				e.frequency--;
+				clock.offer(k);
+			} else if (cache.remove(k, e)) {
+				evictions.increment();
+			}
+		}
+	}
+
+	private static final class Entry<V> {
+		final V value;
+		volatile int frequency;
+
+		Entry(V value) {
+			this.value = value;
+		}
+
+		void touch() {
+			// Racy increments are fine here since the counter is only a hint.
+			int f = frequency;
+			if (f < MAX_FREQUENCY)
+				frequency = f + 1;
 		}
 	}
 }
@@ -0,0 +1,121 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static java.lang.invoke.MethodType.*;
+
+import java.lang.invoke.*;
+import java.lang.invoke.MethodHandles.*;
+import java.lang.reflect.*;
+import java.util.function.*;
+
+import org.apache.juneau.reflect.*;
+
+/**
+ * Creates bean property accessors using {@link LambdaMetafactory} so that invocations become direct calls instead of
+ * going through {@link Method#invoke(Object, Object...)}.
+ *
+ * <p>
+ * Accessors are spun in the context of the class that declares the method so that non-public classes and
+ * classes loaded by other class loaders are supported.
+ * <br>If an accessor cannot be created (e.g. the JVM doesn't allow private access to the declaring class), the
+ * factory methods return <jk>null</jk> and callers are expected to fall back to reflection.
+ */
+public final class LambdaAccessors {
+
+	private static final MethodType
+		GETTER_FACTORY = methodType(Function.class),
+		GETTER_SAM = methodType(Object.class, Object.class),
+		SETTER_FACTORY = methodType(BiConsumer.class),
+		SETTER_SAM = methodType(void.class, Object.class, Object.class);
+
+	private static final ClassValue<Lookup> LOOKUPS = new ClassValue<Lookup>() {
+		@Override
+		protected Lookup computeValue(Class<?> c) {
+			return findLookup(c);
+		}
+	};
+
+	/**
+	 * Creates a function that calls the specified no-arg getter method.
+	 *
+	 * @param m The getter method.
+	 * @return A function that calls the getter on its argument, or <jk>null</jk> if one could not be created.
+	 */
+	@SuppressWarnings("unchecked")
+	public static Function<Object,Object> getter(Method m) {
+		if (m == null || Modifier.isStatic(m.getModifiers()) || m.getParameterCount() != 0)
+			return null;
+		Class<?> c = m.getDeclaringClass();
+		Lookup l = LOOKUPS.get(c);
+		if (l == null)
+			return null;
+		try {
+			MethodType mt = methodType(ClassInfo.of(m.getReturnType()).getWrapperIfPrimitive(), c);
+			CallSite cs = LambdaMetafactory.metafactory(l, "apply", GETTER_FACTORY, GETTER_SAM, l.unreflect(m), mt);
+			return (Function<Object,Object>)cs.getTarget().invoke();
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Creates a consumer that calls the specified single-arg setter method.
+	 *
+	 * <p>
+	 * The return value of the setter (e.g. fluent setters) is ignored.
+	 *
+	 * @param m The setter method.
+	 * @return A consumer that calls the setter on its first argument, or <jk>null</jk> if one could not be created.
+	 */
+	@SuppressWarnings("unchecked")
+	public static BiConsumer<Object,Object> setter(Method m) {
+		if (m == null || Modifier.isStatic(m.getModifiers()) || m.getParameterCount() != 1)
+			return null;
+		Class<?> c = m.getDeclaringClass();
+		Lookup l = LOOKUPS.get(c);
+		if (l == null)
+			return null;
+		try {
+			MethodType mt = methodType(void.class, c, ClassInfo.of(m.getParameterTypes()[0]).getWrapperIfPrimitive());
+			CallSite cs = LambdaMetafactory.metafactory(l, "accept", SETTER_FACTORY, SETTER_SAM, l.unreflect(m), mt);
+			return (BiConsumer<Object,Object>)cs.getTarget().invoke();
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns a lookup with private access to the specified class.
+	 *
+	 * <p>
+	 * Uses <c>MethodHandles.privateLookupIn(Class,Lookup)</c> on Java 9+, and the private <c>Lookup(Class)</c>
+	 * constructor on Java 8.
+	 */
+	private static Lookup findLookup(Class<?> c) {
+		try {
+			Method m = MethodHandles.class.getMethod("privateLookupIn", Class.class, Lookup.class);
+			return (Lookup)m.invoke(null, c, MethodHandles.lookup());
+		} catch (NoSuchMethodException e) {
+			try {
+				Constructor<Lookup> cc = Lookup.class.getDeclaredConstructor(Class.class);
+				cc.setAccessible(true);
+				return cc.newInstance(c);
+			} catch (Exception e2) {
+				return null;
+			}
+		} catch (Exception e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+/**
+ * An immutable lookup table of string keys that can be queried with a range of a <c>char</c> array.
+ *
+ * <p>
+ * Used by parsers to match names against a known set of keys directly from their read buffers without having to
+ * first create a {@link String} for every name read.
+ *
+ * <p>
+ * Keys are stored in an open-addressed array using the same hash as {@link String#hashCode()}.
+ *
+ * @param <V> The value type.
+ */
+public final class NameTable<V> {
+
+	private final String[] keys;
+	private final Object[] values;
+	private final int mask;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param m The entries to add to this table.  Entries with <jk>null</jk> keys or values are ignored.
+	 */
+	public NameTable(Map<String,? extends V> m) {
+		int size = 2;
+		while (size < m.size() * 2)
+			size <<= 1;
+		keys = new String[size];
+		values = new Object[size];
+		mask = size - 1;
+		for (Map.Entry<String,? extends V> e : m.entrySet()) {
+			String k = e.getKey();
+			V v = e.getValue();
+			if (k == null || v == null)
+				continue;
+			int i = index(k.hashCode());
+			while (keys[i] != null && ! keys[i].equals(k))
+				i = (i + 1) & mask;
+			keys[i] = k;
+			values[i] = v;
+		}
+	}
+
+	/**
+	 * Returns the value for the specified key.
+	 *
+	 * @param key The key.
+	 * @return The value, or <jk>null</jk> if the key is not in this table.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(String key) {
+		if (key == null)
+			return null;
+		for (int i = index(key.hashCode()); keys[i] != null; i = (i + 1) & mask)
+			if (keys[i].equals(key))
+				return (V)values[i];
+		return null;
+	}
+
+	/**
+	 * Returns the value for the key formed by the specified range of characters.
+	 *
+	 * @param buff The character buffer.
+	 * @param off The offset of the first character of the key.
+	 * @param len The number of characters in the key.
+	 * @return The value, or <jk>null</jk> if the key is not in this table.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(char[] buff, int off, int len) {
+		int h = 0;
+		for (int j = 0; j < len; j++)
+			h = 31 * h + buff[off + j];
+		for (int i = index(h); keys[i] != null; i = (i + 1) & mask)
+			if (matches(keys[i], buff, off, len))
+				return (V)values[i];
+		return null;
+	}
+
+	private int index(int h) {
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private static boolean matches(String k, char[] buff, int off, int len) {
+		if (k.length() != len)
+			return false;
+		for (int j = 0; j < len; j++)
+			if (k.charAt(j) != buff[off + j])
+				return false;
+		return true;
+	}
+}
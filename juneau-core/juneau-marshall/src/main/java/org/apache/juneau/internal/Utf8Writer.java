@@ -0,0 +1,213 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+
+/**
+ * A buffered {@link Writer} that encodes characters as UTF-8 directly into an {@link OutputStream}.
+ *
+ * <p>
+ * Equivalent to an {@link OutputStreamWriter} with a UTF-8 charset wrapped in a {@link BufferedWriter}, but without
+ * the intermediate {@link java.nio.charset.CharsetEncoder} and char buffer layers.
+ * <br>ASCII characters are copied to the byte buffer with a single store.
+ *
+ * <p>
+ * Also allows already-encoded byte sequences to be written through {@link #writeBytes(byte[])} so that frequently
+ * written tokens only need to be encoded once.
+ *
+ * <p>
+ * Unpaired surrogate characters are written as <js>'?'</js>, which is the same replacement used by
+ * {@link OutputStreamWriter}.
+ *
+ * <p>
+ * This class is not thread safe.
+ */
+public final class Utf8Writer extends Writer {
+
+	private final OutputStream out;
+	private final byte[] buf;
+	private int pos;
+	private char highSurrogate;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The stream to write the encoded bytes to.
+	 */
+	public Utf8Writer(OutputStream out) {
+		this(out, 8192);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The stream to write the encoded bytes to.
+	 * @param bufferSize The size of the byte buffer.  Must be at least 4.
+	 */
+	public Utf8Writer(OutputStream out, int bufferSize) {
+		this.out = out;
+		this.buf = new byte[Math.max(bufferSize, 4)];
+	}
+
+	/**
+	 * Writes the specified already-encoded UTF-8 bytes.
+	 *
+	 * @param b The bytes to write.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public Utf8Writer writeBytes(byte[] b) throws IOException {
+		if (highSurrogate != 0)
+			unpaired();
+		int len = b.length;
+		if (len > buf.length - pos) {
+			flushBuffer();
+			if (len > buf.length) {
+				out.write(b);
+				return this;
+			}
+		}
+		System.arraycopy(b, 0, buf, pos, len);
+		pos += len;
+		return this;
+	}
+
+	@Override /* Writer */
+	public void write(int c) throws IOException {
+		if (c < 0x80 && highSurrogate == 0) {
+			if (pos == buf.length)
+				flushBuffer();
+			buf[pos++] = (byte)c;
+		} else {
+			encode((char)c);
+		}
+	}
+
+	@Override /* Writer */
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		int end = off + len;
+		while (off < end) {
+			char c = cbuf[off++];
+			if (c < 0x80 && highSurrogate == 0) {
+				if (pos == buf.length)
+					flushBuffer();
+				buf[pos++] = (byte)c;
+			} else {
+				encode(c);
+			}
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String s, int off, int len) throws IOException {
+		int end = off + len;
+		while (off < end) {
+			char c = s.charAt(off++);
+			if (c < 0x80 && highSurrogate == 0) {
+				if (pos == buf.length)
+					flushBuffer();
+				buf[pos++] = (byte)c;
+			} else {
+				encode(c);
+			}
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String s) throws IOException {
+		write(s, 0, s.length());
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(char c) throws IOException {
+		write(c);
+		return this;
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(CharSequence csq) throws IOException {
+		String s = String.valueOf(csq);
+		write(s, 0, s.length());
+		return this;
+	}
+
+	@Override /* Writer */
+	public Utf8Writer append(CharSequence csq, int start, int end) throws IOException {
+		String s = String.valueOf(csq);
+		write(s, start, end - start);
+		return this;
+	}
+
+	@Override /* Writer */
+	public void flush() throws IOException {
+		flushBuffer();
+		out.flush();
+	}
+
+	@Override /* Writer */
+	public void close() throws IOException {
+		if (highSurrogate != 0)
+			unpaired();
+		flush();
+		out.close();
+	}
+
+	private void encode(char c) throws IOException {
+		if (buf.length - pos < 4)
+			flushBuffer();
+		if (highSurrogate != 0) {
+			char h = highSurrogate;
+			highSurrogate = 0;
+			if (Character.isLowSurrogate(c)) {
+				int cp = Character.toCodePoint(h, c);
+				buf[pos++] = (byte)(0xF0 | (cp >> 18));
+				buf[pos++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				buf[pos++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				buf[pos++] = (byte)(0x80 | (cp & 0x3F));
+				return;
+			}
+			buf[pos++] = '?';
+			if (buf.length - pos < 3)
+				flushBuffer();
+		}
+		if (c < 0x80) {
+			buf[pos++] = (byte)c;
+		} else if (c < 0x800) {
+			buf[pos++] = (byte)(0xC0 | (c >> 6));
+			buf[pos++] = (byte)(0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c)) {
+			highSurrogate = c;
+		} else if (Character.isLowSurrogate(c)) {
+			buf[pos++] = '?';
+		} else {
+			buf[pos++] = (byte)(0xE0 | (c >> 12));
+			buf[pos++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+			buf[pos++] = (byte)(0x80 | (c & 0x3F));
+		}
+	}
+
+	private void unpaired() throws IOException {
+		highSurrogate = 0;
+		if (pos == buf.length)
+			flushBuffer();
+		buf[pos++] = '?';
+	}
+
+	private void flushBuffer() throws IOException {
+		if (pos > 0) {
+			out.write(buf, 0, pos);
+			pos = 0;
+		}
+	}
+}
@@ -486,6 +486,12 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public JsoParserBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsoParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -504,6 +510,12 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public JsoParserBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsoParserBuilder strict() {
 		super.strict();
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import static org.apache.juneau.internal.IOUtils.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.json.annotation.*;
 
@@ -26,6 +28,8 @@ public final class JsonBeanPropertyMeta extends ExtendedBeanPropertyMeta {
 	 */
 	public static final JsonBeanPropertyMeta DEFAULT = new JsonBeanPropertyMeta();
 
+	private volatile EncodedName encodedName;
+
 	/**
 	 * Constructor.
 	 *
@@ -39,4 +43,39 @@ public final class JsonBeanPropertyMeta extends ExtendedBeanPropertyMeta {
 	private JsonBeanPropertyMeta() {
 		super(null);
 	}
+
+	/**
+	 * Returns the cached serialized form of this property name (e.g. <js>"\"foo\":"</js>).
+	 *
+	 * @param name The property name being serialized.
+	 * @param writer The writer the name is being serialized to.
+	 * @return The serialized name, computed on first use for the writer's quoting and escaping settings.
+	 * @throws java.io.IOException Thrown by the writer.
+	 */
+	EncodedName getEncodedName(String name, JsonWriter writer) throws java.io.IOException {
+		EncodedName n = encodedName;
+		int flags = writer.getAttrFlags();
+		if (n == null || n.flags != flags || ! n.name.equals(name)) {
+			n = new EncodedName(name, flags, writer.encodeAttr(name));
+			if (this != DEFAULT)
+				encodedName = n;
+		}
+		return n;
+	}
+
+	/**
+	 * A property name followed by <js>':'</js> in both character and UTF-8 encoded form.
+	 */
+	static final class EncodedName {
+		final String name, chars;
+		final byte[] bytes;
+		final int flags;
+
+		EncodedName(String name, int flags, String chars) {
+			this.name = name;
+			this.flags = flags;
+			this.chars = chars;
+			this.bytes = chars.getBytes(UTF8);
+		}
+	}
 }
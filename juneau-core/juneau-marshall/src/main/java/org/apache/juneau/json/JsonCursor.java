@@ -0,0 +1,344 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * A pull-style cursor over JSON input.
+ *
+ * <p>
+ * Reads the input one token at a time from the underlying {@link ParserReader} without materializing the document.
+ * <br>At any point where a value is expected, {@link #readValue(Class)} can be used to bind the next value (e.g. one
+ * element of a large array) to a POJO using the same rules as {@link JsonParser}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Sum a field of every element in a large array without loading the whole array.</jc>
+ * 	<jk>try</jk> (JsonCursor c = JsonParser.<jsf>DEFAULT</jsf>.cursor(reader)) {
+ * 		c.next();  <jc>// START_ARRAY</jc>
+ * 		<jk>while</jk> (c.hasNextValue())
+ * 			total += c.readValue(MyBean.<jk>class</jk>).getAmount();
+ * 	}
+ * </p>
+ *
+ * <p>
+ * This class is NOT thread safe.
+ */
+public final class JsonCursor implements Closeable {
+
+	private final JsonParserSession session;
+	private final ParserPipe pipe;
+	private final ParserReader r;
+
+	// One entry per open object/array.
+	private final Deque<Level> levels = new ArrayDeque<>();
+	private boolean done, positioned;
+	private JsonToken token;
+	private String name, string;
+	private Number number;
+	private Boolean bool;
+
+	JsonCursor(JsonParserSession session, ParserPipe pipe) throws IOException {
+		this.session = session;
+		this.pipe = pipe;
+		this.r = pipe.getParserReader();
+		this.done = r == null;
+	}
+
+	/**
+	 * Advances to the next token.
+	 *
+	 * @return The next token, or <jk>null</jk> if the end of the top-level value has been reached.
+	 * @throws IOException Thrown by the underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public JsonToken next() throws IOException, ParseException {
+		name = string = null;
+		number = null;
+		bool = null;
+
+		int c = position();
+		if (c == -1) {
+			if (levels.isEmpty()) {
+				// Empty input is treated as no tokens.
+				token = null;
+				done = true;
+				if (r != null)
+					session.validateEnd(r);
+				return null;
+			}
+			throw new ParseException(session, "Unexpected end of input.");
+		}
+		positioned = false;
+
+		Level l = levels.peek();
+		if (l != null && ! l.needValue) {
+			if (c == (l.object ? '}' : ']')) {
+				r.read();
+				levels.pop();
+				valueDone();
+				return token = l.object ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+			}
+			if (l.object) {
+				name = session.parseFieldName(r);
+				session.skipCommentsAndSpace(r);
+				if (r.read() != ':')
+					throw new ParseException(session, "Expected '':'' after field name ''{0}''.", name);
+				l.needValue = true;
+				return token = JsonToken.FIELD_NAME;
+			}
+		}
+
+		if (l != null)
+			l.needValue = false;
+
+		if (c == '{') {
+			r.read();
+			levels.push(new Level(true));
+			return token = JsonToken.START_OBJECT;
+		}
+		if (c == '[') {
+			r.read();
+			levels.push(new Level(false));
+			return token = JsonToken.START_ARRAY;
+		}
+		if (c == '"' || c == '\'') {
+			string = session.parseString(r);
+			token = JsonToken.STRING;
+		} else if (c >= '0' && c <= '9' || c == '-' || c == '.') {
+			number = session.parseNumber(r, null);
+			token = JsonToken.NUMBER;
+		} else if (c == 't') {
+			session.parseKeyword("true", r);
+			bool = true;
+			token = JsonToken.BOOLEAN;
+		} else if (c == 'f') {
+			session.parseKeyword("false", r);
+			bool = false;
+			token = JsonToken.BOOLEAN;
+		} else if (c == 'n') {
+			session.parseKeyword("null", r);
+			token = JsonToken.NULL;
+		} else {
+			throw new ParseException(session, "Unexpected character ''{0}''.", (char)c);
+		}
+		valueDone();
+		return token;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if there is another value at the current position.
+	 *
+	 * <p>
+	 * Inside an array, returns <jk>false</jk> when the closing <js>']'</js> is next.
+	 * <br>Does not consume the closing bracket, so {@link #next()} will subsequently return
+	 * {@link JsonToken#END_ARRAY}.
+	 *
+	 * @return <jk>true</jk> if there is another value at the current position.
+	 * @throws IOException Thrown by the underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public boolean hasNextValue() throws IOException, ParseException {
+		int c = position();
+		if (c == -1)
+			return false;
+		Level l = levels.peek();
+		if (l == null || l.needValue)
+			return true;
+		return ! l.object && c != ']';
+	}
+
+	/**
+	 * Reads the next value and converts it to the specified type.
+	 *
+	 * <p>
+	 * Can be called wherever a value is expected: at the top level, after a {@link JsonToken#FIELD_NAME} token, or
+	 * inside an array.
+	 * <br>The entire value (including any nested objects or arrays) is consumed.
+	 *
+	 * @param type The type to convert the value to.
+	 * @param <T> The type to convert the value to.
+	 * @return The parsed value.
+	 * @throws IOException Thrown by the underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public <T> T readValue(Class<T> type) throws IOException, ParseException {
+		return readValue(session.getClassMeta(type));
+	}
+
+	/**
+	 * Same as {@link #readValue(Class)} except the type is specified as a {@link ClassMeta}.
+	 *
+	 * @param type The type to convert the value to.
+	 * @param <T> The type to convert the value to.
+	 * @return The parsed value.
+	 * @throws IOException Thrown by the underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public <T> T readValue(ClassMeta<T> type) throws IOException, ParseException {
+		if (! hasNextValue())
+			throw new ParseException(session, "No value found at current position.");
+		positioned = false;
+		Level l = levels.peek();
+		if (l != null)
+			l.needValue = false;
+		try {
+			T o = session.parseAnything(type, r, null, null);
+			token = null;
+			valueDone();
+			return o;
+		} catch (ExecutableException e) {
+			throw new ParseException(session, e, "Could not create value of type ''{0}''.", type);
+		}
+	}
+
+	/**
+	 * Skips over the children of the current {@link JsonToken#START_OBJECT} or {@link JsonToken#START_ARRAY} token.
+	 *
+	 * <p>
+	 * After this call, the current token is the matching {@link JsonToken#END_OBJECT} or {@link JsonToken#END_ARRAY}.
+	 * <br>Does nothing if the current token is not a start token.
+	 *
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by the underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public JsonCursor skipChildren() throws IOException, ParseException {
+		if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY)
+			return this;
+		int depth = levels.size();
+		while (levels.size() >= depth)
+			next();
+		return this;
+	}
+
+	/**
+	 * Returns the current token.
+	 *
+	 * @return The current token, or <jk>null</jk> if no token has been read or the last call was {@link #readValue(Class)}.
+	 */
+	public JsonToken getToken() {
+		return token;
+	}
+
+	/**
+	 * Returns the field name if the current token is {@link JsonToken#FIELD_NAME}.
+	 *
+	 * @return The field name, or <jk>null</jk> if the current token is not a field name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the value if the current token is {@link JsonToken#STRING}.
+	 *
+	 * @return The string value, or <jk>null</jk> if the current token is not a string.
+	 */
+	public String getString() {
+		return string;
+	}
+
+	/**
+	 * Returns the value if the current token is {@link JsonToken#NUMBER}.
+	 *
+	 * @return The number value, or <jk>null</jk> if the current token is not a number.
+	 */
+	public Number getNumber() {
+		return number;
+	}
+
+	/**
+	 * Returns the value if the current token is {@link JsonToken#BOOLEAN}.
+	 *
+	 * @return The boolean value, or <jk>null</jk> if the current token is not a boolean.
+	 */
+	public Boolean getBoolean() {
+		return bool;
+	}
+
+	/**
+	 * Returns the current nesting depth.
+	 *
+	 * @return The number of objects and arrays currently open.
+	 */
+	public int getDepth() {
+		return levels.size();
+	}
+
+	/**
+	 * Returns the current position in the input.
+	 *
+	 * @return The current position in the input.
+	 */
+	public Position getPosition() {
+		return session.getPosition();
+	}
+
+	@Override /* Closeable */
+	public void close() throws IOException {
+		pipe.close();
+	}
+
+	/*
+	 * Skips whitespace, comments, and value separators so that the reader is positioned on the next value, field
+	 * name, or closing bracket.
+	 * Returns the next character without consuming it, or -1 if there is nothing left to read at this level.
+	 */
+	private int position() throws IOException, ParseException {
+		if (r == null)
+			return -1;
+		if (levels.isEmpty() && done)
+			return -1;
+		session.skipCommentsAndSpace(r);
+		if (! positioned) {
+			Level l = levels.peek();
+			if (l != null && ! l.needValue && l.hasPrev) {
+				int c = r.peek();
+				if (c == ',') {
+					r.read();
+					session.skipCommentsAndSpace(r);
+					c = r.peek();
+					if (c == (l.object ? '}' : ']'))
+						throw new ParseException(session, "Unexpected trailing comma.");
+				} else if (c != -1 && c != (l.object ? '}' : ']')) {
+					throw new ParseException(session, "Expected '','' or ''{0}''.", l.object ? '}' : ']');
+				}
+			}
+			positioned = true;
+		}
+		return r.peek();
+	}
+
+	private void valueDone() {
+		Level l = levels.peek();
+		if (l == null)
+			done = true;
+		else
+			l.hasPrev = true;
+	}
+
+	private static final class Level {
+		final boolean object;
+		boolean hasPrev, needValue;
+
+		Level(boolean object) {
+			this.object = object;
+		}
+	}
+}
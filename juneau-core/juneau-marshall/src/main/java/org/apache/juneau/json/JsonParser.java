@@ -12,8 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import java.io.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -249,6 +251,44 @@ public class JsonParser extends ReaderParser implements JsonMetaProvider, JsonCo
 		return new JsonParserSession(this, args);
 	}
 
+	/**
+	 * Creates a pull-style cursor over the specified JSON input.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link ParserSession#parse(Object, java.lang.reflect.Type, java.lang.reflect.Type...)} for details.
+	 * @return A new cursor positioned before the first token.  Must be closed when no longer needed.
+	 * @throws IOException Thrown by the underlying stream.
+	 * @see JsonParserSession#cursor(Object)
+	 */
+	public JsonCursor cursor(Object input) throws IOException {
+		return createSession().cursor(input);
+	}
+
+	/**
+	 * Parses the elements of a top-level JSON array as a stream.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (Stream&lt;MyBean&gt; s = JsonParser.<jsf>DEFAULT</jsf>.stream(reader, MyBean.<jk>class</jk>)) {
+	 * 		s.forEach(x -&gt; process(x));
+	 * 	}
+	 * </p>
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link ParserSession#parse(Object, java.lang.reflect.Type, java.lang.reflect.Type...)} for details.
+	 * @param elementType The class type of the array elements.
+	 * @param <T> The class type of the array elements.
+	 * @return A sequential stream of parsed elements that closes the input when exhausted or closed.
+	 * @throws ParseException Input does not start with a JSON array.
+	 * @throws IOException Thrown by the underlying stream.
+	 * @see JsonParserSession#stream(Object, Class)
+	 */
+	public <T> Stream<T> stream(Object input, Class<T> elementType) throws ParseException, IOException {
+		return createSession().stream(input, elementType);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Extended metadata
 	//-----------------------------------------------------------------------------------------------------------------
@@ -507,6 +507,12 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public JsonParserBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsonParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -525,6 +531,12 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public JsonParserBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public JsonParserBuilder strict() {
 		super.strict();
@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -112,7 +113,124 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
-	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+	/**
+	 * Creates a pull-style cursor over the specified JSON input.
+	 *
+	 * <p>
+	 * The cursor reads one token at a time and can bind individual values to POJOs using this session's settings.
+	 * <br>The cursor must be closed when no longer needed.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for details.
+	 * @return A new cursor positioned before the first token.
+	 * @throws IOException Thrown by the underlying stream.
+	 */
+	public JsonCursor cursor(Object input) throws IOException {
+		return new JsonCursor(this, createPipe(input));
+	}
+
+	/**
+	 * Parses the elements of a top-level JSON array as a stream.
+	 *
+	 * <p>
+	 * Each element is only read and converted when it is pulled from the stream, so arbitrarily large arrays can be
+	 * processed with constant memory.
+	 * <br>The input is closed when the stream is exhausted or closed, so the stream should be used in a
+	 * try-with-resources block if it may not be fully consumed.
+	 *
+	 * <p>
+	 * Exceptions that occur while reading elements are thrown as {@link BasicRuntimeException BasicRuntimeExceptions}
+	 * with the underlying {@link ParseException} or {@link IOException} as the cause.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for details.
+	 * @param elementType The class type of the array elements.
+	 * @param <T> The class type of the array elements.
+	 * @return A sequential stream of parsed elements.
+	 * @throws ParseException Input does not start with a JSON array.
+	 * @throws IOException Thrown by the underlying stream.
+	 */
+	public <T> Stream<T> stream(Object input, Class<T> elementType) throws ParseException, IOException {
+		return stream(input, getClassMeta(elementType));
+	}
+
+	/**
+	 * Same as {@link #stream(Object, Class)} except the element type is specified as a {@link ClassMeta}.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	<br>See {@link #parse(Object, Type, Type...)} for details.
+	 * @param elementType The class type of the array elements.
+	 * @param <T> The class type of the array elements.
+	 * @return A sequential stream of parsed elements.
+	 * @throws ParseException Input does not start with a JSON array.
+	 * @throws IOException Thrown by the underlying stream.
+	 */
+	public <T> Stream<T> stream(Object input, final ClassMeta<T> elementType) throws ParseException, IOException {
+		final JsonCursor c = cursor(input);
+		try {
+			JsonToken t = c.next();
+			if (t == null) {
+				c.close();
+				return Stream.empty();
+			}
+			if (t != JsonToken.START_ARRAY)
+				throw new ParseException(this, "Expected '[' at beginning of JSON array.");
+		} catch (IOException | ParseException | RuntimeException e) {
+			c.close();
+			throw e;
+		}
+
+		Iterator<T> i = new Iterator<T>() {
+			boolean done;
+
+			@Override /* Iterator */
+			public boolean hasNext() {
+				if (done)
+					return false;
+				try {
+					if (c.hasNextValue())
+						return true;
+					c.next();  // END_ARRAY
+					c.next();  // Validates end.
+				} catch (IOException | ParseException e) {
+					closeQuietly(c);
+					throw new BasicRuntimeException(e, "Could not read JSON array element.");
+				}
+				done = true;
+				closeQuietly(c);
+				return false;
+			}
+
+			@Override /* Iterator */
+			public T next() {
+				if (! hasNext())
+					throw new NoSuchElementException();
+				try {
+					return c.readValue(elementType);
+				} catch (IOException | ParseException e) {
+					closeQuietly(c);
+					throw new BasicRuntimeException(e, "Could not read JSON array element.");
+				}
+			}
+		};
+
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(i, Spliterator.ORDERED), false)
+			.onClose(() -> closeQuietly(c));
+	}
+
+	private static void closeQuietly(Closeable c) {
+		try {
+			c.close();
+		} catch (Exception e) {
+			// Ignore.
+		}
+	}
+
+	<T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
 
 		if (eType == null)
 			eType = object();
@@ -235,7 +353,7 @@ public final class JsonParserSession extends ReaderParserSession {
 		return (T)o;
 	}
 
-	private Number parseNumber(ParserReader r, Class<? extends Number> type) throws IOException, ParseException {
+	Number parseNumber(ParserReader r, Class<? extends Number> type) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
 			return parseNumber(r, parseString(r), type);
@@ -384,7 +502,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Parse a JSON attribute from the character array at the specified position, then
 	 * set the position marker to the last character in the field name.
 	 */
-	private String parseFieldName(ParserReader r) throws IOException, ParseException {
+	String parseFieldName(ParserReader r) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
 			return parseString(r);
@@ -405,6 +523,52 @@ public final class JsonParserSession extends ReaderParserSession {
 		throw new ParseException(this, "Could not find the end of the field name.");
 	}
 
+	/*
+	 * Attempts to match a simple field name followed immediately by ':' against the specified table directly from the
+	 * reader buffer without creating a string.
+	 * If the field name is not in the table or isn't a simple name (e.g. it contains escapes or is followed by
+	 * whitespace, comments or concatenations), the reader is reset to the start of the field name and null is returned
+	 * so that the name can be parsed using parseFieldName(ParserReader).
+	 */
+	private <V> V findFieldName(ParserReader r, NameTable<V> table) throws IOException {
+		int qc = r.peek();
+		boolean isQuoted = qc == '"' || (qc == '\'' && ! isStrict());
+		if (! (isQuoted || (VALID_BARE_CHARS.contains(qc) && ! isStrict())))
+			return null;
+		r.mark();
+		int count = 0;
+		V v = null;
+		if (isQuoted) {
+			r.read();
+			count++;
+		}
+		while (true) {
+			int c = r.read();
+			if (c == -1)
+				break;
+			count++;
+			if (isQuoted) {
+				if (c == qc) {
+					if (r.peek() == ':')
+						v = r.getMarked(1, -1, table);
+					break;
+				} else if (c == '\\' || c <= 0x1F) {
+					break;
+				}
+			} else if (! VALID_BARE_CHARS.contains(c)) {
+				r.unread();
+				count--;
+				if (c == ':')
+					v = r.getMarked(0, 0, table);
+				break;
+			}
+		}
+		if (v == null)
+			for (int i = 0; i < count; i++)
+				r.unread();
+		return v;
+	}
+
 	private static final AsciiSet VALID_BARE_CHARS = AsciiSet.create().range('A','Z').range('a','z').range('0','9').chars("$_-.").build();
 
 	private <E> Collection<E> parseIntoCollection2(ParserReader r, Collection<E> l,
@@ -480,6 +644,8 @@ public final class JsonParserSession extends ReaderParserSession {
 
 		int state = S0;
 		String currAttr = "";
+		BeanPropertyMeta currMeta = null;
+		NameTable<BeanPropertyMeta> names = m.getMeta().getPropertyNameTable();
 		int c = 0;
 		mark();
 		try {
@@ -501,7 +667,8 @@ public final class JsonParserSession extends ReaderParserSession {
 					} else {
 						r.unread();
 						mark();
-						currAttr = parseFieldName(r);
+						currMeta = findFieldName(r, names);
+						currAttr = currMeta == null ? parseFieldName(r) : currMeta.getName();
 						state = S3;
 					}
 				} else if (state == S3) {
@@ -512,7 +679,7 @@ public final class JsonParserSession extends ReaderParserSession {
 						skipCommentsAndSpace(r.unread());
 					} else {
 						if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
-							BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
+							BeanPropertyMeta pMeta = currMeta != null ? currMeta : m.getPropertyMeta(currAttr);
 							setCurrentProperty(pMeta);
 							if (pMeta == null) {
 								onUnknownProperty(currAttr, m, parseAnything(object(), r.unread(), m.getBean(false), null));
@@ -566,7 +733,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * If the string consists of a concatenation of strings (e.g. 'AAA' + "BBB"), this method
 	 * will automatically concatenate the strings and return the result.
 	 */
-	private String parseString(ParserReader r) throws IOException, ParseException {
+	String parseString(ParserReader r) throws IOException, ParseException {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && isStrict()) {
@@ -650,7 +817,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Looks for the keywords true, false, or null.
 	 * Throws an exception if any of these keywords are not found at the specified position.
 	 */
-	private void parseKeyword(String keyword, ParserReader r) throws IOException, ParseException {
+	void parseKeyword(String keyword, ParserReader r) throws IOException, ParseException {
 		try {
 			String s = r.read(keyword.length());
 			if (s.equals(keyword))
@@ -667,7 +834,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * the comments and whitespace.  Otherwise, the cursor will be set to the last position of
 	 * the comments and whitespace.
 	 */
-	private void skipCommentsAndSpace(ParserReader r) throws IOException, ParseException {
+	void skipCommentsAndSpace(ParserReader r) throws IOException, ParseException {
 		int c = 0;
 		while ((c = r.read()) != -1) {
 			if (! isWhitespace(c)) {
@@ -782,7 +949,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Call this method after you've finished a parsing a string to make sure that if there's any
 	 * remainder in the input, that it consists only of whitespace and comments.
 	 */
-	private void validateEnd(ParserReader r) throws IOException, ParseException {
+	void validateEnd(ParserReader r) throws IOException, ParseException {
 		if (! isValidateEnd())
 			return;
 		skipCommentsAndSpace(r);
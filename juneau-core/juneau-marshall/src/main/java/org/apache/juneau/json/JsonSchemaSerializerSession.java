@@ -58,6 +58,12 @@ public class JsonSchemaSerializerSession extends JsonSerializerSession {
 		}
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		genSession.reset();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Extended metadata
 	//-----------------------------------------------------------------------------------------------------------------
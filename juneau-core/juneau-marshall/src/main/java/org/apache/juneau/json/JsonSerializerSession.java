@@ -116,8 +116,11 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		sType = aType;
 		String typeName = getBeanTypeName(this, eType, aType, pMeta);
 
+		// Streaming sources are written as they're pulled instead of being swapped to lists.
+		Iterator<Object> streamed = toStreamingIterator(o, aType);
+
 		// Swap if necessary
-		PojoSwap swap = aType.getSwap(this);
+		PojoSwap swap = streamed == null ? aType.getSwap(this) : null;
 		if (swap != null) {
 			o = swap(swap, o);
 			sType = swap.getSwapClassMeta(this);
@@ -137,6 +140,8 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		// '\0' characters are considered null.
 		if (o == null || (sType.isChar() && ((Character)o).charValue() == 0)) {
 			out.append("null");
+		} else if (streamed != null) {
+			serializeElements(out, streamed, eType, true);
 		} else if (sType.isNumber() || sType.isBoolean()) {
 			out.append(o);
 		} else if (sType.isBean()) {
@@ -220,7 +225,7 @@ public class JsonSerializerSession extends WriterSerializerSession {
 				if (addComma)
 					out.append(',').smi(i);
 
-				out.cr(i).attr(key).append(':').s(i);
+				out.cr(i).attrName(key, getJsonBeanPropertyMeta(pMeta)).s(i);
 
 				serializeAnything(out, value, cMeta, key, pMeta);
 
@@ -233,17 +238,22 @@ public class JsonSerializerSession extends WriterSerializerSession {
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type) throws IOException, SerializeException {
+		c = sort(c);
+		return serializeElements(out, c.iterator(), type, false);
+	}
 
-		ClassMeta<?> elementType = type.getElementType();
+	private SerializerWriter serializeElements(JsonWriter out, Iterator<?> i, ClassMeta<?> type, boolean streamed) throws IOException, SerializeException {
 
-		c = sort(c);
+		ClassMeta<?> elementType = type.getElementType();
 
 		out.append('[');
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		for (int count = 1; i.hasNext(); count++) {
 			Object value = i.next();
 			out.cr(indent);
 			serializeAnything(out, value, elementType, "<iterator>", null);
+			if (streamed)
+				flushStreamed(out, count);
 			if (i.hasNext())
 				out.append(',').smi(indent);
 		}
@@ -322,6 +332,16 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return ctx.getJsonClassMeta(cm);
 	}
 
+	/**
+	 * Returns the language-specific metadata on the specified bean property.
+	 *
+	 * @param bpm The bean property to return the metadata on.
+	 * @return The metadata.
+	 */
+	protected JsonBeanPropertyMeta getJsonBeanPropertyMeta(BeanPropertyMeta bpm) {
+		return ctx.getJsonBeanPropertyMeta(bpm);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,46 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+/**
+ * The token types returned by {@link JsonCursor#next()}.
+ */
+public enum JsonToken {
+
+	/** Start of a JSON object: <js>'{'</js>. */
+	START_OBJECT,
+
+	/** End of a JSON object: <js>'}'</js>. */
+	END_OBJECT,
+
+	/** Start of a JSON array: <js>'['</js>. */
+	START_ARRAY,
+
+	/** End of a JSON array: <js>']'</js>. */
+	END_ARRAY,
+
+	/** A field name inside a JSON object.  The name is available through {@link JsonCursor#getName()}. */
+	FIELD_NAME,
+
+	/** A string value.  The value is available through {@link JsonCursor#getString()}. */
+	STRING,
+
+	/** A number value.  The value is available through {@link JsonCursor#getNumber()}. */
+	NUMBER,
+
+	/** A <jk>true</jk> or <jk>false</jk> value.  The value is available through {@link JsonCursor#getBoolean()}. */
+	BOOLEAN,
+
+	/** A <jk>null</jk> value. */
+	NULL;
+}
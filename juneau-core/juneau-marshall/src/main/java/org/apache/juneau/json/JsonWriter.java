@@ -52,6 +52,8 @@ public final class JsonWriter extends SerializerWriter {
 	private static final AsciiSet validFirstAttrChars = AsciiSet.create().ranges("a-z","A-Z").chars("_").build();
 
 	private final AsciiSet ec;
+	private final Utf8Writer utf8;
+	private final int attrFlags;
 
 	/**
 	 * Constructor.
@@ -71,6 +73,8 @@ public final class JsonWriter extends SerializerWriter {
 		this.simpleMode = simpleMode;
 		this.escapeSolidus = escapeSolidus;
 		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		this.utf8 = out instanceof Utf8Writer ? (Utf8Writer)out : null;
+		this.attrFlags = (quoteChar << 3) | (simpleMode ? 4 : 0) | (escapeSolidus ? 2 : 0) | (trimStrings ? 1 : 0);
 	}
 
 	/**
@@ -172,6 +176,44 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Serializes a bean property name followed by <js>':'</js>.
+	 *
+	 * <p>
+	 * Same as calling <c>attr(s).append(<js>':'</js>)</c>, except that the serialized form is cached on the property
+	 * metadata so that quoting and escaping is only done once per property.
+	 * <br>When writing to a UTF-8 stream, the cached bytes are copied directly to the output.
+	 *
+	 * @param s The property name.
+	 * @param m The JSON metadata of the property.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public JsonWriter attrName(String s, JsonBeanPropertyMeta m) throws IOException {
+		JsonBeanPropertyMeta.EncodedName n = m.getEncodedName(s, this);
+		if (utf8 != null)
+			utf8.writeBytes(n.bytes);
+		else
+			out.append(n.chars);
+		return this;
+	}
+
+	/*
+	 * Returns the serialized form of attr(s).append(':') for the settings on this writer.
+	 */
+	String encodeAttr(String s) throws IOException {
+		StringWriter sw = new StringWriter(s.length() + 3);
+		new JsonWriter(sw, false, maxIndent, escapeSolidus, quoteChar, simpleMode, trimStrings, null).attr(s).append(':');
+		return sw.toString();
+	}
+
+	/*
+	 * Identifies the settings that affect how attribute names are serialized.
+	 */
+	int getAttrFlags() {
+		return attrFlags;
+	}
+
 	/**
 	 * Appends a URI to the output.
 	 *
@@ -486,6 +486,12 @@ public class SimpleJsonParserBuilder extends JsonParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public SimpleJsonParserBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public SimpleJsonParserBuilder autoCloseStreams() {
 		super.autoCloseStreams();
@@ -504,6 +510,12 @@ public class SimpleJsonParserBuilder extends JsonParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ParserBuilder */
+	public SimpleJsonParserBuilder reuseSessions() {
+		super.reuseSessions();
+		return this;
+	}
+
 	@Override /* GENERATED - ParserBuilder */
 	public SimpleJsonParserBuilder strict() {
 		super.strict();
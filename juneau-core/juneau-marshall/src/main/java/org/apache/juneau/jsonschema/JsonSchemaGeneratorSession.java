@@ -61,6 +61,13 @@ public class JsonSchemaGeneratorSession extends BeanTraverseSession {
 			defs = null;
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		if (defs != null)
+			defs.clear();
+	}
+
 	/**
 	 * Returns the JSON-schema for the specified object.
 	 *
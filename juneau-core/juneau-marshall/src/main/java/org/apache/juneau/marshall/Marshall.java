@@ -93,7 +93,7 @@ public abstract class Marshall {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public Object write(Object o) throws SerializeException {
-		return s.createSession().serialize(o);
+		return s.serialize(o);
 	}
 
 	/**
@@ -121,7 +121,7 @@ public abstract class Marshall {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public final void write(Object o, Object output) throws SerializeException, IOException {
-		s.createSession().serialize(o, output);
+		s.serialize(o, output);
 	}
 
 	/**
@@ -301,7 +301,7 @@ public abstract class Marshall {
 	 * @see BeanSession#getClassMeta(Type,Type...) for argument syntax for maps and collections.
 	 */
 	public final <T> T read(Object input, Type type, Type...args) throws ParseException, IOException {
-		return p.createSession().parse(input, type, args);
+		return p.parse(input, type, args);
 	}
 
 	/**
@@ -342,7 +342,7 @@ public abstract class Marshall {
 	 * @see BeanSession#getClassMeta(Type,Type...) for argument syntax for maps and collections.
 	 */
 	public final <T> T read(String input, Type type, Type...args) throws ParseException {
-		return p.createSession().parse(input, type, args);
+		return p.parse(input, type, args);
 	}
 
 	/**
@@ -381,7 +381,7 @@ public abstract class Marshall {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public final <T> T read(Object input, Class<T> type) throws ParseException, IOException {
-		return p.createSession().parse(input, type);
+		return p.parse(input, type);
 	}
 
 	/**
@@ -419,6 +419,6 @@ public abstract class Marshall {
 	 * @throws ParseException Malformed input encountered.
 	 */
 	public final <T> T read(String input, Class<T> type) throws ParseException {
-		return p.createSession().parse(input, type);
+		return p.parse(input, type);
 	}
 }
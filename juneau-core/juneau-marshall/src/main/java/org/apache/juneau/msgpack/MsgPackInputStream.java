@@ -16,12 +16,20 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
+import java.nio.*;
 
 import org.apache.juneau.parser.*;
 
 /**
  * Specialized input stream for parsing MessagePack streams.
  *
+ * <p>
+ * Values are decoded directly out of a byte window using bulk big-endian reads.
+ * <br>If the parser input is already in memory (e.g. a byte array), the window is the input array itself.
+ * <br>Otherwise the window is filled from the underlying stream.  Streams that support {@link InputStream#mark(int)}
+ * are read ahead and repositioned when this stream is closed.  Other streams are read exactly as far as the current
+ * value so that multiple POJOs can be parsed from the same stream.
+ *
  * <ul class='notes'>
  * 	<li>
  * 		This class is not intended for external use.
@@ -29,11 +37,17 @@ import org.apache.juneau.parser.*;
  */
 public final class MsgPackInputStream extends ParserInputStream {
 
+	private static final int BUFFER_SIZE = 8192;
+
 	private DataType currentDataType;
 	private long length;
 	private int lastByte;
 	private int extType;
-	int pos = 0;
+
+	private final boolean inMemory, readAhead;
+	private boolean marked;
+	private byte[] buf;
+	private int bufPos, bufEnd, bufStart;
 
 	// Data type quick-lookup table.
 	private static final DataType[] TYPES = new DataType[] {
@@ -63,6 +77,129 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 */
 	protected MsgPackInputStream(ParserPipe pipe) throws IOException {
 		super(pipe);
+		byte[] b = pipe.getInputBytes();
+		inMemory = b != null;
+		readAhead = ! inMemory && super.markSupported();
+		if (inMemory) {
+			buf = b;
+			bufEnd = b.length;
+		} else {
+			buf = new byte[readAhead ? 512 : 64];
+		}
+	}
+
+	@Override /* InputStream */
+	public int read() throws IOException {
+		if (bufPos == bufEnd && ! fill(1))
+			return -1;
+		return buf[bufPos++] & 0xFF;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		if (bufPos == bufEnd) {
+			if (inMemory)
+				return -1;
+			if (! readAhead) {
+				int i = super.read(b, off, len);
+				if (i > 0)
+					bufStart += i;
+				return i;
+			}
+			if (! fill(1))
+				return -1;
+		}
+		int n = Math.min(len, bufEnd - bufPos);
+		System.arraycopy(buf, bufPos, b, off, n);
+		bufPos += n;
+		return n;
+	}
+
+	@Override /* InputStream */
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override /* Positionable */
+	public Position getPosition() {
+		return new Position(bufStart + bufPos);
+	}
+
+	@Override /* Closeable */
+	public void close() throws IOException {
+		// Give back what was read ahead so that the next parse starts right after this value.
+		if (marked && buf != null) {
+			super.reset();
+			skipFully(bufPos);
+			buf = null;
+		}
+	}
+
+	/*
+	 * Makes at least the specified number of bytes available in the window.
+	 * Returns false if the input ends first.
+	 */
+	private boolean fill(int n) throws IOException {
+		if (inMemory)
+			return false;
+		int remaining = bufEnd - bufPos;
+		if (readAhead) {
+			// Rewind to the last mark and skip to the current position so the unread bytes are read again.
+			if (marked) {
+				super.reset();
+				skipFully(bufPos);
+			}
+			bufStart += bufPos;
+			if (buf.length < n || (marked && buf.length < BUFFER_SIZE))
+				buf = new byte[Math.max(n, Math.min(BUFFER_SIZE, buf.length * 2))];
+			super.mark(buf.length);
+			marked = true;
+			bufPos = bufEnd = 0;
+			while (bufEnd < n) {
+				int i = super.read(buf, bufEnd, buf.length - bufEnd);
+				if (i == -1)
+					return false;
+				bufEnd += i;
+			}
+			return true;
+		}
+		if (bufPos > 0) {
+			System.arraycopy(buf, bufPos, buf, 0, remaining);
+			bufStart += bufPos;
+			bufPos = 0;
+			bufEnd = remaining;
+		}
+		if (buf.length < n) {
+			byte[] b = new byte[Math.max(n, buf.length * 2)];
+			System.arraycopy(buf, 0, b, 0, bufEnd);
+			buf = b;
+		}
+		while (bufEnd < n) {
+			int i = super.read(buf, bufEnd, n - bufEnd);
+			if (i == -1)
+				return false;
+			bufEnd += i;
+		}
+		return true;
+	}
+
+	private void skipFully(int n) throws IOException {
+		while (n > 0) {
+			long i = super.skip(n);
+			if (i <= 0)
+				throw new EOFException();
+			n -= i;
+		}
+	}
+
+	/*
+	 * Same as fill(int) but fails if the input ends first.
+	 */
+	private void require(int n) throws IOException {
+		if (bufEnd - bufPos < n && ! fill(n))
+			throw new IOException("Unexpected end of file found at position " + (bufStart + bufEnd));
 	}
 
 	/**
@@ -72,9 +209,8 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * This is the byte that indicates what kind of data follows.
 	 */
 	DataType readDataType() throws IOException {
-		int i = read();
-		if (i == -1)
-			throw new IOException("Unexpected end of file found at position " + pos);
+		require(1);
+		int i = buf[bufPos++] & 0xFF;
 		currentDataType = TYPES[i];
 		switch (currentDataType) {
 			case NULL:
@@ -329,7 +465,7 @@ public final class MsgPackInputStream extends ParserInputStream {
 						length = readUInt2();
 				else if (i == EXT32)
 					length = readUInt4();
-				extType = read();
+				extType = readUInt1();
 
 				break;
 			}
@@ -393,37 +529,67 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
-		return new String(readBinary(), UTF8);
+		int len = (int)length;
+		if (len > buf.length)
+			return new String(readBinary(), UTF8);
+		require(len);
+		String s = new String(buf, bufPos, len, UTF8);
+		bufPos += len;
+		return s;
 	}
 
 	/**
 	 * Read a binary field from the stream.
 	 */
 	byte[] readBinary() throws IOException {
-		byte[] b = new byte[(int)length];
-		read(b);
+		int len = (int)length;
+		byte[] b = new byte[len];
+		int n = 0;
+		while (n < len) {
+			int i = read(b, n, len - n);
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + (bufStart + bufPos));
+			n += i;
+		}
 		return b;
 	}
 
+	/**
+	 * Read a binary field from the stream as a byte buffer.
+	 *
+	 * <p>
+	 * If the input is in memory, the returned buffer is a slice of the input array and no bytes are copied.
+	 */
+	ByteBuffer readByteBuffer() throws IOException {
+		if (! inMemory)
+			return ByteBuffer.wrap(readBinary());
+		int len = (int)length;
+		require(len);
+		ByteBuffer bb = ByteBuffer.wrap(buf, bufPos, len).slice();
+		bufPos += len;
+		return bb;
+	}
+
 	/**
 	 * Read an integer from the stream.
 	 */
 	int readInt() throws IOException {
 		if (length == 0)
 			return lastByte;
+		if (length == -1)
+			return (byte)lastByte;
 		if (length == 1)
-			return read();
+			return lastByte == INT8 ? (byte)readUInt1() : readUInt1();
 		if (length == 2)
-			return (read() << 8) | read();
-		int i = read(); i <<= 8; i |= read(); i <<= 8; i |= read(); i <<= 8; i |= read();
-		return i;
+			return lastByte == INT16 ? (short)readUInt2() : readUInt2();
+		return readInt4();
 	}
 
 	/**
 	 * Read a float from the stream.
 	 */
 	float readFloat() throws IOException {
-		return Float.intBitsToFloat(readInt());
+		return Float.intBitsToFloat(readInt4());
 	}
 
 	/**
@@ -439,8 +605,19 @@ public final class MsgPackInputStream extends ParserInputStream {
 	long readLong() throws IOException {
 		if (length == 4)
 			return readUInt4();
-		long l = read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read();
-		return l;
+		require(8);
+		byte[] b = buf;
+		int p = bufPos;
+		bufPos += 8;
+		return
+			((long)(b[p] & 0xFF) << 56)
+			| ((long)(b[p+1] & 0xFF) << 48)
+			| ((long)(b[p+2] & 0xFF) << 40)
+			| ((long)(b[p+3] & 0xFF) << 32)
+			| ((long)(b[p+4] & 0xFF) << 24)
+			| ((b[p+5] & 0xFF) << 16)
+			| ((b[p+6] & 0xFF) << 8)
+			| (b[p+7] & 0xFF);
 	}
 
 	/**
@@ -455,21 +632,35 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * Read one byte from the stream.
 	 */
 	private int readUInt1() throws IOException {
-		return read();
+		require(1);
+		return buf[bufPos++] & 0xFF;
 	}
 
 	/**
 	 * Read two bytes from the stream.
 	 */
 	private int readUInt2() throws IOException {
-		return (read() << 8) | read();
+		require(2);
+		int i = ((buf[bufPos] & 0xFF) << 8) | (buf[bufPos+1] & 0xFF);
+		bufPos += 2;
+		return i;
 	}
 
 	/**
 	 * Read four bytes from the stream.
 	 */
+	private int readInt4() throws IOException {
+		require(4);
+		byte[] b = buf;
+		int p = bufPos;
+		bufPos += 4;
+		return ((b[p] & 0xFF) << 24) | ((b[p+1] & 0xFF) << 16) | ((b[p+2] & 0xFF) << 8) | (b[p+3] & 0xFF);
+	}
+
+	/**
+	 * Read four bytes from the stream as an unsigned value.
+	 */
 	private long readUInt4() throws IOException {
-		long l = read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read();
-		return l;
+		return readInt4() & 0xFFFFFFFFL;
 	}
 }
@@ -12,15 +12,24 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
 import java.math.*;
+import java.nio.*;
+import java.util.*;
 import java.util.concurrent.atomic.*;
 
 /**
  * Specialized output stream for serializing MessagePack streams.
  *
+ * <p>
+ * Values are encoded directly into an internal byte buffer using bulk big-endian writes, and strings are encoded as
+ * UTF-8 in place without an intermediate byte array.
+ * <br>The buffer starts small and grows up to 8KB, after which it's written to the wrapped stream whenever it fills
+ * up.  It's also written when {@link #flush()} is called.
+ *
  * <ul class='notes'>
  * 	<li>
  * 		This class is not intended for external use.
@@ -28,7 +37,11 @@ import java.util.concurrent.atomic.*;
  */
 public final class MsgPackOutputStream extends OutputStream {
 
+	private static final int MIN_BUFFER_SIZE = 256, MAX_BUFFER_SIZE = 8192;
+
 	private final OutputStream os;
+	private byte[] buf = new byte[MIN_BUFFER_SIZE];
+	private int count;
 
 	/**
 	 * Constructor.
@@ -41,14 +54,66 @@ public final class MsgPackOutputStream extends OutputStream {
 
 	@Override /* OutputStream */
 	public void write(int b) throws IOException {
-		os.write(b);
+		if (count == buf.length)
+			ensure(1);
+		buf[count++] = (byte)b;
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > buf.length - count) {
+			if (len > MAX_BUFFER_SIZE) {
+				flushBuffer();
+				os.write(b, off, len);
+				return;
+			}
+			ensure(len);
+		}
+		System.arraycopy(b, off, buf, count, len);
+		count += len;
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		flushBuffer();
+		os.flush();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		flushBuffer();
+		os.close();
+	}
+
+	/**
+	 * Writes the contents of the internal buffer to the wrapped stream without flushing the wrapped stream.
+	 */
+	final void flushBuffer() throws IOException {
+		if (count > 0) {
+			os.write(buf, 0, count);
+			count = 0;
+		}
+	}
+
+	/*
+	 * Makes sure the specified number of bytes (at most MAX_BUFFER_SIZE) can be written to the internal buffer.
+	 */
+	private void ensure(int n) throws IOException {
+		if (n <= buf.length - count)
+			return;
+		if (buf.length < MAX_BUFFER_SIZE) {
+			buf = Arrays.copyOf(buf, Math.min(MAX_BUFFER_SIZE, Math.max(count + n, buf.length * 2)));
+			if (n <= buf.length - count)
+				return;
+		}
+		flushBuffer();
 	}
 
 	/**
 	 * Same as {@link #write(int)}.
 	 */
 	final MsgPackOutputStream append(byte b) throws IOException {
-		os.write(b);
+		write(b);
 		return this;
 	}
 
@@ -56,7 +121,7 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Same as {@link #write(byte[])}.
 	 */
 	final MsgPackOutputStream append(byte[] b) throws IOException {
-		os.write(b);
+		write(b, 0, b.length);
 		return this;
 	}
 
@@ -64,7 +129,7 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends one byte to the stream.
 	 */
 	final MsgPackOutputStream append1(int i) throws IOException {
-		os.write(i);
+		write(i);
 		return this;
 	}
 
@@ -72,21 +137,47 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends two bytes to the stream.
 	 */
 	final MsgPackOutputStream append2(int i) throws IOException {
-		return append1(i>>8).append1(i);
+		ensure(2);
+		byte[] b = buf;
+		int c = count;
+		b[c] = (byte)(i>>8);
+		b[c+1] = (byte)i;
+		count = c + 2;
+		return this;
 	}
 
 	/**
 	 * Appends four bytes to the stream.
 	 */
 	final MsgPackOutputStream append4(int i) throws IOException {
-		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+		ensure(4);
+		byte[] b = buf;
+		int c = count;
+		b[c] = (byte)(i>>24);
+		b[c+1] = (byte)(i>>16);
+		b[c+2] = (byte)(i>>8);
+		b[c+3] = (byte)i;
+		count = c + 4;
+		return this;
 	}
 
 	/**
 	 * Appends eight bytes to the stream.
 	 */
 	final MsgPackOutputStream append8(long l) throws IOException {
-		return append1((int)(l>>56)).append1((int)(l>>48)).append1((int)(l>>40)).append1((int)(l>>32)).append1((int)(l>>24)).append1((int)(l>>16)).append1((int)(l>>8)).append1((int)(l));
+		ensure(8);
+		byte[] b = buf;
+		int c = count;
+		b[c] = (byte)(l>>56);
+		b[c+1] = (byte)(l>>48);
+		b[c+2] = (byte)(l>>40);
+		b[c+3] = (byte)(l>>32);
+		b[c+4] = (byte)(l>>24);
+		b[c+5] = (byte)(l>>16);
+		b[c+6] = (byte)(l>>8);
+		b[c+7] = (byte)l;
+		count = c + 8;
+		return this;
 	}
 
 	/**
@@ -126,8 +217,8 @@ public final class MsgPackOutputStream extends OutputStream {
 				return append1(INT16).append2(i);
 			return append1(INT32).append4(i);
 		}
-		if (i > -(1<<6))
-			return append((byte)(0xE0 | -i));
+		if (i >= -(1<<5))
+			return append1(i);
 		if (i > -(1<<7))
 			return append1(INT8).append1(i);
 		if (i > -(1<<15))
@@ -214,14 +305,66 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * AAAAAAAA_AAAAAAAA_AAAAAAAA_AAAAAAAA is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		byte[] b = cs.toString().getBytes("UTF-8");
-		if (b.length < 32)
-			return append1(0xA0 + b.length).append(b);
-		if (b.length < (1<<8))
-			return append1(STR8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(STR16).append2(b.length).append(b);
-		return append1(STR32).append4(b.length).append(b);
+		// Strings that are guaranteed to fit in the buffer are encoded in place after a header sized for the
+		// worst case, and the bytes are shifted down afterwards if a shorter header is enough.
+		int max = cs.length() * 3;
+		int h = max < 32 ? 1 : max < (1<<8) ? 2 : max < (1<<16) ? 3 : 5;
+		if (h + max > MAX_BUFFER_SIZE) {
+			byte[] b = cs.toString().getBytes(UTF8);
+			return appendStringHeader(b.length).append(b);
+		}
+		ensure(h + max);
+		int start = count;
+		int len = encodeUtf8(cs, start + h) - (start + h);
+		int h2 = len < 32 ? 1 : len < (1<<8) ? 2 : len < (1<<16) ? 3 : 5;
+		if (h2 < h)
+			System.arraycopy(buf, start + h, buf, start + h2, len);
+		appendStringHeader(len);
+		count = start + h2 + len;
+		return this;
+	}
+
+	private MsgPackOutputStream appendStringHeader(int len) throws IOException {
+		if (len < 32)
+			return append1(0xA0 + len);
+		if (len < (1<<8))
+			return append1(STR8).append1(len);
+		if (len < (1<<16))
+			return append1(STR16).append2(len);
+		return append1(STR32).append4(len);
+	}
+
+	/*
+	 * Encodes the characters as UTF-8 into the buffer starting at the specified position.
+	 * Unpaired surrogates are replaced with '?' the same as String.getBytes(Charset).
+	 * Returns the position after the last byte written.
+	 */
+	private int encodeUtf8(CharSequence cs, int p) {
+		byte[] b = buf;
+		for (int i = 0, l = cs.length(); i < l; i++) {
+			char c = cs.charAt(i);
+			if (c < 0x80) {
+				b[p++] = (byte)c;
+			} else if (c < 0x800) {
+				b[p++] = (byte)(0xC0 | (c >> 6));
+				b[p++] = (byte)(0x80 | (c & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				if (Character.isHighSurrogate(c) && i + 1 < l && Character.isLowSurrogate(cs.charAt(i+1))) {
+					int cp = Character.toCodePoint(c, cs.charAt(++i));
+					b[p++] = (byte)(0xF0 | (cp >> 18));
+					b[p++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+					b[p++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+					b[p++] = (byte)(0x80 | (cp & 0x3F));
+				} else {
+					b[p++] = '?';
+				}
+			} else {
+				b[p++] = (byte)(0xE0 | (c >> 12));
+				b[p++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+				b[p++] = (byte)(0x80 | (c & 0x3F));
+			}
+		}
+		return p;
 	}
 
 	/**
@@ -249,11 +392,59 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * ZZZZZZZZ_ZZZZZZZZ_ZZZZZZZZ_ZZZZZZZZ is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		if (b.length < (1<<8))
-			return append1(BIN8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(BIN16).append2(b.length).append(b);
-		return append1(BIN32).append4(b.length).append(b);
+		return appendBinaryHeader(b.length).append(b);
+	}
+
+	/**
+	 * Appends the remaining bytes of a byte buffer to the stream as a binary field.
+	 *
+	 * <p>
+	 * The position of the buffer is not changed.
+	 */
+	final MsgPackOutputStream appendBinary(ByteBuffer bb) throws IOException {
+		int len = bb.remaining();
+		appendBinaryHeader(len);
+		if (bb.hasArray())
+			return appendBytes(bb.array(), bb.arrayOffset() + bb.position(), len);
+		ByteBuffer d = bb.duplicate();
+		while (d.hasRemaining()) {
+			if (count == buf.length)
+				ensure(Math.min(d.remaining(), MAX_BUFFER_SIZE));
+			int n = Math.min(d.remaining(), buf.length - count);
+			d.get(buf, count, n);
+			count += n;
+		}
+		return this;
+	}
+
+	/**
+	 * Copies the contents of an input stream to this stream.
+	 *
+	 * <p>
+	 * Bytes are read directly into the internal buffer.
+	 */
+	final MsgPackOutputStream appendStream(InputStream is) throws IOException {
+		while (true) {
+			if (count == buf.length)
+				ensure(MAX_BUFFER_SIZE);
+			int n = is.read(buf, count, buf.length - count);
+			if (n == -1)
+				return this;
+			count += n;
+		}
+	}
+
+	private MsgPackOutputStream appendBytes(byte[] b, int off, int len) throws IOException {
+		write(b, off, len);
+		return this;
+	}
+
+	private MsgPackOutputStream appendBinaryHeader(int len) throws IOException {
+		if (len < (1<<8))
+			return append1(BIN8).append1(len);
+		if (len < (1<<16))
+			return append1(BIN16).append2(len);
+		return append1(BIN32).append4(len);
 	}
 
 	/**
@@ -15,6 +15,7 @@ package org.apache.juneau.msgpack;
 import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.IOException;
+import java.nio.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -92,7 +93,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 			else if (dt == STRING)
 				o = trim(is.readString());
 			else if (dt == BIN)
-				o = is.readBinary();
+				o = sType.getInnerClass() == ByteBuffer.class ? is.readByteBuffer() : is.readBinary();
 			else if (dt == ARRAY && sType.isObject()) {
 				OList ol = new OList(this);
 				for (int i = 0; i < length; i++)
@@ -107,6 +108,8 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 
 			if (sType.isObject()) {
 				// Do nothing.
+			} else if (dt == BIN && (sType.isByteArray() || o instanceof ByteBuffer)) {
+				// Binary fields are read directly into the target type.
 			} else if (sType.isBoolean() || sType.isCharSequence() || sType.isChar() || sType.isNumber()) {
 				o = convertToType(o, sType);
 			} else if (sType.isMap()) {
@@ -12,7 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
-import java.io.IOException;
+import java.io.*;
+import java.nio.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -51,7 +52,9 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 
 	@Override /* SerializerSession */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
-		serializeAnything(getMsgPackOutputStream(out), o, getExpectedRootType(o), "root", null);
+		MsgPackOutputStream os = getMsgPackOutputStream(out);
+		serializeAnything(os, o, getExpectedRootType(o), "root", null);
+		os.flushBuffer();
 	}
 
 	/*
@@ -99,8 +102,11 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		sType = aType;
 		String typeName = getBeanTypeName(this, eType, aType, pMeta);
 
+		// Streaming sources are encoded as they're pulled instead of being swapped to lists.
+		Iterator<Object> streamed = toStreamingIterator(o, aType);
+
 		// Swap if necessary
-		PojoSwap swap = aType.getSwap(this);
+		PojoSwap swap = streamed == null ? aType.getSwap(this) : null;
 		if (swap != null) {
 			o = swap(swap, o);
 			sType = swap.getSwapClassMeta(this);
@@ -114,6 +120,12 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		// '\0' characters are considered null.
 		if (o == null || (sType.isChar() && ((Character)o).charValue() == 0))
 			out.appendNull();
+		else if (streamed != null)
+			serializeStreamed(out, streamed, eType);
+		else if (o instanceof ByteBuffer)
+			out.appendBinary((ByteBuffer)o);
+		else if (sType.isByteArray())
+			out.appendBinary((byte[])o);
 		else if (sType.isBoolean())
 			out.appendBoolean((Boolean)o);
 		else if (sType.isNumber())
@@ -134,7 +146,10 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		else if (sType.isArray()) {
 			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
 		}
-		else if (sType.isReader() || sType.isInputStream()) {
+		else if (sType.isInputStream()) {
+			out.appendStream((InputStream)o);
+		}
+		else if (sType.isReader()) {
 			IOUtils.pipe(o, out);
 		}
 		else
@@ -235,6 +250,28 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 			serializeAnything(out, o, elementType, "<iterator>", null);
 	}
 
+	/*
+	 * MessagePack arrays are prefixed with their length, so the elements are encoded into a buffer as they're pulled
+	 * from the source and the buffer is written after the array header.
+	 * The elements themselves are not retained.
+	 */
+	private void serializeStreamed(MsgPackOutputStream out, Iterator<Object> i, ClassMeta<?> type) throws IOException, SerializeException {
+
+		ClassMeta<?> elementType = type.getElementType();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		MsgPackOutputStream buff = new MsgPackOutputStream(baos);
+
+		int count = 0;
+		while (i.hasNext()) {
+			serializeAnything(buff, i.next(), elementType, "<iterator>", null);
+			count++;
+		}
+		buff.flushBuffer();
+
+		out.startArray(count);
+		baos.writeTo(out);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
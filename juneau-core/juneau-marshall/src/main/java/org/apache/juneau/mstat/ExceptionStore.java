@@ -110,16 +110,16 @@ public class ExceptionStore {
 			.stackTrace(hasher.getStackTrace(e))
 			.causedBy(e.getCause() == null ? null : findInfo(e.getCause()));
 
-		sdb.put(hash, stc);
-
-		return sdb.get(hash);
+		// Only replace a missing or expired entry so that concurrent callers end up incrementing the same instance.
+		ExceptionStats stc2 = stc;
+		return sdb.compute(hash, (k,v) -> v != null && ! v.isExpired() ? v : stc2);
 	}
 
 	private ExceptionInfo findInfo(Throwable e) {
 
 		int hash = hasher.hash(e);
 
-		ExceptionInfo ei = sdb.get(hash);
+		ExceptionInfo ei = idb.get(hash);
 		if (ei == null) {
 			ei = ExceptionInfo
 				.create()
@@ -128,7 +128,9 @@ public class ExceptionStore {
 				.exceptionClass(e.getClass().getName())
 				.stackTrace(hasher.getStackTrace(e))
 				.causedBy(e.getCause() == null ? null : findInfo(e.getCause()));
-			idb.put(hash, ei);
+			ExceptionInfo ei2 = idb.putIfAbsent(hash, ei);
+			if (ei2 != null)
+				ei = ei2;
 		}
 
 		return ei;
@@ -29,9 +29,9 @@ import org.apache.juneau.utils.*;
 public class MethodExecStats implements Comparable<MethodExecStats> {
 
 	private String method;
-	private volatile int minTime = -1, maxTime;
-
 	private AtomicInteger
+		minTime = new AtomicInteger(-1),
+		maxTime = new AtomicInteger(),
 		starts = new AtomicInteger(),
 		finishes = new AtomicInteger(),
 		errors = new AtomicInteger();
@@ -76,8 +76,8 @@ public class MethodExecStats implements Comparable<MethodExecStats> {
 		finishes.incrementAndGet();
 		int milliTime = (int)(nanoTime/1_000_000);
 		totalTime.addAndGet(nanoTime);
-		minTime = minTime == -1 ? milliTime : Math.min(minTime, milliTime);
-		maxTime = Math.max(maxTime, milliTime);
+		minTime.accumulateAndGet(milliTime, (x,y) -> x == -1 ? y : Math.min(x, y));
+		maxTime.accumulateAndGet(milliTime, Math::max);
 	}
 
 	/**
@@ -131,7 +131,8 @@ public class MethodExecStats implements Comparable<MethodExecStats> {
 	 * @return The average execution time in milliseconds.
 	 */
 	public int getMinTime() {
-		return minTime == -1 ? 0 : minTime;
+		int x = minTime.get();
+		return x == -1 ? 0 : x;
 	}
 
 	/**
@@ -140,7 +141,7 @@ public class MethodExecStats implements Comparable<MethodExecStats> {
 	 * @return The average execution time in milliseconds.
 	 */
 	public int getMaxTime() {
-		return maxTime;
+		return maxTime.get();
 	}
 
 	/**
@@ -13,6 +13,7 @@
 package org.apache.juneau.parser;
 
 import java.io.*;
+import java.lang.ref.*;
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -308,6 +309,64 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_listener = PREFIX + ".listener.c";
 
+	/**
+	 * Configuration property:  Reuse sessions.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.parser.Parser#PARSER_reuseSessions PARSER_reuseSessions}
+	 * 	<li><b>Name:</b>  <js>"Parser.reuseSessions.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>Parser.reuseSessions</c>
+	 * 	<li><b>Environment variable:</b>  <c>PARSER_REUSESESSIONS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserBuilder#reuseSessions()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * When enabled, the convenience methods on this parser (e.g. {@link #parse(String, Class)}) reuse a session
+	 * confined to the calling thread instead of creating a new session on every call.
+	 *
+	 * <p>
+	 * The session is {@link ParserSession#reset() reset} after each call.
+	 * <br>This avoids the cost of constructing sessions when parsing many small inputs.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>Sessions created through {@link #createSession()} or {@link #createSession(ParserSessionArgs)} are never reused.
+	 * 	<li>The same {@link ParserListener} instance is used for all calls made through the reused session.
+	 * 	<li>Each thread keeps at most one idle session.
+	 * 		<br>The idle session is only softly referenced so that it doesn't keep this parser (and the class loader
+	 * 		that loaded it) reachable from the thread.
+	 * 		<br>It may be discarded by the garbage collector when memory runs low, in which case the next call creates a
+	 * 		new session.
+	 * </ul>
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that reuses sessions.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.reuseSessions()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_reuseSessions</jsf>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Subsequent calls on the same thread use the same session.</jc>
+	 * 	MyBean myBean = p.parse(json, MyBean.<jk>class</jk>);
+	 * </p>
+	 */
+	public static final String PARSER_reuseSessions = PREFIX + ".reuseSessions.b";
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -523,9 +582,10 @@ public abstract class Parser extends BeanContext {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean trimStrings, strict, autoCloseStreams, unbuffered;
+	private final boolean trimStrings, strict, autoCloseStreams, unbuffered, reuseSessions;
 	private final int debugOutputLines;
 	private final Class<? extends ParserListener> listener;
+	private final ThreadLocal<SoftReference<ParserSession>> sessionPool;
 
 	/** General parser properties currently set on this parser. */
 	private final MediaType[] consumes;
@@ -545,6 +605,8 @@ public abstract class Parser extends BeanContext {
 		debugOutputLines = getIntegerProperty(PARSER_debugOutputLines, 5);
 		unbuffered = getBooleanProperty(PARSER_unbuffered);
 		listener = getClassProperty(PARSER_listener, ParserListener.class);
+		reuseSessions = getBooleanProperty(PARSER_reuseSessions);
+		sessionPool = reuseSessions ? new ThreadLocal<>() : null;
 		this.consumes = new MediaType[consumes.length];
 		for (int i = 0; i < consumes.length; i++) {
 			this.consumes[i] = MediaType.of(consumes[i]);
@@ -680,7 +742,12 @@ public abstract class Parser extends BeanContext {
 	 * @see BeanSession#getClassMeta(Type,Type...) for argument syntax for maps and collections.
 	 */
 	public final <T> T parse(Object input, Type type, Type...args) throws ParseException, IOException {
-		return createSession().parse(input, type, args);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type, args);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -701,7 +768,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws ParseException Malformed input encountered.
 	 */
 	public final <T> T parse(String input, Type type, Type...args) throws ParseException {
-		return createSession().parse(input, type, args);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type, args);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -740,7 +812,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws IOException Thrown by the underlying stream.
 	 */
 	public final <T> T parse(Object input, Class<T> type) throws ParseException, IOException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -755,7 +832,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws ParseException Malformed input encountered.
 	 */
 	public final <T> T parse(String input, Class<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -775,7 +857,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws IOException Thrown by the underlying stream.
 	 */
 	public final <T> T parse(Object input, ClassMeta<T> type) throws ParseException, IOException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -790,7 +877,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws ParseException Malformed input encountered.
 	 */
 	public final <T> T parse(String input, ClassMeta<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	@Override /* Context */
@@ -803,6 +895,43 @@ public abstract class Parser extends BeanContext {
 		return new ParserSessionArgs().mediaType(getPrimaryMediaType());
 	}
 
+	/**
+	 * Returns a session for use by the convenience parse methods.
+	 *
+	 * <p>
+	 * If {@link #PARSER_reuseSessions} is enabled, returns the idle session for the current thread if there is one.
+	 * <br>Otherwise returns a new session.
+	 * <br>The session must be returned through {@link #releaseSession(ParserSession)} once the call has completed.
+	 *
+	 * @return A session with the default session arguments.
+	 */
+	protected final ParserSession acquireSession() {
+		if (sessionPool != null) {
+			SoftReference<ParserSession> r = sessionPool.get();
+			ParserSession s = r == null ? null : r.get();
+			sessionPool.remove();
+			if (s != null)
+				return s;
+		}
+		return createSession();
+	}
+
+	/**
+	 * Returns a session acquired through {@link #acquireSession()}.
+	 *
+	 * <p>
+	 * If {@link #PARSER_reuseSessions} is enabled, the session is reset and kept as the idle session for the
+	 * current thread.
+	 *
+	 * @param session The session to return.
+	 */
+	protected final void releaseSession(ParserSession session) {
+		if (sessionPool != null) {
+			session.reset();
+			sessionPool.set(new SoftReference<>(session));
+		}
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Optional methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -832,7 +961,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <K,V> Map<K,V> parseIntoMap(Object input, Map<K,V> m, Type keyType, Type valueType) throws ParseException {
-		return createSession().parseIntoMap(input, m, keyType, valueType);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseIntoMap(input, m, keyType, valueType);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -855,7 +989,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <E> Collection<E> parseIntoCollection(Object input, Collection<E> c, Type elementType) throws ParseException {
-		return createSession().parseIntoCollection(input, c, elementType);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseIntoCollection(input, c, elementType);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -881,7 +1020,12 @@ public abstract class Parser extends BeanContext {
 	public final Object[] parseArgs(Object input, Type[] argTypes) throws ParseException {
 		if (argTypes == null || argTypes.length == 0)
 			return new Object[0];
-		return createSession().parseArgs(input, argTypes);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseArgs(input, argTypes);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 
@@ -959,6 +1103,17 @@ public abstract class Parser extends BeanContext {
 		return listener;
 	}
 
+	/**
+	 * Reuse sessions.
+	 *
+	 * @see #PARSER_reuseSessions
+	 * @return
+	 * 	<jk>true</jk> if the convenience parse methods reuse a session confined to the calling thread.
+	 */
+	protected final boolean isReuseSessions() {
+		return reuseSessions;
+	}
+
 	/**
 	 * Strict mode.
 	 *
@@ -1004,6 +1159,7 @@ public abstract class Parser extends BeanContext {
 				.a("autoCloseStreams", autoCloseStreams)
 				.a("debugOutputLines", debugOutputLines)
 				.a("listener", listener)
+				.a("reuseSessions", reuseSessions)
 				.a("strict", strict)
 				.a("trimStrings", trimStrings)
 				.a("unbuffered", unbuffered)
@@ -179,6 +179,33 @@ public class ParserBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * <i><l>Parser</l> configuration property:&emsp;</i>  Reuse sessions.
+	 *
+	 * <p>
+	 * When enabled, the convenience parse methods reuse a session confined to the calling thread instead of
+	 * creating a new session on every call.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that reuses sessions.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.reuseSessions()
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_reuseSessions}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public ParserBuilder reuseSessions() {
+		return set(PARSER_reuseSessions);
+	}
+
 
 	/**
 	 * <i><l>Parser</l> configuration property:&emsp;</i>  Strict mode.
@@ -765,6 +792,12 @@ public class ParserBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public ParserBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	// </FluentSetters>
 
 	@Override /* Context */
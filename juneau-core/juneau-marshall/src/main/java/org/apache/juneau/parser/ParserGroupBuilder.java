@@ -206,6 +206,22 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Reuse sessions.
+	 *
+	 * <p>
+	 * When enabled, the convenience parse methods reuse a session confined to the calling thread.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_reuseSessions}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder reuseSessions() {
+		return set(PARSER_reuseSessions);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -804,5 +820,11 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public ParserGroupBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	// </FluentSetters>
 }
@@ -26,7 +26,7 @@ import java.io.*;
 public class ParserInputStream extends InputStream implements Positionable {
 
 	private final InputStream is;
-	int pos = 0;
+	int pos = 0, markPos = 0;
 
 	/**
 	 * Constructor.
@@ -47,6 +47,39 @@ public class ParserInputStream extends InputStream implements Positionable {
 		return i;
 	}
 
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		int i = is.read(b, off, len);
+		if (i > 0)
+			pos += i;
+		return i;
+	}
+
+	@Override /* InputStream */
+	public long skip(long n) throws IOException {
+		long i = is.skip(n);
+		if (i > 0)
+			pos += i;
+		return i;
+	}
+
+	@Override /* InputStream */
+	public boolean markSupported() {
+		return is.markSupported();
+	}
+
+	@Override /* InputStream */
+	public synchronized void mark(int readlimit) {
+		is.mark(readlimit);
+		markPos = pos;
+	}
+
+	@Override /* InputStream */
+	public synchronized void reset() throws IOException {
+		is.reset();
+		pos = markPos;
+	}
+
 	@Override /* Positionable */
 	public Position getPosition() {
 		return new Position(pos);
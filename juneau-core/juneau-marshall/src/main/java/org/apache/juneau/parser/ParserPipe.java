@@ -56,6 +56,7 @@ public final class ParserPipe implements Closeable {
 	private final Charset charset;
 
 	private String inputString;
+	private byte[] inputBytes;
 	private InputStream inputStream;
 	private Reader reader;
 	private ParserReader parserReader;
@@ -157,27 +158,29 @@ public final class ParserPipe implements Closeable {
 
 		if (input instanceof InputStream) {
 			if (debug) {
-				byte[] b = readBytes((InputStream)input, 1024);
-				inputString = toHex(b);
-				inputStream = new ByteArrayInputStream(b);
+				inputBytes = readBytes((InputStream)input, 1024);
+				inputString = toHex(inputBytes);
+				inputStream = new ByteArrayInputStream(inputBytes);
 			} else {
 				inputStream = (InputStream)input;
 				doClose = autoCloseStreams;
 			}
 		} else if (input instanceof byte[]) {
+			inputBytes = (byte[])input;
 			if (debug)
-				inputString = toHex((byte[])input);
-			inputStream = new ByteArrayInputStream((byte[])input);
+				inputString = toHex(inputBytes);
+			inputStream = new ByteArrayInputStream(inputBytes);
 			doClose = false;
 		} else if (input instanceof String) {
 			inputString = (String)input;
-			inputStream = new ByteArrayInputStream(convertFromString((String)input));
+			inputBytes = convertFromString((String)input);
+			inputStream = new ByteArrayInputStream(inputBytes);
 			doClose = false;
 		} else if (input instanceof File) {
 			if (debug) {
-				byte[] b = readBytes((File)input);
-				inputString = toHex(b);
-				inputStream = new ByteArrayInputStream(b);
+				inputBytes = readBytes((File)input);
+				inputString = toHex(inputBytes);
+				inputStream = new ByteArrayInputStream(inputBytes);
 			} else {
 				inputStream = new FileInputStream((File)input);
 				doClose = true;
@@ -290,6 +293,21 @@ public final class ParserPipe implements Closeable {
 		return inputString;
 	}
 
+	/**
+	 * Returns the input to this pipe as a byte array if it's already available in memory.
+	 *
+	 * <p>
+	 * This method only returns a value after {@link #getInputStream()} has been called, and only if the input was
+	 * passed in as a byte array or string, or was read fully into memory because {@link Context#CONTEXT_debug} is
+	 * enabled.
+	 * <br>Binary parsers can use it to decode directly from the array instead of going through the input stream.
+	 *
+	 * @return The input as a byte array, or <jk>null</jk> if it's not available.
+	 */
+	public byte[] getInputBytes() {
+		return inputBytes;
+	}
+
 	/**
 	 * Returns the contents of this pipe as a string.
 	 *
@@ -322,6 +322,30 @@ public class ParserReader extends Reader implements Positionable {
 		return s;
 	}
 
+	/**
+	 * Same as {@link #getMarked(int, int)} except looks up the marked characters in the specified table instead of
+	 * creating a string.
+	 *
+	 * <p>
+	 * If a match is found, the mark is reset as if {@link #getMarked(int, int)} had been called.
+	 * <br>Otherwise the mark is left in place so that the characters can still be retrieved by
+	 * {@link #getMarked(int, int)}.
+	 *
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @param table The table to look up the marked characters in.
+	 * @return The matching value in the table, or <jk>null</jk> if not found or the buffer contains deleted characters.
+	 */
+	public final <V> V getMarked(int offsetStart, int offsetEnd, NameTable<V> table) {
+		if (holesExist)
+			return null;
+		int start = iMark + offsetStart, len = iCurrent - iMark + offsetEnd - offsetStart;
+		V v = table.get(buff, start, len);
+		if (v != null)
+			iMark = -1;
+		return v;
+	}
+
 	/**
 	 * Trims off the last character in the marking buffer.
 	 *
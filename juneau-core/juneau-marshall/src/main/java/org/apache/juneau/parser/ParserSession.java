@@ -895,6 +895,15 @@ public abstract class ParserSession extends BeanSession {
 		mark.position = -1;
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		currentProperty = null;
+		currentClass = null;
+		pipe = null;
+		unmark();
+	}
+
 	/**
 	 * Returns the input as a string.
 	 *
@@ -156,7 +156,12 @@ public abstract class OutputStreamSerializer extends Serializer {
 	 */
 	@Override
 	public final byte[] serialize(Object o) throws SerializeException {
-		return createSession(createDefaultSessionArgs()).serialize(o);
+		OutputStreamSerializerSession s = (OutputStreamSerializerSession)acquireSession();
+		try {
+			return s.serialize(o);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -13,6 +13,7 @@
 package org.apache.juneau.serializer;
 
 import java.io.*;
+import java.lang.ref.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -317,6 +318,64 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_keepNullProperties = PREFIX + ".keepNullProperties.b";
 
+	/**
+	 * Configuration property:  Reuse sessions.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.serializer.Serializer#SERIALIZER_reuseSessions SERIALIZER_reuseSessions}
+	 * 	<li><b>Name:</b>  <js>"Serializer.reuseSessions.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>Serializer.reuseSessions</c>
+	 * 	<li><b>Environment variable:</b>  <c>SERIALIZER_REUSESESSIONS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.serializer.SerializerBuilder#reuseSessions()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * When enabled, the convenience methods on this serializer (e.g. {@link #serialize(Object)}) reuse a session
+	 * confined to the calling thread instead of creating a new session on every call.
+	 *
+	 * <p>
+	 * The session is {@link SerializerSession#reset() reset} after each call.
+	 * <br>This avoids the cost of constructing sessions when serializing many small POJOs.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>Sessions created through {@link #createSession()} or {@link #createSession(SerializerSessionArgs)} are never reused.
+	 * 	<li>The same {@link SerializerListener} instance is used for all calls made through the reused session.
+	 * 	<li>Each thread keeps at most one idle session.
+	 * 		<br>The idle session is only softly referenced so that it doesn't keep this serializer (and the class loader
+	 * 		that loaded it) reachable from the thread.
+	 * 		<br>It may be discarded by the garbage collector when memory runs low, in which case the next call creates a
+	 * 		new session.
+	 * </ul>
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that reuses sessions.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.reuseSessions()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_reuseSessions</jsf>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Subsequent calls on the same thread use the same session.</jc>
+	 * 	String json = s.serialize(<jk>new</jk> MyBean());
+	 * </p>
+	 */
+	public static final String SERIALIZER_reuseSessions = PREFIX + ".reuseSessions.b";
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -787,7 +846,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		trimStrings,
 		sortCollections,
 		sortMaps,
-		addRootType;
+		addRootType,
+		reuseSessions;
 	private final UriContext uriContext;
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
@@ -797,6 +857,8 @@ public abstract class Serializer extends BeanTraverseContext {
 	private final MediaType[] accepts;
 	private final MediaType produces;
 
+	private final ThreadLocal<SoftReference<SerializerSession>> sessionPool;
+
 	/**
 	 * Constructor
 	 *
@@ -838,6 +900,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		uriResolution = getProperty(SERIALIZER_uriResolution, UriResolution.class, UriResolution.NONE);
 		uriRelativity = getProperty(SERIALIZER_uriRelativity, UriRelativity.class, UriRelativity.RESOURCE);
 		listener = getClassProperty(SERIALIZER_listener, SerializerListener.class);
+		reuseSessions = getBooleanProperty(SERIALIZER_reuseSessions);
+		sessionPool = reuseSessions ? new ThreadLocal<>() : null;
 
 		this.produces = MediaType.of(produces);
 		this.accept = accept == null ? MediaRanges.of(produces) : MediaRanges.of(accept);
@@ -915,7 +979,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws IOException Thrown by the underlying stream.
 	 */
 	public final void serialize(Object o, Object output) throws SerializeException, IOException {
-		createSession().serialize(o, output);
+		SerializerSession s = acquireSession();
+		try {
+			s.serialize(o, output);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -930,7 +999,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public Object serialize(Object o) throws SerializeException {
-		return createSession().serialize(o);
+		SerializerSession s = acquireSession();
+		try {
+			return s.serialize(o);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -946,7 +1020,49 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final String serializeToString(Object o) throws SerializeException {
-		return createSession().serializeToString(o);
+		SerializerSession s = acquireSession();
+		try {
+			return s.serializeToString(o);
+		} finally {
+			releaseSession(s);
+		}
+	}
+
+	/**
+	 * Returns a session for use by the convenience serialize methods.
+	 *
+	 * <p>
+	 * If {@link #SERIALIZER_reuseSessions} is enabled, returns the idle session for the current thread if there is one.
+	 * <br>Otherwise returns a new session.
+	 * <br>The session must be returned through {@link #releaseSession(SerializerSession)} once the call has completed.
+	 *
+	 * @return A session with the default session arguments.
+	 */
+	protected final SerializerSession acquireSession() {
+		if (sessionPool != null) {
+			SoftReference<SerializerSession> r = sessionPool.get();
+			SerializerSession s = r == null ? null : r.get();
+			sessionPool.remove();
+			if (s != null)
+				return s;
+		}
+		return createSession();
+	}
+
+	/**
+	 * Returns a session acquired through {@link #acquireSession()}.
+	 *
+	 * <p>
+	 * If {@link #SERIALIZER_reuseSessions} is enabled, the session is reset and kept as the idle session for the
+	 * current thread.
+	 *
+	 * @param session The session to return.
+	 */
+	protected final void releaseSession(SerializerSession session) {
+		if (sessionPool != null) {
+			session.reset();
+			sessionPool.set(new SoftReference<>(session));
+		}
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1047,6 +1163,17 @@ public abstract class Serializer extends BeanTraverseContext {
 		return listener;
 	}
 
+	/**
+	 * Reuse sessions.
+	 *
+	 * @see #SERIALIZER_reuseSessions
+	 * @return
+	 * 	<jk>true</jk> if the convenience serialize methods reuse a session confined to the calling thread.
+	 */
+	protected final boolean isReuseSessions() {
+		return reuseSessions;
+	}
+
 	/**
 	 * Sort arrays and collections alphabetically.
 	 *
@@ -1162,6 +1289,7 @@ public abstract class Serializer extends BeanTraverseContext {
 				.a("sortCollections", sortCollections)
 				.a("sortMaps", sortMaps)
 				.a("addRootType", addRootType)
+				.a("reuseSessions", reuseSessions)
 				.a("uriContext", uriContext)
 				.a("uriResolution", uriResolution)
 				.a("uriRelativity", uriRelativity)
@@ -242,6 +242,33 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Reuse sessions.
+	 *
+	 * <p>
+	 * When enabled, the convenience serialize methods reuse a session confined to the calling thread instead of
+	 * creating a new session on every call.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that reuses sessions.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.reuseSessions()
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_reuseSessions}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public SerializerBuilder reuseSessions() {
+		return set(SERIALIZER_reuseSessions);
+	}
+
 	/**
 	 * <i><l>Serializer</l> configuration property:&emsp;</i>  Sort arrays and collections alphabetically.
 	 *
@@ -985,6 +1012,12 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public SerializerBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - BeanTraverseBuilder */
 	public SerializerBuilder detectRecursions() {
 		super.detectRecursions();
@@ -1009,6 +1042,12 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanTraverseBuilder */
+	public SerializerBuilder recursionScanDepth(int value) {
+		super.recursionScanDepth(value);
+		return this;
+	}
+
 	// </FluentSetters>
 
 	@Override /* Context */
@@ -122,6 +122,10 @@ public final class SerializerPipe implements Closeable {
 	 * 	<li>{@link File} - Output will be written as system-default encoded stream.
 	 * </ul>
 	 *
+	 * <p>
+	 * UTF-8 encoded streams are written through a {@link Utf8Writer} that encodes characters directly into the
+	 * stream without going through a charset encoder.
+	 *
 	 * @return
 	 * 	The output object wrapped in a writer.
 	 * 	Calling {@link Writer#close()} on the returned object simply flushes the response and does not close
@@ -134,6 +138,8 @@ public final class SerializerPipe implements Closeable {
 
 		if (output instanceof Writer)
 			writer = (Writer)output;
+		else if (output instanceof OutputStream && UTF8.equals(charset))
+			return writer = new Utf8Writer(new NoCloseOutputStream((OutputStream)output));
 		else if (output instanceof OutputStream)
 			writer = new OutputStreamWriter((OutputStream)output, charset);
 		else if (output instanceof File)
@@ -20,6 +20,7 @@ import java.io.*;
 import java.lang.reflect.*;
 import java.text.*;
 import java.util.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -28,6 +29,7 @@ import org.apache.juneau.reflect.*;
 import org.apache.juneau.soap.*;
 import org.apache.juneau.svl.*;
 import org.apache.juneau.transform.*;
+import org.apache.juneau.transforms.*;
 
 /**
  * Serializer session that lives for the duration of a single use of {@link Serializer}.
@@ -51,11 +53,17 @@ import org.apache.juneau.transform.*;
  */
 public abstract class SerializerSession extends BeanTraverseSession {
 
+	/**
+	 * The number of elements written from a streaming source between flushes of the output.
+	 */
+	protected static final int STREAM_FLUSH_INTERVAL = 100;
+
 	private final Serializer ctx;
 	private final UriResolver uriResolver;
 	private VarResolverSession vrs;
 
 	private final Method javaMethod;                                                // Java method that invoked this serializer.
+	private List<BaseStream<?,?>> streams;                                          // Streams being serialized, closed when serialization ends.
 
 	// Writable properties
 	private final SerializerListener listener;
@@ -223,6 +231,7 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		} catch (Exception e) {
 			throw new SerializeException(this, e);
 		} finally {
+			closeStreams();
 			checkForWarnings();
 		}
 	}
@@ -419,6 +428,92 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return Arrays.asList((Object[])array);
 	}
 
+	/**
+	 * Returns an iterator over the elements of the specified object if it's a streaming source.
+	 *
+	 * <p>
+	 * Streaming sources are {@link Iterator}, {@link Enumeration}, and {@link Stream} objects.
+	 * <br>Serializers use this to write the elements as they are pulled from the source instead of first copying them
+	 * into an intermediate list.
+	 * <br>Other {@link Iterable} objects are not streaming sources and are serialized based on their class type
+	 * (e.g. {@link java.nio.file.Path} objects are serialized as strings).
+	 *
+	 * <p>
+	 * {@link Stream} sources are closed when serialization ends so that any {@link BaseStream#onClose(Runnable)}
+	 * handlers are run.
+	 *
+	 * <p>
+	 * Objects with swaps other than the default {@link IteratorSwap}, {@link EnumerationSwap}, and {@link StreamSwap}
+	 * are not considered streaming sources.
+	 * <br>If {@link #isSortCollections()} is enabled, the elements are copied and sorted before being returned.
+	 *
+	 * @param o The object being serialized.
+	 * @param aType The class type of the object.
+	 * @return An iterator over the elements, or <jk>null</jk> if the object is not a streaming source.
+	 */
+	@SuppressWarnings("unchecked")
+	protected final Iterator<Object> toStreamingIterator(Object o, ClassMeta<?> aType) {
+		if (o == null || aType.isCollectionOrArray() || aType.isMapOrBean())
+			return null;
+		PojoSwap<?,?> swap = aType.getSwap(this);
+		if (swap != null && ! (swap instanceof IteratorSwap || swap instanceof EnumerationSwap || swap instanceof StreamSwap))
+			return null;
+		Iterator<Object> i = null;
+		if (o instanceof Iterator)
+			i = (Iterator<Object>)o;
+		else if (o instanceof Enumeration) {
+			final Enumeration<Object> e = (Enumeration<Object>)o;
+			i = new Iterator<Object>() {
+				@Override /* Iterator */
+				public boolean hasNext() {
+					return e.hasMoreElements();
+				}
+				@Override /* Iterator */
+				public Object next() {
+					return e.nextElement();
+				}
+			};
+		}
+		else if (o instanceof Stream) {
+			if (streams == null)
+				streams = new ArrayList<>();
+			streams.add((Stream<Object>)o);
+			i = ((Stream<Object>)o).iterator();
+		}
+		if (i != null && isSortCollections()) {
+			List<Object> l = new ArrayList<>();
+			i.forEachRemaining(l::add);
+			i = sort(l).iterator();
+		}
+		return i;
+	}
+
+	/**
+	 * Closes any {@link Stream} sources returned by {@link #toStreamingIterator(Object, ClassMeta)}.
+	 */
+	private void closeStreams() {
+		if (streams != null) {
+			for (BaseStream<?,?> s : streams)
+				s.close();
+			streams = null;
+		}
+	}
+
+	/**
+	 * Flushes the specified output after every {@value #STREAM_FLUSH_INTERVAL} elements written from a streaming source.
+	 *
+	 * <p>
+	 * Allows the elements already serialized to reach the client while the source is still producing more.
+	 *
+	 * @param out The output being written to.
+	 * @param count The number of elements written so far.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected static final void flushStreamed(Flushable out, int count) throws IOException {
+		if (count % STREAM_FLUSH_INTERVAL == 0)
+			out.flush();
+	}
+
 	/**
 	 * Converts a String to an absolute URI based on the {@link UriContext} on this session.
 	 *
@@ -17,6 +17,7 @@ import java.time.temporal.*;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.regex.*;
+import java.util.stream.*;
 
 import javax.xml.datatype.*;
 
@@ -32,6 +33,7 @@ public class DefaultSwaps {
 	static {
 		POJO_SWAPS.put(Enumeration.class, new EnumerationSwap());
 		POJO_SWAPS.put(Iterator.class, new IteratorSwap());
+		POJO_SWAPS.put(Stream.class, new StreamSwap());
 		POJO_SWAPS.put(Locale.class, new LocaleSwap());
 		POJO_SWAPS.put(Class.class, new ClassSwap());
 		POJO_SWAPS.put(Calendar.class, new TemporalCalendarSwap.IsoOffsetDateTime());
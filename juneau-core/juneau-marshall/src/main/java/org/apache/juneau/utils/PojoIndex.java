@@ -0,0 +1,198 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import java.lang.ref.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+
+/**
+ * A secondary index over a single column of a collection of beans or maps, used by {@link PojoQuery}.
+ *
+ * <p>
+ * Indexes are registered against a specific collection instance.
+ * <br>When {@link PojoQuery#filter(SearchArgs)} is called on that same collection (for example, through the
+ * <c>Queryable</c> REST converter), exact searches on indexed columns only examine the rows listed in the index
+ * instead of scanning the whole collection.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Index the 'state' column of a list that's returned by a REST method.</jc>
+ * 	List&lt;Address&gt; <jv>addresses</jv> = loadAddresses();
+ * 	PojoIndex.<jsm>register</jsm>(<jv>addresses</jv>, BeanContext.<jsf>DEFAULT</jsf>.createSession(), <js>"state"</js>);
+ *
+ * 	<jc>// Only looks at rows where state is 'NY'.</jc>
+ * 	List <jv>l</jv> = <jk>new</jk> PojoQuery(<jv>addresses</jv>, <jv>session</jv>).filter(SearchArgs.<jsm>builder</jsm>().search(<js>"state=NY,city=B*"</js>).build());
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		An index is a snapshot of the collection when it was created.
+ * 		<br>Indexes are ignored once the size of the collection changes, but other modifications aren't detected, so
+ * 		indexes should be registered again after the collection is modified.
+ * 	<li>
+ * 		Indexes are only used for case-sensitive searches with a single term containing no meta-characters
+ * 		(e.g. <js>"state=NY"</js>), and only on columns where all values are strings.
+ * 		<br>Rows found through an index are still checked against the full search.
+ * 	<li>
+ * 		Registered collections are weakly referenced and can be garbage collected.
+ * </ul>
+ */
+public final class PojoIndex {
+
+	private static final int[] EMPTY = new int[0];
+	private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+	private static final Map<Key,Map<String,PojoIndex>> REGISTRY = new ConcurrentHashMap<>();
+
+	private final String column;
+	private final int size;
+	private final Map<String,int[]> positions;
+
+	/**
+	 * Creates an index over the specified column of a collection without registering it.
+	 *
+	 * @param c The collection of beans or maps to index.
+	 * @param column The column (bean property or map key) to index.
+	 * @param session The bean session used to read bean properties.
+	 * @return A new index.
+	 */
+	public static PojoIndex create(Collection<?> c, String column, BeanSession session) {
+		return new PojoIndex(c, column, session);
+	}
+
+	/**
+	 * Creates and registers indexes over the specified columns of a collection.
+	 *
+	 * <p>
+	 * Replaces any indexes previously registered for the same columns of the collection.
+	 *
+	 * @param c The collection of beans or maps to index.
+	 * @param session The bean session used to read bean properties.
+	 * @param columns The columns (bean properties or map keys) to index.
+	 */
+	public static void register(Collection<?> c, BeanSession session, String...columns) {
+		expunge();
+		Map<String,PojoIndex> m = REGISTRY.computeIfAbsent(new Key(c, QUEUE), k -> new ConcurrentHashMap<>());
+		for (String column : columns)
+			m.put(column, create(c, column, session));
+	}
+
+	/**
+	 * Removes all indexes registered for the specified collection.
+	 *
+	 * @param c The collection.
+	 */
+	public static void unregister(Collection<?> c) {
+		expunge();
+		REGISTRY.remove(new Key(c, null));
+	}
+
+	/*
+	 * Returns the index registered for the specified column of the collection if it's still valid and usable.
+	 */
+	static PojoIndex find(Object c, String column, int size) {
+		if (REGISTRY.isEmpty())
+			return null;
+		Map<String,PojoIndex> m = REGISTRY.get(new Key(c, null));
+		if (m == null)
+			return null;
+		PojoIndex idx = m.get(column);
+		if (idx == null || idx.positions == null || idx.size != size)
+			return null;
+		return idx;
+	}
+
+	private static void expunge() {
+		for (Reference<?> r; (r = QUEUE.poll()) != null;)
+			REGISTRY.remove(r);
+	}
+
+	private PojoIndex(Collection<?> c, String column, BeanSession session) {
+		this.column = column;
+		this.size = c.size();
+		Map<String,List<Integer>> m = new HashMap<>();
+		int i = 0;
+		boolean usable = true;
+		for (Object row : c) {
+			Object v = PojoQuery.getRawValue(session, row, column);
+			if (v instanceof CharSequence)
+				m.computeIfAbsent(v.toString(), k -> new ArrayList<>()).add(i);
+			else if (v != null)
+				usable = false;
+			i++;
+		}
+		if (usable) {
+			Map<String,int[]> p = new HashMap<>(m.size() * 4 / 3 + 1);
+			for (Map.Entry<String,List<Integer>> e : m.entrySet())
+				p.put(e.getKey(), e.getValue().stream().mapToInt(Integer::intValue).toArray());
+			this.positions = p;
+		} else {
+			this.positions = null;
+		}
+	}
+
+	/**
+	 * Returns the column this index was created on.
+	 *
+	 * @return The column name.
+	 */
+	public String getColumn() {
+		return column;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this index can be used for searches.
+	 *
+	 * @return <jk>false</jk> if the column contained values other than strings when the index was created.
+	 */
+	public boolean isUsable() {
+		return positions != null;
+	}
+
+	/*
+	 * Returns the positions of the rows whose column value is equal to the specified string, in ascending order.
+	 */
+	int[] lookup(String value) {
+		int[] p = positions == null ? null : positions.get(value);
+		return p == null ? EMPTY : p;
+	}
+
+	/*
+	 * Weak identity key for the registry.
+	 */
+	private static final class Key extends WeakReference<Object> {
+		private final int hashCode;
+
+		Key(Object o, ReferenceQueue<Object> q) {
+			super(o, q);
+			this.hashCode = System.identityHashCode(o);
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (! (o instanceof Key))
+				return false;
+			Object x = get();
+			return x != null && x == ((Key)o).get();
+		}
+	}
+}
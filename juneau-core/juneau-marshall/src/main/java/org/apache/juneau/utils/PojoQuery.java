@@ -18,7 +18,9 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.lang.reflect.*;
 import java.text.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.regex.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -193,6 +195,23 @@ import org.apache.juneau.internal.*;
  * <h5 class='topic'>Paging</h5>
  *
  * Use the <tt>position</tt> and <tt>limit</tt> parameters to specify a subset of rows to return.
+ *
+ * <h5 class='topic'>Performance</h5>
+ *
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		Search patterns are compiled once per call and bean properties are resolved once per bean class.
+ * 		<br>Only the rows being returned are converted to maps.
+ * 	<li>
+ * 		Searches and full sorts of large collections are performed in parallel
+ * 		(see {@link #setParallelThreshold(int)}).
+ * 	<li>
+ * 		When a limit is specified, sorts only fully order the rows up to the end of the page, and searches without
+ * 		sorts stop once the page is filled.
+ * 	<li>
+ * 		Exact searches on columns indexed through {@link PojoIndex#register(Collection, BeanSession, String...)} only
+ * 		examine the rows listed in the index.
+ * </ul>
  */
 @SuppressWarnings({"unchecked","rawtypes"})
 public final class PojoQuery {
@@ -200,6 +219,7 @@ public final class PojoQuery {
 	private Object input;
 	private ClassMeta type;
 	private BeanSession session;
+	private int parallelThreshold = 10000;
 
 	/**
 	 * Constructor.
@@ -213,6 +233,19 @@ public final class PojoQuery {
 		this.session = session;
 	}
 
+	/**
+	 * Sets the minimum number of rows at which searches and sorts are performed in parallel.
+	 *
+	 * <p>
+	 * The default is <c>10000</c>.
+	 * <br>Use {@link Integer#MAX_VALUE} to always process rows on the calling thread.
+	 *
+	 * @param value The new value.
+	 */
+	public void setParallelThreshold(int value) {
+		this.parallelThreshold = value;
+	}
+
 	/**
 	 * Filters the input object as a collection of maps.
 	 *
@@ -228,35 +261,35 @@ public final class PojoQuery {
 		if (! type.isCollectionOrArray())
 			throw new BasicRuntimeException("Cannot call filterCollection() on class type ''{0}''", type);
 
-		// Create a new OList
-		OList l = (OList)replaceWithMutables(input);
+		Collection c = type.isArray() ? Arrays.asList((Object[])input) : (Collection)input;
+		Object[] rows = c.toArray();
 
-		// Do the search
-		CollectionFilter filter = new CollectionFilter(args.getSearch(), args.isIgnoreCase());
-		filter.doQuery(l);
-
-		// If sort or view isn't empty, then we need to make sure that all entries in the
-		// list are maps.
 		Map<String,Boolean> sort = args.getSort();
 		List<String> view = args.getView();
+		int pos = Math.max(0, args.getPosition());
+		int limit = args.getLimit();
 
-		if ((! sort.isEmpty()) || (! view.isEmpty())) {
-			if (! sort.isEmpty())
-				doSort(l, sort);
-			if (! view.isEmpty())
-				doView(l, view);
-		}
+		// Without a sort, only the rows up to the end of the page need to be found.
+		int max = (sort.isEmpty() && limit > 0) ? pos + limit : 0;
+
+		// Do the search
+		int[] hits = doQuery(rows, args.getSearch(), args.isIgnoreCase(), max);
+
+		// Do the sort.  Only the rows up to the end of the page need to be fully ordered.
+		if (! sort.isEmpty())
+			hits = doSort(rows, hits, sort, limit > 0 ? pos + limit : 0);
 
 		// Do the paging.
-		int pos = args.getPosition();
-		int limit = args.getLimit();
-		if (pos != 0 || limit != 0) {
-			int end = (limit == 0 || limit+pos >= l.size()) ? l.size() : limit + pos;
-			pos = Math.min(pos, l.size());
-			OList l2 = new DelegateList(((DelegateList)l).getClassMeta());
-			l2.addAll(l.subList(pos, end));
-			l = l2;
-		}
+		int end = (limit == 0 || limit+pos >= hits.length) ? hits.length : limit + pos;
+		pos = Math.min(pos, hits.length);
+
+		// Only the rows being returned are converted to maps.
+		OList l = new DelegateList(session.getClassMetaForObject(c));
+		for (int i = pos; i < end; i++)
+			l.add(replaceWithMutables(rows[hits[i]]));
+
+		if (! view.isEmpty())
+			doView(l, view);
 
 		return l;
 	}
@@ -302,32 +335,102 @@ public final class PojoQuery {
 	}
 
 	/*
-	 * Sorts the specified list by the sort list.
+	 * Returns the positions of the rows matching the query, in order.
+	 * If max is greater than zero, stops after finding that many rows.
 	 */
-	private static void doSort(List list, Map<String,Boolean> sortList) {
+	private int[] doQuery(Object[] rows, Map query, boolean ignoreCase, int max) {
+		int n = max > 0 ? Math.min(max, rows.length) : rows.length;
 
-		// We reverse the list and sort last to first.
-		List<String> columns = new ArrayList<>(sortList.keySet());
-		Collections.reverse(columns);
+		if (query == null || query.isEmpty())
+			return IntStream.range(0, n).toArray();
 
-		for (final String c : columns) {
-			final boolean isDesc = sortList.get(c);
+		RowMatcher m = new RowMatcher(query, ignoreCase);
 
-			Comparator comp = new Comparator<Map>() {
-				@Override /* Comparator */
-				public int compare(Map m1, Map m2) {
-					Comparable v1 = toComparable(m1.get(c)), v2 = toComparable(m2.get(c));
+		int[] candidates = m.getIndexCandidates(rows.length);
+		if (candidates != null)
+			return limit(Arrays.stream(candidates).filter(i -> m.matches(rows[i])), max).toArray();
+
+		if (max == 0 && rows.length >= parallelThreshold)
+			return IntStream.range(0, rows.length).parallel().filter(i -> m.matches(rows[i])).toArray();
+
+		return limit(IntStream.range(0, rows.length).filter(i -> m.matches(rows[i])), max).toArray();
+	}
+
+	private static IntStream limit(IntStream s, int max) {
+		return max > 0 ? s.limit(max) : s;
+	}
+
+	/*
+	 * Sorts the specified row positions by the sort list.
+	 * If max is greater than zero, only the first max positions are returned.
+	 */
+	private int[] doSort(Object[] rows, int[] hits, Map<String,Boolean> sortList, int max) {
+
+		final String[] columns = sortList.keySet().toArray(new String[sortList.size()]);
+		final boolean[] isDesc = new boolean[columns.length];
+		for (int i = 0; i < columns.length; i++)
+			isDesc[i] = sortList.get(columns[i]);
+
+		// Extract the sort keys once per row.
+		final Comparable[][] keys = new Comparable[rows.length][];
+		for (int h : hits) {
+			Comparable[] k = new Comparable[columns.length];
+			for (int i = 0; i < columns.length; i++)
+				k[i] = toComparable(getValue(session, rows[h], columns[i]));
+			keys[h] = k;
+		}
+
+		// Ties are broken by position so the results match a stable sort.
+		Comparator<Integer> comp = new Comparator<Integer>() {
+			@Override /* Comparator */
+			public int compare(Integer i1, Integer i2) {
+				Comparable[] k1 = keys[i1], k2 = keys[i2];
+				for (int i = 0; i < k1.length; i++) {
+					Comparable v1 = k1[i], v2 = k2[i];
+					int c;
 					if (v1 == null && v2 == null)
-						return 0;
-					if (v1 == null)
-						return (isDesc ? -1 : 1);
-					if (v2 == null)
-						return (isDesc ? 1 : -1);
-					return (isDesc ? v2.compareTo(v1) : v1.compareTo(v2));
+						c = 0;
+					else if (v1 == null)
+						c = (isDesc[i] ? -1 : 1);
+					else if (v2 == null)
+						c = (isDesc[i] ? 1 : -1);
+					else
+						c = (isDesc[i] ? v2.compareTo(v1) : v1.compareTo(v2));
+					if (c != 0)
+						return c;
 				}
-			};
-			Collections.sort(list, comp);
+				return Integer.compare(i1, i2);
+			}
+		};
+
+		Integer[] sorted;
+		if (max > 0 && max < hits.length) {
+			// Top-K:  keep the best max rows seen so far with the worst one at the head.
+			PriorityQueue<Integer> pq = new PriorityQueue<>(max + 1, comp.reversed());
+			for (int h : hits) {
+				if (pq.size() < max)
+					pq.add(h);
+				else if (comp.compare(h, pq.peek()) < 0) {
+					pq.poll();
+					pq.add(h);
+				}
+			}
+			sorted = pq.toArray(new Integer[pq.size()]);
+			Arrays.sort(sorted, comp);
+		} else {
+			sorted = new Integer[hits.length];
+			for (int i = 0; i < hits.length; i++)
+				sorted[i] = hits[i];
+			if (sorted.length >= parallelThreshold)
+				Arrays.parallelSort(sorted, comp);
+			else
+				Arrays.sort(sorted, comp);
 		}
+
+		int[] l = new int[sorted.length];
+		for (int i = 0; i < l.length; i++)
+			l[i] = sorted[i];
+		return l;
 	}
 
 	static final Comparable toComparable(Object o) {
@@ -342,6 +445,53 @@ public final class PojoQuery {
 		return o.toString();
 	}
 
+	/*
+	 * Returns the value of a column as seen by sorts and views.
+	 * Bean property values have swaps applied.
+	 */
+	static Object getValue(BeanSession session, Object row, String column) {
+		if (row == null)
+			return null;
+		if (row instanceof Map)
+			return getMapValue((Map)row, column);
+		if (session.getClassMetaForObject(row).isBean())
+			return session.toBeanMap(row).get(column);
+		return null;
+	}
+
+	/*
+	 * Returns the value of a column as seen by searches.
+	 * Bean property values are the raw values returned by the getters.
+	 */
+	static Object getRawValue(BeanSession session, Object row, String column) {
+		if (row instanceof BeanMap)
+			return ((BeanMap)row).getRaw(column);
+		if (row instanceof Map)
+			return getMapValue((Map)row, column);
+		if (row != null && session.getClassMetaForObject(row).isBean())
+			return session.toBeanMap(row).getRaw(column);
+		return null;
+	}
+
+	/*
+	 * Map keys are matched on their string forms.
+	 */
+	private static Object getMapValue(Map m, String key) {
+		if (m instanceof BeanMap)
+			return m.get(key);
+		try {
+			Object v = m.get(key);
+			if (v != null || m.containsKey(key))
+				return v;
+		} catch (ClassCastException e) {
+			// Map with non-string keys (e.g. TreeMap<Integer,?>).
+		}
+		for (Map.Entry e : (Set<Map.Entry>)m.entrySet())
+			if (key.equals(stringify(e.getKey())))
+				return e.getValue();
+		return null;
+	}
+
 	/*
 	 * Filters all but the specified view columns on all entries in the specified list.
 	 */
@@ -365,28 +515,6 @@ public final class PojoQuery {
 	}
 
 
-	//====================================================================================================
-	// CollectionFilter
-	//====================================================================================================
-	private class CollectionFilter {
-		IMatcher entryMatcher;
-
-		public CollectionFilter(Map query, boolean ignoreCase) {
-			if (query != null && ! query.isEmpty())
-				entryMatcher = new MapMatcher(query, ignoreCase);
-		}
-
-		public void doQuery(List in) {
-			if (in == null || entryMatcher == null)
-				return;
-			for (Iterator i = in.iterator(); i.hasNext();) {
-				Object o = i.next();
-				if (! entryMatcher.matches(o))
-					i.remove();
-			}
-		}
-	}
-
 	//====================================================================================================
 	// IMatcher
 	//====================================================================================================
@@ -395,38 +523,90 @@ public final class PojoQuery {
 	}
 
 	//====================================================================================================
-	// MapMatcher
+	// RowMatcher
 	//====================================================================================================
 	/*
-	 * Matches on a Map only if all specified entry matchers match.
+	 * Matches on a row (a bean or a Map) only if all specified column matchers match.
+	 * Bean property metadata is resolved once per bean class so that rows don't need to be converted to maps.
+	 * Instances are safe to use from multiple threads.
 	 */
-	private class MapMatcher implements IMatcher<Map> {
-
-		Map<String,IMatcher> entryMatchers = new HashMap<>();
+	private class RowMatcher implements IMatcher<Object> {
+
+		final String[] columns;
+		final ObjectMatcher[] matchers;
+		final boolean ignoreCase;
+		final Map<Class<?>,BeanPropertyMeta[]> properties = new ConcurrentHashMap<>();
+
+		public RowMatcher(Map query, boolean ignoreCase) {
+			List<String> c = new ArrayList<>();
+			List<ObjectMatcher> m = new ArrayList<>();
+			for (Map.Entry e : (Set<Map.Entry>)query.entrySet()) {
+				if (e.getKey() != null && e.getValue() != null) {
+					c.add(e.getKey().toString());
+					m.add(new ObjectMatcher(e.getValue().toString(), ignoreCase));
+				}
+			}
+			this.columns = c.toArray(new String[c.size()]);
+			this.matchers = m.toArray(new ObjectMatcher[m.size()]);
+			this.ignoreCase = ignoreCase;
+		}
 
-		public MapMatcher(Map query, boolean ignoreCase) {
-			for (Map.Entry e : (Set<Map.Entry>)query.entrySet())
-				if (e.getKey() != null && e.getValue() != null)
-					entryMatchers.put(e.getKey().toString(), new ObjectMatcher(e.getValue().toString(), ignoreCase));
+		/*
+		 * Returns the positions of candidate rows found through a registered index, or null if no index applies.
+		 * Only exact case-sensitive string searches can use an index.
+		 */
+		int[] getIndexCandidates(int size) {
+			if (ignoreCase || ! (input instanceof Collection))
+				return null;
+			int[] best = null;
+			for (int i = 0; i < columns.length; i++) {
+				String term = matchers[i].getExactTerm();
+				if (term == null)
+					continue;
+				PojoIndex idx = PojoIndex.find(input, columns[i], size);
+				if (idx == null)
+					continue;
+				int[] c = idx.lookup(term);
+				if (best == null || c.length < best.length)
+					best = c;
+			}
+			return best;
 		}
 
 		@Override /* IMatcher */
-		public boolean matches(Map m) {
-			if (m == null)
+		public boolean matches(Object o) {
+			if (o == null)
 				return false;
-			for (Map.Entry<String,IMatcher> e : entryMatchers.entrySet()) {
-				String key = e.getKey();
-				Object val = null;
-				if (m instanceof BeanMap) {
-					val = ((BeanMap)m).getRaw(key);
-				} else {
-					val = m.get(key);
+			if (o instanceof Map) {
+				Map m = (Map)o;
+				for (int i = 0; i < columns.length; i++) {
+					Object val = (m instanceof BeanMap) ? ((BeanMap)m).getRaw(columns[i]) : getMapValue(m, columns[i]);
+					if (! matchers[i].matches(val))
+						return false;
 				}
-				if (! e.getValue().matches(val))
+				return true;
+			}
+			BeanPropertyMeta[] p = properties.computeIfAbsent(o.getClass(), this::findProperties);
+			if (p == null)
+				return false;
+			BeanMap bm = session.toBeanMap(o);
+			for (int i = 0; i < columns.length; i++) {
+				Object val = p[i] == null ? null : p[i].getRaw(bm, columns[i]);
+				if (! matchers[i].matches(val))
 					return false;
 			}
 			return true;
 		}
+
+		private BeanPropertyMeta[] findProperties(Class<?> c) {
+			BeanMeta bm = session.getBeanMeta(c);
+			if (bm == null)
+				return null;
+			BeanPropertyMeta[] p = new BeanPropertyMeta[columns.length];
+			for (int i = 0; i < columns.length; i++)
+				p[i] = bm.getPropertyMeta(columns[i]);
+			return p;
+		}
 	}
 
 	//====================================================================================================
@@ -440,9 +620,9 @@ public final class PojoQuery {
 
 		String searchPattern;
 		boolean ignoreCase;
-		DateMatcher dateMatcher;
-		NumberMatcher numberMatcher;
-		StringMatcher stringMatcher;
+		volatile DateMatcher dateMatcher;
+		volatile NumberMatcher numberMatcher;
+		volatile StringMatcher stringMatcher;
 
 		ObjectMatcher(String searchPattern, boolean ignoreCase) {
 			this.searchPattern = searchPattern;
@@ -476,21 +656,53 @@ public final class PojoQuery {
 			return getStringMatcher().matches(o);
 		}
 
+		/*
+		 * Returns the search pattern if it can only match strings exactly equal to it, or null otherwise.
+		 */
+		String getExactTerm() {
+			String s = searchPattern.trim();
+			if (s.isEmpty())
+				return null;
+			for (int i = 0; i < s.length(); i++) {
+				char c = s.charAt(i);
+				if (Character.isWhitespace(c) || "*?'\"\\+-".indexOf(c) != -1)
+					return null;
+			}
+			// Only patterns matched literally by the string matcher (e.g. not "a|b") can use an index.
+			return s.equals(new SearchPattern(s, false).getLiteral()) ? s : null;
+		}
+
+		// Matchers are created on first use because patterns are only validated against the types actually seen.
+		// Creation is synchronized on the query because rows may be matched in parallel and date parsing isn't
+		// thread-safe.
+
 		private IMatcher getNumberMatcher() {
-			if (numberMatcher == null)
-				numberMatcher = new NumberMatcher(searchPattern);
+			if (numberMatcher == null) {
+				synchronized (PojoQuery.this) {
+					if (numberMatcher == null)
+						numberMatcher = new NumberMatcher(searchPattern);
+				}
+			}
 			return numberMatcher;
 		}
 
 		private IMatcher getStringMatcher() {
-			if (stringMatcher == null)
-				stringMatcher = new StringMatcher(searchPattern, ignoreCase);
+			if (stringMatcher == null) {
+				synchronized (PojoQuery.this) {
+					if (stringMatcher == null)
+						stringMatcher = new StringMatcher(searchPattern, ignoreCase);
+				}
+			}
 			return stringMatcher;
 		}
 
 		private IMatcher getDateMatcher() {
-			if (dateMatcher == null)
-				dateMatcher = new DateMatcher(searchPattern);
+			if (dateMatcher == null) {
+				synchronized (PojoQuery.this) {
+					if (dateMatcher == null)
+						dateMatcher = new DateMatcher(searchPattern);
+				}
+			}
 			return dateMatcher;
 		}
 	}
@@ -683,17 +895,15 @@ public final class PojoQuery {
 		public boolean matches(Object in) {
 			if (in == null) return false;
 
-			Calendar c = null;
+			long t;
 			if (in instanceof Calendar)
-				c = (Calendar)in;
-			else if (in instanceof Date) {
-				c = Calendar.getInstance();
-				c.setTime((Date)in);
-			} else {
+				t = ((Calendar)in).getTimeInMillis();
+			else if (in instanceof Date)
+				t = ((Date)in).getTime();
+			else
 				return false;
-			}
 			for (int i = 0; i < patterns.length; i++) {
-				if (! patterns[i].matches(c))
+				if (! patterns[i].matches(t))
 					return false;
 			}
 			return true;
@@ -778,10 +988,10 @@ public final class PojoQuery {
 			ranges = l.toArray(new TimestampRange[l.size()]);
 		}
 
-		public boolean matches(Calendar c) {
+		public boolean matches(long t) {
 			if (ranges.length == 0) return true;
 			for (int i = 0; i < ranges.length; i++)
-				if (ranges[i].matches(c))
+				if (ranges[i].matches(t))
 					return true;
 			return false;
 		}
@@ -792,38 +1002,37 @@ public final class PojoQuery {
 	 * All possible forms of search patterns are boiled down to these timestamp ranges.
 	 */
 	private static class TimestampRange {
-		Calendar start;
-		Calendar end;
+		long start;
+		long end;
 
 		public TimestampRange(CalendarP start, CalendarP end) {
-			this.start = start.copy().roll(MILLISECOND, -1).getCalendar();
-			this.end = end.roll(1).getCalendar();
+			this.start = start.copy().roll(MILLISECOND, -1).getTime();
+			this.end = end.roll(1).getTime();
 		}
 
 		public TimestampRange(CalendarP singleDate) {
-			this.start = singleDate.copy().roll(MILLISECOND, -1).getCalendar();
-			this.end = singleDate.roll(1).getCalendar();
+			this.start = singleDate.copy().roll(MILLISECOND, -1).getTime();
+			this.end = singleDate.roll(1).getTime();
 		}
 
 		public TimestampRange(String op, CalendarP singleDate) {
 			if (op.equals(">")) {
-				this.start = singleDate.roll(1).roll(MILLISECOND, -1).getCalendar();
-				this.end = new CalendarP(new Date(Long.MAX_VALUE), 0).getCalendar();
+				this.start = singleDate.roll(1).roll(MILLISECOND, -1).getTime();
+				this.end = Long.MAX_VALUE;
 			} else if (op.equals("<")) {
-				this.start = new CalendarP(new Date(0), 0).getCalendar();
-				this.end = singleDate.getCalendar();
+				this.start = 0;
+				this.end = singleDate.getTime();
 			} else if (op.equals(">=")) {
-				this.start = singleDate.roll(MILLISECOND, -1).getCalendar();
-				this.end = new CalendarP(new Date(Long.MAX_VALUE), 0).getCalendar();
+				this.start = singleDate.roll(MILLISECOND, -1).getTime();
+				this.end = Long.MAX_VALUE;
 			} else if (op.equals("<=")) {
-				this.start = new CalendarP(new Date(0), 0).getCalendar();
-				this.end = singleDate.roll(1).getCalendar();
+				this.start = 0;
+				this.end = singleDate.roll(1).getTime();
 			}
 		}
 
-		public boolean matches(Calendar c) {
-			boolean b = (c.after(start) && c.before(end));
-			return b;
+		public boolean matches(long t) {
+			return t > start && t < end;
 		}
 	}
 
@@ -902,8 +1111,8 @@ public final class PojoQuery {
 			return roll(precision, amount);
 		}
 
-		public Calendar getCalendar() {
-			return c;
+		public long getTime() {
+			return c.getTimeInMillis();
 		}
 	}
 
@@ -944,32 +1153,17 @@ public final class PojoQuery {
 	 * A construct representing a single search pattern.
 	 */
 	private static class SearchPattern {
-		Pattern[] orPatterns, andPatterns, notPatterns;
+		Term[] orPatterns, andPatterns, notPatterns;
 
 		public SearchPattern(String searchPattern, boolean ignoreCase) {
 
-			List<Pattern> ors = new LinkedList<>();
-			List<Pattern> ands = new LinkedList<>();
-			List<Pattern> nots = new LinkedList<>();
+			List<Term> ors = new LinkedList<>();
+			List<Term> ands = new LinkedList<>();
+			List<Term> nots = new LinkedList<>();
 
 			for (String arg : breakUpTokens(searchPattern)) {
 				char prefix = arg.charAt(0);
-				String token = arg.substring(1);
-
-				token = token.replaceAll("([\\?\\*\\+\\\\\\[\\]\\{\\}\\(\\)\\^\\$\\.])", "\\\\$1");
-				token = token.replace("\u9997", ".*");
-				token = token.replace("\u9996", ".?");
-
-				if (! token.startsWith(".*"))
-					token = "^" + token;
-				if (! token.endsWith(".*"))
-					token = token + "$";
-
-				int flags = Pattern.DOTALL;
-				if (ignoreCase)
-					flags |= Pattern.CASE_INSENSITIVE;
-
-				Pattern p = Pattern.compile(token, flags);
+				Term p = new Term(arg.substring(1), ignoreCase);
 
 				if (prefix == '^')
 					ors.add(p);
@@ -978,9 +1172,20 @@ public final class PojoQuery {
 				else if (prefix == '-')
 					nots.add(p);
 			}
-			orPatterns = ors.toArray(new Pattern[ors.size()]);
-			andPatterns = ands.toArray(new Pattern[ands.size()]);
-			notPatterns = nots.toArray(new Pattern[nots.size()]);
+			orPatterns = ors.toArray(new Term[ors.size()]);
+			andPatterns = ands.toArray(new Term[ands.size()]);
+			notPatterns = nots.toArray(new Term[nots.size()]);
+		}
+
+		/**
+		 * Returns the string this pattern matches if it consists of a single term matched exactly, or null otherwise.
+		 */
+		String getLiteral() {
+			// A single OR term is stored as an AND term.
+			if (orPatterns.length + andPatterns.length != 1 || notPatterns.length != 0)
+				return null;
+			Term t = orPatterns.length == 1 ? orPatterns[0] : andPatterns[0];
+			return t.pattern == null && ! (t.anyStart || t.anyEnd) ? t.literal : null;
 		}
 
 		/**
@@ -1076,19 +1281,74 @@ public final class PojoQuery {
 		public boolean matches(String input) {
 			if (input == null) return false;
 			for (int i = 0; i < andPatterns.length; i++)
-				if (! andPatterns[i].matcher(input).matches())
+				if (! andPatterns[i].matches(input))
 					return false;
 			for (int i = 0; i < notPatterns.length; i++)
-				if (notPatterns[i].matcher(input).matches())
+				if (notPatterns[i].matches(input))
 					return false;
 			for (int i = 0; i < orPatterns.length; i++)
-				if (orPatterns[i].matcher(input).matches())
+				if (orPatterns[i].matches(input))
 					return true;
 			return orPatterns.length == 0;
 		}
 
 	}
 
+	/**
+	 * A single token in a string search pattern.
+	 * Case-sensitive tokens whose only wildcards are leading or trailing <tt>*</tt> characters are matched without
+	 * regular expressions.
+	 */
+	private static class Term {
+		Pattern pattern;
+		String literal;
+		boolean anyStart, anyEnd;
+
+		public Term(String token, boolean ignoreCase) {
+			if (! ignoreCase) {
+				String s = token;
+				anyStart = s.startsWith("\u9997");
+				if (anyStart)
+					s = s.substring(1);
+				anyEnd = s.endsWith("\u9997");
+				if (anyEnd)
+					s = s.substring(0, s.length()-1);
+				if (s.indexOf('\u9997') == -1 && s.indexOf('\u9996') == -1 && s.indexOf('|') == -1) {
+					literal = s;
+					return;
+				}
+			}
+
+			token = token.replaceAll("([\\?\\*\\+\\\\\\[\\]\\{\\}\\(\\)\\^\\$\\.])", "\\\\$1");
+			token = token.replace("\u9997", ".*");
+			token = token.replace("\u9996", ".?");
+
+			if (! token.startsWith(".*"))
+				token = "^" + token;
+			if (! token.endsWith(".*"))
+				token = token + "$";
+
+			int flags = Pattern.DOTALL;
+			if (ignoreCase)
+				flags |= Pattern.CASE_INSENSITIVE;
+
+			pattern = Pattern.compile(token, flags);
+			anyStart = anyEnd = false;
+		}
+
+		public boolean matches(String input) {
+			if (pattern != null)
+				return pattern.matcher(input).matches();
+			if (anyStart && anyEnd)
+				return input.contains(literal);
+			if (anyStart)
+				return input.endsWith(literal);
+			if (anyEnd)
+				return input.startsWith(literal);
+			return input.equals(literal);
+		}
+	}
+
 	/*
 	 * Same as split(String, char), but does not split on characters inside
 	 * single quotes.
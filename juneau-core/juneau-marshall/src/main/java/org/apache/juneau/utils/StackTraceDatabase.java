@@ -100,10 +100,9 @@ public class StackTraceDatabase {
 
 		String n = e == null ? null : e.getClass().getSimpleName();
 		long t = cacheTimeout == -1 ? Long.MAX_VALUE : time + cacheTimeout;
-		stc = new StackTraceInfo(n, t, hash);
+		StackTraceInfo stc2 = new StackTraceInfo(n, t, hash);
 
-		db.put(hash, stc);
-
-		return db.get(hash);
+		// Only replace a missing or expired entry so that concurrent callers end up incrementing the same instance.
+		return db.compute(hash, (k,v) -> v != null && v.timeout > time ? v : stc2);
 	}
 }
@@ -59,10 +59,20 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	protected XmlSerializerSession(XmlSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
 		this.ctx = ctx;
+		initNamespaces();
+	}
+
+	private void initNamespaces() {
 		namespaces = getInstanceArrayProperty(XML_namespaces, Namespace.class, ctx.getNamespaces());
 		defaultNamespace = findDefaultNamespace(getInstanceProperty(XML_defaultNamespace, Namespace.class, ctx.getDefaultNamespace()));
 	}
 
+	@Override /* Session */
+	public void reset() {
+		super.reset();
+		initNamespaces();
+	}
+
 	private Namespace findDefaultNamespace(Namespace n) {
 		if (n == null)
 			return null;
@@ -290,8 +300,15 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 			sType = aType;
 
+			// Streaming sources are written as they're pulled instead of being swapped to lists.
+			Iterator<Object> streamed = toStreamingIterator(o, aType);
+			if (streamed != null) {
+				o = streamed;
+				sType = getClassMeta(List.class);
+			}
+
 			// Swap if necessary
-			PojoSwap swap = aType.getSwap(this);
+			PojoSwap swap = streamed == null ? aType.getSwap(this) : null;
 			if (swap != null) {
 				o = swap(swap, o);
 				sType = swap.getSwapClassMeta(this);
@@ -685,9 +702,12 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 		ClassMeta<?> eeType = eType.getElementType();
 
-		Collection c = (sType.isCollection() ? (Collection)in : toList(sType.getInnerClass(), in));
-
-		c = sort(c);
+		boolean streamed = in instanceof Iterator;
+		Iterator i = null;
+		if (streamed)
+			i = (Iterator)in;
+		else
+			i = sort(sType.isCollection() ? (Collection)in : toList(sType.getInnerClass(), in)).iterator();
 
 		String type2 = null;
 
@@ -700,9 +720,11 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			eNs = bpXml.getNamespace();
 		}
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		for (int count = 1; i.hasNext(); count++) {
 			Object value = i.next();
 			serializeAnything(out, value, eeType, null, eName, eNs, false, XmlFormat.DEFAULT, isMixed, false, null);
+			if (streamed)
+				flushStreamed(out, count);
 		}
 		return out;
 	}
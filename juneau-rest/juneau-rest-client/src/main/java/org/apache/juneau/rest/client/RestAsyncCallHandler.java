@@ -0,0 +1,83 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.concurrent.*;
+
+import org.apache.http.*;
+import org.apache.http.protocol.*;
+import org.apache.juneau.*;
+
+/**
+ * Interface that allows you to execute HTTP requests without blocking the calling thread.
+ *
+ * <p class='w900'>
+ * This is the non-blocking counterpart of {@link RestCallHandler}.
+ * <br>It's used by {@link RestRequest#runAsync()} and {@link RestRequest#completeAsync()}, and by remote proxy
+ * methods that return {@link CompletableFuture}.
+ * <br>If not specified, these methods run the blocking {@link RestCallHandler} on the
+ * {@link RestClientBuilder#executorService(ExecutorService, boolean) executor service}.
+ *
+ * <p>
+ * The constructor on the implementation class can optionally take in any of the following parameters:
+ * <ul>
+ * 	<li>{@link RestClient} - The client using this handler.
+ * 	<li>{@link PropertyStore} - The properties used to initialize the client.
+ * </ul>
+ *
+ * <p>
+ * The following shows an implementation backed by the Apache HttpAsyncClient library.
+ *
+ * <p class='bcode w800'>
+ * 	<jk>public class</jk> MyAsyncCallHandler <jk>implements</jk> RestAsyncCallHandler {
+ *
+ * 		<jk>private final</jk> CloseableHttpAsyncClient <jf>client</jf> = HttpAsyncClients.<jsm>createDefault</jsm>();
+ *
+ * 		<ja>@Override</ja>
+ * 		<jk>public</jk> CompletableFuture&lt;HttpResponse&gt; runAsync(HttpHost <jv>target</jv>, HttpRequest <jv>request</jv>, HttpContext <jv>context</jv>) {
+ * 			CompletableFuture&lt;HttpResponse&gt; <jv>f</jv> = <jk>new</jk> CompletableFuture&lt;&gt;();
+ * 			<jf>client</jf>.execute(<jv>target</jv>, <jv>request</jv>, <jv>context</jv>, <jk>new</jk> FutureCallback&lt;HttpResponse&gt;() {
+ * 				<ja>@Override</ja> <jk>public void</jk> completed(HttpResponse <jv>r</jv>) { <jv>f</jv>.complete(<jv>r</jv>); }
+ * 				<ja>@Override</ja> <jk>public void</jk> failed(Exception <jv>e</jv>) { <jv>f</jv>.completeExceptionally(<jv>e</jv>); }
+ * 				<ja>@Override</ja> <jk>public void</jk> cancelled() { <jv>f</jv>.cancel(<jk>false</jk>); }
+ * 			});
+ * 			<jk>return</jk> <jv>f</jv>;
+ * 		}
+ * 	}
+ * </p>
+ *
+ * <ul class='seealso'>
+ * 	<li class='jf'>{@link RestClient#RESTCLIENT_asyncCallHandler}
+ * 	<li class='jm'>{@link RestClientBuilder#asyncCallHandler(Class)}
+ * 	<li class='jm'>{@link RestClientBuilder#asyncCallHandler(RestAsyncCallHandler)}
+ * </ul>
+ */
+public interface RestAsyncCallHandler {
+
+	/**
+	 * Starts execution of the specified request.
+	 *
+	 * <p>
+	 * Implementations must not block waiting for the response.
+	 *
+	 * @param target The target host for the request.
+	 * 	<br>Implementations may accept <jk>null</jk> if they can still determine a route, for example to a default
+	 * 		target or by inspecting the request.
+	 * @param request The request to execute.
+	 * @param context The context to use for the execution, or <jk>null</jk> to use the default context.
+	 * @return
+	 * 	A future that completes with the response to the request, or completes exceptionally if the request fails.
+	 * 	<br>This is always a final response, never an intermediate response with an 1xx status code.
+	 */
+	CompletableFuture<HttpResponse> runAsync(HttpHost target, HttpRequest request, HttpContext context);
+}
@@ -1041,7 +1041,7 @@ import org.apache.juneau.utils.*;
  * </ul>
  */
 @ConfigurableContext(nocache=true)
-public class RestClient extends BeanContext implements HttpClient, Closeable, RestCallHandler, RestCallInterceptor {
+public class RestClient extends BeanContext implements HttpClient, Closeable, RestCallHandler, RestAsyncCallHandler, RestCallInterceptor {
 
 	//-------------------------------------------------------------------------------------------------------------------
 	// Configurable properties
@@ -1049,6 +1049,50 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 
 	private static final String PREFIX = "RestClient.";
 
+	/**
+	 * Configuration property:  REST async call handler.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.client.RestClient#RESTCLIENT_asyncCallHandler RESTCLIENT_asyncCallHandler}
+	 * 	<li><b>Name:</b>  <js>"RestClient.asyncCallHandler.o"</js>
+	 * 	<li><b>Data type:</b>
+	 * 		<ul>
+	 * 			<li><c>Class&lt;? <jk>extends</jk> {@link org.apache.juneau.rest.client.RestAsyncCallHandler}&gt;</c>
+	 * 			<li>{@link org.apache.juneau.rest.client.RestAsyncCallHandler}
+	 * 		</ul>
+	 * 	<li><b>Default:</b>  <c><jk>null</jk></c>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#asyncCallHandler(Class)}
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#asyncCallHandler(RestAsyncCallHandler)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * Allows you to provide a non-blocking handler for making HTTP calls.
+	 * <br>It's used by {@link RestRequest#runAsync()}, {@link RestRequest#completeAsync()}, and remote proxy methods
+	 * that return {@link CompletableFuture}.
+	 *
+	 * <p>
+	 * If not specified, requests are executed by the {@link #RESTCLIENT_callHandler call handler} on a thread from
+	 * the {@link #RESTCLIENT_executorService executor service}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that executes asynchronous requests using a non-blocking transport.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.asyncCallHandler(MyAsyncCallHandler.<jk>class</jk>)
+	 * 		.build();
+	 *
+	 * 	CompletableFuture&lt;RestResponse&gt; <jv>response</jv> = <jv>client</jv>.get(<jsf>URI</jsf>).runAsync();
+	 * </p>
+	 */
+	public static final String RESTCLIENT_asyncCallHandler = PREFIX + "asyncCallHandler.o";
+
 	/**
 	 * Configuration property:  REST call handler.
 	 *
@@ -1984,6 +2028,7 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	private final HttpPartSerializer partSerializer;
 	private final HttpPartParser partParser;
 	private final RestCallHandler callHandler;
+	private final RestAsyncCallHandler asyncCallHandler;
 	private final String rootUri;
 	private volatile boolean isClosed = false;
 	private final StackTraceElement[] creationStack;
@@ -2116,6 +2161,7 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 		}
 
 		this.callHandler = getInstanceProperty(RESTCLIENT_callHandler, RestCallHandler.class, BasicRestCallHandler.class, ResourceResolver.FUZZY, ps, this);
+		this.asyncCallHandler = getInstanceProperty(RESTCLIENT_asyncCallHandler, RestAsyncCallHandler.class, null, ResourceResolver.FUZZY, ps, this);
 
 		this.interceptors = getInstanceArrayProperty(RESTCLIENT_interceptors, RestCallInterceptor.class);
 
@@ -2197,6 +2243,44 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 		return callHandler.run(target, request, context);
 	}
 
+	/**
+	 * Entrypoint for executing requests asynchronously.
+	 *
+	 * <p>
+	 * Subclasses can override this method to provide specialized handling.
+	 *
+	 * <p>
+	 * If a {@link RestAsyncCallHandler} is defined, the request is passed to it.
+	 * <br>Otherwise, {@link #run(HttpHost,HttpRequest,HttpContext)} is called on a thread from the executor service.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_asyncCallHandler}
+	 * 	<li class='jm'>{@link RestClientBuilder#asyncCallHandler(Class)}
+	 * 	<li class='jm'>{@link RestClientBuilder#asyncCallHandler(RestAsyncCallHandler)}
+	 * </ul>
+	 *
+	 * @param target The target host for the request.
+	 * 	<br>Implementations may accept <jk>null</jk> if they can still determine a route, for example to a default
+	 * 		target or by inspecting the request.
+	 * @param request The request to execute.
+	 * @param context The context to use for the execution, or <jk>null</jk> to use the default context.
+	 * @return A future that completes with the response to the request.
+	 */
+	@Override /* RestAsyncCallHandler */
+	public CompletableFuture<HttpResponse> runAsync(HttpHost target, HttpRequest request, HttpContext context) {
+		if (asyncCallHandler != null)
+			return asyncCallHandler.runAsync(target, request, context);
+		CompletableFuture<HttpResponse> f = new CompletableFuture<>();
+		getExecutorService().submit(() -> {
+			try {
+				f.complete(run(target, request, context));
+			} catch (Throwable e) {
+				f.completeExceptionally(e);
+			}
+		});
+		return f;
+	}
+
 	/**
 	 * Perform a <c>GET</c> request against the specified URI.
 	 *
@@ -3135,19 +3219,7 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 							}
 						});
 					} else if (rmr.isCompletableFuture()) {
-						CompletableFuture<Object> cf = new CompletableFuture<>();
-						getExecutorService().submit(new Callable<Object>() {
-							@Override
-							public Object call() throws Exception {
-								try {
-									cf.complete(executeRemote(interfaceClass, rc, method, rmm));
-								} catch (Throwable e) {
-									cf.completeExceptionally(e);
-								}
-								return null;
-							}
-						});
-						return cf;
+						return executeRemoteAsync(rc, rmm);
 					}
 
 					return executeRemote(interfaceClass, rc, method, rmm);
@@ -3156,46 +3228,90 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	}
 
 	Object executeRemote(Class<?> interfaceClass, RestRequest rc, Method method, RemoteMethodMeta rmm) throws Throwable {
-		RemoteMethodReturn rmr = rmm.getReturns();
-
 		try {
-			Object ret = null;
-			RestResponse res = null;
-			if (rmr.getReturnValue() == RemoteReturn.NONE) {
-				res = rc.complete();
-			} else if (rmr.getReturnValue() == RemoteReturn.STATUS) {
-				res = rc.complete();
-				int returnCode = res.getStatusCode();
-				Class<?> rt = method.getReturnType();
-				if (rt == Integer.class || rt == int.class)
-					ret = returnCode;
-				else if (rt == Boolean.class || rt == boolean.class)
-					ret = returnCode < 400;
-				else
-					throw new RestCallException(res, null, "Invalid return type on method annotated with @RemoteMethod(returns=RemoteReturn.STATUS).  Only integer and booleans types are valid.");
-			} else if (rmr.getReturnValue() == RemoteReturn.BEAN) {
-				rc.ignoreErrors();
-				res = rc.run();
-				ret = res.as(rmr.getResponseBeanMeta());
-			} else {
-				Class<?> rt = method.getReturnType();
-				if (Throwable.class.isAssignableFrom(rt))
-					rc.ignoreErrors();
-				res = rc.run();
-				Object v = res.getBody().as(rmr.getReturnType());
-				if (v == null && rt.isPrimitive())
-					v = ClassInfo.of(rt).getPrimitiveDefault();
-				if (rt.getName().equals(res.getStringHeader("Exception-Name")))
-					res.removeHeaders("Exception-Name");
-				ret = v;
+			RestResponse res = prepareRemote(rc, rmm) ? rc.complete() : rc.run();
+			return remoteResult(res, rmm);
+		} catch (RestCallException e) {
+			throw remoteException(e, rmm);
+		}
+	}
+
+	/*
+	 * Same as executeRemote() but doesn't block waiting for the response.
+	 * The response body is parsed on the thread that completes the call.
+	 */
+	CompletableFuture<Object> executeRemoteAsync(RestRequest rc, RemoteMethodMeta rmm) {
+		CompletableFuture<Object> cf = new CompletableFuture<>();
+		boolean consume = prepareRemote(rc, rmm);
+		(consume ? rc.completeAsync() : rc.runAsync()).whenComplete((res, t) -> {
+			try {
+				try {
+					if (t != null)
+						throw t;
+					cf.complete(remoteResult(res, rmm));
+				} catch (RestCallException e) {
+					throw remoteException(e, rmm);
+				}
+			} catch (Throwable e) {
+				cf.completeExceptionally(e);
 			}
+		});
+		return cf;
+	}
 
-			ThrowableUtils.throwException(res.getStringHeader("Exception-Name"), res.getStringHeader("Exception-Message"), rmm.getExceptions());
-			return ret;
-		} catch (RestCallException e) {
-			ThrowableUtils.throwException(e.getServerExceptionName(), e.getServerExceptionMessage(), rmm.getExceptions());
-			throw new RuntimeException(e);
+	/*
+	 * Sets up the request for the remote method return type.
+	 * Returns true if the response should be consumed (i.e. only the status code is needed).
+	 */
+	private static boolean prepareRemote(RestRequest rc, RemoteMethodMeta rmm) {
+		RemoteMethodReturn rmr = rmm.getReturns();
+		RemoteReturn rv = rmr.getReturnValue();
+		if (rv == RemoteReturn.NONE || rv == RemoteReturn.STATUS)
+			return true;
+		if (rv == RemoteReturn.BEAN || Throwable.class.isAssignableFrom(ClassInfo.of(rmr.getReturnType()).inner()))
+			rc.ignoreErrors();
+		return false;
+	}
+
+	/*
+	 * Converts the response to the return value of the remote method.
+	 * The return type is the unwrapped type for methods returning futures.
+	 */
+	private static Object remoteResult(RestResponse res, RemoteMethodMeta rmm) throws Throwable {
+		RemoteMethodReturn rmr = rmm.getReturns();
+		Class<?> rt = ClassInfo.of(rmr.getReturnType()).inner();
+		Object ret = null;
+		if (rmr.getReturnValue() == RemoteReturn.NONE) {
+			// Nothing to return.
+		} else if (rmr.getReturnValue() == RemoteReturn.STATUS) {
+			int returnCode = res.getStatusCode();
+			if (rt == Integer.class || rt == int.class)
+				ret = returnCode;
+			else if (rt == Boolean.class || rt == boolean.class)
+				ret = returnCode < 400;
+			else
+				throw new RestCallException(res, null, "Invalid return type on method annotated with @RemoteMethod(returns=RemoteReturn.STATUS).  Only integer and booleans types are valid.");
+		} else if (rmr.getReturnValue() == RemoteReturn.BEAN) {
+			ret = res.as(rmr.getResponseBeanMeta());
+		} else {
+			Object v = res.getBody().as(rmr.getReturnType());
+			if (v == null && rt.isPrimitive())
+				v = ClassInfo.of(rt).getPrimitiveDefault();
+			if (rt.getName().equals(res.getStringHeader("Exception-Name")))
+				res.removeHeaders("Exception-Name");
+			ret = v;
 		}
+
+		ThrowableUtils.throwException(res.getStringHeader("Exception-Name"), res.getStringHeader("Exception-Message"), rmm.getExceptions());
+		return ret;
+	}
+
+	/*
+	 * Converts a failed remote call to the exception declared on the remote method.
+	 */
+	private static Throwable remoteException(RestCallException e, RemoteMethodMeta rmm) throws Throwable {
+		ThrowableUtils.throwException(e.getServerExceptionName(), e.getServerExceptionMessage(), rmm.getExceptions());
+		return new RuntimeException(e);
 	}
 
 	/**
@@ -3292,28 +3408,37 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 			new InvocationHandler() {
 
 				final RrpcInterfaceMeta rm = new RrpcInterfaceMeta(interfaceClass, restUrl2);
+				final RrpcBatcher batcher = rm.isBatched() ? new RrpcBatcher(RestClient.this, rm, restUrl2, serializer, parser) : null;
 
 				@Override /* InvocationHandler */
 				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-					RrpcInterfaceMethodMeta rim = rm.getMethodMeta(method);
+					if (batcher != null)
+						return batcher.invoke(method, args);
+					return invokeRrpc(rm.getMethodMeta(method), serializer, args);
+				}
+		});
+	}
 
-					String uri = rim.getUri();
+	/*
+	 * Performs a single RRPC call against the specified remote method.
+	 */
+	Object invokeRrpc(RrpcInterfaceMethodMeta rim, Serializer serializer, Object[] args) throws Throwable {
+		Method method = rim.getJavaMethod();
+		String uri = rim.getUri();
 
-					try {
-						RestRequest rc = request("POST", uri, true).serializer(serializer).body(args);
+		try {
+			RestRequest rc = request("POST", uri, true).serializer(serializer).body(args);
 
-						Object v = rc.run().getBody().as(method.getGenericReturnType());
-						if (v == null && method.getReturnType().isPrimitive())
-							v = ClassInfo.of(method.getReturnType()).getPrimitiveDefault();
-						return v;
+			Object v = rc.run().getBody().as(method.getGenericReturnType());
+			if (v == null && method.getReturnType().isPrimitive())
+				v = ClassInfo.of(method.getReturnType()).getPrimitiveDefault();
+			return v;
 
-					} catch (RestCallException e) {
-						// Try to throw original exception if possible.
-						ThrowableUtils.throwException(e.getServerExceptionName(), e.getServerExceptionMessage(), method.getExceptionTypes());
-						throw new RuntimeException(e);
-					}
-				}
-		});
+		} catch (RestCallException e) {
+			// Try to throw original exception if possible.
+			ThrowableUtils.throwException(e.getServerExceptionName(), e.getServerExceptionMessage(), method.getExceptionTypes());
+			throw new RuntimeException(e);
+		}
 	}
 
 	@Override
@@ -3787,6 +3912,7 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	public OMap toMap() {
 		return super.toMap()
 			.a("RestClient", new DefaultFilteringOMap()
+				.a("asyncCallHandler", asyncCallHandler)
 				.a("errorCodes", errorCodes)
 				.a("executorService", executorService)
 				.a("executorServiceShutdownOnClose", executorServiceShutdownOnClose)
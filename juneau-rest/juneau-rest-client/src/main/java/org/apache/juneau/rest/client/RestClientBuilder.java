@@ -2371,6 +2371,93 @@ public class RestClientBuilder extends BeanContextBuilder {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  REST async call handler.
+	 *
+	 * <p>
+	 * Allows you to provide a non-blocking handler for making HTTP calls.
+	 * <br>It's used by {@link RestRequest#runAsync()}, {@link RestRequest#completeAsync()}, and remote proxy methods
+	 * that return {@link CompletableFuture}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that executes asynchronous requests using a non-blocking transport.</jc>
+	 * 	<jk>public class</jk> MyAsyncCallHandler <jk>implements</jk> RestAsyncCallHandler {
+	 *
+	 * 		<ja>@Override</ja>
+	 * 		<jk>public</jk> CompletableFuture&lt;HttpResponse&gt; runAsync(HttpHost <jv>target</jv>, HttpRequest <jv>request</jv>, HttpContext <jv>context</jv>) {
+	 * 			<jc>// Hand off request to non-blocking transport.</jc>
+	 * 		}
+	 * 	}
+	 *
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.asyncCallHandler(MyAsyncCallHandler.<jk>class</jk>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>The {@link RestClient#runAsync(HttpHost, HttpRequest, HttpContext)} method can also be overridden to produce the same results.
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jic'>{@link RestAsyncCallHandler}
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_asyncCallHandler}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default value is <jk>null</jk> (requests are run by the call handler on the executor service).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder asyncCallHandler(Class<? extends RestAsyncCallHandler> value) {
+		return set(RESTCLIENT_asyncCallHandler, value);
+	}
+
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  REST async call handler.
+	 *
+	 * <p>
+	 * Allows you to provide a non-blocking handler for making HTTP calls.
+	 * <br>It's used by {@link RestRequest#runAsync()}, {@link RestRequest#completeAsync()}, and remote proxy methods
+	 * that return {@link CompletableFuture}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that executes asynchronous requests using a non-blocking transport.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.asyncCallHandler(
+	 * 			<jk>new</jk> RestAsyncCallHandler() {
+	 * 				<ja>@Override</ja>
+	 * 				<jk>public</jk> CompletableFuture&lt;HttpResponse&gt; runAsync(HttpHost <jv>target</jv>, HttpRequest <jv>request</jv>, HttpContext <jv>context</jv>) {
+	 * 					<jc>// Hand off request to non-blocking transport.</jc>
+	 * 				}
+	 * 			}
+	 * 		)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>The {@link RestClient#runAsync(HttpHost, HttpRequest, HttpContext)} method can also be overridden to produce the same results.
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jic'>{@link RestAsyncCallHandler}
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_asyncCallHandler}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default value is <jk>null</jk> (requests are run by the call handler on the executor service).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder asyncCallHandler(RestAsyncCallHandler value) {
+		return set(RESTCLIENT_asyncCallHandler, value);
+	}
+
 	/**
 	 * <i><l>RestClient</l> configuration property:&emsp;</i>  REST call handler.
 	 *
@@ -5060,6 +5147,12 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RestClientBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	// </FluentSetters>
 
 	//------------------------------------------------------------------------------------------------
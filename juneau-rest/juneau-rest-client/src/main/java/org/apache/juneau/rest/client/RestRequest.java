@@ -23,6 +23,7 @@ import java.net.*;
 import java.text.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.logging.*;
 
@@ -71,7 +72,8 @@ public class RestRequest extends BeanSession implements HttpUriRequest, Configur
 
 	private final RestClient client;                       // The client that created this call.
 	private final HttpRequestBase request;                 // The request.
-	private RestResponse response;                         // The response.
+	private volatile RestResponse response;                // The response.
+	private final AtomicBoolean started = new AtomicBoolean();  // run() or runAsync() was called.
 	List<RestCallInterceptor> interceptors = new ArrayList<>();   // Used for intercepting and altering requests.
 
 	private boolean ignoreErrors;
@@ -2825,94 +2827,13 @@ public class RestRequest extends BeanSession implements HttpUriRequest, Configur
 	 * @throws RestCallException If an exception or non-200 response code occurred during the connection attempt.
 	 */
 	public RestResponse run() throws RestCallException {
-		if (response != null)
+		if (! started.compareAndSet(false, true))
 			throw new RestCallException(response, null, "run() already called.");
 
 		try {
-			HttpEntityEnclosingRequestBase request2 = request instanceof HttpEntityEnclosingRequestBase ? (HttpEntityEnclosingRequestBase)request : null;
-			request.setURI(uriBuilder.build());
-
-			// Pick the serializer if it hasn't been overridden.
-			Header h = getLastHeader("Content-Type");
-			String contentType = h == null ? null : h.getValue();
-			Serializer serializer = this.serializer;
-			if (serializer == null)
-				serializer = client.getMatchingSerializer(contentType);
-			if (contentType == null && serializer != null)
-				contentType = serializer.getPrimaryMediaType().toString();
-
-			// Pick the parser if it hasn't been overridden.
-			h = getLastHeader("Accept");
-			String accept = h == null ? null : h.getValue();
-			Parser parser = this.parser;
-			if (parser == null)
-				parser = client.getMatchingParser(accept);
-			if (accept == null && parser != null)
-				setHeader("Accept", parser.getPrimaryMediaType().toString());
-
-			if (hasInput || formData != null) {
-
-				if (request2 == null)
-					throw new RestCallException(null, null, "Method does not support content entity.  Method={0}, URI={1}", getMethod(), getURI());
-
-				Object input2 = input;
-
-				if (input2 instanceof Supplier)
-					input2 = ((Supplier<?>)input).get();
-
-				HttpEntity entity = null;
-				if (formData != null)
-					entity = new UrlEncodedFormEntity(formData);
-				else if (input2 instanceof NameValuePairSupplier)
-					entity = new UrlEncodedFormEntity((NameValuePairSupplier)input2);
-				else if (input2 instanceof HttpResource) {
-					HttpResource r = (HttpResource)input2;
-					headers(r.getHeaders());
-					entity = (HttpEntity)input2;
-				}
-				else if (input2 instanceof HttpEntity)
-					entity = (HttpEntity)input2;
-				else if (input2 instanceof Reader)
-					entity = new StringEntity(IOUtils.read((Reader)input2), getRequestContentType(TEXT_PLAIN));
-				else if (input2 instanceof InputStream)
-					entity = new InputStreamEntity((InputStream)input2, getRequestContentType(ContentType.APPLICATION_OCTET_STREAM));
-				else if (serializer != null)
-					entity = SerializedHttpEntity.of(input2, serializer).schema(requestBodySchema).contentType(contentType);
-				else {
-					if (client.hasSerializers()) {
-						if (contentType == null)
-							throw new RestCallException(null, null, "Content-Type not specified on request.  Cannot match correct serializer.  Use contentType(String) or mediaType(String) to specify transport language.");
-						throw new RestCallException(null, null, "No matching serializer for media type ''{0}''", contentType);
-					}
-					if (input2 == null)
-						input2 = "";
-					entity = new StringEntity(BeanContext.DEFAULT.getClassMetaForObject(input2).toString(input2), getRequestContentType(TEXT_PLAIN));
-				}
-
-				request2.setEntity(entity);
-			}
-
-			try {
-				response = client.createResponse(this, client.run(target, request, context), parser);
-			} catch (Exception e) {
-				throw e;
-			}
-
-			if (isDebug() || client.logRequests == DetailLevel.FULL)
-				response.cacheBody();
-
-			for (RestCallInterceptor rci : interceptors)
-				rci.onConnect(this, response);
-			client.onConnect(this, response);
-
-			String method = getMethod();
-			int sc = response.getStatusCode();
-
-			if (errorCodes.test(sc) && ! ignoreErrors) {
-				throw new RestCallException(response, null, "HTTP method ''{0}'' call to ''{1}'' caused response code ''{2}, {3}''.\nResponse: \n{4}",
-					method, getURI(), sc, response.getReasonPhrase(), response.getBody().asAbbreviatedString(1000));
-			}
-
+			Parser parser = prepare();
+			response = client.createResponse(this, client.run(target, request, context), parser);
+			return connected();
 		} catch (RuntimeException | RestCallException e) {
 			if (response != null)
 				response.close();
@@ -2922,8 +2843,98 @@ public class RestRequest extends BeanSession implements HttpUriRequest, Configur
 				response.close();
 			throw new RestCallException(response, e, "Call failed.");
 		}
+	}
+
+	/*
+	 * Builds the HTTP request entity and headers and returns the parser to use for the response.
+	 */
+	private Parser prepare() throws Exception {
+		HttpEntityEnclosingRequestBase request2 = request instanceof HttpEntityEnclosingRequestBase ? (HttpEntityEnclosingRequestBase)request : null;
+		request.setURI(uriBuilder.build());
+
+		// Pick the serializer if it hasn't been overridden.
+		Header h = getLastHeader("Content-Type");
+		String contentType = h == null ? null : h.getValue();
+		Serializer serializer = this.serializer;
+		if (serializer == null)
+			serializer = client.getMatchingSerializer(contentType);
+		if (contentType == null && serializer != null)
+			contentType = serializer.getPrimaryMediaType().toString();
+
+		// Pick the parser if it hasn't been overridden.
+		h = getLastHeader("Accept");
+		String accept = h == null ? null : h.getValue();
+		Parser parser = this.parser;
+		if (parser == null)
+			parser = client.getMatchingParser(accept);
+		if (accept == null && parser != null)
+			setHeader("Accept", parser.getPrimaryMediaType().toString());
+
+		if (hasInput || formData != null) {
+
+			if (request2 == null)
+				throw new RestCallException(null, null, "Method does not support content entity.  Method={0}, URI={1}", getMethod(), getURI());
+
+			Object input2 = input;
+
+			if (input2 instanceof Supplier)
+				input2 = ((Supplier<?>)input).get();
+
+			HttpEntity entity = null;
+			if (formData != null)
+				entity = new UrlEncodedFormEntity(formData);
+			else if (input2 instanceof NameValuePairSupplier)
+				entity = new UrlEncodedFormEntity((NameValuePairSupplier)input2);
+			else if (input2 instanceof HttpResource) {
+				HttpResource r = (HttpResource)input2;
+				headers(r.getHeaders());
+				entity = (HttpEntity)input2;
+			}
+			else if (input2 instanceof HttpEntity)
+				entity = (HttpEntity)input2;
+			else if (input2 instanceof Reader)
+				entity = new StringEntity(IOUtils.read((Reader)input2), getRequestContentType(TEXT_PLAIN));
+			else if (input2 instanceof InputStream)
+				entity = new InputStreamEntity((InputStream)input2, getRequestContentType(ContentType.APPLICATION_OCTET_STREAM));
+			else if (serializer != null)
+				entity = SerializedHttpEntity.of(input2, serializer).schema(requestBodySchema).contentType(contentType);
+			else {
+				if (client.hasSerializers()) {
+					if (contentType == null)
+						throw new RestCallException(null, null, "Content-Type not specified on request.  Cannot match correct serializer.  Use contentType(String) or mediaType(String) to specify transport language.");
+					throw new RestCallException(null, null, "No matching serializer for media type ''{0}''", contentType);
+				}
+				if (input2 == null)
+					input2 = "";
+				entity = new StringEntity(BeanContext.DEFAULT.getClassMetaForObject(input2).toString(input2), getRequestContentType(TEXT_PLAIN));
+			}
+
+			request2.setEntity(entity);
+		}
 
-		return this.response;
+		return parser;
+	}
+
+	/*
+	 * Runs the interceptors and checks the status code once the response has been received.
+	 */
+	private RestResponse connected() throws Exception {
+		if (isDebug() || client.logRequests == DetailLevel.FULL)
+			response.cacheBody();
+
+		for (RestCallInterceptor rci : interceptors)
+			rci.onConnect(this, response);
+		client.onConnect(this, response);
+
+		String method = getMethod();
+		int sc = response.getStatusCode();
+
+		if (errorCodes.test(sc) && ! ignoreErrors) {
+			throw new RestCallException(response, null, "HTTP method ''{0}'' call to ''{1}'' caused response code ''{2}, {3}''.\nResponse: \n{4}",
+				method, getURI(), sc, response.getReasonPhrase(), response.getBody().asAbbreviatedString(1000));
+		}
+
+		return response;
 	}
 
 	/**
@@ -3020,6 +3031,108 @@ public class RestRequest extends BeanSession implements HttpUriRequest, Configur
 		);
 	}
 
+	/**
+	 * Same as {@link #run()} but runs the call without blocking the calling thread.
+	 *
+	 * <p>
+	 * The request is handed off to {@link RestClient#runAsync(HttpHost,HttpRequest,HttpContext)} and the
+	 * returned future is completed once the response has been received and processed by the interceptors.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jv>client</jv>.get(<jsf>URI</jsf>).runAsync().whenComplete((<jv>res</jv>, <jv>e</jv>) -&gt; {
+	 * 		<jk>if</jk> (<jv>e</jv> != <jk>null</jk>) {
+	 * 			<jc>// Failed!</jc>
+	 * 		} <jk>else</jk> {
+	 * 			<jc>// Succeeded!</jc>
+	 * 		}
+	 * 	});
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>Use the {@link RestClientBuilder#asyncCallHandler(Class)} method to plug in a non-blocking HTTP transport.
+	 * 		<br>Otherwise the call is run on the executor service defined by
+	 * 		{@link RestClientBuilder#executorService(ExecutorService, boolean)}.
+	 * 	<li>The future completes exceptionally with a {@link RestCallException} if an exception or non-200 response
+	 * 		code occurred during the connection attempt.
+	 * 	<li>A request can only be run once.
+	 * 		<br>Calling this method again, or calling {@link #run()} afterwards, fails immediately without sending
+	 * 		another request, even if the first call hasn't completed yet.
+	 * </ul>
+	 *
+	 * @return A future that completes with the response object.
+	 */
+	public CompletableFuture<RestResponse> runAsync() {
+		CompletableFuture<RestResponse> f = new CompletableFuture<>();
+		// Rejected before prepare() so that a second call doesn't send another request or close the first response.
+		if (! started.compareAndSet(false, true)) {
+			f.completeExceptionally(new RestCallException(response, null, "run() already called."));
+			return f;
+		}
+		try {
+			Parser parser = prepare();
+			client.runAsync(target, request, context).whenComplete((r, t) -> {
+				try {
+					if (t != null)
+						throw t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+					response = client.createResponse(this, r, parser);
+					f.complete(connected());
+				} catch (Throwable e) {
+					f.completeExceptionally(failed(e));
+				}
+			});
+		} catch (Throwable e) {
+			f.completeExceptionally(failed(e));
+		}
+		return f;
+	}
+
+	/**
+	 * Same as {@link #complete()} but runs the call without blocking the calling thread.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	CompletableFuture&lt;Integer&gt; <jv>rc</jv> = <jv>client</jv>.get(<jsf>URI</jsf>).completeAsync().thenApply(<jv>x</jv> -&gt; <jv>x</jv>.getStatusCode());
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>Use the {@link RestClientBuilder#asyncCallHandler(Class)} method to plug in a non-blocking HTTP transport.
+	 * 	<li>You do not need to execute {@link InputStream#close()} on the response body to consume the response.
+	 * </ul>
+	 *
+	 * @return A future that completes with the consumed response object.
+	 */
+	public CompletableFuture<RestResponse> completeAsync() {
+		CompletableFuture<RestResponse> f = new CompletableFuture<>();
+		runAsync().whenComplete((r, t) -> {
+			try {
+				if (t != null)
+					f.completeExceptionally(t);
+				else
+					f.complete(r.consume());
+			} catch (RestCallException e) {
+				f.completeExceptionally(e);
+			}
+		});
+		return f;
+	}
+
+	/*
+	 * Closes the response and converts the specified exception to the form thrown by run().
+	 */
+	private Throwable failed(Throwable e) {
+		if (response != null) {
+			try {
+				response.close();
+			} catch (RestCallException e2) {
+				// Ignore.
+			}
+		}
+		if (e instanceof Exception && ! (e instanceof RuntimeException || e instanceof RestCallException))
+			return new RestCallException(response, e, "Call failed.");
+		return e;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if this request has a body.
 	 *
@@ -0,0 +1,247 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.http.remote.RrpcInterfaceMeta.*;
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.http.remote.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.reflect.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Coalesces calls made through an RRPC interface proxy into batched HTTP requests.
+ *
+ * <p>
+ * The first call made while no batch is open becomes the leader of a new batch.
+ * <br>The leader waits until the batch window elapses or the batch is full, and then sends all the calls in the
+ * batch as a single request on its own thread.
+ * <br>The other callers block until their own results have been delivered.
+ *
+ * <p>
+ * A batch containing a single call is sent as a regular RRPC call.
+ */
+final class RrpcBatcher {
+
+	private final RestClient client;
+	private final RrpcInterfaceMeta meta;
+	private final String uri;
+	private final Serializer serializer;
+	private final Parser parser;
+	private final int batchSize;
+	private final long batchWindowNanos;
+
+	private Batch current;
+
+	RrpcBatcher(RestClient client, RrpcInterfaceMeta meta, String uri, Serializer serializer, Parser parser) {
+		this.client = client;
+		this.meta = meta;
+		this.uri = trimSlashes(uri) + '/' + BATCH_PATH;
+		this.serializer = serializer;
+		this.parser = parser;
+		this.batchSize = meta.getBatchSize();
+		this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, meta.getBatchWindow()));
+	}
+
+	/**
+	 * Adds a call to the current batch and blocks until its result is available.
+	 *
+	 * @param method The interface method being invoked.
+	 * @param args The method arguments.
+	 * @return The result of the call.
+	 * @throws Throwable The exception thrown by the remote method, or thrown while sending the batch.
+	 */
+	Object invoke(Method method, Object[] args) throws Throwable {
+		Call call = new Call(meta.getMethodMeta(method), args);
+		Batch b;
+		boolean interrupted = false;
+
+		synchronized (this) {
+			b = current;
+			boolean leader = b == null;
+			if (leader)
+				b = current = new Batch();
+			b.calls.add(call);
+			if (b.calls.size() >= batchSize) {
+				current = null;
+				notifyAll();
+			}
+			if (! leader)
+				b = null;
+			else {
+				long deadline = System.nanoTime() + batchWindowNanos;
+				while (current == b) {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						current = null;
+						break;
+					}
+					try {
+						TimeUnit.NANOSECONDS.timedWait(this, remaining);
+					} catch (InterruptedException e) {
+						// Other callers depend on this batch, so send it anyway.
+						interrupted = true;
+						current = null;
+					}
+				}
+			}
+		}
+
+		if (b != null)
+			send(b.calls);
+
+		if (interrupted)
+			Thread.currentThread().interrupt();
+
+		return call.get();
+	}
+
+	private void send(List<Call> calls) {
+		if (calls.size() == 1) {
+			Call c = calls.get(0);
+			try {
+				c.complete(client.invokeRrpc(c.meta, serializer, c.args));
+			} catch (Throwable t) {
+				c.fail(t);
+			}
+			return;
+		}
+
+		try {
+			List<RrpcInterfaceMethodMeta> methods = new ArrayList<>(calls.size());
+			List<Object> args = new ArrayList<>();
+			for (Call c : calls) {
+				methods.add(c.meta);
+				if (c.args != null)
+					Collections.addAll(args, c.args);
+			}
+
+			RestResponse res = client
+				.request("POST", uri, true)
+				.serializer(serializer)
+				.header(BATCH_HEADER, encodeBatch(methods))
+				.body(args.toArray())
+				.run();
+
+			Set<Integer> errors = new HashSet<>();
+			String eh = res.getStringHeader(BATCH_ERRORS_HEADER);
+			if (! isEmpty(eh))
+				for (String s : split(eh, ','))
+					errors.add(Integer.parseInt(s));
+
+			Type[] types = new Type[calls.size()];
+			for (int i = 0; i < types.length; i++) {
+				Method m = calls.get(i).meta.getJavaMethod();
+				types[i] = errors.contains(i) ? OMap.class : m.getReturnType() == void.class ? Object.class : m.getGenericReturnType();
+			}
+
+			String ct = res.getStringHeader("Content-Type");
+			Parser p = parser != null ? parser : client.getMatchingParser(ct);
+			if (p == null)
+				throw new RestCallException(res, null, "No parser found for batched RRPC response with content type ''{0}''.", ct);
+
+			Object[] results;
+			try (Closeable in = p.isReaderParser() ? res.getBody().asReader() : res.getBody().asInputStream()) {
+				results = p.parseArgs(in, types);
+			}
+			if (results.length != calls.size())
+				throw new RestCallException(res, null, "Batched RRPC response contained {0} results for {1} calls.", results.length, calls.size());
+
+			for (int i = 0; i < results.length; i++) {
+				Call c = calls.get(i);
+				if (errors.contains(i)) {
+					OMap m = (OMap)results[i];
+					c.fail(toThrowable(c, m.getString("name"), m.getString("message"), new RestCallException(res, null, "Batched RRPC call to {0} failed.  {1}: {2}", c.meta.getPath(), m.getString("name"), m.getString("message"))));
+				} else {
+					c.complete(results[i]);
+				}
+			}
+
+		} catch (RestCallException e) {
+			for (Call c : calls)
+				c.fail(toThrowable(c, e.getServerExceptionName(), e.getServerExceptionMessage(), e));
+		} catch (Throwable t) {
+			for (Call c : calls)
+				c.fail(t);
+		}
+	}
+
+	// Same handling as regular RRPC calls:  rethrow the original exception if it's declared on the method.
+	private static Throwable toThrowable(Call c, String name, String message, RestCallException e) {
+		try {
+			ThrowableUtils.throwException(name, message, c.meta.getJavaMethod().getExceptionTypes());
+		} catch (Throwable t) {
+			return t;
+		}
+		return new RuntimeException(e);
+	}
+
+	private static class Batch {
+		final List<Call> calls = new ArrayList<>();
+	}
+
+	private static class Call {
+		final RrpcInterfaceMethodMeta meta;
+		final Object[] args;
+		final CountDownLatch done = new CountDownLatch(1);
+		Object result;
+		Throwable error;
+
+		Call(RrpcInterfaceMethodMeta meta, Object[] args) {
+			this.meta = meta;
+			this.args = args;
+		}
+
+		void complete(Object result) {
+			if (done.getCount() == 0)
+				return;
+			Class<?> rt = meta.getJavaMethod().getReturnType();
+			if (result == null && rt.isPrimitive() && rt != void.class)
+				result = ClassInfo.of(rt).getPrimitiveDefault();
+			this.result = result;
+			done.countDown();
+		}
+
+		void fail(Throwable error) {
+			if (done.getCount() == 0)
+				return;
+			this.error = error;
+			done.countDown();
+		}
+
+		Object get() throws Throwable {
+			boolean interrupted = false;
+			while (true) {
+				try {
+					done.await();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+			if (error != null)
+				throw error;
+			return result;
+		}
+	}
+}
@@ -634,6 +634,12 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public MockRestClientBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder accept(Object value) {
 		super.accept(value);
@@ -694,6 +700,18 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder asyncCallHandler(Class<? extends org.apache.juneau.rest.client.RestAsyncCallHandler> value) {
+		super.asyncCallHandler(value);
+		return this;
+	}
+
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder asyncCallHandler(RestAsyncCallHandler value) {
+		super.asyncCallHandler(value);
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder authorization(Object value) {
 		super.authorization(value);
@@ -16,8 +16,10 @@ import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
 import java.io.*;
+import java.util.zip.*;
 
 import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.annotation.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.RestResponse;
 import org.apache.juneau.rest.annotation.*;
@@ -242,6 +244,64 @@ public class Header_AcceptEncoding_Test {
 			.assertBody().is("foo");
 	}
 
+	//------------------------------------------------------------------------------------------------------------------
+	// Test with a minimum response size for compression.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest(encoders=MyMinSizeEncoder.class)
+	@SuppressWarnings("resource")
+	public static class D {
+		@RestMethod
+		public String a(@Query("s") String s) {
+			return s;
+		}
+		@RestMethod
+		public void b(RestResponse res, @Query("s") String s) throws Exception {
+			// Flushes are held back until the minimum size is reached.
+			OutputStream os = res.getNegotiatedOutputStream();
+			for (char c : s.toCharArray()) {
+				os.write(c);
+				os.flush();
+			}
+			os.close();
+		}
+		@RestMethod
+		public void c(RestResponse res, @Query("s") String s) throws Exception {
+			// A known content length decides up front.
+			res.setHeader("Content-Length", String.valueOf(s.length()));
+			OutputStream os = res.getNegotiatedOutputStream();
+			os.write(s.getBytes());
+			os.close();
+		}
+	}
+
+	@Test
+	public void d01_minimumSize() throws Exception {
+		RestClient d = MockRestClient.build(D.class);
+		byte[] body;
+
+		for (String p : new String[]{"/a","/b","/c"}) {
+			d.get(p + "?s=123456789")
+				.acceptEncoding("mycoding")
+				.run()
+				.assertStringHeader("Content-Encoding").doesNotExist()
+				.assertBody().is("123456789");
+			body = d.get(p + "?s=123456789")
+				.acceptEncoding("mycoding,identity;q=0")
+				.run()
+				.assertStringHeader("Content-Encoding").is("mycoding")
+				.getBody().asBytes();
+			assertEquals("123456789", StringUtils.decompress(body));
+
+			body = d.get(p + "?s=1234567890")
+				.acceptEncoding("mycoding")
+				.run()
+				.assertStringHeader("Content-Encoding").is("mycoding")
+				.getBody().asBytes();
+			assertEquals("1234567890", StringUtils.decompress(body));
+		}
+	}
+
 	//------------------------------------------------------------------------------------------------------------------
 	// Helpers
 	//------------------------------------------------------------------------------------------------------------------
@@ -252,4 +312,14 @@ public class Header_AcceptEncoding_Test {
 			return new String[]{"mycoding"};
 		}
 	}
+
+	public static class MyMinSizeEncoder extends GzipEncoder {
+		public MyMinSizeEncoder() {
+			super(Deflater.BEST_SPEED, 10);
+		}
+		@Override /* Encoder */
+		public String[] getCodings() {
+			return new String[]{"mycoding"};
+		}
+	}
 }
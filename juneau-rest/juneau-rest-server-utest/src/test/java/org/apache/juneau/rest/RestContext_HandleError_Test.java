@@ -0,0 +1,102 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.http.exception.*;
+import org.apache.juneau.mstat.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestContext_HandleError_Test {
+
+	private static final int THREADS = 8, REQUESTS_PER_THREAD = 250;
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Concurrent error handling.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class A {
+		static volatile RestContext context;
+
+		@RestHook(HookEvent.POST_INIT)
+		public void init(RestContext context) {
+			A.context = context;
+		}
+
+		@RestMethod
+		public void getServerError() {
+			throw new InternalServerError("Downstream timeout");
+		}
+
+		@RestMethod
+		public void getBadRequest() {
+			throw new BadRequest("Bad input");
+		}
+	}
+
+	@Test
+	public void a01_concurrentErrors() throws Exception {
+		final RestClient a = MockRestClient.buildLax(A.class);
+		ExecutorService es = Executors.newFixedThreadPool(THREADS);
+		final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+		List<Future<Void>> futures = new ArrayList<>();
+
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				final boolean serverError = t % 2 == 0;
+				futures.add(es.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						barrier.await();
+						for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+							if (serverError)
+								a.get("/serverError").run().assertCode().is(500).assertBody().contains("Downstream timeout");
+							else
+								a.get("/badRequest").run().assertCode().is(400).assertBody().contains("Bad input");
+						}
+						return null;
+					}
+				}));
+			}
+			for (Future<Void> f : futures)
+				f.get(120, TimeUnit.SECONDS);
+		} finally {
+			es.shutdown();
+		}
+
+		int total = THREADS * REQUESTS_PER_THREAD;
+
+		// Error counts are tracked in shared structures and must not lose updates under concurrency.
+		int errors = 0, exceptionCount = 0;
+		for (MethodExecStats s : A.context.getMethodExecStats()) {
+			if (s.getMethod().equals("A.getServerError") || s.getMethod().equals("A.getBadRequest")) {
+				assertEquals(total / 2, s.getErrors());
+				errors += s.getErrors();
+				for (ExceptionStats es2 : s.getExceptions())
+					exceptionCount += es2.getCount();
+			}
+		}
+		assertEquals(total, errors);
+		assertEquals(total, exceptionCount);
+	}
+}
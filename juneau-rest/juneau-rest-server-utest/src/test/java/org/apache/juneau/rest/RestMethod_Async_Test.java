@@ -0,0 +1,288 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+import org.apache.juneau.http.annotation.Response;
+import org.apache.juneau.http.exception.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestMethod_Async_Test {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Containers without async support block until the stage completes.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class A1 {
+		public String f1 = "foo";
+		public int f2 = 1;
+	}
+
+	@Response(code=202)
+	public static class A2 {
+		@Override
+		public String toString() {
+			return "accepted";
+		}
+	}
+
+	@Rest(serializers=JsonSerializer.class)
+	public static class A {
+
+		@RestMethod
+		public CompletableFuture<String> getString() {
+			return CompletableFuture.supplyAsync(() -> "foo");
+		}
+
+		@RestMethod
+		public CompletionStage<A1> getBean() {
+			return CompletableFuture.supplyAsync(() -> new A1());
+		}
+
+		@RestMethod
+		public CompletableFuture<String> getNotFound() {
+			return CompletableFuture.supplyAsync(() -> { throw new NotFound("Not here"); });
+		}
+
+		@RestMethod
+		public CompletableFuture<String> getFailed() {
+			CompletableFuture<String> f = new CompletableFuture<>();
+			f.completeExceptionally(new RuntimeException("Boom"));
+			return f;
+		}
+
+		@RestMethod
+		public CompletableFuture<A2> getResponseBean() {
+			return CompletableFuture.completedFuture(new A2());
+		}
+
+		@RestMethod
+		public CompletableFuture<String> getNull() {
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	static MockRestClient a = MockRestClient.buildLax(A.class);
+
+	@Test
+	public void a01_string() throws Exception {
+		a.get("/string").run().assertCode().is(200).assertBody().is("\"foo\"");
+	}
+
+	@Test
+	public void a02_bean() throws Exception {
+		a.get("/bean").run().assertCode().is(200).assertBody().is("{\"f1\":\"foo\",\"f2\":1}");
+	}
+
+	@Test
+	public void a03_exceptionalCompletion() throws Exception {
+		a.get("/notFound").run().assertCode().is(404).assertBody().contains("Not here");
+		a.get("/failed").run().assertCode().is(500).assertBody().contains("Boom");
+	}
+
+	@Test
+	public void a04_responseBean() throws Exception {
+		a.get("/responseBean").run().assertCode().is(202).assertBody().is("\"accepted\"");
+	}
+
+	@Test
+	public void a05_null() throws Exception {
+		a.get("/null").run().assertCode().is(200).assertBody().is("null");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Containers with async support release the calling thread.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class B {
+		static volatile RestContext context;
+		static volatile CompletableFuture<String> pending;
+
+		@RestHook(HookEvent.INIT)
+		public void init(RestContextBuilder builder) {
+			builder.asyncExecutor(r -> new Thread(r, "async-completion").start()).asyncTimeout("10s");
+		}
+
+		@RestHook(HookEvent.POST_INIT)
+		public void postInit(RestContext context) {
+			B.context = context;
+		}
+
+		@RestMethod
+		public CompletableFuture<String> getPending() {
+			return pending = new CompletableFuture<>();
+		}
+	}
+
+	@Test
+	public void b01_asyncExecutor() throws Exception {
+		MockRestClient.build(B.class);
+
+		CountDownLatch completed = new CountDownLatch(1);
+		AtomicReference<String> completionThread = new AtomicReference<>();
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+		HttpServletRequest req = asyncRequest(MockServletRequest.create("GET", "/pending"), () -> {
+			completionThread.set(Thread.currentThread().getName());
+			completed.countDown();
+		});
+		MockServletResponse res = MockServletResponse.create();
+
+		B.context.execute(req, capturing(res, body));
+
+		// The request thread has returned but the response hasn't been written yet.
+		assertEquals(1, completed.getCount());
+		assertEquals(0, body.size());
+
+		B.pending.complete("foo");
+
+		assertTrue(completed.await(10, TimeUnit.SECONDS));
+		assertEquals("async-completion", completionThread.get());
+		assertEquals(200, res.getStatus());
+		assertEquals("foo", body.toString("UTF-8"));
+	}
+
+	@Test
+	public void b02_timeout() throws Exception {
+		MockRestClient.build(B.class);
+
+		AtomicInteger completions = new AtomicInteger();
+		AtomicLong timeout = new AtomicLong();
+		List<AsyncListener> listeners = new ArrayList<>();
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+		HttpServletRequest req = asyncRequest(MockServletRequest.create("GET", "/pending"), completions::incrementAndGet, listeners, timeout);
+		MockServletResponse res = MockServletResponse.create();
+
+		B.context.execute(req, capturing(res, body));
+		assertEquals(10000, timeout.get());
+		assertEquals(1, listeners.size());
+
+		// The timeout fails the call.
+		listeners.get(0).onTimeout(new AsyncEvent(req.getAsyncContext()));
+		assertEquals(1, completions.get());
+		assertEquals(503, res.getStatus());
+		assertTrue(body.toString("UTF-8").contains("timed out"));
+
+		// Later errors and completions of the stage are ignored.
+		listeners.get(0).onError(new AsyncEvent(req.getAsyncContext(), null, null, new IOException("foo")));
+		assertEquals(1, completions.get());
+		B.pending.complete("foo");
+		assertEquals(1, completions.get());
+	}
+
+	@Test
+	public void b03_timeoutAfterCompletion() throws Exception {
+		MockRestClient.build(B.class);
+
+		CountDownLatch completed = new CountDownLatch(1);
+		AtomicInteger completions = new AtomicInteger();
+		List<AsyncListener> listeners = new ArrayList<>();
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+		HttpServletRequest req = asyncRequest(MockServletRequest.create("GET", "/pending"), () -> {
+			completions.incrementAndGet();
+			completed.countDown();
+		}, listeners, new AtomicLong());
+		MockServletResponse res = MockServletResponse.create();
+
+		B.context.execute(req, capturing(res, body));
+		B.pending.complete("foo");
+		assertTrue(completed.await(10, TimeUnit.SECONDS));
+
+		listeners.get(0).onTimeout(new AsyncEvent(req.getAsyncContext()));
+		assertEquals(1, completions.get());
+		assertEquals(200, res.getStatus());
+		assertEquals("foo", body.toString("UTF-8"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Helper methods.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static HttpServletRequest asyncRequest(HttpServletRequest req, Runnable onComplete) {
+		return asyncRequest(req, onComplete, new ArrayList<>(), new AtomicLong());
+	}
+
+	private static HttpServletRequest asyncRequest(HttpServletRequest req, Runnable onComplete, List<AsyncListener> listeners, AtomicLong timeout) {
+		AsyncContext ac = (AsyncContext)Proxy.newProxyInstance(
+			AsyncContext.class.getClassLoader(),
+			new Class<?>[]{AsyncContext.class},
+			(proxy, method, args) -> {
+				if (method.getName().equals("complete"))
+					onComplete.run();
+				else if (method.getName().equals("addListener"))
+					listeners.add((AsyncListener)args[0]);
+				else if (method.getName().equals("setTimeout"))
+					timeout.set((Long)args[0]);
+				return null;
+			}
+		);
+		return new HttpServletRequestWrapper(req) {
+			@Override
+			public boolean isAsyncSupported() {
+				return true;
+			}
+			@Override
+			public AsyncContext startAsync(ServletRequest req2, ServletResponse res2) {
+				return ac;
+			}
+			@Override
+			public AsyncContext getAsyncContext() {
+				return ac;
+			}
+		};
+	}
+
+	private static HttpServletResponse capturing(HttpServletResponse res, ByteArrayOutputStream body) {
+		ServletOutputStream sos = new ServletOutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				body.write(b);
+			}
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+			@Override
+			public void setWriteListener(WriteListener writeListener) {}
+		};
+		return new HttpServletResponseWrapper(res) {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return sos;
+			}
+			@Override
+			public PrintWriter getWriter() throws IOException {
+				return new PrintWriter(new OutputStreamWriter(sos, "UTF-8"));
+			}
+		};
+	}
+}
@@ -0,0 +1,352 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.http.HttpMethod.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.dto.swagger.*;
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.exception.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.plaintext.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.mock.*;
+import org.apache.juneau.svl.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestMethod_Cache_Test {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Basic caching.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Rest(serializers=PlainTextSerializer.class)
+	public static class A {
+		final AtomicInteger count = new AtomicInteger();
+
+		@RestMethod(cache="1h")
+		public String getA(@org.apache.juneau.http.annotation.Query("x") String x) {
+			return "a" + count.incrementAndGet() + (x == null ? "" : x);
+		}
+
+		@RestMethod(cache="1h")
+		public String getB() throws Exception {
+			count.incrementAndGet();
+			throw new NotFound("nope");
+		}
+
+		@RestMethod(path="/c", cache="1h")
+		public String getC(RestResponse res) {
+			res.setHeader("Foo", "bar");
+			return "c" + count.incrementAndGet();
+		}
+
+		@RestMethod
+		public String getD() {
+			return "d" + count.incrementAndGet();
+		}
+
+		@RestMethod(method="PUT", path="/invalidate")
+		public String invalidate(RestRequest req) {
+			req.getContext().getResponseCache().invalidate("getA");
+			return "OK";
+		}
+
+		@RestMethod(method="PUT", path="/invalidatePath")
+		public String invalidatePath(RestRequest req) {
+			req.getContext().getResponseCache().invalidatePath("/c");
+			return "OK";
+		}
+	}
+
+	public static class A01 extends A {}
+	public static class A02 extends A {}
+	public static class A03 extends A {}
+	public static class A04 extends A {}
+	public static class A05 extends A {}
+
+	@Test
+	public void a01_repeatedRequestsServedFromCache() throws Exception {
+		RestClient a = MockRestClient.build(A01.class);
+		a.get("/a").run().assertBody().is("a1");
+		a.get("/a").run().assertBody().is("a1");
+		a.get("/a?x=1").run().assertBody().is("a21");
+		a.get("/a?x=1").run().assertBody().is("a21");
+		a.get("/a").accept("text/plain").run().assertBody().is("a3");
+		a.get("/a").run().assertBody().is("a1");
+	}
+
+	@Test
+	public void a02_etags() throws Exception {
+		RestClient a = MockRestClient.buildLax(A02.class);
+		String etag = a.get("/a").run().assertCode().is(200).getStringHeader("ETag");
+		assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+		assertEquals(etag, a.get("/a").run().getStringHeader("ETag"));
+		a.get("/a").header("If-None-Match", etag).run().assertCode().is(304);
+		a.get("/a").header("If-None-Match", "\"foo\"").run().assertCode().is(200).assertBody().is("a1");
+
+		// Conditional request on a cache miss.
+		String etag2 = a.get("/c").run().getStringHeader("ETag");
+		a.put("/invalidatePath", null).run().assertBody().is("OK");
+		a.get("/c").header("If-None-Match", etag2).run().assertCode().is(200).assertBody().is("c3");
+		a.get("/c").header("If-None-Match", a.get("/c").run().getStringHeader("ETag")).run().assertCode().is(304);
+	}
+
+	@Test
+	public void a03_headersReplayed() throws Exception {
+		RestClient a = MockRestClient.build(A03.class);
+		a.get("/c").run().assertStringHeader("Foo").is("bar").assertBody().is("c1");
+		a.get("/c").run().assertStringHeader("Foo").is("bar").assertBody().is("c1");
+	}
+
+	@Test
+	public void a04_errorsNotCached() throws Exception {
+		RestClient a = MockRestClient.buildLax(A04.class);
+		a.get("/b").run().assertCode().is(404);
+		a.get("/b").run().assertCode().is(404);
+		a.get("/d").run().assertBody().is("d3");
+		a.get("/d").run().assertBody().is("d4");
+	}
+
+	@Test
+	public void a05_invalidation() throws Exception {
+		RestClient a = MockRestClient.build(A05.class);
+		a.get("/a").run().assertBody().is("a1");
+		a.get("/c").run().assertBody().is("c2");
+		a.put("/invalidate", null).run().assertBody().is("OK");
+		a.get("/a").run().assertBody().is("a3");
+		a.get("/c").run().assertBody().is("c2");
+		a.put("/invalidatePath", null).run().assertBody().is("OK");
+		a.get("/a").run().assertBody().is("a3");
+		a.get("/c").run().assertBody().is("c4");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Expiration and eviction.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class B {
+		final AtomicInteger count = new AtomicInteger();
+
+		@RestHook(HookEvent.INIT)
+		public void init(RestContextBuilder builder) throws Exception {
+			builder.cacheMaxWeight("10");
+		}
+
+		@RestMethod(cache="50")
+		public String getA() {
+			return "a" + count.incrementAndGet();
+		}
+
+		@RestMethod(cache="1h")
+		public String getB() {
+			return "0123456789" + count.incrementAndGet();
+		}
+	}
+
+	public static class B01 extends B {}
+	public static class B02 extends B {}
+
+	@Test
+	public void b01_expiration() throws Exception {
+		RestClient b = MockRestClient.build(B01.class);
+		b.get("/a").run().assertBody().is("a1");
+		b.get("/a").run().assertBody().is("a1");
+		Thread.sleep(100);
+		b.get("/a").run().assertBody().is("a2");
+	}
+
+	@Test
+	public void b02_maxWeight() throws Exception {
+		RestClient b = MockRestClient.build(B02.class);
+		b.get("/b").run().assertBody().is("01234567891");
+		b.get("/b").run().assertBody().is("01234567892");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Encoded responses and guards.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class CGuard extends RestGuard {
+		static volatile boolean allow = true;
+		@Override /* RestGuard */
+		public boolean isRequestAllowed(RestRequest req) {
+			return allow;
+		}
+	}
+
+	public static class CEncoder extends GzipEncoder {
+		@Override /* ConfigEncoder */
+		public String[] getCodings() {
+			return new String[]{"mycoding"};
+		}
+	}
+
+	@Rest(encoders=CEncoder.class)
+	public static class C {
+		final AtomicInteger count = new AtomicInteger();
+
+		@RestMethod(cache="1h", guards=CGuard.class)
+		public String getA() {
+			return "a" + count.incrementAndGet();
+		}
+	}
+
+	public static class C01 extends C {}
+	public static class C02 extends C {}
+
+	@Test
+	public void c01_encoded() throws Exception {
+		RestClient c = MockRestClient.build(C01.class);
+		assertEquals("a1", StringUtils.decompress(c.get("/a").acceptEncoding("mycoding").run().getBody().asBytes()));
+		assertEquals("a1", StringUtils.decompress(c.get("/a").acceptEncoding("mycoding").run().getBody().asBytes()));
+		c.get("/a").run().assertBody().is("a2");
+		c.get("/a").run().assertBody().is("a2");
+	}
+
+	@Test
+	public void c02_guardsRunOnCacheHits() throws Exception {
+		RestClient c = MockRestClient.buildLax(C02.class);
+		c.get("/a").run().assertBody().is("a1");
+		CGuard.allow = false;
+		try {
+			c.get("/a").run().assertCode().is(403);
+		} finally {
+			CGuard.allow = true;
+		}
+		c.get("/a").run().assertBody().is("a1");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Swagger documents.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class DVar extends SimpleVar {
+		static final AtomicInteger count = new AtomicInteger();
+
+		public DVar() {
+			super("DV");
+		}
+
+		@Override /* Var */
+		public String resolve(VarResolverSession session, String key) {
+			count.incrementAndGet();
+			return key;
+		}
+	}
+
+	@Rest
+	public static class D extends BasicRest {
+
+		@RestHook(HookEvent.INIT)
+		public void init(RestContextBuilder builder) throws Exception {
+			builder.vars(DVar.class).swaggerLocales("en-US", "fr-FR").asyncExecutor(Runnable::run);
+		}
+
+		@RestMethod(summary="$DV{foo}")
+		public String getA() {
+			return "a";
+		}
+
+		@Override /* BasicRestMethods */
+		@RestMethod(method=OPTIONS, path="/*", cache="1h")
+		public Swagger getOptions(RestRequest req) {
+			return super.getOptions(req);
+		}
+	}
+
+	@Rest
+	public static class E extends BasicRest {
+
+		@RestHook(HookEvent.INIT)
+		public void init(RestContextBuilder builder) throws Exception {
+			builder.swaggerLocales("en-US").asyncExecutor(Runnable::run);
+		}
+
+		@RestMethod(summary="$RQ{foo}")
+		public String getA() {
+			return "a";
+		}
+	}
+
+	@Rest
+	public static class F extends BasicRest {
+		static RestContext context;
+
+		@RestHook(HookEvent.INIT)
+		public void init(RestContextBuilder builder) throws Exception {
+			builder.swaggerLocales("en-US").asyncExecutor(Runnable::run);
+		}
+
+		@RestHook(HookEvent.POST_INIT)
+		public void postInit(RestContext context) {
+			F.context = context;
+		}
+
+		// $F resolves without a request but is localized by the request locale when there is one.
+		@RestMethod(summary="$F{BasicRestInfoProviderTest.properties}")
+		public String getA() {
+			return "a";
+		}
+	}
+
+	@Test
+	public void d01_swaggerPregenerated() throws Exception {
+		RestClient d = MockRestClient.buildLax(D.class);
+		int count = DVar.count.get();
+		assertTrue(count > 0);
+		d.options("/").accept("application/json").header("Accept-Language", "en-US").run().assertBody().contains("\"summary\":\"foo\"");
+		d.options("/").accept("application/json").header("Accept-Language", "fr-FR").run().assertBody().contains("\"summary\":\"foo\"");
+		assertEquals(count, DVar.count.get());
+		d.options("/").accept("application/json").header("Accept-Language", "de-DE").run().assertBody().contains("\"summary\":\"foo\"");
+		assertTrue(DVar.count.get() > count);
+	}
+
+	@Test
+	public void d02_swaggerCached() throws Exception {
+		RestClient d = MockRestClient.buildLax(D.class);
+		String etag = d.options("/").accept("application/json").header("Accept-Language", "en-US").run().assertCode().is(200).getStringHeader("ETag");
+		assertNotNull(etag);
+		d.options("/").accept("application/json").header("Accept-Language", "en-US").header("If-None-Match", etag).run().assertCode().is(304);
+		d.get("/?method=OPTIONS&Accept=application/json").header("If-None-Match", etag).run().assertCode().is(304);
+		d.options("/").accept("text/html").header("If-None-Match", etag).run().assertCode().is(200);
+	}
+
+	@Test
+	public void d03_swaggerRequestVarsNotPregenerated() throws Exception {
+		RestClient e = MockRestClient.buildLax(E.class);
+		e.options("/?foo=bar").accept("application/json").header("Accept-Language", "en-US").run().assertBody().contains("\"summary\":\"bar\"");
+	}
+
+	@Test
+	public void d04_swaggerNonThrowingRequestVarsNotPregenerated() throws Exception {
+		RestClient f = MockRestClient.buildLax(F.class);
+		f.options("/").accept("application/json").header("Accept-Language", "en-US").run().assertCode().is(200);
+		assertNull(F.context.getPregeneratedSwagger(Locale.US));
+	}
+
+	@Test
+	public void d05_swaggerNotCachedByDefault() throws Exception {
+		RestClient e = MockRestClient.buildLax(E.class);
+		assertNull(e.options("/?foo=bar").accept("application/json").run().assertCode().is(200).getStringHeader("ETag"));
+		assertNull(e.options("/?foo=bar").accept("application/json").run().assertCode().is(200).getStringHeader("ETag"));
+	}
+}
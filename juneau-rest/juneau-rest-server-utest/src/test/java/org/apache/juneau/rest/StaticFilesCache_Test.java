@@ -0,0 +1,84 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.nio.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class StaticFilesCache_Test {
+
+	private static final long W = StaticFilesCache.ENTRY_WEIGHT;
+
+	private static StaticFile heap(int size) {
+		return new StaticFile(new byte[size], "text/plain", null);
+	}
+
+	private static StaticFile direct(int size) {
+		return new StaticFile(ByteBuffer.allocateDirect(size), "text/plain", null, -1);
+	}
+
+	@Test
+	public void a01_largeHeapEntriesEvicted() throws Exception {
+		StaticFilesCache c = new StaticFilesCache(3000 + 3*W);
+		c.put("/a", heap(1000));
+		c.put("/b", heap(1000));
+		c.put("/c", heap(1000));
+		assertInteger(c.size()).is(3);
+		assertLong(c.getWeight()).is(3000 + 3*W);
+
+		c.get("/a");
+		c.put("/d", heap(1500));
+		assertObject(c.get("/a")).isNotNull();
+		assertObject(c.get("/b")).isNull();
+		assertObject(c.get("/c")).isNull();
+		assertObject(c.get("/d")).isNotNull();
+		assertLong(c.getWeight()).is(2500 + 2*W);
+	}
+
+	@Test
+	public void a02_tooLargeNotCached() throws Exception {
+		StaticFilesCache c = new StaticFilesCache(1000);
+		StaticFile sf = heap(1000);
+		assertTrue(c.put("/a", sf) == sf);
+		assertInteger(c.size()).is(0);
+		assertLong(c.getWeight()).is(0l);
+	}
+
+	@Test
+	public void a03_mappedAndMissingEntriesWeighOnlyEntryWeight() throws Exception {
+		StaticFilesCache c = new StaticFilesCache(2*W);
+		c.put("/a", direct(100000));
+		c.put("/b", new StaticFile(null, null, null));
+		assertInteger(c.size()).is(2);
+		assertLong(c.getWeight()).is(2*W);
+
+		c.put("/c", new StaticFile(null, null, null));
+		assertInteger(c.size()).is(2);
+		assertObject(c.get("/a")).isNull();
+	}
+
+	@Test
+	public void a04_existingEntryKept() throws Exception {
+		StaticFilesCache c = new StaticFilesCache(10000);
+		StaticFile sf1 = heap(10), sf2 = heap(10);
+		assertTrue(c.put("/a", sf1) == sf1);
+		assertTrue(c.put("/a", sf2) == sf1);
+		assertLong(c.getWeight()).is(10 + W);
+	}
+}
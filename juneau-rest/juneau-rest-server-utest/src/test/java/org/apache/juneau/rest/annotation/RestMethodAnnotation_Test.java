@@ -34,6 +34,7 @@ public class RestMethodAnnotation_Test {
 	//------------------------------------------------------------------------------------------------------------------
 
 	RestMethod a1 = RestMethodAnnotation.create()
+		.cache("cache")
 		.clientVersion("clientVersion")
 		.consumes("consumes")
 		.converters(RestConverter.class)
@@ -69,6 +70,7 @@ public class RestMethodAnnotation_Test {
 		.build();
 
 	RestMethod a2 = RestMethodAnnotation.create()
+		.cache("cache")
 		.clientVersion("clientVersion")
 		.consumes("consumes")
 		.converters(RestConverter.class)
@@ -107,6 +109,7 @@ public class RestMethodAnnotation_Test {
 	public void a01_basic() {
 		assertObject(a1).stderr().json().is(""
 			+ "{"
+				+ "cache:'cache',"
 				+ "clientVersion:'clientVersion',"
 				+ "consumes:['consumes'],"
 				+ "converters:['org.apache.juneau.rest.RestConverter'],"
@@ -185,6 +188,7 @@ public class RestMethodAnnotation_Test {
 	//------------------------------------------------------------------------------------------------------------------
 
 	@RestMethod(
+		cache="cache",
 		clientVersion="clientVersion",
 		consumes="consumes",
 		converters=RestConverter.class,
@@ -222,6 +226,7 @@ public class RestMethodAnnotation_Test {
 	RestMethod d1 = D1.class.getAnnotationsByType(RestMethod.class)[0];
 
 	@RestMethod(
+		cache="cache",
 		clientVersion="clientVersion",
 		consumes="consumes",
 		converters=RestConverter.class,
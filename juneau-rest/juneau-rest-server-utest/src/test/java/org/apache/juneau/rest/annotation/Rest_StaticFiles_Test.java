@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.annotation;
 
+import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
 import org.apache.juneau.rest.client.*;
@@ -160,4 +161,73 @@ public class Rest_StaticFiles_Test {
 			.assertBody().contains("OK-6");
 	}
 
+	//------------------------------------------------------------------------------------------------------------------
+	// Conditional and range requests.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void e01_conditionalRequests() throws Exception {
+		RestClient a = MockRestClient.buildLax(A.class);
+		RestResponse r = a.get("/xdocs/test.txt").run().assertCode().is(200);
+		String etag = r.getStringHeader("ETag");
+		String lastModified = r.getStringHeader("Last-Modified");
+		assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+		assertNull(lastModified);
+		r.assertStringHeader("Accept-Ranges").is("bytes");
+
+		a.get("/xdocs/test.txt").header("If-None-Match", etag).run().assertCode().is(304);
+		a.get("/xdocs/test.txt").header("If-None-Match", "\"foo\", " + etag).run().assertCode().is(304);
+		a.get("/xdocs/test.txt").header("If-None-Match", "*").run().assertCode().is(304);
+		a.get("/xdocs/test.txt").header("If-None-Match", "\"foo\"").run().assertCode().is(200).assertBody().contains("OK-1");
+		a.get("/xdocs/test.txt").header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT").run().assertCode().is(200);
+		a.get("/xdocs/test.txt").header("If-Modified-Since", "Fri, 31 Dec 9999 23:59:59 GMT").run().assertCode().is(200);
+	}
+
+	@Test
+	public void e02_rangeRequests() throws Exception {
+		RestClient a = MockRestClient.buildLax(A.class);
+		String body = a.get("/xdocs/test.txt").run().getBody().asString();
+		int len = body.length();
+
+		a.get("/xdocs/test.txt").header("Range", "bytes=0-9").run()
+			.assertCode().is(206)
+			.assertStringHeader("Content-Range").is("bytes 0-9/" + len)
+			.assertBody().is(body.substring(0, 10));
+		a.get("/xdocs/test.txt").header("Range", "bytes=-5").run()
+			.assertCode().is(206)
+			.assertStringHeader("Content-Range").is("bytes " + (len-5) + "-" + (len-1) + "/" + len)
+			.assertBody().is(body.substring(len-5));
+		a.get("/xdocs/test.txt").header("Range", "bytes=10-").run()
+			.assertCode().is(206)
+			.assertBody().is(body.substring(10));
+		a.get("/xdocs/test.txt").header("Range", "bytes=" + len + "-").run()
+			.assertCode().is(416)
+			.assertStringHeader("Content-Range").is("bytes */" + len);
+
+		// Multiple ranges and ranges with a stale If-Range are ignored.
+		a.get("/xdocs/test.txt").header("Range", "bytes=0-1,5-6").run().assertCode().is(200).assertBody().is(body);
+		a.get("/xdocs/test.txt").header("Range", "bytes=0-1").header("If-Range", "\"foo\"").run().assertCode().is(200).assertBody().is(body);
+	}
+
+	@Test
+	public void e03_encodedResponses() throws Exception {
+		RestClient a = MockRestClient.buildLax(A.class);
+		RestResponse r = a.get("/xdocs/test.txt").acceptEncoding("identity").run().assertCode().is(200);
+		String body = r.getBody().asString(), etag = r.getStringHeader("ETag");
+		assertNull(r.getStringHeader("Content-Encoding"));
+
+		r = a.get("/xdocs/test.txt").acceptEncoding("gzip").run()
+			.assertCode().is(200)
+			.assertStringHeader("Content-Encoding").is("gzip")
+			.assertStringHeader("Vary").is("Accept-Encoding");
+		String gzipEtag = r.getStringHeader("ETag");
+		assertNotEquals(etag, gzipEtag);
+		r.assertBody().is(body);
+
+		a.get("/xdocs/test.txt").acceptEncoding("gzip").header("If-None-Match", gzipEtag).run().assertCode().is(304);
+		a.get("/xdocs/test.txt").acceptEncoding("gzip").header("If-None-Match", etag).run().assertCode().is(200);
+		a.get("/xdocs/test.txt").acceptEncoding("gzip").header("Range", "bytes=0-9").run()
+			.assertCode().is(206)
+			.assertBody().is(body.substring(0, 10));
+	}
 }
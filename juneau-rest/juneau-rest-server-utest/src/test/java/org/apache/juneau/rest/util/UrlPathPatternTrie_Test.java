@@ -0,0 +1,92 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class UrlPathPatternTrie_Test {
+
+	private static final String[] PATTERNS = {
+		"", "*", "/", "/*", "/foo", "/foo/*", "/foo/bar", "/foo/bar/*", "/foo/{id}", "/foo/{id}/*", "/foo/{id}/bar",
+		"/foo/{id}/bar/*", "/foo/*/baz", "/{a}/{b}", "/x{id}", "/foo/%20bar"
+	};
+
+	private static final String[] PATHS = {
+		"/", "//", "/foo", "/foo/", "/foo/bar", "/foo/bar/", "/foo/bar/baz", "/foo/123/bar", "/foo/123/bar/",
+		"/foo/123/bar/baz/qux", "/foo/123/baz", "/bar", "/bar/baz", "/x{id}", "/xyz", "/foo/%20bar", "/foo/ bar", "/a/b/c/d"
+	};
+
+	private static UrlPathPatternTrie<UrlPathPattern> trie(List<UrlPathPattern> patterns) {
+		UrlPathPatternTrie<UrlPathPattern> t = new UrlPathPatternTrie<>();
+		for (UrlPathPattern p : patterns)
+			t.add(p, p);
+		return t;
+	}
+
+	@Test
+	public void a01_findIsSupersetOfMatches() throws Exception {
+		List<UrlPathPattern> patterns = new ArrayList<>();
+		for (String s : PATTERNS)
+			patterns.add(new UrlPathPattern(s));
+		UrlPathPatternTrie<UrlPathPattern> t = trie(patterns);
+
+		for (String path : PATHS) {
+			UrlPathInfo pi = new UrlPathInfo(path);
+			List<UrlPathPattern> found = t.find(pi);
+			for (UrlPathPattern p : patterns)
+				if (p.match(pi) != null)
+					assertTrue("Pattern '" + p + "' not found for path '" + path + "'", found.contains(p));
+		}
+	}
+
+	@Test
+	public void a02_findPreservesOrder() throws Exception {
+		List<UrlPathPattern> patterns = new ArrayList<>();
+		for (String s : PATTERNS)
+			patterns.add(new UrlPathPattern(s));
+		Collections.sort(patterns);
+		UrlPathPatternTrie<UrlPathPattern> t = trie(patterns);
+
+		for (String path : PATHS) {
+			List<UrlPathPattern> found = t.find(new UrlPathInfo(path));
+			int last = -1;
+			for (UrlPathPattern p : found) {
+				int i = patterns.indexOf(p);
+				assertTrue(i > last);
+				last = i;
+			}
+		}
+	}
+
+	@Test
+	public void a03_findExcludesNonMatchingLiterals() throws Exception {
+		UrlPathPatternTrie<String> t = new UrlPathPatternTrie<>();
+		t.add("a", new UrlPathPattern("/foo/bar"));
+		t.add("b", new UrlPathPattern("/foo/{id}"));
+		t.add("c", new UrlPathPattern("/baz/*"));
+		t.add("d", new UrlPathPattern("/qux"), new UrlPathPattern("/foo/bar/*"));
+
+		assertEquals("[a, b, d]", t.find(new UrlPathInfo("/foo/bar")).toString());
+		assertEquals("[b]", t.find(new UrlPathInfo("/foo/123")).toString());
+		assertEquals("[c]", t.find(new UrlPathInfo("/baz/1/2/3")).toString());
+		assertEquals("[d]", t.find(new UrlPathInfo("/qux")).toString());
+		assertEquals("[d]", t.find(new UrlPathInfo("/foo/bar/x")).toString());
+		assertEquals("[]", t.find(new UrlPathInfo("/nothing")).toString());
+	}
+}
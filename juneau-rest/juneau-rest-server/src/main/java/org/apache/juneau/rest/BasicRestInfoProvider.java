@@ -19,10 +19,13 @@ import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.*;
 
+import org.apache.juneau.cp.Messages;
 import org.apache.juneau.dto.swagger.*;
+import org.apache.juneau.html.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.reflect.*;
 import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.vars.*;
 import org.apache.juneau.svl.*;
 
 /**
@@ -110,14 +113,88 @@ public class BasicRestInfoProvider implements RestInfoProvider {
 		if (swagger != null)
 			return swagger;
 
-		// Wasn't cached...need to create one.
-		swagger = new SwaggerGenerator(req.getContext(), req.getVarResolverSession(), req.getLocale()).getSwagger();
+		// Wasn't cached...use the pre-generated one for this locale or create one.
+		swagger = context.getPregeneratedSwagger(locale);
+		if (swagger == null)
+			swagger = new SwaggerGenerator(req.getContext(), req.getVarResolverSession(), req.getLocale()).getSwagger();
 
 		swaggers.get(locale).put(hashCode, swagger);
 
 		return swagger;
 	}
 
+	/*
+	 * Generates the swagger for the specified locale ahead of any request.
+	 * Called in the background after initialization when RestContext.REST_swaggerLocales is set.
+	 * Returns null if the swagger can't be generated without a request, in which case it's left to getSwagger(RestRequest).
+	 */
+	static Swagger pregenerate(RestContext context, Locale locale) {
+		try {
+			PregenerationSession vs = new PregenerationSession(context, locale);
+			Swagger swagger = new SwaggerGenerator(context, vs, locale).getSwagger();
+			return vs.incomplete ? null : swagger;
+		} catch (Exception e) {
+			// Generated on first request instead, where the error is reported to the caller.
+			return null;
+		}
+	}
+
+	/*
+	 * Var resolver session used for pre-generating swagger.
+	 * $L variables are resolved against the target locale.
+	 * Request variables (e.g. $RQ, $RH, $R, $U) and unknown variables mark the result as incomplete, even when they
+	 * resolve without error, since their values would otherwise be shared by every request.
+	 */
+	private static final class PregenerationSession extends VarResolverSession {
+		private static final Class<?>[] REQUEST_VARS = {
+			FileVar.class,
+			HtmlWidgetVar.class,
+			RequestAttributeVar.class,
+			RequestFormDataVar.class,
+			RequestHeaderVar.class,
+			RequestPathVar.class,
+			RequestQueryVar.class,
+			RequestVar.class,
+			RestInfoVar.class,
+			SerializedRequestAttrVar.class,
+			SwaggerVar.class,
+			UrlVar.class
+		};
+
+		private final Var localizationVar;
+		boolean incomplete;
+
+		PregenerationSession(RestContext context, Locale locale) {
+			super(context.getVarResolver().getContext(), null);
+			Messages messages = context.getMessages().forLocale(locale);
+			localizationVar = new MultipartVar(LocalizationVar.NAME) {
+				@Override /* MultipartVar */
+				public String resolve(VarResolverSession session, String[] args) {
+					if (args.length == 0)
+						return "";
+					return messages.getString(args[0], (Object[])Arrays.copyOfRange(args, 1, args.length));
+				}
+			};
+		}
+
+		@Override /* VarResolverSession */
+		protected Var getVar(String name) {
+			if (LocalizationVar.NAME.equals(name))
+				return localizationVar;
+			Var v = super.getVar(name);
+			if (v == null || isRequestVar(v))
+				incomplete = true;
+			return v;
+		}
+
+		private static boolean isRequestVar(Var v) {
+			for (Class<?> c : REQUEST_VARS)
+				if (c.isInstance(v))
+					return true;
+			return false;
+		}
+	}
+
 	/**
 	 * Returns the localized summary of the specified java method on this servlet.
 	 *
@@ -336,6 +336,8 @@ public class RestCall {
 	 */
 	public RestCall finish() {
 		try {
+			if (rres != null)
+				rres.finishCapture();
 			res.flushBuffer();
 			req.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
 			if (rreq != null)
@@ -29,6 +29,7 @@ import java.nio.charset.*;
 import java.time.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.stream.*;
 
 import javax.activation.*;
@@ -41,6 +42,7 @@ import org.apache.juneau.collections.*;
 import org.apache.juneau.config.*;
 import org.apache.juneau.cp.*;
 import org.apache.juneau.cp.Messages;
+import org.apache.juneau.dto.swagger.Swagger;
 import org.apache.juneau.encoders.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.html.annotation.*;
@@ -383,6 +385,177 @@ public class RestContext extends BeanContext {
 	 */
 	public static final String REST_allowedMethodParams = PREFIX + ".allowedMethodParams.s";
 
+	/**
+	 * Configuration property:  Asynchronous completion executor.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.RestContext#REST_asyncExecutor REST_asyncExecutor}
+	 * 	<li><b>Name:</b>  <js>"RestContext.asyncExecutor.o"</js>
+	 * 	<li><b>Data type:</b>
+	 * 		<ul>
+	 * 			<li>{@link java.util.concurrent.Executor}
+	 * 			<li><c>Class&lt;{@link java.util.concurrent.Executor}&gt;</c>
+	 * 		</ul>
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.RestContextBuilder#asyncExecutor(Class)}
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.RestContextBuilder#asyncExecutor(Executor)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Java methods can return a {@link CompletionStage} (such as a {@link CompletableFuture}) to process requests
+	 * asynchronously.
+	 * <br>The servlet request is put into asynchronous mode and the container thread is released.
+	 * <br>When the stage completes, its value (or exception) is processed through the same converters and response
+	 * handlers as a value returned directly by the method.
+	 *
+	 * <p>
+	 * This setting specifies the executor used to process the completed value.
+	 * <br>If not specified, the value is processed on the thread that completed the stage.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<ja>@Rest</ja>
+	 * 	<jk>public class</jk> MyResource {
+	 *
+	 * 		<jc>// Registered via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 			builder.asyncExecutor(Executors.<jsm>newFixedThreadPool</jsm>(10));
+	 * 		}
+	 *
+	 * 		<ja>@RestMethod</ja>(name=<jsf>GET</jsf>, path=<js>"/foo"</js>)
+	 * 		<jk>public</jk> CompletableFuture&lt;Foo&gt; getFoo() {
+	 * 			<jk>return</jk> <jf>downstream</jf>.getFooAsync();
+	 * 		}
+	 * 	}
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		If the servlet container doesn't support asynchronous requests, the call blocks until the stage completes.
+	 * 	<li>
+	 * 		When defined as a class, the implementation must have one of the following constructors:
+	 * 		<ul>
+	 * 			<li><code><jk>public</jk> T(RestContext)</code>
+	 * 			<li><code><jk>public</jk> T()</code>
+	 * 			<li><code><jk>public static</jk> T <jsm>create</jsm>(RestContext)</code>
+	 * 			<li><code><jk>public static</jk> T <jsm>create</jsm>()</code>
+	 * 		</ul>
+	 * </ul>
+	 */
+	public static final String REST_asyncExecutor = PREFIX + ".asyncExecutor.o";
+
+	/**
+	 * Configuration property:  Asynchronous request timeout.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.RestContext#REST_asyncTimeout REST_asyncTimeout}
+	 * 	<li><b>Name:</b>  <js>"RestContext.asyncTimeout.s"</js>
+	 * 	<li><b>Data type:</b>  <c>String</c>
+	 * 	<li><b>System property:</b>  <c>RestContext.asyncTimeout</c>
+	 * 	<li><b>Environment variable:</b>  <c>RESTCONTEXT_ASYNCTIMEOUT</c>
+	 * 	<li><b>Default:</b>  <js>"30s"</js>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.RestContextBuilder#asyncTimeout(String)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * How long to wait for a {@link CompletionStage} returned by a Java method to complete once the servlet request
+	 * has been put into asynchronous mode.
+	 *
+	 * <p>
+	 * If the stage hasn't completed by then (or the container reports an error on the asynchronous request), the call
+	 * fails with a <c>503 Service Unavailable</c> error (or the container error) and the value the stage completes with
+	 * later is ignored.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>public class</jk> MyResource {
+	 *
+	 * 		<jc>// Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 			builder.asyncTimeout(<js>"2m"</js>);
+	 * 		}
+	 * 	}
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		The format is a number optionally followed by a unit (e.g. <js>"500"</js> milliseconds, <js>"30s"</js>,
+	 * 		<js>"5m"</js>).
+	 * 	<li>
+	 * 		A value of <js>"0"</js> means no timeout.
+	 * 	<li>
+	 * 		Doesn't apply when the servlet container doesn't support asynchronous requests.
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link #REST_asyncExecutor}
+	 * </ul>
+	 */
+	public static final String REST_asyncTimeout = PREFIX + ".asyncTimeout.s";
+
+	/**
+	 * Configuration property:  Maximum size of the response cache.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.RestContext#REST_cacheMaxWeight REST_cacheMaxWeight}
+	 * 	<li><b>Name:</b>  <js>"RestContext.cacheMaxWeight.s"</js>
+	 * 	<li><b>Data type:</b>  <c>String</c>
+	 * 	<li><b>System property:</b>  <c>RestContext.cacheMaxWeight</c>
+	 * 	<li><b>Environment variable:</b>  <c>RESTCONTEXT_CACHEMAXWEIGHT</c>
+	 * 	<li><b>Default:</b>  <js>"10M"</js>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.RestContextBuilder#cacheMaxWeight(String)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum total size in bytes of the response bodies held in the {@link RestResponseCache} of this resource.
+	 * <br>Least-recently used responses are evicted when the limit is exceeded.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>public class</jk> MyResource {
+	 *
+	 * 		<jc>// Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 			builder.cacheMaxWeight(<js>"50M"</js>);
+	 * 		}
+	 *
+	 * 		<ja>@RestMethod</ja>(method=<jsf>GET</jsf>, path=<js>"/report"</js>, cache=<js>"5m"</js>)
+	 * 		<jk>public</jk> Report getReport() {...}
+	 * 	}
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		String value that gets resolved to a <jk>long</jk>.
+	 * 	<li>
+	 * 		Can be suffixed with any of the following representing kilobytes, megabytes, and gigabytes:
+	 * 		<js>'K'</js>, <js>'M'</js>, <js>'G'</js>.
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='ja'>{@link org.apache.juneau.rest.annotation.RestMethod#cache()}
+	 * </ul>
+	 */
+	public static final String REST_cacheMaxWeight = PREFIX + ".cacheMaxWeight.s";
+
 	/**
 	 * Configuration property:  REST call logger.
 	 *
@@ -2863,6 +3036,52 @@ public class RestContext extends BeanContext {
 	 */
 	public static final String REST_staticFiles = PREFIX + ".staticFiles.lo";
 
+	/**
+	 * Configuration property:  Swagger pre-generation locales.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.RestContext#REST_swaggerLocales REST_swaggerLocales}
+	 * 	<li><b>Name:</b>  <js>"RestContext.swaggerLocales.ss"</js>
+	 * 	<li><b>Data type:</b>  <c>Set&lt;String&gt;</c>
+	 * 	<li><b>System property:</b>  <c>RestContext.swaggerLocales</c>
+	 * 	<li><b>Environment variable:</b>  <c>RESTCONTEXT_SWAGGERLOCALES</c>
+	 * 	<li><b>Default:</b>  empty list
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.RestContextBuilder#swaggerLocales(String...)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The locales (as IETF BCP 47 language tags such as <js>"en-US"</js>) for which the Swagger document of this
+	 * resource is generated in the background after initialization instead of on the first request for each locale.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Defined via builder passed in through resource constructor.</jc>
+	 * 	<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 		builder.swaggerLocales(<js>"en-US"</js>, <js>"fr-FR"</js>);
+	 * 	}
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Pre-generated documents are used by {@link BasicRestInfoProvider} (the info provider used by default and
+	 * 		by {@link RestServlet} and {@link BasicRest}).
+	 * 	<li>
+	 * 		Generation runs on the {@link #REST_asyncExecutor async executor} if one is defined, otherwise on the common
+	 * 		fork-join pool.
+	 * 	<li>
+	 * 		Documents that reference variables that need an HTTP request (e.g. <js>"$RQ{...}"</js>) are not
+	 * 		pre-generated and are instead generated on first use as before.
+	 * 		<br><js>"$L{...}"</js> variables are resolved against the target locale.
+	 * </ul>
+	 */
+	public static final String REST_swaggerLocales = PREFIX + ".swaggerLocales.ss";
+
 	/**
 	 * Configuration property:  Supported accept media types.
 	 *
@@ -3516,9 +3735,16 @@ public class RestContext extends BeanContext {
 	private final VarResolver varResolver;
 	private final Map<String,List<RestMethodContext>> methodMap;
 	private final List<RestMethodContext> methods;
+	private final Map<String,UrlPathPatternTrie<RestMethodContext>> methodTries;
+	private final UrlPathPatternTrie<RestMethodContext> nonRemainderMethodTrie;
 	private final Map<String,RestContext> childResources;
 	private final RestCallLogger callLogger;
 	private final RestCallLoggerConfig callLoggerConfig;
+	private final Executor asyncExecutor;
+	private final long asyncTimeout;
+	private final RestResponseCache responseCache;
+	private final List<Locale> swaggerLocales;
+	private final ConcurrentHashMap<Locale,Swagger> pregeneratedSwaggers = new ConcurrentHashMap<>();
 	private final StackTraceDatabase stackTraceDb;
 	private final RestInfoProvider infoProvider;
 	private final HttpException initException;
@@ -3549,8 +3775,8 @@ public class RestContext extends BeanContext {
 		endCallMethodParams,
 		destroyMethodParams;
 
-	// In-memory cache of images and stylesheets in the org.apache.juneau.rest.htdocs package.
-	private final Map<String,StaticFile> staticFilesCache = new ConcurrentHashMap<>();
+	// In-memory cache of static files bounded by the total size of the contents held on the heap.
+	private final StaticFilesCache staticFilesCache = new StaticFilesCache(parseLongWithSuffix(System.getProperty("juneau.staticFiles.cache.maxWeight", "10M")));
 
 	private final ResourceManager staticResourceManager;
 
@@ -3703,6 +3929,16 @@ public class RestContext extends BeanContext {
 			Object defaultRestCallLogger = resource instanceof RestCallLogger ? resource : BasicRestCallLogger.class;
 			callLogger = getInstanceProperty(REST_callLogger, resource, RestCallLogger.class, defaultRestCallLogger, resourceResolver, this);
 
+			asyncExecutor = getInstanceProperty(REST_asyncExecutor, resource, Executor.class, null, resourceResolver, this);
+			asyncTimeout = getDuration(getStringProperty(REST_asyncTimeout, "30s"));
+
+			responseCache = new RestResponseCache(parseLongWithSuffix(getStringProperty(REST_cacheMaxWeight, "10M")));
+
+			List<Locale> _swaggerLocales = new ArrayList<>();
+			for (String l : getArrayProperty(REST_swaggerLocales, String.class))
+				_swaggerLocales.add(Locale.forLanguageTag(l));
+			swaggerLocales = AList.unmodifiable(_swaggerLocales);
+
 			properties = builder.properties;
 			serializers =
 				SerializerGroup
@@ -3836,6 +4072,10 @@ public class RestContext extends BeanContext {
 										if (pip.indexOf('/') != -1)
 											pip = pip.substring(pip.lastIndexOf('/')+1);
 										pip = urlDecode(pip);
+										if (RrpcInterfaceMeta.BATCH_PATH.equals(pip)) {
+											invokeRrpcBatch(call, rim, o);
+											return;
+										}
 										RrpcInterfaceMethodMeta rmm = rim.getMethodMetaByPath(pip);
 										if (rmm != null) {
 											Method m = rmm.getJavaMethod();
@@ -3962,6 +4202,8 @@ public class RestContext extends BeanContext {
 
 			this.methodMap = methodMapBuilder.getMap();
 			this.methods = methodMapBuilder.getList();
+			this.methodTries = methodMapBuilder.getTries();
+			this.nonRemainderMethodTrie = methodMapBuilder.getNonRemainderTrie();
 
 			// Initialize our child resources.
 			for (Object o : getArrayProperty(REST_children, Object.class)) {
@@ -4141,11 +4383,11 @@ public class RestContext extends BeanContext {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	protected StaticFile getStaticFile(String pathInfo) throws NotFound, IOException {
-		if (! staticFilesCache.containsKey(pathInfo)) {
+		StaticFile sf = useClasspathResourceCaching ? staticFilesCache.get(pathInfo) : null;
+		if (sf == null) {
 			String p = urlDecode(trimSlashes(pathInfo));
 			if (p.indexOf("..") != -1)
 				throw new NotFound("Invalid path");
-			StaticFile sf = null;
 			for (StaticFiles sfs : staticFiles) {
 				sf = sfs.resolve(p);
 				if (sf != null)
@@ -4153,14 +4395,168 @@ public class RestContext extends BeanContext {
 			}
 			if (sf == null)
 				sf = new StaticFile(null,null,null);
-			if (useClasspathResourceCaching) {
-				if (staticFilesCache.size() > 100)
-					staticFilesCache.clear();
-				staticFilesCache.put(pathInfo, sf);
+			if (useClasspathResourceCaching)
+				sf = staticFilesCache.put(pathInfo, sf);
+		}
+		return sf;
+	}
+
+	/**
+	 * Sends a static file as the response to the specified call.
+	 *
+	 * <p>
+	 * Handles the following:
+	 * <ul class='spaced-list'>
+	 * 	<li><c>ETag</c>, <c>Last-Modified</c> (if known) and <c>Accept-Ranges</c> response headers.
+	 * 	<li><c>If-None-Match</c> and <c>If-Modified-Since</c> request headers resulting in <c>304 Not Modified</c>
+	 * 		responses.
+	 * 	<li><c>Accept-Encoding</c> request headers negotiated against the same encoders used for responses not
+	 * 		handled by a Java method (i.e. {@link EncoderGroup#DEFAULT}).
+	 * 		<br>Encoded responses get their own entity tag.
+	 * 		<br>Requests with a <c>Range</c> header are always answered unencoded.
+	 * 	<li>Single byte ranges in <c>Range</c> request headers (optionally guarded by <c>If-Range</c>) resulting in
+	 * 		<c>206 Partial Content</c> or <c>416 Range Not Satisfiable</c> responses.
+	 * 		<br>Multiple ranges are not supported and result in the entire file being sent.
+	 * </ul>
+	 *
+	 * <p>
+	 * Unencoded file contents are written directly to the servlet output stream bypassing serializers.
+	 *
+	 * @param call The current REST call.
+	 * @param sf The static file to send.
+	 * @throws IOException Thrown by the output stream.
+	 */
+	protected void sendStaticFile(RestCall call, StaticFile sf) throws IOException {
+		HttpServletRequest req = call.getRequest();
+		HttpServletResponse res = call.getResponse();
+
+		for (Map.Entry<String,Object> e : sf.getHeaders().entrySet())
+			res.setHeader(e.getKey(), stringify(e.getValue()));
+		long lastModified = sf.getLastModified(), length = sf.getLength();
+
+		// Ranges are only served from the unencoded contents.
+		EncoderMatch match = null;
+		String ae = req.getHeader("Accept-Encoding"), range = req.getHeader("Range");
+		if (! isEmpty(ae) && range == null) {
+			match = EncoderGroup.DEFAULT.getEncoderMatch(ae, length);
+			if (match != null && match.getEncoding().equals("identity"))
+				match = null;
+		}
+
+		String etag = sf.getETag();
+		if (match != null)
+			etag = etag.substring(0, etag.length()-1) + '-' + match.getEncoding() + '"';
+		res.setHeader("ETag", etag);
+		if (lastModified >= 0)
+			res.setDateHeader("Last-Modified", lastModified);
+		res.setHeader("Vary", "Accept-Encoding");
+		res.setHeader("Accept-Ranges", "bytes");
+
+		String inm = req.getHeader("If-None-Match");
+		if (inm != null ? matchesETag(inm, etag) : isNotModifiedSince(req, lastModified)) {
+			res.setStatus(SC_NOT_MODIFIED);
+			return;
+		}
+
+		if (match != null) {
+			res.setStatus(SC_OK);
+			if (sf.getContentType() != null)
+				res.setContentType(sf.getContentType());
+			res.setHeader("Content-Encoding", match.getEncoding());
+			if (! "HEAD".equalsIgnoreCase(req.getMethod())) {
+				@SuppressWarnings("resource")
+				FinishableServletOutputStream os = new FinishableServletOutputStream(match.getEncoder().getOutputStream(res.getOutputStream()));
+				if (length > 0)
+					sf.writeTo(os, 0, length - 1);
+				os.finish();
+				os.flush();
 			}
-			return sf;
+			return;
+		}
+
+		long start = 0, end = length - 1;
+		int status = SC_OK;
+		String ifRange = req.getHeader("If-Range");
+		if (range != null && (ifRange == null || ifRange.equals(etag))) {
+			long[] r = parseRange(range, length);
+			if (r == null) {
+				res.setStatus(SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				res.setHeader("Content-Range", "bytes */" + length);
+				return;
+			}
+			if (r.length == 2) {
+				start = r[0];
+				end = r[1];
+				status = SC_PARTIAL_CONTENT;
+				res.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+			}
+		}
+
+		res.setStatus(status);
+		if (sf.getContentType() != null)
+			res.setContentType(sf.getContentType());
+		res.setHeader("Content-Length", String.valueOf(end - start + 1));
+		if (! "HEAD".equalsIgnoreCase(req.getMethod()) && end >= start)
+			sf.writeTo(res.getOutputStream(), start, end);
+	}
+
+	static boolean matchesETag(String header, String etag) {
+		for (String s : split(header)) {
+			if (s.startsWith("W/"))
+				s = s.substring(2);
+			if (s.equals("*") || s.equals(etag))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean isNotModifiedSince(HttpServletRequest req, long lastModified) {
+		if (lastModified < 0)
+			return false;
+		try {
+			long ims = req.getDateHeader("If-Modified-Since");
+			return ims != -1 && lastModified <= ims;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	/*
+	 * Parses a "Range" header value.
+	 * Returns an empty array if the header should be ignored, null if the range is not satisfiable, or [start,end].
+	 */
+	private static long[] parseRange(String range, long length) {
+		range = range.trim();
+		if (! range.startsWith("bytes=") || range.indexOf(',') != -1)
+			return new long[0];
+		String r = range.substring(6).trim();
+		int i = r.indexOf('-');
+		if (i == -1)
+			return new long[0];
+		try {
+			String s1 = r.substring(0, i).trim(), s2 = r.substring(i+1).trim();
+			long start, end;
+			if (s1.isEmpty()) {
+				if (s2.isEmpty())
+					return new long[0];
+				long suffix = Long.parseLong(s2);
+				if (suffix <= 0)
+					return null;
+				start = Math.max(0, length - suffix);
+				end = length - 1;
+			} else {
+				start = Long.parseLong(s1);
+				end = s2.isEmpty() ? Long.MAX_VALUE : Long.parseLong(s2);
+				if (end < start)
+					return new long[0];  // Syntactically invalid so ignored.
+				end = Math.min(end, length - 1);
+			}
+			if (start >= length)
+				return null;
+			return new long[]{start, end};
+		} catch (NumberFormatException e) {
+			return new long[0];
 		}
-		return staticFilesCache.get(pathInfo);
 	}
 
 	/**
@@ -4317,6 +4713,29 @@ public class RestContext extends BeanContext {
 		return fullPath;
 	}
 
+	/**
+	 * Returns the cache of responses produced by {@link RestMethod#cache() @RestMethod(cache)} methods on this resource.
+	 *
+	 * <p>
+	 * Can be used to invalidate cached responses when the underlying data changes.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link #REST_cacheMaxWeight}
+	 * </ul>
+	 *
+	 * @return The response cache for this resource.  Never <jk>null</jk>.
+	 */
+	public RestResponseCache getResponseCache() {
+		return responseCache;
+	}
+
+	/*
+	 * Returns the swagger generated in the background for the specified locale, or null if it isn't available.
+	 */
+	Swagger getPregeneratedSwagger(Locale locale) {
+		return pregeneratedSwaggers.get(locale);
+	}
+
 	/**
 	 * Returns the call logger to use for this resource.
 	 *
@@ -5051,13 +5470,17 @@ public class RestContext extends BeanContext {
 			}
 
 			if (r != null) {
-				call.status(SC_OK);
-				call.output(r);
+				sendStaticFile(call, r);
 			} else {
 
 				// If the specified method has been defined in a subclass, invoke it.
 				try {
-					findMethod(call).invoke(call);
+					RestMethodContext mc = findMethod(call);
+					mc.invoke(call);
+					if (call.getOutput() instanceof CompletionStage) {
+						executeAsync(call, mc, (CompletionStage<?>)call.getOutput());
+						return;
+					}
 				} catch (NotFound e) {
 					if (call.getStatus() == 0)
 						call.status(404);
@@ -5082,12 +5505,149 @@ public class RestContext extends BeanContext {
 		finishCall(call);
 	}
 
+	/*
+	 * Invokes a batch of RRPC calls posted by a client proxy to the "_batch" path of an RRPC interface.
+	 * The Rrpc-Batch header lists the methods called and the body contains all their arguments concatenated.
+	 * The results are returned in order, and calls that threw exceptions are listed in the Rrpc-Batch-Errors header.
+	 */
+	private void invokeRrpcBatch(RestCall call, RrpcInterfaceMeta rim, Object o) throws Throwable {
+		RestRequest req = call.getRestRequest();
+
+		List<RrpcInterfaceMethodMeta> calls;
+		try {
+			calls = rim.decodeBatch(req.getHeader(RrpcInterfaceMeta.BATCH_HEADER));
+		} catch (IllegalArgumentException e) {
+			throw new BadRequest(e, "Invalid batch header.");
+		}
+		if (calls.isEmpty())
+			throw new BadRequest("Batch header not specified.");
+
+		List<Type> types = new ArrayList<>();
+		for (RrpcInterfaceMethodMeta rmm : calls) {
+			if (rmm == null)
+				throw new NotFound("Batch contains a method not found on the remote interface.");
+			Collections.addAll(types, rmm.getJavaMethod().getGenericParameterTypes());
+		}
+
+		Object[] args;
+		try {
+			if (types.isEmpty())
+				args = new Object[0];
+			else {
+				Parser p = req.getBody().getParser();
+				try (Closeable in = p.isReaderParser() ? req.getReader() : req.getInputStream()) {
+					args = p.parseArgs(in, types.toArray(new Type[types.size()]));
+				}
+			}
+		} catch (Exception e) {
+			throw toHttpException(e, InternalServerError.class);
+		}
+
+		Object[] results = new Object[calls.size()];
+		List<Integer> errors = new ArrayList<>();
+		int ai = 0;
+		for (int i = 0; i < results.length; i++) {
+			Method m = calls.get(i).getJavaMethod();
+			Object[] margs = Arrays.copyOfRange(args, ai, ai + m.getParameterCount());
+			ai += margs.length;
+			try {
+				results[i] = m.invoke(o, margs);
+			} catch (Exception e) {
+				Throwable t = e instanceof InvocationTargetException ? e.getCause() : e;
+				results[i] = OMap.of("name", t.getClass().getName(), "message", t.getMessage());
+				errors.add(i);
+			}
+		}
+
+		if (! errors.isEmpty())
+			call.getRestResponse().setHeader(RrpcInterfaceMeta.BATCH_ERRORS_HEADER, join(errors, ','));
+		call.output(results);
+	}
+
+	/*
+	 * Finishes a call whose Java method returned a CompletionStage.
+	 * The servlet request is switched to async mode so that the container thread is released while the stage is
+	 * pending.  If the container doesn't support async requests, this thread waits for the stage to complete.
+	 * The call is finished only once, by whichever comes first of the stage completing or the container reporting a
+	 * timeout or error.
+	 */
+	private void executeAsync(RestCall call, RestMethodContext mc, CompletionStage<?> cs) {
+		HttpServletRequest req = call.getRequest();
+		if (! req.isAsyncSupported()) {
+			Object value = null;
+			Throwable thrown = null;
+			try {
+				value = cs.toCompletableFuture().get();
+			} catch (ExecutionException e) {
+				thrown = e.getCause();
+			} catch (Throwable e) {
+				thrown = e;
+			}
+			completeAsync(call, mc, value, thrown, null);
+			return;
+		}
+
+		final AsyncContext ac = req.startAsync(req, call.getResponse());
+		final AtomicBoolean finished = new AtomicBoolean();
+		ac.setTimeout(asyncTimeout);
+		ac.addListener(new AsyncListener() {
+			@Override /* AsyncListener */
+			public void onTimeout(AsyncEvent e) {
+				if (finished.compareAndSet(false, true))
+					completeAsync(call, mc, null, new ServiceUnavailable("Asynchronous request timed out after {0}ms.", asyncTimeout), ac);
+			}
+			@Override /* AsyncListener */
+			public void onError(AsyncEvent e) {
+				if (finished.compareAndSet(false, true))
+					completeAsync(call, mc, null, e.getThrowable(), ac);
+			}
+			@Override /* AsyncListener */
+			public void onComplete(AsyncEvent e) {}
+			@Override /* AsyncListener */
+			public void onStartAsync(AsyncEvent e) {}
+		});
+		if (asyncExecutor == null)
+			cs.whenComplete((v,t) -> { if (finished.compareAndSet(false, true)) completeAsync(call, mc, v, t, ac); });
+		else
+			cs.whenCompleteAsync((v,t) -> { if (finished.compareAndSet(false, true)) completeAsync(call, mc, v, t, ac); }, asyncExecutor);
+	}
+
+	private void completeAsync(RestCall call, RestMethodContext mc, Object value, Throwable thrown, AsyncContext ac) {
+		this.call.set(call);
+		try {
+			if (thrown instanceof CompletionException && thrown.getCause() != null)
+				thrown = thrown.getCause();
+			call.output(null);
+			mc.complete(call, value, thrown);
+			if (call.hasOutput())
+				handleResponse(call);
+		} catch (Throwable e) {
+			try {
+				handleError(call, convertThrowable(e));
+			} catch (IOException e2) {
+				// Connection to the client was lost.  Nothing more can be written.
+			}
+		} finally {
+			clearState();
+		}
+
+		call.finish();
+		finishCall(call);
+		if (ac != null)
+			ac.complete();
+	}
+
 	private RestMethodContext findMethod(RestCall call) throws Throwable {
 		String m = call.getMethod();
 
+		// The tries only return methods whose path patterns can match the path, in the same precedence order as the
+		// method map, so methods that are skipped are the ones that would have returned 0 from match().
+		UrlPathInfo pathInfo = call.getUrlPathInfo();
+
 		int rc = 0;
-		if (methodMap.containsKey(m)) {
-			for (RestMethodContext mc : methodMap.get(m)) {
+		UrlPathPatternTrie<RestMethodContext> trie = methodTries.get(m);
+		if (trie != null) {
+			for (RestMethodContext mc : trie.find(pathInfo)) {
 				int mrc = mc.match(call);
 				if (mrc == 2)
 					return mc;
@@ -5095,8 +5655,9 @@ public class RestContext extends BeanContext {
 			}
 		}
 
-		if (methodMap.containsKey("*")) {
-			for (RestMethodContext mc : methodMap.get("*")) {
+		trie = methodTries.get("*");
+		if (trie != null) {
+			for (RestMethodContext mc : trie.find(pathInfo)) {
 				int mrc = mc.match(call);
 				if (mrc == 2)
 					return mc;
@@ -5107,12 +5668,10 @@ public class RestContext extends BeanContext {
 		// If no paths matched, see if the path matches any other methods.
 		// Note that we don't want to match against "/*" patterns such as getOptions().
 		if (rc == 0) {
-			for (RestMethodContext mc : methods) {
-				if (! mc.getPathPattern().endsWith("/*")) {
-					int mrc = mc.match(call);
-					if (mrc == 2)
-						throw new MethodNotAllowed();
-				}
+			for (RestMethodContext mc : nonRemainderMethodTrie.find(pathInfo)) {
+				int mrc = mc.match(call);
+				if (mrc == 2)
+					throw new MethodNotAllowed();
 			}
 		}
 
@@ -5245,11 +5804,15 @@ public class RestContext extends BeanContext {
 	 * <p>
 	 * Subclasses can override this method to provide their own custom error response handling.
 	 *
+	 * <p>
+	 * This method is not synchronized and can be called concurrently for different requests.
+	 * <br>Subclasses that override it must not introduce shared mutable state without their own thread-safety.
+	 *
 	 * @param call The rest call.
 	 * @param e The exception that occurred.
 	 * @throws IOException Can be thrown if a problem occurred trying to write to the output stream.
 	 */
-	public synchronized void handleError(RestCall call, Throwable e) throws IOException {
+	public void handleError(RestCall call, Throwable e) throws IOException {
 
 		call.exception(e);
 
@@ -5413,6 +5976,19 @@ public class RestContext extends BeanContext {
 			postInitOrDestroy(resource, postInitMethods[i], postInitMethodParams[i]);
 		for (RestContext childContext : this.childResources.values())
 			childContext.postInit();
+		if (! swaggerLocales.isEmpty()) {
+			Runnable r = () -> {
+				for (Locale locale : swaggerLocales) {
+					Swagger swagger = BasicRestInfoProvider.pregenerate(this, locale);
+					if (swagger != null)
+						pregeneratedSwaggers.putIfAbsent(locale, swagger);
+				}
+			};
+			if (asyncExecutor == null)
+				ForkJoinPool.commonPool().execute(r);
+			else
+				asyncExecutor.execute(r);
+		}
 		return this;
 	}
 
@@ -5536,6 +6112,9 @@ public class RestContext extends BeanContext {
 				.a("allowedMethodHeader", allowedMethodHeaders)
 				.a("allowedMethodParams", allowedMethodParams)
 				.a("allowedHeaderParams", allowedHeaderParams)
+				.a("asyncExecutor", asyncExecutor)
+				.a("asyncTimeout", asyncTimeout)
+				.a("cacheMaxWeight", responseCache.getMaxWeight())
 				.a("clientVersionHeader", clientVersionHeader)
 				.a("consumes", consumes)
 				.a("infoProvider", infoProvider)
@@ -5553,6 +6132,7 @@ public class RestContext extends BeanContext {
 				.a("serializers", serializers)
 				.a("staticFileResponseHeaders", staticFileResponseHeaders)
 				.a("staticFiles", staticFiles)
+				.a("swaggerLocales", swaggerLocales)
 				.a("uriAuthority", uriAuthority)
 				.a("uriContext", uriContext)
 				.a("uriRelativity", uriRelativity)
@@ -5589,5 +6169,24 @@ public class RestContext extends BeanContext {
 		List<RestMethodContext> getList() {
 			return AList.of(set).unmodifiable();
 		}
+
+		Map<String,UrlPathPatternTrie<RestMethodContext>> getTries() {
+			AMap<String,UrlPathPatternTrie<RestMethodContext>> m = AMap.of();
+			for (Map.Entry<String,TreeSet<RestMethodContext>> e : map.entrySet()) {
+				UrlPathPatternTrie<RestMethodContext> t = new UrlPathPatternTrie<>();
+				for (RestMethodContext mc : e.getValue())
+					t.add(mc, mc.getPathPatterns());
+				m.put(e.getKey(), t);
+			}
+			return m.unmodifiable();
+		}
+
+		UrlPathPatternTrie<RestMethodContext> getNonRemainderTrie() {
+			UrlPathPatternTrie<RestMethodContext> t = new UrlPathPatternTrie<>();
+			for (RestMethodContext mc : set)
+				if (! mc.getPathPattern().endsWith("/*"))
+					t.add(mc, mc.getPathPatterns());
+			return t;
+		}
 	}
 }
@@ -22,6 +22,7 @@ import java.lang.annotation.*;
 import java.lang.reflect.Method;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import javax.servlet.*;
 
@@ -501,6 +502,68 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return set(REST_allowedMethodParams, value);
 	}
 
+	/**
+	 * <i><l>RestContext</l> configuration property:&emsp;</i>  Asynchronous completion executor.
+	 *
+	 * <p>
+	 * Specifies the executor used to process the values of {@link CompletionStage CompletionStages} returned by
+	 * Java methods.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_asyncExecutor}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>null</jk> (values are processed on the thread that completed the stage).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestContextBuilder asyncExecutor(Class<? extends Executor> value) {
+		return set(REST_asyncExecutor, value);
+	}
+
+	/**
+	 * <i><l>RestContext</l> configuration property:&emsp;</i>  Asynchronous completion executor.
+	 *
+	 * <p>
+	 * Same as {@link #asyncExecutor(Class)} except input is a pre-constructed instance.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_asyncExecutor}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>null</jk> (values are processed on the thread that completed the stage).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestContextBuilder asyncExecutor(Executor value) {
+		return set(REST_asyncExecutor, value);
+	}
+
+	/**
+	 * <i><l>RestContext</l> configuration property:&emsp;</i>  Asynchronous request timeout.
+	 *
+	 * <p>
+	 * How long to wait for a {@link CompletionStage} returned by a Java method to complete before failing the call.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_asyncTimeout}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <js>"30s"</js>.
+	 * 	<br>A value of <js>"0"</js> means no timeout.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestContextBuilder asyncTimeout(String value) {
+		return set(REST_asyncTimeout, value);
+	}
+
 	/**
 	 * <i><l>RestContext</l> configuration property:&emsp;</i>  REST call logger.
 	 *
@@ -992,6 +1055,27 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 	}
 
 
+	/**
+	 * <i><l>RestContext</l> configuration property:&emsp;</i>  Maximum size of the response cache.
+	 *
+	 * <p>
+	 * The maximum total size in bytes of the response bodies cached for {@link RestMethod#cache() @RestMethod(cache)}
+	 * methods.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_cacheMaxWeight}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <js>"10M"</js>.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestContextBuilder cacheMaxWeight(String value) {
+		return set(REST_cacheMaxWeight, value);
+	}
+
 	/**
 	 * <i><l>RestContext</l> configuration property:&emsp;</i>  The maximum allowed input size (in bytes) on HTTP requests.
 	 *
@@ -1901,6 +1985,24 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return staticFiles(new StaticFileMapping(resourceClass, path, location, null));
 	}
 
+	/**
+	 * <i><l>RestContext</l> configuration property:&emsp;</i>  Swagger pre-generation locales.
+	 *
+	 * <p>
+	 * The locales for which the Swagger document of this resource is generated in the background after initialization.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_swaggerLocales}
+	 * </ul>
+	 *
+	 * @param values The IETF BCP 47 language tags (e.g. <js>"en-US"</js>) to add to this setting.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestContextBuilder swaggerLocales(String...values) {
+		return addTo(REST_swaggerLocales, values);
+	}
+
 	/**
 	 * <i><l>RestContext</l> configuration property:&emsp;</i>  Static file mappings.
 	 *
@@ -2672,6 +2774,12 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return this;
 	}
 
+	@Override /* GENERATED - BeanContextBuilder */
+	public RestContextBuilder useLambdaAccessors() {
+		super.useLambdaAccessors();
+		return this;
+	}
+
 	// </FluentSetters>
 
 	//----------------------------------------------------------------------------------------------------
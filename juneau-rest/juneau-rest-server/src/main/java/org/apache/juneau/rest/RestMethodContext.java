@@ -22,6 +22,7 @@ import static org.apache.juneau.rest.RestContext.*;
 import static org.apache.juneau.rest.util.RestUtils.*;
 import static org.apache.juneau.rest.HttpRuntimeException.*;
 
+import java.io.*;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
@@ -66,6 +67,35 @@ public class RestMethodContext extends BeanContext implements Comparable<RestMet
 
 	static final String PREFIX = "RestMethodContext";
 
+	/**
+	 * Configuration property:  Response cache time-to-live.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.RestMethodContext#RESTMETHOD_cache RESTMETHOD_cache}
+	 * 	<li><b>Name:</b>  <js>"RestMethodContext.cache.s"</js>
+	 * 	<li><b>Data type:</b>  <c>String</c>
+	 * 	<li><b>System property:</b>  <c>RestMethodContext.cache</c>
+	 * 	<li><b>Environment variable:</b>  <c>RESTMETHODCONTEXT_CACHE</c>
+	 * 	<li><b>Default:</b>  empty string (no caching)
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.rest.annotation.RestMethod#cache()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * How long the responses of a <jsf>GET</jsf> or <jsf>OPTIONS</jsf> method are kept in the {@link RestResponseCache} of the resource
+	 * (e.g. <js>"30s"</js>, <js>"5m"</js>).
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_cacheMaxWeight}
+	 * </ul>
+	 */
+	public static final String RESTMETHOD_cache = PREFIX + ".cache.s";
+
 	/**
 	 * Configuration property:  Client version pattern matcher.
 	 *
@@ -557,7 +587,7 @@ public class RestMethodContext extends BeanContext implements Comparable<RestMet
 		defaultFormData;
 	final OMap reqAttrs;
 	final String defaultCharset;
-	final long maxInput;
+	final long maxInput, cacheTtl;
 	final List<MediaType>
 		supportedAcceptTypes,
 		supportedContentTypes;
@@ -607,6 +637,8 @@ public class RestMethodContext extends BeanContext implements Comparable<RestMet
 
 		this.maxInput = StringUtils.parseLongWithSuffix(getProperty(REST_maxInput, String.class, "100M"));
 
+		this.cacheTtl = "GET".equals(httpMethod) || "OPTIONS".equals(httpMethod) ? StringUtils.getDuration(getProperty(RESTMETHOD_cache, String.class, null)) : -1;
+
 		this.serializers = SerializerGroup
 			.create()
 			.append(getArrayProperty(REST_serializers, Object.class))
@@ -840,6 +872,13 @@ public class RestMethodContext extends BeanContext implements Comparable<RestMet
 		return pathPatterns[0].toString();
 	}
 
+	/**
+	 * Returns all the path patterns for this method.
+	 */
+	UrlPathPattern[] getPathPatterns() {
+		return pathPatterns;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the specified request object can call this method.
 	 */
@@ -928,6 +967,10 @@ public class RestMethodContext extends BeanContext implements Comparable<RestMet
 	/**
 	 * Workhorse method.
 	 *
+	 * <p>
+	 * If the Java method returns a {@link CompletionStage}, the stage is set as the output of the call and
+	 * {@link #complete(RestCall, Object, Throwable)} must be called once it resolves.
+	 *
 	 * @param pathInfo The value of {@link HttpServletRequest#getPathInfo()} (sorta)
 	 */
 	void invoke(RestCall call) throws Throwable {
@@ -981,59 +1024,114 @@ public class RestMethodContext extends BeanContext implements Comparable<RestMet
 			}
 		}
 
+		Object output = null;
+		Throwable thrown = null;
 		try {
 
 			for (RestGuard guard : guards)
 				if (! guard.guard(req, res))
 					return;
 
-			Object output;
+			if (cacheTtl > 0 && sendCached(req, res))
+				return;
+
 			try {
 				output = methodInvoker.invoke(context.getResource(), args);
-
-				// Handle manual call to req.setDebug().
-				Boolean debug = ObjectUtils.castOrNull(req.getAttribute("Debug"), Boolean.class);
-				if (debug == Boolean.TRUE) {
-					call.debug(true);
-					call.loggerConfig(RestCallLoggerConfig.DEFAULT_DEBUG);
-				} else if (debug == Boolean.FALSE) {
-					call.debug(false);
-					call.loggerConfig(RestCallLoggerConfig.DEFAULT_NOOP);
-				}
-
-				if (res.getStatus() == 0)
-					res.setStatus(200);
-				if (! method.getReturnType().equals(Void.TYPE)) {
-					if (output != null || ! res.getOutputStreamCalled())
-						res.setOutput(output);
-				}
 			} catch (InvocationTargetException e) {
-				Throwable e2 = e.getTargetException();		// Get the throwable thrown from the doX() method.
-				res.setStatus(500);
-				ResponsePartMeta rpm = getResponseBodyMeta(e2);
-				ResponseBeanMeta rbm = getResponseBeanMeta(e2);
-				if (rpm != null || rbm != null) {
-					res.setOutput(e2);
-					res.setResponseMeta(rbm);
-				} else {
-					throw e;
-				}
+				thrown = e.getTargetException();		// Get the throwable thrown from the doX() method.
 			}
 
-			context.postCall(call);
-
-			if (res.hasOutput())
-				for (RestConverter converter : converters)
-					res.setOutput(converter.convert(req, res.getOutput()));
-
 		} catch (IllegalArgumentException e) {
 			throw new BadRequest(e,
 				"Invalid argument type passed to the following method: ''{0}''.\n\tArgument types: {1}",
 				mi.toString(), mi.getFullName()
 			);
-		} catch (InvocationTargetException e) {
-			throw e.getTargetException();
 		}
+
+		// Asynchronous method.  RestContext completes the call when the stage resolves.
+		if (output instanceof CompletionStage) {
+			res.setOutput(output);
+			return;
+		}
+
+		complete(call, output, thrown);
+	}
+
+	/*
+	 * Sends the cached response for this request if there is one.
+	 * Otherwise starts capturing the response so that it can be cached when the call finishes.
+	 */
+	private boolean sendCached(RestRequest req, RestResponse res) throws IOException {
+		RestResponseCache cache = context.getResponseCache();
+		String path = emptyIfNull(req.getPathInfo());
+		String key = new StringBuilder(mi.getFullName())
+			.append('\n').append(path).append('?').append(emptyIfNull(req.getQueryString()))
+			.append('\n').append(req.getLocale())
+			.append('\n').append(emptyIfNull(req.getHeader("Accept")))
+			.append('\n').append(emptyIfNull(req.getHeader("Accept-Charset")))
+			.append('\n').append(emptyIfNull(req.getHeader("Accept-Encoding")))
+			.toString();
+		RestResponseCache.Entry e = cache.get(key);
+		if (e != null) {
+			e.send(req, res);
+			return true;
+		}
+		res.capture(cache.capture(key, method.getName(), path, cacheTtl));
+		return false;
+	}
+
+	/**
+	 * Finishes processing the output of the Java method.
+	 *
+	 * <p>
+	 * Called directly after synchronous methods return, or when the {@link CompletionStage} returned by an
+	 * asynchronous method resolves.
+	 *
+	 * @param call The REST call.
+	 * @param output The value returned by the Java method or produced by the completion stage.
+	 * @param thrown The exception thrown by the Java method or that completed the stage, or <jk>null</jk>.
+	 * @throws Throwable The exception if it's not a response bean.
+	 */
+	void complete(RestCall call, Object output, Throwable thrown) throws Throwable {
+
+		RestRequest req = call.getRestRequest();
+		RestResponse res = call.getRestResponse();
+
+		if (thrown == null) {
+
+			// Handle manual call to req.setDebug().
+			Boolean debug = ObjectUtils.castOrNull(req.getAttribute("Debug"), Boolean.class);
+			if (debug == Boolean.TRUE) {
+				call.debug(true);
+				call.loggerConfig(RestCallLoggerConfig.DEFAULT_DEBUG);
+			} else if (debug == Boolean.FALSE) {
+				call.debug(false);
+				call.loggerConfig(RestCallLoggerConfig.DEFAULT_NOOP);
+			}
+
+			if (res.getStatus() == 0)
+				res.setStatus(200);
+			if (! method.getReturnType().equals(Void.TYPE)) {
+				if (output != null || ! res.getOutputStreamCalled())
+					res.setOutput(output);
+			}
+		} else {
+			res.setStatus(500);
+			ResponsePartMeta rpm = getResponseBodyMeta(thrown);
+			ResponseBeanMeta rbm = getResponseBeanMeta(thrown);
+			if (rpm != null || rbm != null) {
+				res.setOutput(thrown);
+				res.setResponseMeta(rbm);
+			} else {
+				throw thrown;
+			}
+		}
+
+		context.postCall(call);
+
+		if (res.hasOutput())
+			for (RestConverter converter : converters)
+				res.setOutput(converter.convert(req, res.getOutput()));
 	}
 //
 //	protected void addStatusCode(int code) {
@@ -65,7 +65,9 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	private boolean isNullOutput;                // The output is null (as opposed to not being set at all)
 	private ServletOutputStream sos;
 	private FinishableServletOutputStream os;
+	private ThresholdOutputStream tos;
 	private FinishablePrintWriter w;
+	private RestResponseCache.Capture capture;
 
 	private ResponseBeanMeta responseMeta;
 
@@ -275,18 +277,23 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	 * Equivalent to {@link HttpServletResponse#getOutputStream()}, except wraps the output stream if an {@link Encoder}
 	 * was found that matched the <c>Accept-Encoding</c> header.
 	 *
+	 * <p>
+	 * If the matched encoder has a {@link Encoder#getMinimumSize() minimum size} and no <c>Content-Length</c> header
+	 * has been set, up to that many bytes are held back until it's known whether the response is large enough to encode.
+	 * <br>Smaller responses are sent using the next best coding accepted by the client.
+	 *
 	 * @return A negotiated output stream.
 	 * @throws NotAcceptable If unsupported Accept-Encoding value specified.
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public FinishableServletOutputStream getNegotiatedOutputStream() throws NotAcceptable, IOException {
 		if (os == null) {
-			Encoder encoder = null;
+			EncoderMatch match = null, fallback = null;
 			EncoderGroup encoders = restJavaMethod == null ? EncoderGroup.DEFAULT : restJavaMethod.encoders;
 
 			String ae = request.getHeader("Accept-Encoding");
 			if (! (ae == null || ae.isEmpty())) {
-				EncoderMatch match = encoders.getEncoderMatch(ae);
+				match = encoders.getEncoderMatch(ae);
 				if (match == null) {
 					// Identity should always match unless "identity;q=0" or "*;q=0" is specified.
 					if (ae.matches(".*(identity|\\*)\\s*;\\s*q\\s*=\\s*(0(?!\\.)|0\\.0).*")) {
@@ -295,29 +302,203 @@ public final class RestResponse extends HttpServletResponseWrapper {
 							ae, encoders.getSupportedEncodings()
 						);
 					}
-				} else {
-					encoder = match.getEncoder();
-					String encoding = match.getEncoding().toString();
-
-					// Some clients don't recognize identity as an encoding, so don't set it.
-					if (! encoding.equals("identity"))
-						setHeader("content-encoding", encoding);
+				} else if (match.getEncoder().getMinimumSize() > 0) {
+					long contentLength = getContentLengthHeader();
+					if (contentLength >= 0)
+						match = encoders.getEncoderMatch(ae, contentLength);
+					else
+						fallback = encoders.getEncoderMatch(ae, 0);
 				}
 			}
 			@SuppressWarnings("resource")
 			ServletOutputStream sos = getOutputStream();
-			os = new FinishableServletOutputStream(encoder == null ? sos : encoder.getOutputStream(sos));
+			if (fallback != null && fallback.getEncoder() != match.getEncoder()) {
+				tos = new ThresholdOutputStream(sos, match, fallback);
+				os = new FinishableServletOutputStream(tos);
+			} else {
+				os = new FinishableServletOutputStream(match == null ? sos : encode(sos, match));
+			}
 		}
 		return os;
 	}
 
+	private OutputStream encode(OutputStream out, EncoderMatch match) throws IOException {
+		String encoding = match.getEncoding();
+
+		// Some clients don't recognize identity as an encoding, so don't set it.
+		if (! encoding.equals("identity"))
+			setHeader("content-encoding", encoding);
+
+		return match.getEncoder().getOutputStream(out);
+	}
+
+	private long getContentLengthHeader() {
+		String s = getHeader("Content-Length");
+		if (s != null) {
+			try {
+				return Long.parseLong(s.trim());
+			} catch (NumberFormatException e) {
+				// Ignore and treat as unknown.
+			}
+		}
+		return -1;
+	}
+
+	/*
+	 * Holds back the start of the response body until either it grows past the minimum size of the matched encoder
+	 * or the stream is finished, then picks the encoder and sets the Content-Encoding header.
+	 * Flushes are held back too since the response can't be committed before the header is set.
+	 */
+	private final class ThresholdOutputStream extends OutputStream implements Finishable {
+		private final OutputStream sos;
+		private final EncoderMatch match, fallback;
+		private byte[] buff;
+		private int count;
+		private OutputStream out;
+
+		ThresholdOutputStream(OutputStream sos, EncoderMatch match, EncoderMatch fallback) {
+			this.sos = sos;
+			this.match = match;
+			this.fallback = fallback;
+			this.buff = new byte[match.getEncoder().getMinimumSize() - 1];
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			if (out == null) {
+				if (count < buff.length) {
+					buff[count++] = (byte)b;
+					return;
+				}
+				open(match);
+			}
+			out.write(b);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (out == null) {
+				if (count + len <= buff.length) {
+					System.arraycopy(b, off, buff, count, len);
+					count += len;
+					return;
+				}
+				open(match);
+			}
+			out.write(b, off, len);
+		}
+
+		@Override /* OutputStream */
+		public void flush() throws IOException {
+			if (out != null)
+				out.flush();
+		}
+
+		@Override /* Finishable */
+		public void finish() throws IOException {
+			commit();
+			if (out instanceof Finishable)
+				((Finishable)out).finish();
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			commit();
+			out.close();
+		}
+
+		/*
+		 * Called when the response must be committed, so whatever has been held back is sent with the fallback coding.
+		 */
+		void commit() throws IOException {
+			if (out == null)
+				open(fallback);
+		}
+
+		private void open(EncoderMatch m) throws IOException {
+			out = encode(sos, m);
+			if (count > 0)
+				out.write(buff, 0, count);
+			buff = null;
+		}
+	}
+
 	@Override /* ServletResponse */
 	public ServletOutputStream getOutputStream() throws IOException {
 		if (sos == null)
-			sos = inner.getOutputStream();
+			sos = capture == null ? inner.getOutputStream() : new CaptureOutputStream(capture.body);
 		return sos;
 	}
 
+	/*
+	 * Called on a response cache miss before the Java method is invoked.
+	 * The body is buffered until finishCapture() so that it can be stored in the cache and sent with an ETag header.
+	 */
+	void capture(RestResponseCache.Capture capture) {
+		this.capture = capture;
+	}
+
+	/*
+	 * Called at the end of the call to store a captured response in the cache and send it.
+	 */
+	void finishCapture() throws IOException {
+		if (capture == null)
+			return;
+		RestResponseCache.Capture c = capture;
+		capture = null;
+
+		if (w != null)
+			w.flush();
+		if (tos != null)
+			tos.commit();
+		if (os != null)
+			os.finish();
+
+		byte[] body = c.body.toByteArray();
+		if (getStatus() == SC_OK) {
+			String etag = getHeader("ETag");
+			if (etag == null) {
+				etag = RestResponseCache.etag(body);
+				setHeader("ETag", etag);
+			}
+			c.store(this, body, etag);
+			String inm = request.getHeader("If-None-Match");
+			if (inm != null && RestContext.matchesETag(inm, etag)) {
+				setStatus(SC_NOT_MODIFIED);
+				return;
+			}
+			setHeader("Content-Length", String.valueOf(body.length));
+		}
+		if (body.length > 0)
+			inner.getOutputStream().write(body);
+	}
+
+	private static final class CaptureOutputStream extends ServletOutputStream {
+		private final ByteArrayOutputStream baos;
+
+		CaptureOutputStream(ByteArrayOutputStream baos) {
+			this.baos = baos;
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) {
+			baos.write(b);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) {
+			baos.write(b, off, len);
+		}
+
+		@Override /* ServletOutputStream */
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override /* ServletOutputStream */
+		public void setWriteListener(WriteListener writeListener) {}
+	}
+
 	/**
 	 * Returns <jk>true</jk> if {@link #getOutputStream()} has been called.
 	 *
@@ -681,8 +862,13 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	public void flushBuffer() throws IOException {
 		if (w != null)
 			w.flush();
+		if (tos != null)
+			tos.commit();
 		if (os != null)
 			os.flush();
-		super.flushBuffer();
+
+		// Captured responses are committed by finishCapture().
+		if (capture == null)
+			super.flushBuffer();
 	}
 }
\ No newline at end of file
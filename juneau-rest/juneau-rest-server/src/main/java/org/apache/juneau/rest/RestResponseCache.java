@@ -0,0 +1,278 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.security.*;
+import java.util.*;
+
+import javax.servlet.http.*;
+
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * In-memory cache of the response bodies of {@link RestMethod#cache() @RestMethod(cache)} methods.
+ *
+ * <p>
+ * Each REST resource has one cache shared by all its methods and bounded by {@link RestContext#REST_cacheMaxWeight}.
+ * <br>Entries hold the final bytes written to the servlet output stream (after serialization and encoding) along with
+ * the response headers, keyed by Java method, path, query string, request locale and the <c>Accept</c>,
+ * <c>Accept-Charset</c> and <c>Accept-Encoding</c> request headers.
+ * <br>Least-recently used entries are evicted once the total size of the cached bodies exceeds the maximum weight.
+ *
+ * <p>
+ * Entries can be invalidated programmatically when the underlying data changes.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<ja>@RestMethod</ja>(method=<jsf>GET</jsf>, path=<js>"/report/{id}"</js>, cache=<js>"5m"</js>)
+ * 	<jk>public</jk> Report getReport(<ja>@Path</ja>(<js>"id"</js>) String id) {...}
+ *
+ * 	<ja>@RestMethod</ja>(method=<jsf>PUT</jsf>, path=<js>"/report/{id}"</js>)
+ * 	<jk>public void</jk> putReport(RestRequest req, <ja>@Path</ja>(<js>"id"</js>) String id, <ja>@Body</ja> Report report) {
+ * 		...
+ * 		req.getContext().getResponseCache().invalidatePath(<js>"/report/"</js> + id);
+ * 	}
+ * </p>
+ *
+ * <ul class='seealso'>
+ * 	<li class='ja'>{@link RestMethod#cache()}
+ * 	<li class='jf'>{@link RestContext#REST_cacheMaxWeight}
+ * </ul>
+ */
+public final class RestResponseCache {
+
+	private final long maxWeight;
+	private final LinkedHashMap<String,Entry> map = new LinkedHashMap<>(16, 0.75f, true);
+	private long weight, generation;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxWeight The maximum total size in bytes of the cached response bodies.
+	 */
+	RestResponseCache(long maxWeight) {
+		this.maxWeight = maxWeight;
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public void clear() {
+		synchronized (map) {
+			map.clear();
+			weight = 0;
+			generation++;
+		}
+	}
+
+	/**
+	 * Removes all entries produced by the Java method with the specified name.
+	 *
+	 * @param javaMethodName The simple name of the Java method (e.g. <js>"getReport"</js>).
+	 * @return The number of entries removed.
+	 */
+	public int invalidate(String javaMethodName) {
+		return invalidate(javaMethodName, null);
+	}
+
+	/**
+	 * Removes all entries for the specified path.
+	 *
+	 * @param path The path relative to the resource (e.g. <js>"/report/123"</js>).
+	 * @return The number of entries removed.
+	 */
+	public int invalidatePath(String path) {
+		return invalidate(null, path);
+	}
+
+	private int invalidate(String javaMethodName, String path) {
+		int count = 0;
+		synchronized (map) {
+			for (Iterator<Entry> i = map.values().iterator(); i.hasNext();) {
+				Entry e = i.next();
+				if ((javaMethodName == null || javaMethodName.equals(e.javaMethodName)) && (path == null || path.equals(e.path))) {
+					i.remove();
+					weight -= e.weight;
+					count++;
+				}
+			}
+			generation++;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of entries in this cache.
+	 *
+	 * @return The number of entries in this cache.
+	 */
+	public int size() {
+		synchronized (map) {
+			return map.size();
+		}
+	}
+
+	/**
+	 * Returns the total size in bytes of the response bodies in this cache.
+	 *
+	 * @return The total size in bytes of the response bodies in this cache.
+	 */
+	public long getWeight() {
+		synchronized (map) {
+			return weight;
+		}
+	}
+
+	/**
+	 * Returns the maximum total size in bytes of the response bodies in this cache.
+	 *
+	 * @return The maximum total size in bytes of the response bodies in this cache.
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/*
+	 * Returns the unexpired entry with the specified key.
+	 */
+	Entry get(String key) {
+		synchronized (map) {
+			Entry e = map.get(key);
+			if (e != null && e.expires <= System.currentTimeMillis()) {
+				map.remove(key);
+				weight -= e.weight;
+				e = null;
+			}
+			return e;
+		}
+	}
+
+	/*
+	 * Starts capturing a response for the specified key.
+	 * Captures started before an invalidation are discarded when finished so that stale content is never stored.
+	 */
+	Capture capture(String key, String javaMethodName, String path, long ttl) {
+		synchronized (map) {
+			return new Capture(key, javaMethodName, path, ttl, generation);
+		}
+	}
+
+	private void put(Capture c, Entry e) {
+		if (e.weight > maxWeight)
+			return;
+		synchronized (map) {
+			if (c.generation != generation)
+				return;
+			Entry old = map.put(c.key, e);
+			if (old != null)
+				weight -= old.weight;
+			weight += e.weight;
+			for (Iterator<Entry> i = map.values().iterator(); weight > maxWeight && i.hasNext();) {
+				weight -= i.next().weight;
+				i.remove();
+			}
+		}
+	}
+
+	/*
+	 * Computes a strong entity tag from the response body.
+	 */
+	static String etag(byte[] body) {
+		try {
+			return '"' + toHex(MessageDigest.getInstance("MD5").digest(body)) + '"';
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * A response being captured on a cache miss.
+	 */
+	final class Capture {
+		final String key, javaMethodName, path;
+		final long ttl, generation;
+		final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+		Capture(String key, String javaMethodName, String path, long ttl, long generation) {
+			this.key = key;
+			this.javaMethodName = javaMethodName;
+			this.path = path;
+			this.ttl = ttl;
+			this.generation = generation;
+		}
+
+		/*
+		 * Stores the captured response.
+		 * Content-Length and Set-Cookie headers are not cached.
+		 */
+		void store(HttpServletResponse res, byte[] bytes, String etag) {
+			List<String[]> headers = new ArrayList<>();
+			for (String name : res.getHeaderNames()) {
+				if (name.equalsIgnoreCase("Content-Length") || name.equalsIgnoreCase("Content-Type") || name.equalsIgnoreCase("Set-Cookie"))
+					continue;
+				for (String value : res.getHeaders(name))
+					headers.add(new String[]{name, value});
+			}
+			put(this, new Entry(javaMethodName, path, bytes, etag, res.getContentType(), headers.toArray(new String[headers.size()][]), System.currentTimeMillis() + ttl));
+		}
+	}
+
+	/**
+	 * A cached response.
+	 */
+	static final class Entry {
+		final String javaMethodName, path, etag, contentType;
+		final byte[] body;
+		final String[][] headers;
+		final long expires, weight;
+
+		Entry(String javaMethodName, String path, byte[] body, String etag, String contentType, String[][] headers, long expires) {
+			this.javaMethodName = javaMethodName;
+			this.path = path;
+			this.body = body;
+			this.etag = etag;
+			this.contentType = contentType;
+			this.headers = headers;
+			this.expires = expires;
+			this.weight = body.length;
+		}
+
+		/*
+		 * Sends this cached response, or a 304 if the request's If-None-Match header matches.
+		 */
+		void send(HttpServletRequest req, HttpServletResponse res) throws IOException {
+			res.setStatus(HttpServletResponse.SC_OK);
+			String prev = null;
+			for (String[] h : headers) {
+				if (h[0].equals(prev))
+					res.addHeader(h[0], h[1]);
+				else
+					res.setHeader(h[0], h[1]);
+				prev = h[0];
+			}
+			if (contentType != null)
+				res.setContentType(contentType);
+			String inm = req.getHeader("If-None-Match");
+			if (inm != null && RestContext.matchesETag(inm, etag)) {
+				res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				return;
+			}
+			res.setHeader("Content-Length", String.valueOf(body.length));
+			if (! "HEAD".equalsIgnoreCase(req.getMethod()))
+				res.getOutputStream().write(body);
+		}
+	}
+}
@@ -12,20 +12,31 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest;
 
+import static org.apache.juneau.internal.StringUtils.*;
+
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.security.*;
 import java.util.*;
 
 import org.apache.juneau.http.annotation.*;
 
 /**
  * Instance of a static file sent as an HTTP response.
+ *
+ * <p>
+ * The contents are held in a {@link ByteBuffer} that is either a wrapper around a heap array or a read-only
+ * memory-mapped view of the underlying file, so large files don't need to be copied onto the heap.
+ * <br>A strong entity tag is calculated once when the file is loaded.
  */
 @Response
 public class StaticFile {
 
-	private final byte[] contents;
-	private final String mediaType;
+	private final ByteBuffer contents;
+	private final String mediaType, etag;
 	private final Map<String,Object> headers;
+	private final long lastModified;
 
 	/**
 	 * Constructor.
@@ -35,9 +46,28 @@ public class StaticFile {
 	 * @param headers Arbitrary response headers to set when sending this file as an HTTP response.
 	 */
 	public StaticFile(byte[] contents, String mediaType, Map<String,Object> headers) {
-		this.contents = contents;
+		this(contents == null ? null : ByteBuffer.wrap(contents), mediaType, headers, -1);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param contents
+	 * 	Contents of the file, or <jk>null</jk> if file does not exist.
+	 * 	<br>Can be a heap buffer or a memory-mapped buffer.
+	 * 	<br>The position and limit of the buffer define the contents of the file.
+	 * @param mediaType The media type of the file.
+	 * @param headers Arbitrary response headers to set when sending this file as an HTTP response.
+	 * @param lastModified
+	 * 	The last-modified time of the file in milliseconds since the epoch, or <c>-1</c> if not known.
+	 * 	<br>The <c>Last-Modified</c> response header is only sent when known.
+	 */
+	public StaticFile(ByteBuffer contents, String mediaType, Map<String,Object> headers, long lastModified) {
+		this.contents = contents == null ? null : contents.slice().asReadOnlyBuffer();
 		this.mediaType = mediaType;
-		this.headers = headers;
+		this.headers = headers == null ? Collections.emptyMap() : headers;
+		this.lastModified = lastModified < 0 ? -1 : lastModified / 1000 * 1000;  // HTTP dates only have second precision.
+		this.etag = contents == null ? null : etag(this.contents);
 	}
 
 	/**
@@ -70,7 +100,29 @@ public class StaticFile {
 	 */
 	@ResponseBody
 	public InputStream getInputStream() throws IOException {
-		return new ByteArrayInputStream(contents);
+		if (contents == null)
+			return null;
+		final ByteBuffer b = contents.duplicate();
+		return new InputStream() {
+			@Override /* InputStream */
+			public int read() {
+				return b.hasRemaining() ? b.get() & 0xFF : -1;
+			}
+			@Override /* InputStream */
+			public int read(byte[] buf, int off, int len) {
+				if (len == 0)
+					return 0;
+				if (! b.hasRemaining())
+					return -1;
+				len = Math.min(len, b.remaining());
+				b.get(buf, off, len);
+				return len;
+			}
+			@Override /* InputStream */
+			public int available() {
+				return b.remaining();
+			}
+		};
 	}
 
 	/**
@@ -82,4 +134,76 @@ public class StaticFile {
 	public String getContentType() {
 		return mediaType == null ? null : mediaType.toString();
 	}
+
+	/**
+	 * Returns the strong entity tag of this static file.
+	 *
+	 * @return The quoted entity tag of this static file, or <jk>null</jk> if the file does not exist.
+	 */
+	@ResponseHeader("ETag")
+	public String getETag() {
+		return etag;
+	}
+
+	/**
+	 * Returns the last-modified time of this static file.
+	 *
+	 * @return
+	 * 	The last-modified time of this static file in milliseconds since the epoch truncated to seconds, or <c>-1</c>
+	 * 	if not known.
+	 */
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Returns the size of this static file in bytes.
+	 *
+	 * @return The size of this static file in bytes, or <c>-1</c> if the file does not exist.
+	 */
+	public long getLength() {
+		return contents == null ? -1 : contents.remaining();
+	}
+
+	/**
+	 * Returns the number of bytes of this file held on the heap.
+	 *
+	 * @return The size of this file if its contents are held on the heap, or <c>0</c> if memory-mapped or missing.
+	 */
+	long getHeapSize() {
+		return contents == null || contents.isDirect() ? 0 : contents.remaining();
+	}
+
+	/**
+	 * Writes a range of the contents of this file to the specified output stream.
+	 *
+	 * <p>
+	 * Memory-mapped contents are written directly from the mapped buffer without copying the file onto the heap.
+	 *
+	 * @param os The output stream to write to.  Not closed.
+	 * @param start The first byte to write (inclusive).
+	 * @param end The last byte to write (inclusive).
+	 * @throws IOException Thrown by the output stream.
+	 */
+	public void writeTo(OutputStream os, long start, long end) throws IOException {
+		ByteBuffer b = contents.duplicate();
+		b.position((int)start).limit((int)end+1);
+		if (b.hasArray()) {
+			os.write(b.array(), b.arrayOffset() + b.position(), b.remaining());
+			return;
+		}
+		WritableByteChannel c = Channels.newChannel(os);
+		while (b.hasRemaining())
+			c.write(b);
+	}
+
+	private static String etag(ByteBuffer b) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("MD5");
+			md.update(b.duplicate());
+			return '"' + toHex(md.digest()) + '"';
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
 }
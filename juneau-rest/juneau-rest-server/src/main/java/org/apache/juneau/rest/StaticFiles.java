@@ -13,6 +13,9 @@
 package org.apache.juneau.rest;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.channels.FileChannel.*;
 import java.util.*;
 
 import javax.activation.*;
@@ -24,6 +27,10 @@ import org.apache.juneau.internal.*;
  * The static file resource resolver for a single {@link StaticFileMapping}.
  */
 class StaticFiles {
+
+	// Files at least this large are memory-mapped instead of being read onto the heap.
+	private static final long MMAP_THRESHOLD = Long.getLong("juneau.staticFiles.mmapThreshold", 64*1024);
+
 	private final String path, location;
 	private final Map<String,Object> responseHeaders;
 
@@ -47,16 +54,28 @@ class StaticFiles {
 			String remainder = (p.equals(path) ? "" : p.substring(path.length()));
 			if (remainder.isEmpty() || remainder.startsWith("/")) {
 				String p2 = location + remainder;
-				try (InputStream is = staticResourceManager.getStream(p2, null)) {
+				try (InputStream is = staticResourceManager.getUncachedStream(p2, null)) {
 					if (is != null) {
 						int i = p2.lastIndexOf('/');
 						String name = (i == -1 ? p2 : p2.substring(i+1));
 						String mediaType = mimetypesFileTypeMap.getContentType(name);
-						return new StaticFile(IOUtils.readBytes(is), mediaType, responseHeaders);
+						// Resource finders only provide streams, so the modification time of the resource isn't known.
+						return new StaticFile(read(is), mediaType, responseHeaders, -1);
 					}
 				}
 			}
 		}
 		return null;
 	}
+
+	private static ByteBuffer read(InputStream is) throws IOException {
+		if (is instanceof FileInputStream) {
+			// The mapping stays valid after the channel is closed.
+			FileChannel fc = ((FileInputStream)is).getChannel();
+			long size = fc.size();
+			if (size >= MMAP_THRESHOLD && size <= Integer.MAX_VALUE)
+				return fc.map(MapMode.READ_ONLY, 0, size);
+		}
+		return ByteBuffer.wrap(IOUtils.readBytes(is));
+	}
 }
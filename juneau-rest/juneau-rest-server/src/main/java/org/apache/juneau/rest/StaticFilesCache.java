@@ -0,0 +1,110 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.*;
+
+/**
+ * In-memory cache of resolved static files.
+ *
+ * <p>
+ * Bounded by the total weight of its entries so that neither large files read onto the heap nor requests for many
+ * distinct (possibly non-existent) paths can exhaust memory.
+ * <br>Heap contents weigh their length, memory-mapped contents weigh nothing, and every entry (including missing
+ * files) has a small fixed weight.
+ * <br>Least-recently used entries are evicted once the total weight exceeds the maximum weight.
+ */
+final class StaticFilesCache {
+
+	// Weight of every entry in addition to its heap contents.
+	static final long ENTRY_WEIGHT = 256;
+
+	private final long maxWeight;
+	private final LinkedHashMap<String,StaticFile> map = new LinkedHashMap<>(16, 0.75f, true);
+	private long weight;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxWeight The maximum total weight in bytes of the cached files.
+	 */
+	StaticFilesCache(long maxWeight) {
+		this.maxWeight = maxWeight;
+	}
+
+	/**
+	 * Returns the cached file with the specified key.
+	 *
+	 * @param key The request path.
+	 * @return The cached file, or <jk>null</jk> if not cached.
+	 */
+	StaticFile get(String key) {
+		synchronized (map) {
+			return map.get(key);
+		}
+	}
+
+	/**
+	 * Adds a file to this cache unless another thread already added one with the same key.
+	 *
+	 * <p>
+	 * Files heavier than the maximum weight are not cached.
+	 *
+	 * @param key The request path.
+	 * @param sf The file to cache.
+	 * @return The cached file, or the specified file if it wasn't cached.
+	 */
+	StaticFile put(String key, StaticFile sf) {
+		long w = weight(sf);
+		if (w > maxWeight)
+			return sf;
+		synchronized (map) {
+			StaticFile old = map.get(key);
+			if (old != null)
+				return old;
+			map.put(key, sf);
+			weight += w;
+			for (Iterator<StaticFile> i = map.values().iterator(); weight > maxWeight && i.hasNext();) {
+				weight -= weight(i.next());
+				i.remove();
+			}
+			return sf;
+		}
+	}
+
+	/**
+	 * Returns the number of entries in this cache.
+	 *
+	 * @return The number of entries in this cache.
+	 */
+	int size() {
+		synchronized (map) {
+			return map.size();
+		}
+	}
+
+	/**
+	 * Returns the total weight in bytes of the entries in this cache.
+	 *
+	 * @return The total weight in bytes of the entries in this cache.
+	 */
+	long getWeight() {
+		synchronized (map) {
+			return weight;
+		}
+	}
+
+	private static long weight(StaticFile sf) {
+		return ENTRY_WEIGHT + sf.getHeapSize();
+	}
+}
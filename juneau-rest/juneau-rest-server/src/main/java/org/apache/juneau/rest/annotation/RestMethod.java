@@ -99,6 +99,54 @@ public @interface RestMethod {
 	 */
 	String clientVersion() default "";
 
+	/**
+	 * Response cache time-to-live.
+	 *
+	 * <p>
+	 * Caches the response bodies of this method in the {@link RestContext#getResponseCache() response cache} of the
+	 * resource for the specified duration.
+	 * <br>Subsequent requests with the same path, query string, locale and <c>Accept</c>, <c>Accept-Charset</c> and
+	 * <c>Accept-Encoding</c> headers are answered from the cache without invoking the Java method, serializing
+	 * or encoding the output.
+	 *
+	 * <p>
+	 * Cached responses are sent with a strong <c>ETag</c> header computed from the body (unless the method sets its own),
+	 * and requests whose <c>If-None-Match</c> header matches get a <c>304 Not Modified</c> response.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<ja>@RestMethod</ja>(method=<jsf>GET</jsf>, path=<js>"/report"</js>, cache=<js>"5m"</js>)
+	 * 	<jk>public</jk> Report getReport() {...}
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		The format is a number optionally followed by a unit (e.g. <js>"500"</js> milliseconds, <js>"30s"</js>,
+	 * 		<js>"5m"</js>, <js>"1h"</js>).
+	 * 	<li>
+	 * 		Only applies to <jsf>GET</jsf> and <jsf>OPTIONS</jsf> methods.
+	 * 		<br>A value of <js>"0"</js> disables caching inherited from an overridden method.
+	 * 		<br>Only <c>200</c> responses are cached.
+	 * 	<li>
+	 * 		Guards are still run on every request.
+	 * 	<li>
+	 * 		Other request inputs (such as headers other than those listed above) are not part of the cache key, so methods
+	 * 		whose output depends on them should not be cached.
+	 * 		<br>This includes Swagger documents that use request variables such as <js>"$RH{...}"</js> or
+	 * 		<js>"$RA{...}"</js>, which is why the <jsf>OPTIONS</jsf> methods in {@link BasicRestMethods} are not cached
+	 * 		unless overridden with this setting.
+	 * 	<li>
+	 * 		Supports {@doc RestSvlVariables}
+	 * 		(e.g. <js>"$C{REST/cacheTtl,5m}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestMethodContext#RESTMETHOD_cache}
+	 * 	<li class='jf'>{@link RestContext#REST_cacheMaxWeight}
+	 * </ul>
+	 */
+	String cache() default "";
+
 	/**
 	 * Supported content media types.
 	 *
@@ -69,7 +69,7 @@ public class RestMethodAnnotation {
 		Logging logging = LoggingAnnotation.DEFAULT;
 		MethodSwagger swagger = MethodSwaggerAnnotation.DEFAULT;
 		Property[] properties = new Property[0];
-		String clientVersion="", debug="", defaultAccept="", defaultCharset="", defaultContentType="", maxInput="", method="", path="", rolesDeclared="", roleGuard="", summary="", value="";
+		String cache="", clientVersion="", debug="", defaultAccept="", defaultCharset="", defaultContentType="", maxInput="", method="", path="", rolesDeclared="", roleGuard="", summary="", value="";
 		String[] consumes={}, defaultFormData={}, defaultQuery={}, description={}, flags={}, paths={}, produces={}, reqAttrs={}, reqHeaders={};
 
 		/**
@@ -88,6 +88,17 @@ public class RestMethodAnnotation {
 			return new Impl(this);
 		}
 
+		/**
+		 * Sets the {@link RestMethod#cache()} property on this annotation.
+		 *
+		 * @param value The new value for this property.
+		 * @return This object (for method chaining).
+		 */
+		public Builder cache(String value) {
+			this.cache = value;
+			return this;
+		}
+
 		/**
 		 * Sets the {@link RestMethod#clientVersion()} property on this annotation.
 		 *
@@ -456,11 +467,12 @@ public class RestMethodAnnotation {
 		private final Logging logging;
 		private final MethodSwagger swagger;
 		private final Property[] properties;
-		private final String clientVersion, debug, defaultAccept, defaultCharset, defaultContentType, maxInput, method, path, rolesDeclared, roleGuard, summary, value;
+		private final String cache, clientVersion, debug, defaultAccept, defaultCharset, defaultContentType, maxInput, method, path, rolesDeclared, roleGuard, summary, value;
 		private final String[] consumes, defaultFormData, defaultQuery, description, flags, paths, produces, reqAttrs, reqHeaders;
 
 		Impl(Builder b) {
 			super(b);
+			this.cache = b.cache;
 			this.clientVersion = b.clientVersion;
 			this.consumes = copyOf(b.consumes);
 			this.converters = copyOf(b.converters);
@@ -495,6 +507,11 @@ public class RestMethodAnnotation {
 			postConstruct();
 		}
 
+		@Override /* RestMethod */
+		public String cache() {
+			return cache;
+		}
+
 		@Override /* RestMethod */
 		public String clientVersion() {
 			return clientVersion;
@@ -724,6 +741,9 @@ public class RestMethodAnnotation {
 
 			psb.prependTo(RESTMETHOD_matchers, a.matchers());
 
+			if (! a.cache().isEmpty())
+				psb.set(RESTMETHOD_cache, string(a.cache()));
+
 			if (! a.clientVersion().isEmpty())
 				psb.set(RESTMETHOD_clientVersion, a.clientVersion());
 
@@ -62,6 +62,10 @@ import org.apache.juneau.utils.*;
  * 		<br>Default is {@code 0} (meaning return all rows).
  * </ul>
  *
+ * <p>
+ * Exact searches on large collections can be sped up by registering indexes on the returned collection through
+ * {@link PojoIndex#register(java.util.Collection, org.apache.juneau.BeanSession, String...)}.
+ *
  * <ul class='seealso'>
  * 	<li class='jc'>{@link PojoQuery} - Additional information on filtering POJO models.
  * 	<li class='jf'>{@link RestContext#REST_converters} - Registering converters with REST resources.
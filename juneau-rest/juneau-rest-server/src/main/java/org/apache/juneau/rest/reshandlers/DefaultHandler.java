@@ -203,6 +203,12 @@ public class DefaultHandler implements ResponseHandler {
 						os.flush();
 						os.finish();
 					}
+				} else if (IOUtils.UTF8.equals(res.getCharset())) {
+					// Let the serializer encode UTF-8 directly into the stream.
+					FinishableServletOutputStream os = res.getNegotiatedOutputStream();
+					session.serialize(o, os);
+					os.flush();
+					os.finish();
 				} else {
 					FinishablePrintWriter w = res.getNegotiatedWriter();
 					session.serialize(o, w);
@@ -32,8 +32,9 @@ public final class UrlPathPattern implements Comparable<UrlPathPattern> {
 	private static final Pattern VAR_PATTERN = Pattern.compile("\\{([^\\}]+)\\}");
 
 	private final String pattern, comparator;
-	private final String[] parts, vars, varKeys;
-	private final boolean hasRemainder;
+	final String[] parts, vars;
+	private final String[] varKeys;
+	final boolean hasRemainder;
 
 	/**
 	 * Constructor.
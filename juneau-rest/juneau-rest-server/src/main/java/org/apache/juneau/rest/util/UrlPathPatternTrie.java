@@ -0,0 +1,110 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.util.*;
+
+/**
+ * A path-segment trie of {@link UrlPathPattern} objects used to quickly find the candidates that can match a path.
+ *
+ * <p>
+ * Patterns are compiled into a tree keyed on literal path segments, with a single wildcard branch per node for
+ * variable (<js>"{foo}"</js>) and <js>"*"</js> segments.
+ * <br>Looking up a path walks the tree one segment at a time, so the cost is proportional to the path depth and the
+ * number of overlapping variable branches rather than the total number of patterns.
+ *
+ * <p>
+ * The values returned by {@link #find(UrlPathInfo)} are a superset of the values whose patterns match the path, in the
+ * order they were added.
+ * <br>Callers are still expected to call {@link UrlPathPattern#match(UrlPathInfo)} (or equivalent) on the results to
+ * perform the final match and extract path variables.
+ *
+ * @param <T> The value type associated with each pattern.
+ */
+public final class UrlPathPatternTrie<T> {
+
+	private final Node root = new Node();
+	private final List<T> values = new ArrayList<>();
+
+	/**
+	 * Adds a value to this trie for the specified patterns.
+	 *
+	 * <p>
+	 * Values are returned by {@link #find(UrlPathInfo)} in the order they were added.
+	 *
+	 * @param value The value to add.
+	 * @param patterns The path patterns associated with the value.
+	 * @return This object (for method chaining).
+	 */
+	public UrlPathPatternTrie<T> add(T value, UrlPathPattern...patterns) {
+		int index = values.size();
+		values.add(value);
+		for (UrlPathPattern p : patterns) {
+			Node n = root;
+			for (int i = 0; i < p.parts.length; i++) {
+				if (p.vars[i] != null || "*".equals(p.parts[i])) {
+					if (n.wildcard == null)
+						n.wildcard = new Node();
+					n = n.wildcard;
+				} else {
+					Node n2 = n.literals.get(p.parts[i]);
+					if (n2 == null) {
+						n2 = new Node();
+						n.literals.put(p.parts[i], n2);
+					}
+					n = n2;
+				}
+			}
+			(p.hasRemainder ? n.remainder : n.terminal).set(index);
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the values whose patterns can potentially match the specified path.
+	 *
+	 * @param pathInfo The path to match against.
+	 * @return The candidate values in the order they were added.  Never <jk>null</jk>.
+	 */
+	public List<T> find(UrlPathInfo pathInfo) {
+		String[] pip = pathInfo.getParts();
+		boolean trailingSlash = pathInfo.getPath() != null && pathInfo.isTrailingSlash();
+		BitSet bs = new BitSet(values.size());
+		collect(root, pip, 0, trailingSlash, bs);
+		if (bs.isEmpty())
+			return Collections.emptyList();
+		List<T> l = new ArrayList<>(bs.cardinality());
+		for (int i = bs.nextSetBit(0); i >= 0; i = bs.nextSetBit(i+1))
+			l.add(values.get(i));
+		return l;
+	}
+
+	private static void collect(Node n, String[] pip, int depth, boolean trailingSlash, BitSet bs) {
+		bs.or(n.remainder);
+		if (depth == pip.length || (trailingSlash && depth == pip.length - 1))
+			bs.or(n.terminal);
+		if (depth < pip.length) {
+			Node n2 = n.literals.get(pip[depth]);
+			if (n2 != null)
+				collect(n2, pip, depth+1, trailingSlash, bs);
+			if (n.wildcard != null)
+				collect(n.wildcard, pip, depth+1, trailingSlash, bs);
+		}
+	}
+
+	private static final class Node {
+		final Map<String,Node> literals = new HashMap<>();
+		final BitSet terminal = new BitSet(), remainder = new BitSet();
+		Node wildcard;
+	}
+}